@@ -11,10 +11,11 @@ const searchApi = {
             }
         });
     },
-    getResults(pageNum, pageSize) {
+    getResults(token, pageNum, pageSize) {
         const url = `${baseUrl}/results`;
         return http.get(url, {
             params: {
+                token,
                 pageNum,
                 pageSize
             }
@@ -0,0 +1,86 @@
+package file.engine.remote.benchmark;
+
+import file.engine.remote.utils.zip.DirectoryScan;
+import file.engine.remote.utils.zip.FileZipUtil;
+import file.engine.remote.utils.zip.ParallelZipWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 扫描和压缩一个包含文本文件和随机内容文件的文件夹
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FileZipBenchmark {
+    private static final int DIRS = 8;
+    private static final int FILES_PER_DIR = 32;
+    private Path dir;
+    private ParallelZipWriter zipWriter;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        dir = Files.createTempDirectory("zip-benchmark");
+        Random random = new Random(0);
+        byte[] text = "File-Engine-Remote benchmark line of compressible text\n".repeat(300).getBytes(StandardCharsets.UTF_8);
+        byte[] binary = new byte[64 * 1024];
+        for (int i = 0; i < DIRS; i++) {
+            Path subDir = Files.createDirectories(dir.resolve("dir" + i));
+            for (int j = 0; j < FILES_PER_DIR; j++) {
+                if (j % 4 == 0) {
+                    random.nextBytes(binary);
+                    Files.write(subDir.resolve("file" + j + ".bin"), binary);
+                } else {
+                    Files.write(subDir.resolve("file" + j + ".txt"), text);
+                }
+            }
+        }
+        zipWriter = new ParallelZipWriter(Runtime.getRuntime().availableProcessors(), -1, 0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        zipWriter.shutdown();
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public DirectoryScan scanDirectory() throws IOException {
+        return FileZipUtil.scanDirectory(dir, Long.MAX_VALUE);
+    }
+
+    @Benchmark
+    public void fileToZip() throws Exception {
+        FileZipUtil.fileToZip(dir.toFile(), OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void parallelZip() throws Exception {
+        zipWriter.write(dir.toFile(), OutputStream.nullOutputStream());
+    }
+}
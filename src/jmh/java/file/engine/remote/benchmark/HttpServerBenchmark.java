@@ -0,0 +1,116 @@
+package file.engine.remote.benchmark;
+
+import com.google.gson.JsonParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 通过回环地址对真实的NanoHTTPD服务进行压测，核心搜索接口由StubFileEngine模拟
+ * <p>
+ * 覆盖请求路由、搜索、分页获取结果和静态资源，线程数可以通过-t参数调整。
+ * search每次使用不同的关键字，经过核心搜索；searchCached重复同一个关键字，测量搜索结果缓存命中
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class HttpServerBenchmark {
+    @Param({"1000"})
+    private int resultNum;
+    @Param({"50"})
+    private int pageSize;
+    private StubFileEngine fileEngine;
+    private String baseUrl;
+    private String token;
+    private final AtomicLong queryCounter = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        fileEngine = new StubFileEngine(resultNum);
+        baseUrl = "http://127.0.0.1:" + fileEngine.getPort();
+        HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        token = search(httpClient, "benchmark");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fileEngine.close();
+    }
+
+    /**
+     * 每个线程使用自己的keep-alive连接
+     */
+    @State(Scope.Thread)
+    public static class Client {
+        private HttpClient httpClient;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        }
+    }
+
+    @Benchmark
+    public String search(Client client) throws Exception {
+        // 关键字前后加分隔字符，不同的关键字互不包含，不会从缓存中缩小结果
+        return search(client.httpClient, "q" + queryCounter.incrementAndGet() + "x");
+    }
+
+    @Benchmark
+    public String searchCached(Client client) throws Exception {
+        return search(client.httpClient, "benchmark");
+    }
+
+    @Benchmark
+    public int results(Client client) throws Exception {
+        return get(client.httpClient, "/results?token=" + token + "&pageNum=" + (resultNum / pageSize / 2) + "&pageSize=" + pageSize).length;
+    }
+
+    @Benchmark
+    public int staticAsset(Client client) throws Exception {
+        return get(client.httpClient, "/index.html").length;
+    }
+
+    @Benchmark
+    public int badRequest(Client client) throws Exception {
+        return get(client.httpClient, "/not-exist").length;
+    }
+
+    private String search(HttpClient httpClient, String inputText) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/search?inputText=" + inputText))
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        String body = httpClient.send(request, HttpResponse.BodyHandlers.ofString()).body();
+        return JsonParser.parseString(body).getAsJsonObject().getAsJsonObject("data").get("token").getAsString();
+    }
+
+    private byte[] get(HttpClient httpClient, String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Accept-Encoding", "gzip")
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray()).body();
+    }
+}
@@ -0,0 +1,66 @@
+package file.engine.remote.benchmark;
+
+import file.engine.remote.utils.queue.RingBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 插件向File-Engine推送结果再被取走，比较原来的ConcurrentLinkedQueue逐个poll和环形队列批量drainTo
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PluginQueueBenchmark {
+    @Param({"64"})
+    private int batch;
+    private final ConcurrentLinkedQueue<String> linkedQueue = new ConcurrentLinkedQueue<>();
+    private final RingBuffer<String> ringBuffer = new RingBuffer<>(4096);
+    private final String[] drainBuffer = new String[4096];
+    private static final String RESULT = "C:\\Users\\user\\Documents\\report_2025.xlsx";
+
+    @Benchmark
+    public int concurrentLinkedQueue() {
+        for (int i = 0; i < batch; i++) {
+            linkedQueue.add(RESULT);
+        }
+        int count = 0;
+        while (linkedQueue.poll() != null) {
+            count++;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int ringBufferPoll() {
+        for (int i = 0; i < batch; i++) {
+            ringBuffer.offer(RESULT);
+        }
+        int count = 0;
+        while (ringBuffer.poll() != null) {
+            count++;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int ringBufferDrain() {
+        for (int i = 0; i < batch; i++) {
+            ringBuffer.offer(RESULT);
+        }
+        return ringBuffer.drainTo(drainBuffer);
+    }
+}
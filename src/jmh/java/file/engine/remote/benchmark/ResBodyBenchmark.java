@@ -0,0 +1,58 @@
+package file.engine.remote.benchmark;
+
+import file.engine.remote.httpd.ResBody;
+import file.engine.remote.httpd.ResponseBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 序列化一页搜索结果
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResBodyBenchmark {
+    @Param({"10", "50", "500"})
+    private int rows;
+    @Param({"false", "true"})
+    private boolean prettyPrinting;
+    private ResBody resBody;
+
+    @Setup
+    public void setup() {
+        ArrayList<HashMap<String, Object>> page = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            HashMap<String, Object> row = new HashMap<>();
+            row.put("filePath", "C:\\Users\\user\\Documents\\project\\src\\main\\java\\file_" + i + ".java");
+            row.put("isDir", false);
+            row.put("size", 4096L + i);
+            row.put("lastModified", 1_700_000_000_000L + i);
+            page.add(row);
+        }
+        resBody = ResBody.success(page, 20);
+    }
+
+    @Benchmark
+    public int writeTo() throws IOException {
+        ResponseBuffer buffer = new ResponseBuffer(8 * 1024);
+        resBody.writeTo(buffer, prettyPrinting);
+        return buffer.size();
+    }
+}
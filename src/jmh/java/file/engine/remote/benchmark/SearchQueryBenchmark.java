@@ -0,0 +1,34 @@
+package file.engine.remote.benchmark;
+
+import file.engine.remote.httpd.SearchQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 解析搜索框输入
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SearchQueryBenchmark {
+    @Param({"file", "file|d", "src;main;java|f;case", "C:\\Users\\user\\Documents\\project;report;2023|p"})
+    private String inputText;
+
+    @Benchmark
+    public SearchQuery parse() {
+        return SearchQuery.parse(inputText);
+    }
+}
@@ -0,0 +1,114 @@
+package file.engine.remote.benchmark;
+
+import fi.iki.elonen.NanoHTTPD;
+import file.engine.remote.Plugin;
+import file.engine.remote.PluginMain;
+import file.engine.remote.httpd.HttpServer;
+import file.engine.services.DatabaseNativeService;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
+
+/**
+ * 模拟File-Engine运行插件：启动返回固定结果的核心搜索接口，并在后台线程中分发插件发送的事件
+ */
+public class StubFileEngine implements AutoCloseable {
+    private final NanoHTTPD core;
+    private final HttpServer httpServer;
+    private final Thread dispatcher;
+    private final ExecutorService handlerExecutor = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "stub-file-engine-handler");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<String, BiConsumer<Class<?>, Object>> handlers = new ConcurrentHashMap<>();
+    private final int port;
+
+    /**
+     * @param resultNum 核心每次搜索最多返回的结果数量
+     */
+    @SuppressWarnings("unchecked")
+    public StubFileEngine(int resultNum) throws Exception {
+        core = new NanoHTTPD("127.0.0.1", freePort()) {
+            @Override
+            public Response serve(IHTTPSession session) {
+                Map<String, List<String>> parameters = session.getParameters();
+                int max = Integer.parseInt(parameters.get("maxResultNum").get(0));
+                String searchText = parameters.get("searchText").get(0);
+                StringBuilder json = new StringBuilder("[");
+                for (int i = 0; i < Math.min(resultNum, max); i++) {
+                    if (i > 0) {
+                        json.append(',');
+                    }
+                    json.append("\"C:\\\\Users\\\\user\\\\Documents\\\\").append(searchText).append('_').append(i).append(".txt\"");
+                }
+                json.append(']');
+                return newFixedLengthResponse(Response.Status.OK, "application/json", json.toString());
+            }
+        };
+        core.start(NanoHTTPD.SOCKET_READ_TIMEOUT, true);
+        DatabaseNativeService.setPort(core.getListeningPort());
+
+        Plugin plugin = new PluginMain();
+        port = freePort();
+        httpServer = new HttpServer(port, true);
+        dispatcher = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                Object[] handler;
+                while ((handler = plugin.pollFromEventHandlerQueue()) != null) {
+                    handlers.put((String) handler[0], (BiConsumer<Class<?>, Object>) handler[1]);
+                }
+                Object[] event;
+                while ((event = plugin.pollFromEventQueue()) != null) {
+                    dispatch((String) event[0], (Object[]) event[1]);
+                }
+                while (plugin.pollFromEventListenerQueue() != null) {
+                }
+                while (plugin.getMessage() != null) {
+                }
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }, "stub-file-engine-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    /**
+     * 插件事件的参数为block, callback, errorHandler, event, eventClass
+     */
+    private void dispatch(String eventClassName, Object[] params) {
+        BiConsumer<Class<?>, Object> handler = handlers.get(eventClassName);
+        if (handler == null || params.length != 5) {
+            return;
+        }
+        handlerExecutor.execute(() -> handler.accept((Class<?>) params[4], params[3]));
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            return serverSocket.getLocalPort();
+        }
+    }
+
+    @Override
+    public void close() {
+        dispatcher.interrupt();
+        httpServer.stop();
+        core.stop();
+        handlerExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,92 @@
+package file.engine.remote.utils.gson;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 对比新旧DataDataTypeAdapter解析settings.json大小和搜索结果大小的json
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DataDataTypeAdapterBenchmark {
+    @Param({"config", "results"})
+    private String payload;
+    private String json;
+    private Gson gson;
+    private Gson legacyGson;
+
+    @Setup
+    public void setup() {
+        gson = GsonUtil.getInstance().getCompactGson();
+        legacyGson = new GsonBuilder().registerTypeAdapter(Map.class, new LegacyDataDataTypeAdapter()).create();
+        json = "config".equals(payload) ? gson.toJson(configPayload()) : gson.toJson(resultsPayload());
+    }
+
+    private static Map<String, Object> configPayload() {
+        Map<String, Object> config = new HashMap<>();
+        config.put("port", 23333);
+        config.put("sessionIdleTimeout", 600);
+        config.put("sessionMaxMemory", 64);
+        config.put("searchTimeout", 10_000);
+        config.put("initialResultNum", 50);
+        config.put("maxResultNum", 1000);
+        config.put("metadataCacheSize", 10_000);
+        config.put("metadataCacheTtl", 30);
+        config.put("zipStreaming", true);
+        config.put("zipCompressionLevel", -1);
+        config.put("parallelZipThreshold", 8);
+        config.put("archiveCacheSize", 1024);
+        config.put("maxDirectorySize", 100);
+        config.put("compressionThreshold", 1024);
+        return config;
+    }
+
+    private static Map<String, Object> resultsPayload() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Map<String, Object> row = new HashMap<>();
+            row.put("filePath", "C:\\Users\\user\\Documents\\project\\src\\main\\java\\file_" + i + ".java");
+            row.put("isDir", i % 10 == 0);
+            row.put("size", 1024L * 1024L * 1024L * 3 + i);
+            row.put("lastModified", 1_700_000_000_000L + i);
+            rows.add(row);
+        }
+        Map<String, Object> body = new HashMap<>();
+        body.put("code", 20000);
+        body.put("message", "success");
+        body.put("data", rows);
+        body.put("pages", 20);
+        return body;
+    }
+
+    @Benchmark
+    public Object current() {
+        return gson.fromJson(json, Map.class);
+    }
+
+    @Benchmark
+    public Object legacy() {
+        return legacyGson.fromJson(json, Map.class);
+    }
+}
@@ -0,0 +1,82 @@
+package file.engine.remote.utils.gson;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.internal.LinkedTreeMap;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 改动前的DataDataTypeAdapter，所有数字先解析为double再转换，仅用于性能对比
+ */
+class LegacyDataDataTypeAdapter extends TypeAdapter<Object> {
+    private final TypeAdapter<Object> delegate = new Gson().getAdapter(Object.class);
+
+    @Override
+    public Object read(JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        switch (token) {
+            case BEGIN_ARRAY:
+                List<Object> list = new ArrayList<>();
+                in.beginArray();
+                while (in.hasNext()) {
+                    list.add(read(in));
+                }
+                in.endArray();
+                return list;
+            case BEGIN_OBJECT:
+                Map<String, Object> map = new LinkedTreeMap<>();
+                in.beginObject();
+                while (in.hasNext()) {
+                    map.put(in.nextName(), read(in));
+                }
+                in.endObject();
+                return map;
+
+            case STRING:
+                return in.nextString();
+            case NUMBER:
+                /*
+                 * 改写数字的处理逻辑，将数字值分为整型与浮点型。
+                 */
+                double dbNum = in.nextDouble();
+                // 数字超过long的最大值，返回浮点类型
+                if (dbNum > Long.MAX_VALUE) {
+                    return dbNum;
+                }
+                // 判断数字是否为整数值
+                long lngNum = (long) dbNum;
+                if (dbNum == lngNum) {
+                    try {
+                        return (int) lngNum;
+                    } catch (Exception e) {
+                        return lngNum;
+                    }
+                } else {
+                    try {
+                        return (float) dbNum;
+                    } catch (Exception e) {
+                        return dbNum;
+                    }
+                }
+            case BOOLEAN:
+                return in.nextBoolean();
+            case NULL:
+                in.nextNull();
+                return null;
+            default:
+                throw new IllegalStateException();
+        }
+    }
+
+    @Override
+    public void write(JsonWriter out, Object value) throws IOException {
+        delegate.write(out, value);
+    }
+}
\ No newline at end of file
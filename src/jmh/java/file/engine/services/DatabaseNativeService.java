@@ -0,0 +1,16 @@
+package file.engine.services;
+
+/**
+ * 代替File-Engine中的同名类，HttpServer通过反射获取核心端口
+ */
+public class DatabaseNativeService {
+    private static volatile int port;
+
+    public static int getPort() {
+        return port;
+    }
+
+    public static void setPort(int port) {
+        DatabaseNativeService.port = port;
+    }
+}
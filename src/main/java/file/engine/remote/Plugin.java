@@ -1,18 +1,23 @@
 package file.engine.remote;
 
+import file.engine.remote.utils.FieldAccessorCache;
+import file.engine.remote.utils.queue.RingBuffer;
+
 import javax.swing.*;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
-import java.lang.reflect.Field;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 
 @SuppressWarnings("unused")
 public abstract class Plugin {
-    private static final ConcurrentLinkedQueue<String> resultQueue = new ConcurrentLinkedQueue<>();
-    private static final ConcurrentLinkedQueue<String[]> messageQueue = new ConcurrentLinkedQueue<>();
+    // 结果和通知数量多且丢失不影响功能，使用有界队列，队列元素就是返回给File-Engine的对象，取出时不需要再转换
+    private static final RingBuffer<String> resultQueue = new RingBuffer<>(4096);
+    private static final RingBuffer<String[]> messageQueue = new RingBuffer<>(256);
+    // 事件和事件处理器的注册丢失后无法恢复，使用无界队列，不丢弃
     private static final ConcurrentLinkedQueue<Object[]> eventQueue = new ConcurrentLinkedQueue<>();
     private static final ConcurrentLinkedQueue<Object[]> replaceEventHandlerQueue = new ConcurrentLinkedQueue<>();
     private static final ConcurrentLinkedQueue<String> restoreReplacedEventQueue = new ConcurrentLinkedQueue<>();
@@ -56,6 +61,23 @@ public abstract class Plugin {
         return addEventListenerQueue.poll();
     }
 
+    protected int _drainResultQueue(String[] results) {
+        return resultQueue.drainTo(results);
+    }
+
+    protected int _drainMessages(String[][] messages) {
+        return messageQueue.drainTo(messages);
+    }
+
+    protected int _drainEventQueue(Object[][] events) {
+        int count = 0;
+        Object[] event;
+        while (count < events.length && (event = eventQueue.poll()) != null) {
+            events[count++] = event;
+        }
+        return count;
+    }
+
     //Interface
     public abstract void textChanged(String text);
 
@@ -149,23 +171,23 @@ public abstract class Plugin {
     }
 
     /**
-     * 推送结果到File-Engine
+     * 推送结果到File-Engine，队列已满时直接丢弃并计数，不阻塞调用线程
      *
      * @param result 结果
      */
     public static void addToResultQueue(String result) {
-        resultQueue.add(result);
+        resultQueue.offer(result, 0, TimeUnit.MILLISECONDS);
     }
 
     /**
-     * 在任务通知栏显示通知
+     * 在任务通知栏显示通知，队列已满时直接丢弃，不阻塞调用线程
      *
      * @param caption 标题
      * @param message 信息
      */
     public static void displayMessage(String caption, String message) {
         String[] messages = new String[]{caption, message};
-        messageQueue.add(messages);
+        messageQueue.offer(messages, 0, TimeUnit.MILLISECONDS);
     }
 
     /**
@@ -209,11 +231,7 @@ public abstract class Plugin {
         } catch (ClassNotFoundException e) {
             throw new RuntimeException(e);
         }
-        Field[] declaredFields = aClass.getDeclaredFields();
-        HashMap<String, Class<?>> fields = new HashMap<>();
-        for (Field declaredField : declaredFields) {
-            fields.put(declaredField.getName(), declaredField.getType());
-        }
+        Map<String, Class<?>> fields = FieldAccessorCache.getDeclaredFieldTypes(aClass);
         for (Map.Entry<String, Class<?>> entry : fieldNameTypeMap.entrySet()) {
             String k = entry.getKey();
             Class<?> v = entry.getValue();
@@ -228,6 +246,36 @@ public abstract class Plugin {
     }
 
 
+    /**
+     * 获取各个队列中等待File-Engine取走的数量
+     *
+     * @return key为队列名
+     */
+    public static Map<String, Integer> getQueueSizes() {
+        Map<String, Integer> sizes = new LinkedHashMap<>();
+        sizes.put("result", resultQueue.size());
+        sizes.put("message", messageQueue.size());
+        sizes.put("event", eventQueue.size());
+        sizes.put("replaceEventHandler", replaceEventHandlerQueue.size());
+        sizes.put("restoreReplacedEvent", restoreReplacedEventQueue.size());
+        sizes.put("addEventListener", addEventListenerQueue.size());
+        sizes.put("removeEventListener", removeEventListenerQueue.size());
+        return sizes;
+    }
+
+    /**
+     * 获取有界队列因已满而丢弃的数量，其他队列不会丢弃
+     *
+     * @return key为队列名
+     */
+    public static Map<String, Long> getQueueDroppedCounts() {
+        Map<String, Long> dropped = new LinkedHashMap<>();
+        dropped.put("result", resultQueue.getDroppedCount());
+        dropped.put("message", messageQueue.getDroppedCount());
+        return dropped;
+    }
+
+
     //--------------------------------------------------------------------------------------------------------------
 
     /**
@@ -254,6 +302,30 @@ public abstract class Plugin {
         return _pollFromResultQueue();
     }
 
+    /**
+     * Poll up to results.length results in one call.
+     *
+     * @param results array to fill
+     * @return the number of results written to the array
+     * @see #pollFromResultQueue()
+     */
+    @SuppressWarnings("unused")
+    public int drainResultQueue(String[] results) {
+        return _drainResultQueue(results);
+    }
+
+    /**
+     * Poll up to messages.length messages in one call.
+     *
+     * @param messages array to fill, each element is String[2] as returned by getMessage()
+     * @return the number of messages written to the array
+     * @see #getMessage()
+     */
+    @SuppressWarnings("unused")
+    public int drainMessages(String[][] messages) {
+        return _drainMessages(messages);
+    }
+
     /**
      * Do Not Remove, this is used for File-Engine to check the API version.
      *
@@ -291,6 +363,18 @@ public abstract class Plugin {
         return _pollFromEventQueue();
     }
 
+    /**
+     * Poll up to events.length events in one call.
+     *
+     * @param events array to fill, each element is an event as returned by pollFromEventQueue()
+     * @return the number of events written to the array
+     * @see #pollFromEventQueue()
+     */
+    @SuppressWarnings("unused")
+    public int drainEventQueue(Object[][] events) {
+        return _drainEventQueue(events);
+    }
+
     /**
      * Do Not Remove, this is used for File-Engine to replace the handler which the plugin is registered.
      * The object array contains two parts.
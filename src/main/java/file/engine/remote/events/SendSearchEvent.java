@@ -1,6 +1,14 @@
 package file.engine.remote.events;
 
 import file.engine.remote.Event;
+import file.engine.remote.httpd.SearchSession;
+import lombok.Getter;
 
 public class SendSearchEvent extends Event {
+    @Getter
+    private final SearchSession session;
+
+    public SendSearchEvent(SearchSession session) {
+        this.session = session;
+    }
 }
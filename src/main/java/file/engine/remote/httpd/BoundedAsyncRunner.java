@@ -0,0 +1,151 @@
+package file.engine.remote.httpd;
+
+import fi.iki.elonen.NanoHTTPD.AsyncRunner;
+import fi.iki.elonen.NanoHTTPD.ClientHandler;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 有上限的连接处理线程池，替代NanoHTTPD默认每个连接启动一个线程的DefaultAsyncRunner
+ * <p>
+ * 线程全部繁忙且等待队列已满时不再排队，由onRejected立即回复客户端并关闭连接
+ * <p>
+ * 虚拟线程模式下每个连接启动一个虚拟线程，不排队，只限制同时处理的连接数
+ */
+public class BoundedAsyncRunner implements AsyncRunner {
+    private static final long IDLE_THREAD_TIMEOUT = 60; //60s
+    private final ThreadPoolExecutor executor;
+    private final ThreadFactory virtualThreadFactory;
+    private final Semaphore virtualThreadPermits;
+    private final int maxThreads;
+    private final Set<ClientHandler> running = ConcurrentHashMap.newKeySet();
+    private final Consumer<ClientHandler> onRejected;
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * 使用虚拟线程处理连接
+     *
+     * @param maxThreads           同时处理的最大连接数
+     * @param virtualThreadFactory 虚拟线程工厂
+     * @param onRejected           连接被拒绝时调用，在接受连接的线程上执行，不能阻塞
+     */
+    public BoundedAsyncRunner(int maxThreads, ThreadFactory virtualThreadFactory, Consumer<ClientHandler> onRejected) {
+        this.onRejected = onRejected;
+        this.maxThreads = maxThreads;
+        this.executor = null;
+        this.virtualThreadFactory = virtualThreadFactory;
+        this.virtualThreadPermits = new Semaphore(maxThreads);
+    }
+
+    /**
+     * 使用线程池处理连接
+     *
+     * @param maxThreads 最大线程数
+     * @param queueSize  线程繁忙时最多等待的连接数，为0时不排队
+     * @param onRejected 连接被拒绝时调用，在接受连接的线程上执行，不能阻塞
+     */
+    public BoundedAsyncRunner(int maxThreads, int queueSize, Consumer<ClientHandler> onRejected) {
+        this.onRejected = onRejected;
+        this.maxThreads = maxThreads;
+        this.virtualThreadFactory = null;
+        this.virtualThreadPermits = null;
+        BlockingQueue<Runnable> queue = queueSize > 0 ? new ArrayBlockingQueue<>(queueSize) : new SynchronousQueue<>();
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(maxThreads, maxThreads, IDLE_THREAD_TIMEOUT, TimeUnit.SECONDS, queue, r -> {
+            Thread thread = new Thread(r, "NanoHttpd Request Processor (#" + threadCount.incrementAndGet() + ")");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public void exec(ClientHandler code) {
+        running.add(code);
+        try {
+            if (executor != null) {
+                executor.execute(code);
+            } else {
+                execVirtual(code);
+            }
+        } catch (RejectedExecutionException e) {
+            running.remove(code);
+            rejected.increment();
+            onRejected.accept(code);
+        }
+    }
+
+    private void execVirtual(ClientHandler code) {
+        if (!virtualThreadPermits.tryAcquire()) {
+            throw new RejectedExecutionException();
+        }
+        virtualThreadFactory.newThread(() -> {
+            try {
+                code.run();
+            } finally {
+                virtualThreadPermits.release();
+            }
+        }).start();
+    }
+
+    @Override
+    public void closed(ClientHandler clientHandler) {
+        running.remove(clientHandler);
+    }
+
+    /**
+     * 关闭所有连接，排队中的连接也会被关闭，线程池继续保留以便服务器重新启动
+     */
+    @Override
+    public void closeAll() {
+        for (ClientHandler each : running) {
+            each.close();
+        }
+    }
+
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * @return 最大线程数，虚拟线程模式下为最大连接数
+     */
+    public int getMaxThreads() {
+        return maxThreads;
+    }
+
+    /**
+     * @return 正在处理连接的线程数
+     */
+    public int getActiveCount() {
+        return executor != null ? executor.getActiveCount() : maxThreads - virtualThreadPermits.availablePermits();
+    }
+
+    /**
+     * @return 等待处理的连接数，虚拟线程模式下不排队
+     */
+    public int getQueueSize() {
+        return executor != null ? executor.getQueue().size() : 0;
+    }
+
+    /**
+     * @return 因线程和队列已满被拒绝的连接数
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+}
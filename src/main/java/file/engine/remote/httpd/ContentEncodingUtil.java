@@ -0,0 +1,105 @@
+package file.engine.remote.httpd;
+
+import fi.iki.elonen.NanoHTTPD;
+import fi.iki.elonen.NanoHTTPD.IHTTPSession;
+import fi.iki.elonen.NanoHTTPD.Response;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 根据请求的Accept-Encoding选择响应的压缩方式
+ * <p>
+ * 支持gzip和deflate，按q值选择，q值相同时优先gzip，内容小于阈值时不压缩
+ */
+public final class ContentEncodingUtil {
+    public static final String GZIP = "gzip";
+    public static final String DEFLATE = "deflate";
+
+    private ContentEncodingUtil() {
+    }
+
+    /**
+     * 选择压缩方式
+     *
+     * @param acceptEncoding Accept-Encoding请求头
+     * @return gzip或deflate，客户端不接受压缩时返回null
+     */
+    public static String negotiate(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isEmpty()) {
+            return null;
+        }
+        float gzipQ = -1;
+        float deflateQ = -1;
+        float wildcardQ = -1;
+        for (String each : acceptEncoding.split(",")) {
+            String[] params = each.split(";");
+            String coding = params[0].trim().toLowerCase(Locale.ROOT);
+            float q = 1;
+            for (int i = 1; i < params.length; i++) {
+                String param = params[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        q = Float.parseFloat(param.substring(2));
+                    } catch (NumberFormatException e) {
+                        q = 0;
+                    }
+                }
+            }
+            switch (coding) {
+                case GZIP, "x-gzip" -> gzipQ = Math.max(gzipQ, q);
+                case DEFLATE -> deflateQ = Math.max(deflateQ, q);
+                case "*" -> wildcardQ = q;
+                default -> {
+                }
+            }
+        }
+        // 没有单独列出的编码使用*的q值
+        if (gzipQ < 0) {
+            gzipQ = wildcardQ;
+        }
+        if (deflateQ < 0) {
+            deflateQ = wildcardQ;
+        }
+        if (gzipQ <= 0 && deflateQ <= 0) {
+            return null;
+        }
+        return gzipQ >= deflateQ ? GZIP : DEFLATE;
+    }
+
+    /**
+     * 创建响应，内容不小于阈值且客户端接受压缩时返回压缩后的内容
+     *
+     * @param session   请求
+     * @param status    状态码
+     * @param mimeType  content type
+     * @param body      响应内容
+     * @param threshold 压缩阈值，单位字节
+     * @return Response
+     */
+    public static Response newResponse(IHTTPSession session, Response.Status status, String mimeType, ResponseBuffer body, int threshold) {
+        String encoding = body.size() < threshold ? null : negotiate(session.getHeaders().get("accept-encoding"));
+        if (encoding == null) {
+            return NanoHTTPD.newFixedLengthResponse(status, mimeType, body.toInputStream(), body.size());
+        }
+        ResponseBuffer compressed = compress(body, encoding);
+        Response response = NanoHTTPD.newFixedLengthResponse(status, mimeType, compressed.toInputStream(), compressed.size());
+        response.addHeader("Content-Encoding", encoding);
+        response.addHeader("Vary", "Accept-Encoding");
+        return response;
+    }
+
+    private static ResponseBuffer compress(ResponseBuffer body, String encoding) {
+        ResponseBuffer compressed = new ResponseBuffer(body.size() / 4 + 64);
+        try (OutputStream compressor = GZIP.equals(encoding) ? new GZIPOutputStream(compressed) : new DeflaterOutputStream(compressed)) {
+            body.writeTo(compressor);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed;
+    }
+}
@@ -0,0 +1,129 @@
+package file.engine.remote.httpd;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 向File-Engine核心发送搜索请求
+ * <p>
+ * 复用同一个HttpClient，与核心之间的连接保持keep-alive，返回的json边读取边解析
+ */
+public class CoreSearchClient {
+    private static final int BATCH_SIZE = 64;
+    private final HttpClient httpClient;
+    private final String searchUrl;
+    private final Duration timeout;
+    private final LongAdder callCount = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong lastNanos = new AtomicLong();
+
+    /**
+     * @param port          核心端口
+     * @param timeoutMillis 等待核心返回结果的最长时间，毫秒
+     */
+    public CoreSearchClient(int port, long timeoutMillis) {
+        this.searchUrl = String.format("http://127.0.0.1:%d/search", port);
+        this.timeout = Duration.ofMillis(timeoutMillis);
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(3))
+                .build();
+    }
+
+    /**
+     * 发送搜索请求
+     *
+     * @param query        搜索请求
+     * @param maxResultNum 最大结果数量
+     * @param onBatch      每解析出一批结果调用一次
+     * @return 所有结果
+     * @throws IOException          请求失败或超时
+     * @throws InterruptedException interrupted
+     */
+    public String[] search(SearchQuery query, int maxResultNum, Consumer<String[]> onBatch) throws IOException, InterruptedException {
+        final long start = System.nanoTime();
+        try {
+            HttpRequest request = HttpRequest.newBuilder(buildUri(query, maxResultNum))
+                    .POST(HttpRequest.BodyPublishers.noBody())
+                    .timeout(timeout)
+                    .build();
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            try (JsonReader reader = new JsonReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+                if (response.statusCode() != 200) {
+                    throw new IOException("File-Engine core search failed, status code: " + response.statusCode());
+                }
+                return readResults(reader, onBatch);
+            }
+        } finally {
+            final long elapsed = System.nanoTime() - start;
+            callCount.increment();
+            totalNanos.add(elapsed);
+            lastNanos.set(elapsed);
+        }
+    }
+
+    public long getCallCount() {
+        return callCount.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long getLastNanos() {
+        return lastNanos.get();
+    }
+
+    private URI buildUri(SearchQuery query, int maxResultNum) {
+        String searchText;
+        String[] searchCase = query.getSearchCase();
+        if (searchCase != null) {
+            searchText = query.getSearchText() + "|" + String.join(";", searchCase);
+        } else {
+            searchText = query.getSearchText();
+        }
+        return URI.create(searchUrl + "?searchText=" + URLEncoder.encode(searchText, StandardCharsets.UTF_8) +
+                "&maxResultNum=" + maxResultNum);
+    }
+
+    private static String[] readResults(JsonReader reader, Consumer<String[]> onBatch) throws IOException {
+        String[] results = new String[BATCH_SIZE];
+        int size = 0;
+        int published = 0;
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return new String[0];
+        }
+        reader.beginArray();
+        while (reader.hasNext()) {
+            if (size == results.length) {
+                results = Arrays.copyOf(results, size * 2);
+            }
+            results[size++] = reader.nextString();
+            if (size - published == BATCH_SIZE) {
+                onBatch.accept(Arrays.copyOfRange(results, published, size));
+                published = size;
+            }
+        }
+        reader.endArray();
+        if (size > published) {
+            onBatch.accept(Arrays.copyOfRange(results, published, size));
+        }
+        return size == results.length ? results : Arrays.copyOf(results, size);
+    }
+}
@@ -0,0 +1,159 @@
+package file.engine.remote.httpd;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * 没有File-Engine核心时，搜索通过StartSearchEvent交给File-Engine，结果通过SearchDoneEvent返回，事件中没有搜索关键字
+ * <p>
+ * File-Engine同一时间只处理一个搜索，新的搜索会覆盖之前的搜索，所以同一时间只发送一个搜索，
+ * 之后的搜索排队，收到SearchDoneEvent后再发送下一个，保证结果属于正在进行的搜索
+ * <p>
+ * SearchDoneEvent超时未返回时由定时任务放弃当前搜索并发送下一个，之后迟到的结果如果与新的搜索明显不匹配则丢弃
+ */
+public class FileEngineSearchQueue {
+    /**
+     * 检查结果是否属于当前搜索时最多检查的结果数
+     */
+    private static final int VERIFY_RESULTS_NUM = 16;
+    private final SearchSessionManager sessionManager;
+    private final long timeoutMillis;
+    private final Consumer<SearchSession> starter;
+    private final ArrayDeque<SearchSession> waiting = new ArrayDeque<>();
+    private final ScheduledExecutorService timeoutScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "file-engine-search-timeout");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private SearchSession active;
+    private ScheduledFuture<?> activeTimeout;
+    /**
+     * 当前搜索之前有搜索超时被放弃，它的结果可能迟到
+     */
+    private boolean abandoned;
+
+    /**
+     * @param sessionManager 会话管理
+     * @param timeoutMillis  等待SearchDoneEvent的最长时间，毫秒
+     * @param starter        向File-Engine发送搜索事件
+     */
+    public FileEngineSearchQueue(SearchSessionManager sessionManager, long timeoutMillis, Consumer<SearchSession> starter) {
+        this.sessionManager = sessionManager;
+        this.timeoutMillis = timeoutMillis;
+        this.starter = starter;
+    }
+
+    /**
+     * 提交搜索，没有正在进行的搜索时立即发送，否则排队
+     *
+     * @param session 会话
+     */
+    public void submit(SearchSession session) {
+        SearchSession next;
+        synchronized (this) {
+            waiting.add(session);
+            next = active == null ? startNext() : null;
+        }
+        start(next);
+    }
+
+    /**
+     * 收到SearchDoneEvent，结果属于当前搜索时返回该搜索并发送下一个搜索
+     *
+     * @param results File-Engine返回的结果
+     * @return 结果所属的会话，没有正在进行的搜索或结果属于已放弃的搜索时返回null
+     */
+    public SearchSession onSearchDone(String[] results) {
+        SearchSession done;
+        SearchSession next;
+        synchronized (this) {
+            if (active == null || (abandoned && !matches(active.getQuery(), results))) {
+                return null;
+            }
+            done = active;
+            active = null;
+            abandoned = false;
+            activeTimeout.cancel(false);
+            next = startNext();
+        }
+        start(next);
+        return done;
+    }
+
+    /**
+     * 搜索超时仍未收到SearchDoneEvent时放弃该搜索，并发送下一个搜索
+     */
+    private void expire(SearchSession session) {
+        SearchSession next;
+        synchronized (this) {
+            if (active != session) {
+                return;
+            }
+            sessionManager.fail(session, new TimeoutException("File-Engine did not finish searching"));
+            active = null;
+            abandoned = true;
+            next = startNext();
+        }
+        start(next);
+    }
+
+    /**
+     * 取出下一个要发送的搜索，排队时已经超时的搜索直接失败
+     */
+    private SearchSession startNext() {
+        SearchSession next;
+        while ((next = waiting.poll()) != null) {
+            if (System.currentTimeMillis() - next.getCreateTime() < timeoutMillis) {
+                final SearchSession session = next;
+                active = session;
+                activeTimeout = timeoutScheduler.schedule(() -> expire(session), timeoutMillis, TimeUnit.MILLISECONDS);
+                return session;
+            }
+            sessionManager.fail(next, new TimeoutException("waiting for File-Engine too long"));
+        }
+        return null;
+    }
+
+    /**
+     * 停止超时检查，并让所有未完成的搜索失败
+     */
+    public void shutdown() {
+        timeoutScheduler.shutdownNow();
+        synchronized (this) {
+            if (active != null) {
+                sessionManager.fail(active, new TimeoutException("server stopped"));
+                active = null;
+            }
+            SearchSession session;
+            while ((session = waiting.poll()) != null) {
+                sessionManager.fail(session, new TimeoutException("server stopped"));
+            }
+        }
+    }
+
+    private void start(SearchSession session) {
+        if (session != null) {
+            starter.accept(session);
+        }
+    }
+
+    /**
+     * 抽查结果的文件名是否包含关键字，有明显不匹配的结果说明是之前被放弃的搜索的结果
+     */
+    private static boolean matches(SearchQuery query, String[] results) {
+        if (!query.isMatchableInMemory()) {
+            return true;
+        }
+        for (int i = 0; i < results.length && i < VERIFY_RESULTS_NUM; i++) {
+            if (Boolean.FALSE.equals(query.matchesFileName(results[i]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,129 @@
+package file.engine.remote.httpd;
+
+import lombok.Getter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.LinkedHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 缓存搜索结果文件的元数据，避免每次翻页都对每一行重新读取文件属性
+ * <p>
+ * 缓存项超过有效时间后重新读取，缓存数量超过上限时淘汰最久未访问的项
+ */
+public class FileMetadataCache {
+    private static final int PREFETCH_BATCH_SIZE = 64;
+    /**
+     * 等待执行的预读批次上限，超过后丢弃，翻页时再按需读取
+     */
+    private static final int PREFETCH_QUEUE_SIZE = 64;
+    private final LinkedHashMap<String, FileMetadata> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final ExecutorService prefetchExecutor;
+
+    public FileMetadataCache(int maxEntries, long ttlMillis) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMillis;
+        final int threads = Math.min(4, Runtime.getRuntime().availableProcessors());
+        this.prefetchExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(PREFETCH_QUEUE_SIZE), r -> {
+            Thread thread = new Thread(r, "file-metadata-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 获取文件元数据，缓存不存在或已过期时读取文件属性
+     *
+     * @param filePath 文件路径
+     * @return 元数据
+     */
+    public FileMetadata get(String filePath) {
+        final long now = System.currentTimeMillis();
+        FileMetadata metadata;
+        synchronized (cache) {
+            metadata = cache.get(filePath);
+        }
+        if (metadata != null && now - metadata.loadTime < ttlMillis) {
+            return metadata;
+        }
+        metadata = load(filePath);
+        put(filePath, metadata);
+        return metadata;
+    }
+
+    /**
+     * 在后台分批并行读取文件元数据，等待执行的批次已满时丢弃剩余的文件
+     *
+     * @param filePaths 文件路径
+     */
+    public void prefetch(String[] filePaths) {
+        for (int start = 0; start < filePaths.length; start += PREFETCH_BATCH_SIZE) {
+            final int from = start;
+            final int to = Math.min(filePaths.length, start + PREFETCH_BATCH_SIZE);
+            try {
+                prefetchExecutor.execute(() -> {
+                    for (int i = from; i < to; i++) {
+                        get(filePaths[i]);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                return;
+            }
+        }
+    }
+
+    public void shutdown() {
+        prefetchExecutor.shutdownNow();
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    private void put(String filePath, FileMetadata metadata) {
+        synchronized (cache) {
+            cache.put(filePath, metadata);
+            if (cache.size() > maxEntries) {
+                var iterator = cache.entrySet().iterator();
+                while (cache.size() > maxEntries && iterator.hasNext()) {
+                    iterator.next();
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    private static FileMetadata load(String filePath) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(Path.of(filePath), BasicFileAttributes.class);
+            return new FileMetadata(true, attributes.isDirectory(), attributes.size(), attributes.lastModifiedTime().toMillis());
+        } catch (IOException | RuntimeException e) {
+            return new FileMetadata(false, false, 0, 0);
+        }
+    }
+
+    @Getter
+    public static class FileMetadata {
+        private final boolean exists;
+        private final boolean isDir;
+        private final long size;
+        private final long lastModified;
+        private final long loadTime = System.currentTimeMillis();
+
+        private FileMetadata(boolean exists, boolean isDir, long size, long lastModified) {
+            this.exists = exists;
+            this.isDir = isDir;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+    }
+}
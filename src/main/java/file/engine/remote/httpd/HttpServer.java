@@ -1,35 +1,73 @@
 package file.engine.remote.httpd;
 
-import cn.hutool.http.HttpUtil;
-import com.google.gson.Gson;
 import fi.iki.elonen.NanoHTTPD;
 import file.engine.remote.Plugin;
 import file.engine.remote.events.SendSearchEvent;
+import file.engine.remote.httpd.ServerMetrics.Route;
 import file.engine.remote.utils.CORSUtil;
+import file.engine.remote.utils.FieldAccessorCache;
+import file.engine.remote.utils.VirtualThreadUtil;
 import file.engine.remote.utils.configs.ConfigsUtil;
-import file.engine.remote.utils.gson.GsonUtil;
+import file.engine.remote.utils.zip.ArchiveCache;
+import file.engine.remote.utils.zip.DirectoryScan;
 import file.engine.remote.utils.zip.FileZipUtil;
+import file.engine.remote.utils.zip.ParallelZipWriter;
+import file.engine.remote.utils.zip.ZipStreamInputStream;
 import lombok.SneakyThrows;
 
 import java.io.*;
-import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
-import java.util.regex.Pattern;
 
 public class HttpServer extends NanoHTTPD {
-    private String searchText;
-    private String[] searchCase;
-    private String[] keywords;
-    private volatile ConcurrentLinkedQueue<String> searchResults;
-    private static final Pattern semicolon = Pattern.compile(";");
+    private final SearchSessionManager sessionManager;
+    private final long searchTimeout;
+    private final int initialResultNum;
+    private final int maxResultNum;
+    private final FileMetadataCache metadataCache;
+    private final QueryResultCache queryCache;
+    private final boolean zipStreaming;
+    private final ParallelZipWriter zipWriter;
+    private final ArchiveCache archiveCache;
+    private final long maxDirectorySize;
+    private final StaticAssetCache staticAssets;
+    private final ServerMetrics metrics = new ServerMetrics();
+    private final int compressionThreshold;
+    private final boolean prettyJson;
+    private final BoundedAsyncRunner asyncRunner;
+    private final Semaphore downloadPermits;
+    private final int maxConcurrentDownloads;
+    private final ExecutorService zipExecutor;
+    private CoreSearchClient coreSearchClient;
+    private FileEngineSearchQueue searchQueue;
+    private static final String MIME_EVENT_STREAM = "text/event-stream";
+    private static final String MIME_JSON = "application/json; charset=utf-8";
+    private static final String MIME_PROMETHEUS = "text/plain; version=0.0.4; charset=utf-8";
+    private static final int RESPONSE_BUFFER_SIZE = 8 * 1024;
+    private static final String RETRY_AFTER_SECONDS = "1";
+    /**
+     * 获取结果时每页最多的结果数
+     */
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final List<String> INDEX_CHANGE_EVENTS = List.of(
+            "file.engine.event.handler.impl.database.UpdateDatabaseEvent",
+            "file.engine.event.handler.impl.database.AddToCacheEvent",
+            "file.engine.event.handler.impl.database.DeleteFromCacheEvent",
+            "file.engine.event.handler.impl.database.OptimiseDatabaseEvent");
     private static final HashMap<String, String> suffixMimeMap = new HashMap<>();
-    private static final int MAX_WAIT_TIME = 10_000; //10s
 
     static {
         suffixMimeMap.put("ez", "application/andrew-inset");
@@ -178,31 +216,97 @@ public class HttpServer extends NanoHTTPD {
     @SuppressWarnings("unchecked")
     public HttpServer(int port, boolean isFileEngineCoreExist) throws IOException, ClassNotFoundException, NoSuchMethodException, InvocationTargetException, IllegalAccessException {
         super(port);
+        ConfigsUtil configsUtil = ConfigsUtil.getInstance();
+        searchTimeout = configsUtil.getSearchTimeout();
+        sessionManager = new SearchSessionManager(TimeUnit.SECONDS.toMillis(configsUtil.getSessionIdleTimeout()),
+                configsUtil.getSessionMaxMemory() * 1024L * 1024L, searchTimeout);
+        initialResultNum = configsUtil.getInitialResultNum();
+        maxResultNum = Math.max(initialResultNum, configsUtil.getMaxResultNum());
+        metadataCache = new FileMetadataCache(configsUtil.getMetadataCacheSize(),
+                TimeUnit.SECONDS.toMillis(configsUtil.getMetadataCacheTtl()));
+        queryCache = new QueryResultCache(configsUtil.getQueryCacheSize(), configsUtil.getQueryCacheMaxMemory() * 1024L * 1024L,
+                TimeUnit.SECONDS.toMillis(configsUtil.getQueryCacheTtl()));
+        zipStreaming = configsUtil.isZipStreaming();
+        zipWriter = new ParallelZipWriter(configsUtil.getZipThreads(), configsUtil.getZipCompressionLevel(),
+                configsUtil.getParallelZipThreshold() * 1024L * 1024L);
+        maxDirectorySize = configsUtil.getMaxDirectorySize() * 1024L * 1024L;
+        archiveCache = new ArchiveCache(Path.of(ConfigsUtil.TMP_PATH, "archives"), configsUtil.getArchiveCacheSize() * 1024L * 1024L);
+        staticAssets = StaticAssetCache.load(this::selectMime);
+        compressionThreshold = configsUtil.getCompressionThreshold();
+        prettyJson = configsUtil.isPrettyJson();
+        ThreadFactory virtualThreadFactory = configsUtil.isVirtualThreads() ? VirtualThreadUtil.newFactory("NanoHttpd Request Processor #") : null;
+        if (virtualThreadFactory != null) {
+            asyncRunner = new BoundedAsyncRunner(Math.max(2, configsUtil.getMaxVirtualThreads()), virtualThreadFactory, this::rejectConnection);
+        } else {
+            if (configsUtil.isVirtualThreads()) {
+                System.err.println("virtual threads require Java 21, fall back to thread pool");
+            }
+            asyncRunner = new BoundedAsyncRunner(Math.max(2, configsUtil.getMaxWorkerThreads()), configsUtil.getWorkerQueueSize(), this::rejectConnection);
+        }
+        // 边压缩边发送时始终使用平台线程压缩，ZipOutputStream.write是synchronized方法，
+        // 虚拟线程在其中等待客户端接收数据时会占住载体线程，载体线程被占满后读取端无法运行
+        zipExecutor = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "zip-stream");
+            thread.setDaemon(true);
+            return thread;
+        });
+        setAsyncRunner(asyncRunner);
+        // 下载会一直占用连接线程直到发送完成，限制并发数，避免下载单独占满所有连接线程
+        // 空闲的keep-alive连接和搜索事件流同样占用线程，所以这里不能保证其他接口一定有空闲线程
+        maxConcurrentDownloads = Math.max(1, Math.min(configsUtil.getMaxConcurrentDownloads(), asyncRunner.getMaxThreads() - 1));
+        downloadPermits = new Semaphore(maxConcurrentDownloads);
         start(SOCKET_READ_TIMEOUT, false);
+        // 索引发生变化时清空搜索结果缓存
+        for (String event : INDEX_CHANGE_EVENTS) {
+            Plugin.registerFileEngineEventListener(event, "queryCacheInvalidator", (c, eventInstance) -> queryCache.invalidate());
+        }
         if (isFileEngineCoreExist) {
             Class<?> databaseClass = Class.forName("file.engine.services.DatabaseNativeService");
             java.lang.reflect.Method getPortMethod = databaseClass.getMethod("getPort");
             int corePort = (int) getPortMethod.invoke(null);
+            coreSearchClient = new CoreSearchClient(corePort, searchTimeout);
 
             Plugin.registerFileEngineEventHandler(SendSearchEvent.class.getName(), (clazz, obj) -> {
-                Object[] searchInfo = getSearchInfo();
-                List<String> results = sendSearchToCore(corePort, searchInfo);
-                this.searchResults = new ConcurrentLinkedQueue<>(results);
+                SearchSession session = ((SendSearchEvent) obj).getSession();
+                try {
+                    String[] results = coreSearchClient.search(session.getQuery(), initialResultNum, batch -> sessionManager.publish(session, batch));
+                    final boolean hasMore = results.length >= initialResultNum && initialResultNum < maxResultNum;
+                    ResultSnapshot snapshot = ResultSnapshot.of(results);
+                    sessionManager.complete(session, snapshot, hasMore);
+                    queryCache.put(session.getQuery(), snapshot, hasMore, results.length < initialResultNum, session.getCreateTime());
+                    metadataCache.prefetch(results);
+                } catch (Exception e) {
+                    sessionManager.fail(session, e);
+                    e.printStackTrace();
+                }
                 Plugin.displayMessage("提示", "File-Engine接收到一个搜索请求");
             });
         } else {
-            Plugin.registerFileEngineEventHandler(SendSearchEvent.class.getName(), (clazz, obj) -> {
-                Object[] searchInfo = getSearchInfo();
+            // File-Engine同一时间只处理一个搜索，新的搜索会覆盖之前的搜索，所以逐个发送
+            searchQueue = new FileEngineSearchQueue(sessionManager, searchTimeout, session -> {
+                SearchQuery query = session.getQuery();
                 Plugin.sendEventToFileEngine("file.engine.event.handler.impl.database.StartSearchEvent",
-                        searchInfo[0],
-                        searchInfo[1],
-                        searchInfo[2]);
+                        (Supplier<String>) query::getSearchText,
+                        (Supplier<String[]>) query::getSearchCase,
+                        (Supplier<String[]>) query::getKeywords);
+            });
+            Plugin.registerFileEngineEventHandler(SendSearchEvent.class.getName(), (clazz, obj) -> {
+                searchQueue.submit(((SendSearchEvent) obj).getSession());
                 Plugin.displayMessage("提示", "File-Engine接收到一个搜索请求");
             });
             Plugin.registerFileEngineEventListener("file.engine.event.handler.impl.database.SearchDoneEvent", "searchDoneListener", (c, eventInstance) -> {
                 try {
-                    Field searchResults = c.getDeclaredField("searchResults");
-                    this.searchResults = (ConcurrentLinkedQueue<String>) searchResults.get(eventInstance);
+                    var results = (ConcurrentLinkedQueue<String>) FieldAccessorCache.get(c, "searchResults", eventInstance);
+                    // 只在搜索完成时复制一次
+                    String[] resultsArray = results.toArray(new String[0]);
+                    SearchSession session = searchQueue.onSearchDone(resultsArray);
+                    if (session == null) {
+                        return;
+                    }
+                    ResultSnapshot snapshot = ResultSnapshot.of(resultsArray);
+                    // SearchDoneEvent中没有搜索关键字，无法确定结果一定属于该搜索，所以不缓存
+                    sessionManager.complete(session, snapshot);
+                    metadataCache.prefetch(resultsArray);
                 } catch (NoSuchFieldException | IllegalAccessException e) {
                     e.printStackTrace();
                 }
@@ -210,28 +314,23 @@ public class HttpServer extends NanoHTTPD {
         }
     }
 
-    private static String getUrl(int port) {
-        return String.format("http://127.0.0.1:%d", port);
-    }
-
-    private static List<String> sendSearchToCore(int port, Object[] searchInfo) {
-        String url = getUrl(port) + "/search";
-        HashMap<String, Object> params = new HashMap<>();
-        String[] searchCase = ((Supplier<String[]>) searchInfo[1]).get();
-        if (searchCase != null) {
-            params.put("searchText", String.join(";", ((Supplier<String>) searchInfo[2]).get()) + "|" + String.join(";", searchCase));
-        } else {
-            params.put("searchText", ((Supplier<String[]>) searchInfo[0]).get());
+    @Override
+    public void stop() {
+        super.stop();
+        asyncRunner.shutdown();
+        metadataCache.shutdown();
+        zipExecutor.shutdownNow();
+        zipWriter.shutdown();
+        if (searchQueue != null) {
+            searchQueue.shutdown();
         }
-        params.put("maxResultNum", 200);
-        String paramsStr = HttpUtil.toParams(params);
-        String results = HttpUtil.post(url + "?" + paramsStr, Collections.emptyMap());
-        Gson gson = GsonUtil.getInstance().getGson();
-        return gson.fromJson(results, List.class);
+        sessionManager.clear();
     }
 
     /**
      * 处理网络请求，当请求为post且请求地址为/search，则设置搜索关键字并发起搜索事件
+     * 请求地址为/search/stream时，发起搜索并以事件流的形式推送结果
+     * 请求地址为/metrics时，返回Prometheus格式的运行指标
      * 否则作为web资源服务器，向前端返回静态资源
      *
      * @return Response
@@ -239,51 +338,110 @@ public class HttpServer extends NanoHTTPD {
     @SneakyThrows
     @Override
     public Response serve(IHTTPSession session) {
+        final long start = System.nanoTime();
+        Route route = route(session);
+        try {
+            return switch (route) {
+                case PREFLIGHT -> responseCORS(NanoHTTPD.newFixedLengthResponse(""));
+                case SEARCH -> responseCORS(handleSearch(session));
+                case SEARCH_STREAM -> responseCORS(handleSearchStream(session));
+                case RESULTS -> responseCORS(handleShowResults(session));
+                case METRICS -> responseCORS(handleMetrics(session));
+                case STATIC -> responseCORS(staticAssets.newResponse(session, session.getUri()));
+                case DOWNLOAD -> responseCORS(handleDownload(session));
+                case OTHER -> responseCORS(jsonResponse(session, ResBody.error("error request")));
+            };
+        } finally {
+            metrics.recordRequest(route, System.nanoTime() - start);
+        }
+    }
+
+    private Route route(IHTTPSession session) {
         Method method = session.getMethod();
         String uri = session.getUri();
         if (isPreflightRequest(session)) {
-            return responseCORS(NanoHTTPD.newFixedLengthResponse(""));
+            return Route.PREFLIGHT;
         }
         if (Method.POST.equals(method) && "/search".equals(uri)) {
-            return responseCORS(handleSearch(session));
+            return Route.SEARCH;
+        } else if ((Method.GET.equals(method) || Method.POST.equals(method)) && "/search/stream".equals(uri)) {
+            return Route.SEARCH_STREAM;
         } else if (Method.GET.equals(method) && "/results".equals(uri)) {
-            return responseCORS(handleShowResults(session));
-        } else if (Method.GET.equals(method) && hasResource(uri)) {
-            return responseCORS(handleResources(uri));
-        } else if (Method.GET.equals(method)) {
-            return responseCORS(handleDownload(session));
+            return Route.RESULTS;
+        } else if (Method.GET.equals(method) && "/metrics".equals(uri)) {
+            return Route.METRICS;
+        } else if (Method.GET.equals(method) && staticAssets.contains(uri)) {
+            return Route.STATIC;
+        } else if (Method.GET.equals(method) || Method.HEAD.equals(method)) {
+            return Route.DOWNLOAD;
         }
-        return responseCORS(NanoHTTPD.newFixedLengthResponse(ResBody.error("error request").toString()));
+        return Route.OTHER;
     }
 
-    private boolean hasResource(String uri) {
-        try (var stream = HttpServer.class.getResourceAsStream(uri)) {
-            if (stream == null) {
-                return false;
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-            return false;
+    /**
+     * 以Prometheus文本格式返回运行指标
+     */
+    private Response handleMetrics(IHTTPSession session) {
+        Map<String, Number> counters = new LinkedHashMap<>();
+        Map<String, Number> gauges = new LinkedHashMap<>();
+        counters.put("remote_search_deduplicated_total", sessionManager.getJoinedCount());
+        counters.put("remote_query_cache_hits_total", queryCache.getHitCount());
+        counters.put("remote_query_cache_misses_total", queryCache.getMissCount());
+        counters.put("remote_query_cache_refined_total", queryCache.getRefinedCount());
+        gauges.put("remote_query_cache_entries", queryCache.size());
+        gauges.put("remote_search_sessions", sessionManager.size());
+        gauges.put("remote_worker_threads_active", asyncRunner.getActiveCount());
+        gauges.put("remote_worker_queue_size", asyncRunner.getQueueSize());
+        gauges.put("remote_downloads_active", maxConcurrentDownloads - downloadPermits.availablePermits());
+        counters.put("remote_rejected_connections_total", asyncRunner.getRejectedCount());
+        Plugin.getQueueSizes().forEach((queue, size) -> gauges.put("remote_plugin_queue_size{queue=\"" + queue + "\"}", size));
+        Plugin.getQueueDroppedCounts().forEach((queue, dropped) -> counters.put("remote_plugin_queue_dropped_total{queue=\"" + queue + "\"}", dropped));
+        if (coreSearchClient != null) {
+            counters.put("remote_core_search_requests_total", coreSearchClient.getCallCount());
+            counters.put("remote_core_search_seconds_total", coreSearchClient.getTotalNanos() / 1e9);
+            gauges.put("remote_core_search_last_seconds", coreSearchClient.getLastNanos() / 1e9);
         }
-        return true;
+        ResponseBuffer body = new ResponseBuffer(RESPONSE_BUFFER_SIZE);
+        body.writeBytes(metrics.scrape(counters, gauges).getBytes(StandardCharsets.UTF_8));
+        return ContentEncodingUtil.newResponse(session, Response.Status.OK, MIME_PROMETHEUS, body, compressionThreshold);
     }
 
-    private Response handleResources(String uri) {
-        String mime = selectMime(uri.substring(uri.lastIndexOf('.') + 1));
-        StringBuilder res = new StringBuilder();
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(Objects.requireNonNull(HttpServer.class.getResourceAsStream(uri))))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                res.append(line);
-            }
-            return NanoHTTPD.newFixedLengthResponse(Response.Status.OK, mime, res.toString());
-        } catch (IOException e) {
-            e.printStackTrace();
+    /**
+     * 下载和打包单独限制并发数，超过时直接返回503，许可在响应数据流关闭时归还
+     */
+    private Response handleDownload(IHTTPSession session) throws IOException {
+        if (Method.HEAD.equals(session.getMethod()) && isDirectoryRequest(session)) {
+            // 压缩包在生成前大小未知，HEAD请求文件夹时只返回响应头，不占用下载许可，也不扫描和打包
+            return NanoHTTPD.newFixedLengthResponse(Response.Status.OK, "application/octet-stream", null);
+        }
+        if (!downloadPermits.tryAcquire()) {
+            metrics.recordDownloadRejected();
+            Response response = jsonResponse(session, Response.Status.SERVICE_UNAVAILABLE, ResBody.error("too many downloads, retry later"));
+            response.addHeader("Retry-After", RETRY_AFTER_SECONDS);
+            return response;
+        }
+        Response response;
+        try {
+            response = download(session);
+        } catch (IOException | RuntimeException e) {
+            downloadPermits.release();
+            throw e;
         }
-        return NanoHTTPD.newFixedLengthResponse(ResBody.error("error request").toString());
+        InputStream data = response.getData();
+        if (data == null) {
+            downloadPermits.release();
+        } else {
+            response.setData(new PermitInputStream(data, downloadPermits));
+        }
+        return response;
     }
 
-    private Response handleDownload(IHTTPSession session) throws IOException {
+    private static boolean isDirectoryRequest(IHTTPSession session) {
+        List<String> filePathList = session.getParameters().get("filePath");
+        return filePathList != null && !filePathList.isEmpty() && Files.isDirectory(Path.of(filePathList.get(0)));
+    }
+
+    private Response download(IHTTPSession session) throws IOException {
         Map<String, List<String>> parameters = session.getParameters();
         List<String> filePathList = parameters.get("filePath");
         if (filePathList != null && !filePathList.isEmpty()) {
@@ -291,18 +449,25 @@ public class HttpServer extends NanoHTTPD {
             Path path = Path.of(filePath);
             if (Files.exists(path)) {
                 if (Files.isRegularFile(path)) {
-                    return returnFileStream(path);
+                    return returnFileStream(session, path);
                 } else {
-                    String zipFileName = path.getFileName().toString() + ".zip";
                     try {
-                        if (FileZipUtil.checkFilesSize(filePath, 100 * 1024 * 1024)) {
-                            Path zipFilePath = Path.of(ConfigsUtil.TMP_PATH, zipFileName);
-                            FileZipUtil.fileToZip(filePath, zipFilePath.toString());
-                            return returnFileStream(zipFilePath);
+                        DirectoryScan scan = FileZipUtil.scanDirectory(path, maxDirectorySize, zipWriter.getFormatKey());
+                        if (!scan.isExceeded()) {
+                            String key = scan.getFingerprint();
+                            ArchiveCache.Lease cachedArchive = archiveCache.acquire(key);
+                            if (cachedArchive != null) {
+                                return returnArchiveStream(session, cachedArchive);
+                            }
+                            if (zipStreaming) {
+                                // 边压缩边发送，同时写入缓存，如果已有请求在生成缓存则只发送
+                                return responseCORS(NanoHTTPD.newChunkedResponse(Response.Status.OK, "application/octet-stream",
+                                        ZipStreamInputStream.open(outputStream -> writeZip(path.toFile(), outputStream), zipExecutor, archiveCache.tryClaim(key))));
+                            }
+                            ArchiveCache.Lease archive = archiveCache.getOrCreate(key, outputStream -> writeZip(path.toFile(), outputStream));
+                            return returnArchiveStream(session, archive);
                         } else {
-                            return NanoHTTPD.newFixedLengthResponse(Response.Status.SERVICE_UNAVAILABLE,
-                                    NanoHTTPD.MIME_HTML,
-                                    ResBody.error("Directory too large").toString());
+                            return jsonResponse(session, Response.Status.SERVICE_UNAVAILABLE, ResBody.error(directoryTooLargeMessage(scan)));
                         }
                     } catch (Exception e) {
                         e.printStackTrace();
@@ -310,64 +475,338 @@ public class HttpServer extends NanoHTTPD {
                 }
             }
         }
-        return NanoHTTPD.newFixedLengthResponse(Response.Status.BAD_REQUEST, MIME_HTML, ResBody.error("error request").toString());
+        return jsonResponse(session, Response.Status.BAD_REQUEST, ResBody.error("error request"));
+    }
+
+    /**
+     * 文件夹超过大小限制时的提示，包含停止扫描前统计到的文件数和最大的几个文件，方便用户改为下载子文件夹
+     */
+    private String directoryTooLargeMessage(DirectoryScan scan) {
+        StringJoiner largest = new StringJoiner(", ");
+        for (DirectoryScan.FileEntry entry : scan.getLargestEntries()) {
+            largest.add(entry.getPath() + " (" + toMegabytes(entry.getSize()) + ")");
+        }
+        return "Directory too large, limit " + maxDirectorySize / 1024 / 1024 + "MB, " +
+                "scanned " + scan.getFileCount() + " files (" + toMegabytes(scan.getTotalSize()) + ") before stopping, " +
+                "largest files: " + largest;
     }
 
-    private Response returnFileStream(Path filePath) throws IOException {
-        long length = Files.size(filePath);
-        BufferedInputStream inputStream = new BufferedInputStream(new FileInputStream(filePath.toFile()));
-        return responseCORS(NanoHTTPD.newFixedLengthResponse(Response.Status.OK, "application/octet-stream", inputStream, length));
+    private static String toMegabytes(long bytes) {
+        return String.format("%.1fMB", bytes / 1024.0 / 1024.0);
+    }
+
+    /**
+     * 压缩文件夹并记录耗时和压缩包大小
+     */
+    private void writeZip(File dir, OutputStream outputStream) throws Exception {
+        final long start = System.nanoTime();
+        try {
+            final long size = zipWriter.write(dir, outputStream);
+            metrics.recordZip(System.nanoTime() - start, size);
+        } catch (Exception e) {
+            metrics.recordZipFailure();
+            throw e;
+        }
+    }
+
+    private Response returnFileStream(IHTTPSession session, Path filePath) throws IOException {
+        return responseCORS(RangeFileResponse.newFileResponse(session, filePath, "application/octet-stream", metrics.getBytesServed()));
+    }
+
+    /**
+     * 发送缓存的压缩包，响应关闭后才释放压缩包，之前不会被缓存淘汰删除
+     */
+    private Response returnArchiveStream(IHTTPSession session, ArchiveCache.Lease archive) throws IOException {
+        try {
+            return responseCORS(RangeFileResponse.newFileResponse(session, archive.getPath(), "application/octet-stream",
+                    metrics.getBytesServed(), archive));
+        } catch (IOException | RuntimeException e) {
+            archive.close();
+            throw e;
+        }
     }
 
     private Response handleShowResults(IHTTPSession session) {
         // 获取结果
         Map<String, List<String>> parameters = session.getParameters();
+        List<String> tokenList = parameters.get("token");
         List<String> pageNumList = parameters.get("pageNum");
         List<String> pageSizeList = parameters.get("pageSize");
-        if (!pageNumList.isEmpty() && !pageSizeList.isEmpty()) {
-            final int pageNum = Integer.parseInt(pageNumList.get(0));
-            final int pageSize = Integer.parseInt(pageSizeList.get(0));
-            ArrayList<String> results = new ArrayList<>(searchResults);
+        if (tokenList != null && !tokenList.isEmpty() &&
+                pageNumList != null && !pageNumList.isEmpty() &&
+                pageSizeList != null && !pageSizeList.isEmpty()) {
+            SearchSession searchSession = sessionManager.get(tokenList.get(0));
+            if (searchSession == null || !searchSession.isDone()) {
+                return jsonResponse(session, ResBody.error("search session expired"));
+            }
+            final int pageNum = parseIntParameter(pageNumList.get(0));
+            final int pageSize = parseIntParameter(pageSizeList.get(0));
+            if (pageNum < 1 || pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+                return jsonResponse(session, ResBody.error("pageNum must be positive and pageSize must be between 1 and " + MAX_PAGE_SIZE));
+            }
+            final long pageStart = (long) (pageNum - 1) * pageSize;
+            final long pageEnd = (long) pageNum * pageSize;
+            // 多获取一条结果用于判断是否还有下一页，核心最多返回maxResultNum个结果
+            final int required = (int) Math.min(pageEnd + 1, maxResultNum + 1L);
+            fetchMoreResults(searchSession, required);
+            ResultSnapshot results = searchSession.getResults();
+            Throwable fetchFailure = searchSession.getFetchFailure();
+            if (fetchFailure != null && searchSession.hasMore() && results.size() < required) {
+                // 获取失败时返回错误，不返回不完整的页
+                return jsonResponse(session, ResBody.error("failed to fetch more results, " + fetchFailure));
+            }
             ArrayList<HashMap<String, Object>> ret = new ArrayList<>();
             final int size = results.size();
+            // 只返回已获取结果的页数，是否还有下一页由hasMore表示
             final int pages = (int) Math.ceil((double) size / pageSize);
-            for (int i = (pageNum - 1) * pageSize; i < pageNum * pageSize && i < size; ++i) {
+            for (int i = (int) Math.min(pageStart, size); i < pageEnd && i < size; ++i) {
                 String filePath = results.get(i);
+                FileMetadataCache.FileMetadata metadata = metadataCache.get(filePath);
                 HashMap<String, Object> tmpMap = new HashMap<>();
                 tmpMap.put("filePath", filePath);
-                tmpMap.put("isDir", Files.isDirectory(Path.of(filePath)));
+                tmpMap.put("isDir", metadata.isDir());
+                tmpMap.put("size", metadata.getSize());
+                tmpMap.put("lastModified", metadata.getLastModified());
                 ret.add(tmpMap);
             }
-            return responseCORS(NanoHTTPD.newFixedLengthResponse(ResBody.success(ret, pages).toString()));
+            return responseCORS(jsonResponse(session, ResBody.success(ret, pages, searchSession.hasMore())));
+        }
+        return jsonResponse(session, ResBody.error("error request"));
+    }
+
+    /**
+     * 解析整数参数
+     *
+     * @return 不是数字或超出int范围时返回-1
+     */
+    private static int parseIntParameter(String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 已获取的结果不足时，继续从核心获取更多结果
+     * <p>
+     * 核心不支持偏移量，每次都重新搜索并从头返回前maxResultNum个结果，只追加之前没有获取过的结果，
+     * 已经返回给前端的页不会改变，获取失败时把原因记录到会话中
+     *
+     * @param searchSession 会话
+     * @param required      需要的结果数量
+     */
+    private void fetchMoreResults(SearchSession searchSession, int required) {
+        if (coreSearchClient == null || !searchSession.hasMore() || searchSession.getResults().size() >= required) {
+            return;
+        }
+        // 等待核心返回时持有锁，使用ReentrantLock以免虚拟线程占住载体线程
+        searchSession.fetchLock.lock();
+        try {
+            final int currentSize = searchSession.getResults().size();
+            if (!searchSession.hasMore() || currentSize >= required) {
+                return;
+            }
+            final int fetchNum = Math.min(maxResultNum, Math.max(required, currentSize * 2));
+            try {
+                String[] fetched = coreSearchClient.search(searchSession.getQuery(), fetchNum, batch -> {
+                });
+                String[] moreResults = newResults(searchSession.getResults(), fetched);
+                sessionManager.append(searchSession, moreResults, fetched.length >= fetchNum && fetchNum < maxResultNum);
+                queryCache.put(searchSession.getQuery(), searchSession.getResults(), searchSession.hasMore(),
+                        fetched.length < fetchNum, searchSession.getCreateTime());
+                metadataCache.prefetch(moreResults);
+            } catch (IOException e) {
+                e.printStackTrace();
+                searchSession.setFetchFailure(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                searchSession.setFetchFailure(e);
+            }
+        } finally {
+            searchSession.fetchLock.unlock();
+        }
+    }
+
+    /**
+     * 找出核心返回的结果中之前没有获取过的部分
+     * <p>
+     * 索引没有变化时核心按相同的顺序返回结果，已获取的结果是返回结果的前缀，直接取之后的部分；
+     * 索引变化导致顺序不同时按路径去重，避免翻页时出现重复的结果
+     *
+     * @param current 已获取的结果
+     * @param fetched 核心重新返回的结果
+     * @return 新的结果
+     */
+    private static String[] newResults(ResultSnapshot current, String[] fetched) {
+        final int currentSize = current.size();
+        boolean samePrefix = fetched.length >= currentSize;
+        for (int i = 0; samePrefix && i < currentSize; i++) {
+            samePrefix = current.get(i).equals(fetched[i]);
         }
-        return NanoHTTPD.newFixedLengthResponse(ResBody.error("error request").toString());
+        if (samePrefix) {
+            return Arrays.copyOfRange(fetched, currentSize, fetched.length);
+        }
+        HashSet<String> known = new HashSet<>(currentSize * 2);
+        current.stream().forEach(known::add);
+        return Arrays.stream(fetched).filter(path -> !known.contains(path)).toArray(String[]::new);
     }
 
     private Response handleSearch(IHTTPSession session) {
+        SearchSession searchSession = startSearch(session);
+        if (searchSession == null) {
+            return jsonResponse(session, ResBody.error("parameters error"));
+        }
+        ResultSnapshot results;
+        final long start = System.nanoTime();
+        try {
+            results = searchSession.awaitResults(searchTimeout);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            metrics.recordSearchWait(System.nanoTime() - start, false);
+            return responseCORS(jsonResponse(session, ResBody.error("search failed")));
+        }
+        metrics.recordSearchWait(System.nanoTime() - start, results == null);
+        if (results != null) {
+            return responseCORS(jsonResponse(session, ResBody.success(Map.of("token", searchSession.getToken()), 0)));
+        } else {
+            return responseCORS(jsonResponse(session, ResBody.error("waiting for search results too long")));
+        }
+    }
+
+    /**
+     * 发起搜索，并通过Server-Sent Events将结果分批推送到前端
+     */
+    private Response handleSearchStream(IHTTPSession session) {
+        SearchSession searchSession = startSearch(session);
+        if (searchSession == null) {
+            return jsonResponse(session, ResBody.error("parameters error"));
+        }
+        Response response = NanoHTTPD.newChunkedResponse(Response.Status.OK, MIME_EVENT_STREAM, new SearchEventStream(searchSession, searchTimeout));
+        response.addHeader("Cache-Control", "no-cache");
+        return response;
+    }
+
+    /**
+     * 根据请求参数创建搜索会话并发起搜索事件
+     *
+     * @return 搜索会话，参数错误返回null
+     */
+    private SearchSession startSearch(IHTTPSession session) {
         Map<String, List<String>> parameters = session.getParameters();
         List<String> inputTextList = parameters.get("inputText");
         if (inputTextList != null && !inputTextList.isEmpty()) {
             String inputText = inputTextList.get(0);
             if (inputText.length() < 300 && !inputText.isEmpty()) {
-                setSearchInfo(inputText);
-                searchResults = null;
-                Plugin.sendEventToFileEngine(new SendSearchEvent());
-                final long startWaitingTime = System.currentTimeMillis();
-                while (searchResults == null && System.currentTimeMillis() - startWaitingTime < MAX_WAIT_TIME) {
-                    try {
-                        TimeUnit.MILLISECONDS.sleep(1);
-                    } catch (InterruptedException e) {
-                        throw new RuntimeException(e);
-                    }
+                SearchQuery query = SearchQuery.parse(inputText);
+                QueryResultCache.CachedResult cached = queryCache.get(query);
+                if (cached != null) {
+                    return sessionManager.createCompleted(query, cached.getResults(), cached.isHasMore());
                 }
-                if (searchResults != null) {
-                    return responseCORS(NanoHTTPD.newFixedLengthResponse(ResBody.success(null, 0).toString()));
-                } else {
-                    return responseCORS(NanoHTTPD.newFixedLengthResponse(ResBody.error("waiting for search results too long").toString()));
+                // 关键字在上一次完整的搜索结果上变长时，直接在内存中筛选
+                ResultSnapshot refined = queryCache.refine(query);
+                if (refined != null) {
+                    return sessionManager.createCompleted(query, refined, false);
                 }
+                // 相同的搜索正在进行时共用结果，不再发起新的搜索事件
+                return sessionManager.createOrJoin(query,
+                        searchSession -> Plugin.sendEventToFileEngine(new SendSearchEvent(searchSession)));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * NanoHTTPD先写响应头再写响应体，开启Nagle时keep-alive连接上的第二个请求开始，
+     * 响应体要等待客户端延迟确认（约40ms）后才会发出，所以关闭Nagle
+     */
+    @Override
+    protected ClientHandler createClientHandler(Socket finalAccept, InputStream inputStream) {
+        try {
+            finalAccept.setTcpNoDelay(true);
+        } catch (SocketException e) {
+            e.printStackTrace();
+        }
+        return new ConnectionHandler(inputStream, finalAccept);
+    }
+
+    /**
+     * 线程池和等待队列都已满时，在接受连接的线程上直接返回503并关闭连接
+     */
+    private void rejectConnection(ClientHandler clientHandler) {
+        if (clientHandler instanceof ConnectionHandler connectionHandler) {
+            connectionHandler.reject();
+        } else {
+            clientHandler.close();
+        }
+    }
+
+    /**
+     * 保存连接的socket，用于拒绝连接时直接写入响应
+     */
+    private class ConnectionHandler extends ClientHandler {
+        private final InputStream inputStream;
+        private final Socket socket;
+
+        private ConnectionHandler(InputStream inputStream, Socket socket) {
+            super(inputStream, socket);
+            this.inputStream = inputStream;
+            this.socket = socket;
+        }
+
+        /**
+         * 不读取请求，直接写入固定的503响应，不能阻塞接受连接的线程
+         */
+        private void reject() {
+            StringBuilder header = new StringBuilder(256);
+            header.append("HTTP/1.1 503 Service Unavailable\r\n")
+                    .append("Retry-After: ").append(RETRY_AFTER_SECONDS).append("\r\n")
+                    .append("Content-Length: 0\r\n")
+                    .append("Connection: close\r\n");
+            if (CORSUtil.isCorsEnabled()) {
+                header.append("Access-Control-Allow-Origin: *\r\n");
+            }
+            header.append("\r\n");
+            try {
+                OutputStream outputStream = socket.getOutputStream();
+                outputStream.write(header.toString().getBytes(StandardCharsets.US_ASCII));
+                outputStream.flush();
+                socket.shutdownOutput();
+                // 丢弃已经到达的请求数据，否则关闭时会发送RST，客户端可能收不到响应
+                inputStream.skip(inputStream.available());
+            } catch (IOException ignored) {
+                // 客户端已断开
+            } finally {
+                close();
             }
         }
-        return NanoHTTPD.newFixedLengthResponse(ResBody.error("parameters error").toString());
+    }
+
+    /**
+     * 响应压缩统一由ContentEncodingUtil根据Accept-Encoding和大小协商，不使用NanoHTTPD自带的gzip，
+     * 事件流需要立即发送到前端，也不能经过gzip缓冲
+     */
+    @Override
+    protected boolean useGzipWhenAccepted(Response r) {
+        return false;
+    }
+
+    private Response jsonResponse(IHTTPSession session, ResBody resBody) {
+        return jsonResponse(session, Response.Status.OK, resBody);
+    }
+
+    /**
+     * 返回json格式的接口响应，超过阈值时按客户端支持的方式压缩
+     */
+    private Response jsonResponse(IHTTPSession session, Response.Status status, ResBody resBody) {
+        ResponseBuffer body = new ResponseBuffer(RESPONSE_BUFFER_SIZE);
+        try {
+            resBody.writeTo(body, prettyJson);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return ContentEncodingUtil.newResponse(session, status, MIME_JSON, body, compressionThreshold);
     }
 
     /**
@@ -391,47 +830,6 @@ public class HttpServer extends NanoHTTPD {
                 && headers.containsKey("access-control-request-headers");
     }
 
-    /**
-     * 获得搜索关键字及过滤模式
-     *
-     * @return object
-     */
-    private Object[] getSearchInfo() {
-        Object[] info = new Object[3];
-        info[0] = (Supplier<String>) () -> searchText;
-        info[1] = (Supplier<String[]>) () -> searchCase;
-        info[2] = (Supplier<String[]>) () -> keywords;
-        return info;
-    }
-
-    /**
-     * 设置搜索的关键字
-     *
-     * @param searchBarText 用户输入
-     */
-    private void setSearchInfo(String searchBarText) {
-        if (!searchBarText.isEmpty()) {
-            final int i = searchBarText.lastIndexOf('|');
-            if (i == -1) {
-                searchText = searchBarText;
-                searchCase = null;
-            } else {
-                searchText = searchBarText.substring(0, i);
-                var searchCaseStr = searchBarText.substring(i + 1);
-                if (searchCaseStr.isEmpty()) {
-                    searchCase = null;
-                } else {
-                    String[] tmpSearchCase = semicolon.split(searchCaseStr);
-                    searchCase = new String[tmpSearchCase.length];
-                    for (int j = 0; j < tmpSearchCase.length; j++) {
-                        searchCase[j] = tmpSearchCase[j].trim();
-                    }
-                }
-            }
-            keywords = semicolon.split(searchText);
-        }
-    }
-
     /**
      * 选择文件对应的content type
      *
@@ -0,0 +1,31 @@
+package file.engine.remote.httpd;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 响应数据流关闭时归还许可，NanoHTTPD发送完响应或连接断开后都会关闭响应的数据流
+ */
+public class PermitInputStream extends FilterInputStream {
+    private final Semaphore permits;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    public PermitInputStream(InputStream in, Semaphore permits) {
+        super(in);
+        this.permits = permits;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        } finally {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package file.engine.remote.httpd;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * 缓存已完成的搜索结果，相同的搜索请求直接使用缓存的结果创建会话，不再访问核心
+ * <p>
+ * 缓存项超过有效时间后失效，数量或内存超过上限时淘汰最久未访问的项，File-Engine更新索引时清空缓存
+ * <p>
+ * 输入过程中关键字变长时，新的搜索结果一定包含在上一次的完整结果中，直接在内存中筛选
+ */
+public class QueryResultCache {
+    private static final int PARALLEL_FILTER_THRESHOLD = 10_000;
+    private final LinkedHashMap<SearchQuery, CachedResult> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private final int maxEntries;
+    private final long maxMemoryBytes;
+    private final long ttlMillis;
+    private long usedBytes;
+    private long invalidateTime;
+    private long hitCount;
+    private long missCount;
+    private long refinedCount;
+
+    public QueryResultCache(int maxEntries, long maxMemoryBytes, long ttlMillis) {
+        this.maxEntries = maxEntries;
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * 获取缓存的搜索结果
+     *
+     * @param query 搜索请求
+     * @return 缓存不存在或已过期返回null
+     */
+    public synchronized CachedResult get(SearchQuery query) {
+        CachedResult cached = cache.get(query);
+        if (cached != null && System.currentTimeMillis() - cached.cacheTime >= ttlMillis) {
+            cache.remove(query);
+            usedBytes -= cached.estimatedBytes;
+            cached = null;
+        }
+        if (cached == null) {
+            missCount++;
+        } else {
+            hitCount++;
+        }
+        return cached;
+    }
+
+    /**
+     * 缓存搜索结果，搜索开始后缓存被清空过时不缓存，避免保存索引更新前的结果
+     *
+     * @param query           搜索请求
+     * @param results         搜索结果
+     * @param hasMore         核心中是否还有更多结果未获取
+     * @param complete        结果是否完整，没有被数量上限截断，只有完整的结果可以用于筛选
+     * @param searchStartTime 搜索开始的时间
+     */
+    public void put(SearchQuery query, ResultSnapshot results, boolean hasMore, boolean complete, long searchStartTime) {
+        put(query, results, hasMore, complete, searchStartTime, System.currentTimeMillis());
+    }
+
+    private synchronized void put(SearchQuery query, ResultSnapshot results, boolean hasMore, boolean complete, long searchStartTime, long cacheTime) {
+        if (maxEntries <= 0 || searchStartTime <= invalidateTime) {
+            return;
+        }
+        final long bytes = results.estimateBytes();
+        if (bytes > maxMemoryBytes) {
+            return;
+        }
+        CachedResult old = cache.put(query, new CachedResult(results, hasMore, complete, bytes, cacheTime));
+        if (old != null) {
+            usedBytes -= old.estimatedBytes;
+        }
+        usedBytes += bytes;
+        Iterator<Map.Entry<SearchQuery, CachedResult>> iterator = cache.entrySet().iterator();
+        while ((cache.size() > maxEntries || usedBytes > maxMemoryBytes) && iterator.hasNext()) {
+            CachedResult eldest = iterator.next().getValue();
+            iterator.remove();
+            usedBytes -= eldest.estimatedBytes;
+        }
+    }
+
+    /**
+     * 从缓存中找到范围更大且结果完整的搜索，在内存中筛选出该请求的结果，并以原结果的缓存时间缓存
+     *
+     * @param query 搜索请求
+     * @return 没有可以筛选的缓存或无法在内存中确定是否匹配时返回null
+     */
+    public ResultSnapshot refine(SearchQuery query) {
+        CachedResult broader = null;
+        final long lookupTime;
+        synchronized (this) {
+            lookupTime = System.currentTimeMillis();
+            // 遍历不会改变访问顺序
+            for (Map.Entry<SearchQuery, CachedResult> entry : cache.entrySet()) {
+                CachedResult each = entry.getValue();
+                if (each.complete && lookupTime - each.cacheTime < ttlMillis && query.narrows(entry.getKey()) &&
+                        (broader == null || each.results.size() < broader.results.size())) {
+                    broader = each;
+                }
+            }
+        }
+        if (broader == null) {
+            return null;
+        }
+        ResultSnapshot refined = filter(query, broader.results);
+        if (refined == null) {
+            return null;
+        }
+        synchronized (this) {
+            refinedCount++;
+        }
+        put(query, refined, false, true, lookupTime, broader.cacheTime);
+        return refined;
+    }
+
+    private static ResultSnapshot filter(SearchQuery query, ResultSnapshot results) {
+        AtomicBoolean uncertain = new AtomicBoolean();
+        Stream<String> stream = results.stream();
+        if (results.size() >= PARALLEL_FILTER_THRESHOLD) {
+            stream = stream.parallel();
+        }
+        String[] refined = stream.filter(path -> {
+            Boolean matches = query.matchesFileName(path);
+            if (matches == null) {
+                uncertain.set(true);
+                return false;
+            }
+            return matches;
+        }).toArray(String[]::new);
+        return uncertain.get() ? null : ResultSnapshot.of(refined);
+    }
+
+    /**
+     * 清空缓存，正在进行的搜索完成后也不会被缓存
+     */
+    public synchronized void invalidate() {
+        cache.clear();
+        usedBytes = 0;
+        invalidateTime = System.currentTimeMillis();
+    }
+
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return 通过筛选缓存结果得到的搜索数
+     */
+    public synchronized long getRefinedCount() {
+        return refinedCount;
+    }
+
+    @Getter
+    public static class CachedResult {
+        private final ResultSnapshot results;
+        private final boolean hasMore;
+        @Getter(AccessLevel.NONE)
+        private final boolean complete;
+        @Getter(AccessLevel.NONE)
+        private final long estimatedBytes;
+        @Getter(AccessLevel.NONE)
+        private final long cacheTime;
+
+        private CachedResult(ResultSnapshot results, boolean hasMore, boolean complete, long estimatedBytes, long cacheTime) {
+            this.results = results;
+            this.hasMore = hasMore;
+            this.complete = complete;
+            this.estimatedBytes = estimatedBytes;
+            this.cacheTime = cacheTime;
+        }
+    }
+}
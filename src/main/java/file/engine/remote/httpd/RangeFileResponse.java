@@ -0,0 +1,316 @@
+package file.engine.remote.httpd;
+
+import fi.iki.elonen.NanoHTTPD;
+import fi.iki.elonen.NanoHTTPD.IHTTPSession;
+import fi.iki.elonen.NanoHTTPD.Response;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 支持Range请求的文件下载响应
+ * <p>
+ * 根据Range返回206部分内容（多个范围使用multipart/byteranges），并发送ETag和Last-Modified用于断点续传校验。
+ * 文件内容通过FileChannel按位置读取，不共享文件指针，多段响应的各个部分互不影响
+ */
+public final class RangeFileResponse {
+    private static final int MAX_RANGES = 16;
+
+    private RangeFileResponse() {
+    }
+
+    /**
+     * 创建文件下载响应
+     *
+     * @param session  请求
+     * @param filePath 文件
+     * @param mimeType content type
+     * @return Response
+     * @throws IOException 读取文件失败
+     */
+    public static Response newFileResponse(IHTTPSession session, Path filePath, String mimeType) throws IOException {
+        return newFileResponse(session, filePath, mimeType, null);
+    }
+
+    /**
+     * 创建文件下载响应，并统计实际发送的文件字节数
+     *
+     * @param session   请求
+     * @param filePath  文件
+     * @param mimeType  content type
+     * @param sentBytes 每次读取文件内容后累加读取的字节数，可以为null
+     * @return Response
+     * @throws IOException 读取文件失败
+     */
+    public static Response newFileResponse(IHTTPSession session, Path filePath, String mimeType, LongAdder sentBytes) throws IOException {
+        return newFileResponse(session, filePath, mimeType, sentBytes, null);
+    }
+
+    /**
+     * 创建文件下载响应，响应关闭时同时关闭resource，创建失败时由调用方关闭
+     *
+     * @param session   请求
+     * @param filePath  文件
+     * @param mimeType  content type
+     * @param sentBytes 每次读取文件内容后累加读取的字节数，可以为null
+     * @param resource  响应发送完成或中断后关闭，可以为null
+     * @return Response
+     * @throws IOException 读取文件失败
+     */
+    public static Response newFileResponse(IHTTPSession session, Path filePath, String mimeType, LongAdder sentBytes,
+                                           Closeable resource) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+        final long fileSize = attributes.size();
+        final long lastModified = attributes.lastModifiedTime().toMillis();
+        final String etag = "\"" + Long.toHexString(fileSize) + "-" + Long.toHexString(lastModified) + "\"";
+        final String lastModifiedStr = formatHttpDate(lastModified);
+
+        String ifNoneMatch = session.getHeaders().get("if-none-match");
+        String ifModifiedSince = session.getHeaders().get("if-modified-since");
+        if ((ifNoneMatch != null && matchesEtag(ifNoneMatch, etag)) ||
+                (ifNoneMatch == null && ifModifiedSince != null && !isModifiedSince(ifModifiedSince, lastModified))) {
+            return withValidators(NanoHTTPD.newFixedLengthResponse(Response.Status.NOT_MODIFIED, mimeType,
+                    closing(new ByteArrayInputStream(new byte[0]), resource), 0), etag, lastModifiedStr);
+        }
+
+        String rangeHeader = session.getHeaders().get("range");
+        String ifRange = session.getHeaders().get("if-range");
+        if (rangeHeader == null || (ifRange != null && !ifRange.equals(etag) && !ifRange.equals(lastModifiedStr))) {
+            return withValidators(NanoHTTPD.newFixedLengthResponse(Response.Status.OK, mimeType,
+                    closing(new FileRangeInputStream(filePath, 0, fileSize, sentBytes), resource), fileSize), etag, lastModifiedStr);
+        }
+        List<long[]> ranges = parseRanges(rangeHeader, fileSize);
+        if (ranges == null) {
+            // 无法解析的Range，按RFC 7233忽略，返回完整文件
+            return withValidators(NanoHTTPD.newFixedLengthResponse(Response.Status.OK, mimeType,
+                    closing(new FileRangeInputStream(filePath, 0, fileSize, sentBytes), resource), fileSize), etag, lastModifiedStr);
+        }
+        if (ranges.isEmpty()) {
+            Response response = NanoHTTPD.newFixedLengthResponse(Response.Status.RANGE_NOT_SATISFIABLE, NanoHTTPD.MIME_PLAINTEXT,
+                    closing(new ByteArrayInputStream(new byte[0]), resource), 0);
+            response.addHeader("Content-Range", "bytes */" + fileSize);
+            return withValidators(response, etag, lastModifiedStr);
+        }
+        if (ranges.size() == 1) {
+            long[] range = ranges.get(0);
+            final long length = range[1] - range[0] + 1;
+            Response response = NanoHTTPD.newFixedLengthResponse(Response.Status.PARTIAL_CONTENT, mimeType,
+                    closing(new FileRangeInputStream(filePath, range[0], length, sentBytes), resource), length);
+            response.addHeader("Content-Range", "bytes " + range[0] + "-" + range[1] + "/" + fileSize);
+            return withValidators(response, etag, lastModifiedStr);
+        }
+        return withValidators(newMultipartResponse(filePath, mimeType, fileSize, ranges, sentBytes, resource), etag, lastModifiedStr);
+    }
+
+    private static Response newMultipartResponse(Path filePath, String mimeType, long fileSize, List<long[]> ranges,
+                                                 LongAdder sentBytes, Closeable resource) {
+        final String boundary = UUID.randomUUID().toString().replace("-", "");
+        List<InputStream> parts = new ArrayList<>();
+        long totalLength = 0;
+        for (long[] range : ranges) {
+            byte[] partHeader = ("\r\n--" + boundary + "\r\n" +
+                    "Content-Type: " + mimeType + "\r\n" +
+                    "Content-Range: bytes " + range[0] + "-" + range[1] + "/" + fileSize + "\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII);
+            final long length = range[1] - range[0] + 1;
+            parts.add(new ByteArrayInputStream(partHeader));
+            parts.add(new FileRangeInputStream(filePath, range[0], length, sentBytes));
+            totalLength += partHeader.length + length;
+        }
+        byte[] end = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+        parts.add(new ByteArrayInputStream(end));
+        totalLength += end.length;
+        return NanoHTTPD.newFixedLengthResponse(Response.Status.PARTIAL_CONTENT,
+                "multipart/byteranges; boundary=" + boundary,
+                closing(new SequenceInputStream(Collections.enumeration(parts)), resource), totalLength);
+    }
+
+    /**
+     * NanoHTTPD发送完成或中断后都会关闭响应的数据流，此时一并关闭resource
+     */
+    private static InputStream closing(InputStream data, Closeable resource) {
+        if (resource == null) {
+            return data;
+        }
+        return new FilterInputStream(data) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    resource.close();
+                }
+            }
+        };
+    }
+
+    private static Response withValidators(Response response, String etag, String lastModified) {
+        response.addHeader("Accept-Ranges", "bytes");
+        response.addHeader("ETag", etag);
+        response.addHeader("Last-Modified", lastModified);
+        return response;
+    }
+
+    /**
+     * 解析Range请求头
+     *
+     * @return 闭区间列表，无法解析返回null，所有范围都无法满足返回空列表
+     */
+    static List<long[]> parseRanges(String rangeHeader, long fileSize) {
+        if (!rangeHeader.startsWith("bytes=")) {
+            return null;
+        }
+        String[] specs = rangeHeader.substring("bytes=".length()).split(",");
+        if (specs.length > MAX_RANGES) {
+            return null;
+        }
+        List<long[]> ranges = new ArrayList<>();
+        try {
+            for (String spec : specs) {
+                spec = spec.trim();
+                final int dash = spec.indexOf('-');
+                if (dash == -1) {
+                    return null;
+                }
+                String startStr = spec.substring(0, dash).trim();
+                String endStr = spec.substring(dash + 1).trim();
+                long start;
+                long end;
+                if (startStr.isEmpty()) {
+                    // 后缀范围，最后N个字节
+                    final long suffixLength = Long.parseLong(endStr);
+                    if (suffixLength <= 0) {
+                        continue;
+                    }
+                    start = Math.max(0, fileSize - suffixLength);
+                    end = fileSize - 1;
+                } else {
+                    start = Long.parseLong(startStr);
+                    end = endStr.isEmpty() ? fileSize - 1 : Math.min(Long.parseLong(endStr), fileSize - 1);
+                    if (end < start) {
+                        if (!endStr.isEmpty() && Long.parseLong(endStr) < start) {
+                            return null;
+                        }
+                        continue;
+                    }
+                }
+                if (start >= fileSize) {
+                    continue;
+                }
+                ranges.add(new long[]{start, end});
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return ranges;
+    }
+
+    static boolean matchesEtag(String ifNoneMatch, String etag) {
+        for (String each : ifNoneMatch.split(",")) {
+            String tag = each.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if ("*".equals(tag) || etag.equals(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isModifiedSince(String ifModifiedSince, long lastModified) {
+        try {
+            long since = ZonedDateTime.parse(ifModifiedSince, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+            // HTTP日期精度为秒
+            return lastModified / 1000 > since / 1000;
+        } catch (DateTimeParseException e) {
+            return true;
+        }
+    }
+
+    private static String formatHttpDate(long millis) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.ofEpochMilli(millis).atZone(ZoneOffset.UTC));
+    }
+
+    /**
+     * 读取文件中的一段内容，按位置调用FileChannel.read读入调用方的堆内byte[]，
+     * NanoHTTPD再把该数组复制到socket输出流，不是零拷贝
+     */
+    private static class FileRangeInputStream extends InputStream {
+        private final Path filePath;
+        private final LongAdder sentBytes;
+        private FileChannel channel;
+        private long position;
+        private long remaining;
+
+        private FileRangeInputStream(Path filePath, long start, long length, LongAdder sentBytes) {
+            this.filePath = filePath;
+            this.sentBytes = sentBytes;
+            this.position = start;
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            int read = read(b, 0, 1);
+            return read == -1 ? -1 : b[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            if (channel == null) {
+                // 延迟打开，多段响应中未发送到的部分不会占用文件句柄
+                channel = FileChannel.open(filePath, StandardOpenOption.READ);
+            }
+            int read = channel.read(ByteBuffer.wrap(b, off, (int) Math.min(len, remaining)), position);
+            if (read == -1) {
+                remaining = 0;
+                return -1;
+            }
+            position += read;
+            remaining -= read;
+            if (sentBytes != null) {
+                sentBytes.add(read);
+            }
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(Integer.MAX_VALUE, remaining);
+        }
+
+        @Override
+        public void close() throws IOException {
+            remaining = 0;
+            if (channel != null) {
+                channel.close();
+            }
+        }
+    }
+}
@@ -1,9 +1,16 @@
 package file.engine.remote.httpd;
 
 import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
 import file.engine.remote.utils.gson.GsonUtil;
 import lombok.Data;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+
 @Data
 public class ResBody {
 
@@ -13,20 +20,43 @@ public class ResBody {
 
     private final Object data;
     private final int pages;
+    /**
+     * 分页结果中核心是否还有更多结果未获取，此时pages只是已获取结果的页数，其他响应为null不输出
+     */
+    private final Boolean hasMore;
 
-    private ResBody(int code, String message, Object data, int pages) {
+    private ResBody(int code, String message, Object data, int pages, Boolean hasMore) {
         this.code = code;
         this.message = message;
         this.data = data;
         this.pages = pages;
+        this.hasMore = hasMore;
     }
 
     public static ResBody success(Object data, int pages) {
-        return new ResBody(20000, "success", data, pages);
+        return new ResBody(20000, "success", data, pages, null);
+    }
+
+    public static ResBody success(Object data, int pages, boolean hasMore) {
+        return new ResBody(20000, "success", data, pages, hasMore);
     }
 
     public static ResBody error(String msg) {
-        return new ResBody(40000, "error: " + msg, null, 0);
+        return new ResBody(40000, "error: " + msg, null, 0, null);
+    }
+
+    /**
+     * 通过JsonWriter将json以UTF-8编码直接写入输出流，不生成中间的字符串，不关闭outputStream
+     *
+     * @param outputStream   输出流
+     * @param prettyPrinting 是否缩进
+     */
+    public void writeTo(OutputStream outputStream, boolean prettyPrinting) throws IOException {
+        GsonUtil gsonUtil = GsonUtil.getInstance();
+        Gson gson = prettyPrinting ? gsonUtil.getGson() : gsonUtil.getCompactGson();
+        JsonWriter jsonWriter = gson.newJsonWriter(new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)));
+        gson.toJson(this, ResBody.class, jsonWriter);
+        jsonWriter.flush();
     }
 
     @Override
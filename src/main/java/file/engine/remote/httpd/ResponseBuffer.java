@@ -0,0 +1,19 @@
+package file.engine.remote.httpd;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+
+/**
+ * 响应内容缓冲区，写入完成后直接作为响应数据读取，不需要像toByteArray一样再复制一份
+ */
+public class ResponseBuffer extends ByteArrayOutputStream {
+
+    public ResponseBuffer(int size) {
+        super(size);
+    }
+
+    public InputStream toInputStream() {
+        return new ByteArrayInputStream(buf, 0, count);
+    }
+}
@@ -0,0 +1,104 @@
+package file.engine.remote.httpd;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * 不可变的搜索结果，创建后可以被会话和结果缓存共享，按下标随机访问，翻页时不需要复制
+ * <p>
+ * 追加结果时生成新的快照，数组末尾有空余且没有被其他快照占用时直接写在同一个数组中，
+ * 旧快照只读取自己长度以内的部分，不受影响
+ */
+public final class ResultSnapshot {
+    // 估算内存时使用的数组头、数组中每个引用以及每个字符串对象头和字符数组头的大小
+    private static final long ARRAY_HEADER_BYTES = 16;
+    private static final long REFERENCE_BYTES = 4;
+    private static final long STRING_OVERHEAD_BYTES = 56;
+    private static final ResultSnapshot EMPTY = new ResultSnapshot(new String[0], 0, new AtomicInteger());
+    private final String[] paths;
+    private final int size;
+    /**
+     * 共用同一数组的所有快照中已经写入的长度
+     */
+    private final AtomicInteger used;
+
+    private ResultSnapshot(String[] paths, int size, AtomicInteger used) {
+        this.paths = paths;
+        this.size = size;
+        this.used = used;
+    }
+
+    /**
+     * 使用数组创建快照，不复制，之后不能再修改该数组
+     *
+     * @param paths 结果
+     * @return 快照
+     */
+    public static ResultSnapshot of(String[] paths) {
+        if (paths.length == 0) {
+            return EMPTY;
+        }
+        return new ResultSnapshot(paths, paths.length, new AtomicInteger(paths.length));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String get(int index) {
+        if (index >= size) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+        return paths[index];
+    }
+
+    /**
+     * 在末尾追加结果，数组有空余时只复制新增的部分，否则按两倍扩容
+     *
+     * @param moreResults 新的结果
+     * @return 新的快照
+     */
+    public ResultSnapshot append(String[] moreResults) {
+        if (moreResults.length == 0) {
+            return this;
+        }
+        final int newSize = size + moreResults.length;
+        if (newSize <= paths.length && used.compareAndSet(size, newSize)) {
+            System.arraycopy(moreResults, 0, paths, size, moreResults.length);
+            return new ResultSnapshot(paths, newSize, used);
+        }
+        String[] grown = Arrays.copyOf(paths, Math.max(newSize, size * 2));
+        System.arraycopy(moreResults, 0, grown, size, moreResults.length);
+        return new ResultSnapshot(grown, newSize, new AtomicInteger(newSize));
+    }
+
+    /**
+     * 复制[from, to)之间的结果
+     */
+    public String[] copyOfRange(int from, int to) {
+        return Arrays.copyOfRange(paths, from, Math.min(to, size));
+    }
+
+    public Stream<String> stream() {
+        return Arrays.stream(paths, 0, size);
+    }
+
+    /**
+     * 估算结果占用的内存大小，每个字符串按对象头+数组头+UTF16字符计算
+     */
+    long estimateBytes() {
+        return ARRAY_HEADER_BYTES + estimateElementBytes(paths, 0, size);
+    }
+
+    /**
+     * 估算数组中一段元素占用的内存大小，不包含数组头，追加结果时累加使用
+     */
+    static long estimateElementBytes(String[] paths, int from, int to) {
+        long bytes = REFERENCE_BYTES * (to - from);
+        for (int i = from; i < to; i++) {
+            bytes += STRING_OVERHEAD_BYTES + 2L * paths[i].length();
+        }
+        return bytes;
+    }
+}
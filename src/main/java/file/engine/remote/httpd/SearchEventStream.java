@@ -0,0 +1,112 @@
+package file.engine.remote.httpd;
+
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 以Server-Sent Events格式推送搜索结果
+ * <p>
+ * 依次发送token事件，若干results事件，最后发送done事件，搜索失败或超时发送error事件
+ */
+public class SearchEventStream extends InputStream {
+    private static final int MAX_BATCH_SIZE = 100;
+    private final SearchSession session;
+    private final long deadline;
+    private byte[] frame;
+    private int framePos;
+    private int sentCount;
+    private boolean tokenSent;
+    private boolean finished;
+
+    public SearchEventStream(SearchSession session, long timeoutMillis) {
+        this.session = session;
+        this.deadline = System.currentTimeMillis() + timeoutMillis;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        int read = read(b, 0, 1);
+        return read == -1 ? -1 : b[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (frame == null || framePos >= frame.length) {
+            frame = nextFrame();
+            framePos = 0;
+            if (frame == null) {
+                return -1;
+            }
+        }
+        int n = Math.min(len, frame.length - framePos);
+        System.arraycopy(frame, framePos, b, off, n);
+        framePos += n;
+        return n;
+    }
+
+    private byte[] nextFrame() throws IOException {
+        if (finished) {
+            return null;
+        }
+        if (!tokenSent) {
+            tokenSent = true;
+            return toFrame("token", jsonObject("token", session.getToken()));
+        }
+        int available;
+        try {
+            available = session.awaitProgress(sentCount, Math.max(0, deadline - System.currentTimeMillis()));
+        } catch (InterruptedException e) {
+            throw new IOException(e);
+        }
+        if (available > sentCount) {
+            String[] batch = session.getPartialResults(sentCount, sentCount + MAX_BATCH_SIZE);
+            sentCount += batch.length;
+            return toFrame("results", jsonArray(batch));
+        }
+        finished = true;
+        if (session.isDone()) {
+            return toFrame("done", jsonObject("total", sentCount));
+        } else if (session.isFailed()) {
+            return toFrame("error", jsonObject("message", "search failed"));
+        }
+        return toFrame("error", jsonObject("message", "waiting for search results too long"));
+    }
+
+    private static byte[] toFrame(String event, String data) {
+        return ("event: " + event + "\ndata: " + data + "\n\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String jsonArray(String[] values) throws IOException {
+        StringWriter stringWriter = new StringWriter();
+        try (JsonWriter writer = new JsonWriter(stringWriter)) {
+            writer.beginArray();
+            for (String value : values) {
+                writer.value(value);
+            }
+            writer.endArray();
+        }
+        return stringWriter.toString();
+    }
+
+    private static String jsonObject(String name, Object value) throws IOException {
+        StringWriter stringWriter = new StringWriter();
+        try (JsonWriter writer = new JsonWriter(stringWriter)) {
+            writer.beginObject().name(name);
+            if (value instanceof Number number) {
+                writer.value(number);
+            } else {
+                writer.value(String.valueOf(value));
+            }
+            writer.endObject();
+        }
+        return stringWriter.toString();
+    }
+}
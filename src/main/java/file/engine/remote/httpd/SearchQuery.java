@@ -0,0 +1,165 @@
+package file.engine.remote.httpd;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 解析后的搜索请求，包含搜索关键字及过滤模式
+ * <p>
+ * 关键字相同且过滤模式集合相同（忽略顺序和重复）的请求相等，搜索结果相同
+ */
+@Getter
+public final class SearchQuery {
+    private static final Pattern semicolon = Pattern.compile(";");
+    /**
+     * 只按文件名筛选的过滤模式，使用其他模式（全字匹配、内容搜索等）时不能在内存中缩小结果
+     */
+    private static final Set<String> REFINABLE_SEARCH_CASES = Set.of("f", "d", "case");
+    private final String searchText;
+    private final String[] searchCase;
+    private final String[] keywords;
+    /**
+     * 排序去重后的过滤模式，用于比较
+     */
+    @Getter(AccessLevel.NONE)
+    private final String[] normalizedSearchCase;
+    @Getter(AccessLevel.NONE)
+    private final int hash;
+    /**
+     * 用于在内存中匹配文件名的关键字，不区分大小写时已转为小写，不能在内存中匹配时为null
+     */
+    @Getter(AccessLevel.NONE)
+    private final String[] matchKeywords;
+    @Getter(AccessLevel.NONE)
+    private final boolean ignoreCase;
+
+    private SearchQuery(String searchText, String[] searchCase) {
+        this.searchText = searchText;
+        this.searchCase = searchCase;
+        this.keywords = semicolon.split(searchText);
+        this.normalizedSearchCase = searchCase == null ? new String[0] : Arrays.stream(searchCase).distinct().sorted().toArray(String[]::new);
+        this.hash = 31 * searchText.hashCode() + Arrays.hashCode(normalizedSearchCase);
+        this.ignoreCase = Arrays.binarySearch(normalizedSearchCase, "case") < 0;
+        this.matchKeywords = toMatchKeywords(keywords, normalizedSearchCase, ignoreCase);
+    }
+
+    private static String[] toMatchKeywords(String[] keywords, String[] normalizedSearchCase, boolean ignoreCase) {
+        for (String each : normalizedSearchCase) {
+            if (!REFINABLE_SEARCH_CASES.contains(each)) {
+                return null;
+            }
+        }
+        String[] matchKeywords = new String[keywords.length];
+        for (int i = 0; i < keywords.length; i++) {
+            // 包含路径分隔符的关键字匹配的是父路径，不处理
+            if (keywords[i].indexOf('/') != -1 || keywords[i].indexOf('\\') != -1) {
+                return null;
+            }
+            matchKeywords[i] = ignoreCase ? keywords[i].toLowerCase(Locale.ROOT) : keywords[i];
+        }
+        return matchKeywords;
+    }
+
+    /**
+     * 判断该请求的结果是否一定包含在broader的结果中，即过滤模式相同，且broader的每个关键字都是该请求某个关键字的子串
+     *
+     * @param broader 范围更大的请求，如输入过程中的上一次搜索
+     * @return true如果可以通过筛选broader的结果得到该请求的结果
+     */
+    public boolean narrows(SearchQuery broader) {
+        if (matchKeywords == null || broader.matchKeywords == null || equals(broader) ||
+                !Arrays.equals(normalizedSearchCase, broader.normalizedSearchCase)) {
+            return false;
+        }
+        for (String broaderKeyword : broader.matchKeywords) {
+            boolean implied = false;
+            for (String keyword : matchKeywords) {
+                if (keyword.contains(broaderKeyword)) {
+                    implied = true;
+                    break;
+                }
+            }
+            if (!implied) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return 是否可以在内存中通过文件名判断结果是否匹配
+     */
+    public boolean isMatchableInMemory() {
+        return matchKeywords != null;
+    }
+
+    /**
+     * 在内存中判断文件名是否包含所有关键字
+     *
+     * 只能在isMatchableInMemory返回true后调用
+     *
+     * @param path 文件路径
+     * @return 是否匹配，文件名包含非ASCII字符且不匹配时，File-Engine可能通过拼音匹配，无法确定，返回null
+     */
+    public Boolean matchesFileName(String path) {
+        final int separator = Math.max(path.lastIndexOf('/'), path.lastIndexOf('\\'));
+        final String fileName = path.substring(separator + 1);
+        final String matchName = ignoreCase ? fileName.toLowerCase(Locale.ROOT) : fileName;
+        for (String keyword : matchKeywords) {
+            if (!matchName.contains(keyword)) {
+                for (int i = 0; i < fileName.length(); i++) {
+                    if (fileName.charAt(i) > 0x7f) {
+                        return null;
+                    }
+                }
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SearchQuery that)) {
+            return false;
+        }
+        return hash == that.hash && searchText.equals(that.searchText) && Arrays.equals(normalizedSearchCase, that.normalizedSearchCase);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    /**
+     * 解析用户输入，格式为 关键字1;关键字2|过滤模式1;过滤模式2
+     *
+     * @param searchBarText 用户输入
+     * @return 搜索请求
+     */
+    public static SearchQuery parse(String searchBarText) {
+        final int i = searchBarText.lastIndexOf('|');
+        if (i == -1) {
+            return new SearchQuery(searchBarText, null);
+        }
+        String searchText = searchBarText.substring(0, i);
+        var searchCaseStr = searchBarText.substring(i + 1);
+        if (searchCaseStr.isEmpty()) {
+            return new SearchQuery(searchText, null);
+        }
+        String[] tmpSearchCase = semicolon.split(searchCaseStr);
+        String[] searchCase = new String[tmpSearchCase.length];
+        for (int j = 0; j < tmpSearchCase.length; j++) {
+            searchCase[j] = tmpSearchCase[j].trim();
+        }
+        return new SearchQuery(searchText, searchCase);
+    }
+}
@@ -0,0 +1,205 @@
+package file.engine.remote.httpd;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 一次搜索对应的会话，保存搜索请求以及搜索结果
+ */
+public class SearchSession {
+    @Getter
+    private final String token;
+    @Getter
+    private final SearchQuery query;
+    private volatile ResultSnapshot results;
+    private volatile boolean hasMore;
+    // 最近一次从核心获取更多结果失败的原因，获取成功后清除
+    private volatile Throwable fetchFailure;
+    // 同一会话同时只从核心获取一次更多结果
+    final ReentrantLock fetchLock = new ReentrantLock();
+    private final CompletableFuture<ResultSnapshot> resultsFuture = new CompletableFuture<>();
+    // 保护部分结果，使用ReentrantLock以免事件流等待时虚拟线程占住载体线程
+    private final ReentrantLock partialLock = new ReentrantLock();
+    private final Condition progress = partialLock.newCondition();
+    // 搜索过程中已经收到的结果，由partialLock保护，搜索完成后为null
+    private String[] partialResults = new String[0];
+    private int partialSize;
+    private volatile long lastAccessTime;
+    private final long createTime;
+    private long estimatedBytes;
+
+    SearchSession(String token, SearchQuery query) {
+        this.token = token;
+        this.query = query;
+        this.createTime = System.currentTimeMillis();
+        this.lastAccessTime = createTime;
+    }
+
+    /**
+     * 获取搜索结果，搜索未完成时返回null
+     *
+     * @return 搜索结果
+     */
+    public ResultSnapshot getResults() {
+        return results;
+    }
+
+    public boolean isDone() {
+        return results != null;
+    }
+
+    /**
+     * 等待搜索完成
+     *
+     * @param timeoutMillis 最长等待时间
+     * @return 搜索结果，超时返回null
+     * @throws InterruptedException interrupted
+     * @throws ExecutionException   搜索失败
+     */
+    public ResultSnapshot awaitResults(long timeoutMillis) throws InterruptedException, ExecutionException {
+        try {
+            return resultsFuture.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 核心中是否还有更多结果未获取
+     */
+    public boolean hasMore() {
+        return hasMore;
+    }
+
+    /**
+     * 最近一次获取更多结果失败的原因，没有失败时返回null
+     */
+    public Throwable getFetchFailure() {
+        return fetchFailure;
+    }
+
+    void setFetchFailure(Throwable fetchFailure) {
+        this.fetchFailure = fetchFailure;
+    }
+
+    public boolean isFailed() {
+        return resultsFuture.isCompletedExceptionally();
+    }
+
+    /**
+     * 等待新的结果到达，搜索结束或超时后也会返回
+     *
+     * @param knownSize     调用者已经获取的结果数量
+     * @param timeoutMillis 最长等待时间
+     * @return 当前已收到的结果数量
+     * @throws InterruptedException interrupted
+     */
+    public int awaitProgress(int knownSize, long timeoutMillis) throws InterruptedException {
+        long remaining = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        partialLock.lock();
+        try {
+            while (partialSize <= knownSize && !resultsFuture.isDone() && remaining > 0) {
+                remaining = progress.awaitNanos(remaining);
+            }
+            return partialSize;
+        } finally {
+            partialLock.unlock();
+        }
+    }
+
+    /**
+     * 获取已收到的部分结果
+     *
+     * @param from 起始位置
+     * @param to   结束位置（不包含）
+     * @return 结果
+     */
+    public String[] getPartialResults(int from, int to) {
+        partialLock.lock();
+        try {
+            if (partialResults == null) {
+                return results.copyOfRange(from, Math.min(to, partialSize));
+            }
+            return Arrays.copyOfRange(partialResults, from, Math.min(to, partialSize));
+        } finally {
+            partialLock.unlock();
+        }
+    }
+
+    /**
+     * 添加搜索过程中收到的一批结果
+     *
+     * @param batch 结果
+     */
+    void publish(String[] batch) {
+        partialLock.lock();
+        try {
+            if (resultsFuture.isDone() || batch.length == 0) {
+                return;
+            }
+            if (partialSize + batch.length > partialResults.length) {
+                partialResults = Arrays.copyOf(partialResults, Math.max(partialResults.length * 2, partialSize + batch.length));
+            }
+            System.arraycopy(batch, 0, partialResults, partialSize, batch.length);
+            partialSize += batch.length;
+            progress.signalAll();
+        } finally {
+            partialLock.unlock();
+        }
+    }
+
+    void setResults(ResultSnapshot results, boolean hasMore) {
+        this.estimatedBytes = results.estimateBytes();
+        this.hasMore = hasMore;
+        this.results = results;
+        partialLock.lock();
+        try {
+            partialResults = null;
+            partialSize = results.size();
+            resultsFuture.complete(results);
+            progress.signalAll();
+        } finally {
+            partialLock.unlock();
+        }
+    }
+
+    void appendResults(String[] moreResults, boolean hasMore) {
+        this.estimatedBytes += ResultSnapshot.estimateElementBytes(moreResults, 0, moreResults.length);
+        this.hasMore = hasMore;
+        this.fetchFailure = null;
+        this.results = results.append(moreResults);
+    }
+
+    void fail(Throwable throwable) {
+        partialLock.lock();
+        try {
+            resultsFuture.completeExceptionally(throwable);
+            progress.signalAll();
+        } finally {
+            partialLock.unlock();
+        }
+    }
+
+    long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    long getCreateTime() {
+        return createTime;
+    }
+
+    long getLastAccessTime() {
+        return lastAccessTime;
+    }
+
+    void touch() {
+        lastAccessTime = System.currentTimeMillis();
+    }
+}
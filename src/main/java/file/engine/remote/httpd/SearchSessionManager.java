@@ -0,0 +1,227 @@
+package file.engine.remote.httpd;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 搜索会话管理，每次搜索生成一个token，前端通过token获取对应的搜索结果
+ * <p>
+ * 会话按最近访问顺序排列，超过空闲时间的会话会被清除，结果总内存超过限制时淘汰最久未访问的会话
+ * <p>
+ * 相同的搜索请求在前一个搜索完成前到达时，共用同一个会话，不再重复向核心发起搜索
+ */
+public class SearchSessionManager {
+    private final LinkedHashMap<String, SearchSession> sessions = new LinkedHashMap<>(16, 0.75f, true);
+    private final HashMap<SearchQuery, SearchSession> inFlight = new HashMap<>();
+    private final long idleTimeoutMillis;
+    private final long maxMemoryBytes;
+    private final long searchTimeoutMillis;
+    private long usedBytes;
+    private long joinedCount;
+
+    /**
+     * @param idleTimeoutMillis   会话空闲超时时间
+     * @param maxMemoryBytes      所有会话结果占用的最大内存
+     * @param searchTimeoutMillis 搜索超过该时间未完成时不再被新的请求共用
+     */
+    public SearchSessionManager(long idleTimeoutMillis, long maxMemoryBytes, long searchTimeoutMillis) {
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.searchTimeoutMillis = searchTimeoutMillis;
+    }
+
+    /**
+     * 使用缓存的结果创建已完成的会话
+     *
+     * @param query   搜索请求
+     * @param results 搜索结果
+     * @param hasMore 核心中是否还有更多结果未获取
+     * @return 会话
+     */
+    public synchronized SearchSession createCompleted(SearchQuery query, ResultSnapshot results, boolean hasMore) {
+        SearchSession session = create(query);
+        complete(session, results, hasMore);
+        return session;
+    }
+
+    /**
+     * 获取正在进行的相同搜索的会话，没有时创建新会话并调用onCreated发起搜索
+     *
+     * @param query     搜索请求
+     * @param onCreated 创建新会话时调用，在锁外执行
+     * @return 会话
+     */
+    public SearchSession createOrJoin(SearchQuery query, Consumer<SearchSession> onCreated) {
+        SearchSession session;
+        synchronized (this) {
+            session = inFlight.get(query);
+            if (session != null && !session.isDone() && !session.isFailed() &&
+                    System.currentTimeMillis() - session.getCreateTime() < searchTimeoutMillis &&
+                    isAlive(session)) {
+                joinedCount++;
+                return session;
+            }
+            session = create(query);
+            inFlight.put(query, session);
+        }
+        onCreated.accept(session);
+        return session;
+    }
+
+    /**
+     * 创建新的搜索会话
+     *
+     * @param query 搜索请求
+     * @return 会话
+     */
+    public synchronized SearchSession create(SearchQuery query) {
+        expireIdleSessions();
+        SearchSession session = new SearchSession(UUID.randomUUID().toString(), query);
+        sessions.put(session.getToken(), session);
+        return session;
+    }
+
+    /**
+     * 通过token获取会话，会话不存在或已过期返回null
+     *
+     * @param token token
+     * @return 会话
+     */
+    public synchronized SearchSession get(String token) {
+        expireIdleSessions();
+        SearchSession session = sessions.get(token);
+        if (session != null) {
+            session.touch();
+        }
+        return session;
+    }
+
+    /**
+     * 推送搜索过程中收到的部分结果，供事件流提前发送
+     *
+     * @param session 会话
+     * @param batch   部分结果
+     */
+    public void publish(SearchSession session, String[] batch) {
+        session.publish(batch);
+    }
+
+    /**
+     * 保存搜索结果，并在内存超出限制时淘汰最久未访问的会话
+     *
+     * @param session 会话
+     * @param results 搜索结果
+     */
+    public void complete(SearchSession session, ResultSnapshot results) {
+        complete(session, results, false);
+    }
+
+    /**
+     * 保存搜索结果，并在内存超出限制时淘汰最久未访问的会话
+     *
+     * @param session 会话
+     * @param results 搜索结果
+     * @param hasMore 核心中是否还有更多结果未获取
+     */
+    public synchronized void complete(SearchSession session, ResultSnapshot results, boolean hasMore) {
+        if (session.isDone()) {
+            return;
+        }
+        inFlight.remove(session.getQuery(), session);
+        session.setResults(results, hasMore);
+        if (!isAlive(session)) {
+            // 会话在等待结果期间已被淘汰
+            return;
+        }
+        usedBytes += session.getEstimatedBytes();
+        evict(session);
+    }
+
+    /**
+     * 追加从核心继续获取的结果
+     *
+     * @param session     会话
+     * @param moreResults 新获取的结果，接在已有结果之后
+     * @param hasMore     核心中是否还有更多结果未获取
+     */
+    public synchronized void append(SearchSession session, String[] moreResults, boolean hasMore) {
+        final long oldBytes = session.getEstimatedBytes();
+        session.appendResults(moreResults, hasMore);
+        if (!isAlive(session)) {
+            return;
+        }
+        usedBytes += session.getEstimatedBytes() - oldBytes;
+        evict(session);
+    }
+
+    private void evict(SearchSession current) {
+        Iterator<Map.Entry<String, SearchSession>> iterator = sessions.entrySet().iterator();
+        while (usedBytes > maxMemoryBytes && iterator.hasNext()) {
+            SearchSession eldest = iterator.next().getValue();
+            if (eldest == current) {
+                continue;
+            }
+            iterator.remove();
+            usedBytes -= eldest.getEstimatedBytes();
+        }
+    }
+
+    /**
+     * 搜索失败，唤醒等待结果的请求
+     *
+     * @param session   会话
+     * @param throwable 失败原因
+     */
+    public void fail(SearchSession session, Throwable throwable) {
+        synchronized (this) {
+            inFlight.remove(session.getQuery(), session);
+        }
+        session.fail(throwable);
+    }
+
+    public synchronized int size() {
+        return sessions.size();
+    }
+
+    /**
+     * @return 共用了正在进行的搜索，没有重复发起搜索的请求数
+     */
+    public synchronized long getJoinedCount() {
+        return joinedCount;
+    }
+
+    public synchronized void clear() {
+        sessions.clear();
+        inFlight.clear();
+        usedBytes = 0;
+    }
+
+    /**
+     * 会话是否仍未被清除，token不会重复使用，所以只需判断token是否存在
+     * <p>
+     * 不能使用get，get会改变访问顺序而不更新访问时间，导致清除过期会话时提前停止
+     */
+    private boolean isAlive(SearchSession session) {
+        return sessions.containsKey(session.getToken());
+    }
+
+    private void expireIdleSessions() {
+        final long now = System.currentTimeMillis();
+        // 超时未完成的搜索不会再被共用
+        inFlight.values().removeIf(each -> now - each.getCreateTime() >= searchTimeoutMillis);
+        Iterator<Map.Entry<String, SearchSession>> iterator = sessions.entrySet().iterator();
+        while (iterator.hasNext()) {
+            SearchSession eldest = iterator.next().getValue();
+            if (now - eldest.getLastAccessTime() < idleTimeoutMillis) {
+                // 按访问顺序排列，之后的会话都未过期
+                break;
+            }
+            iterator.remove();
+            usedBytes -= eldest.getEstimatedBytes();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package file.engine.remote.httpd;
+
+import file.engine.remote.utils.metrics.Histogram;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * HttpServer的运行指标，通过/metrics以Prometheus文本格式输出
+ * <p>
+ * 记录只对LongAdder计数，请求处理时不加锁也不分配内存
+ */
+public class ServerMetrics {
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(2);
+    private static final long MAX_ZIP_BYTES = 64L * 1024 * 1024 * 1024;
+    private static final double MICROS_PER_SECOND = 1_000_000;
+    private final LongAdder[] requests = new LongAdder[Route.values().length];
+    private final Histogram[] latencies = new Histogram[Route.values().length];
+    private final Histogram searchWait = new Histogram(MAX_LATENCY_MICROS, MICROS_PER_SECOND);
+    private final LongAdder searchTimeouts = new LongAdder();
+    private final LongAdder bytesServed = new LongAdder();
+    private final Histogram zipDuration = new Histogram(MAX_LATENCY_MICROS, MICROS_PER_SECOND);
+    private final Histogram zipSize = new Histogram(MAX_ZIP_BYTES, 1);
+    private final LongAdder zipFailures = new LongAdder();
+    private final LongAdder downloadRejections = new LongAdder();
+
+    public ServerMetrics() {
+        for (int i = 0; i < requests.length; i++) {
+            requests[i] = new LongAdder();
+            latencies[i] = new Histogram(MAX_LATENCY_MICROS, MICROS_PER_SECOND);
+        }
+    }
+
+    /**
+     * 请求类型
+     */
+    public enum Route {
+        PREFLIGHT("preflight"),
+        SEARCH("search"),
+        SEARCH_STREAM("search_stream"),
+        RESULTS("results"),
+        STATIC("static"),
+        DOWNLOAD("download"),
+        METRICS("metrics"),
+        OTHER("other");
+
+        private final String label;
+
+        Route(String label) {
+            this.label = label;
+        }
+    }
+
+    /**
+     * 记录一次请求，流式响应只统计到开始发送响应为止
+     */
+    public void recordRequest(Route route, long nanos) {
+        requests[route.ordinal()].increment();
+        latencies[route.ordinal()].record(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    /**
+     * 记录/search等待搜索结果的时间
+     */
+    public void recordSearchWait(long nanos, boolean timeout) {
+        searchWait.record(TimeUnit.NANOSECONDS.toMicros(nanos));
+        if (timeout) {
+            searchTimeouts.increment();
+        }
+    }
+
+    /**
+     * 下载文件时实际发送的字节数
+     */
+    public LongAdder getBytesServed() {
+        return bytesServed;
+    }
+
+    public void recordZip(long nanos, long bytes) {
+        zipDuration.record(TimeUnit.NANOSECONDS.toMicros(nanos));
+        zipSize.record(bytes);
+    }
+
+    public void recordZipFailure() {
+        zipFailures.increment();
+    }
+
+    /**
+     * 同时下载数已满，拒绝了一次下载
+     */
+    public void recordDownloadRejected() {
+        downloadRejections.increment();
+    }
+
+    /**
+     * 以Prometheus文本格式输出所有指标
+     *
+     * @param counters 抓取时读取的其他计数器，key为带标签的指标名，同名指标需要相邻
+     * @param gauges   抓取时读取的当前值，如队列长度，key为带标签的指标名，同名指标需要相邻
+     */
+    public String scrape(Map<String, Number> counters, Map<String, Number> gauges) {
+        StringBuilder out = new StringBuilder(16 * 1024);
+        out.append("# HELP remote_http_requests_total HTTP requests by route.\n");
+        out.append("# TYPE remote_http_requests_total counter\n");
+        for (Route route : Route.values()) {
+            out.append("remote_http_requests_total{route=\"").append(route.label).append("\"} ")
+                    .append(requests[route.ordinal()].sum()).append('\n');
+        }
+        out.append("# HELP remote_http_request_duration_seconds Time to handle a request until the response starts.\n");
+        out.append("# TYPE remote_http_request_duration_seconds histogram\n");
+        for (Route route : Route.values()) {
+            latencies[route.ordinal()].writePrometheus(out, "remote_http_request_duration_seconds", "route=\"" + route.label + "\"");
+        }
+        out.append("# HELP remote_search_wait_seconds Time /search waited for File-Engine results.\n");
+        out.append("# TYPE remote_search_wait_seconds histogram\n");
+        searchWait.writePrometheus(out, "remote_search_wait_seconds", "");
+        counter(out, "remote_search_timeouts_total", "Searches that did not finish within searchTimeout.", searchTimeouts.sum());
+        counter(out, "remote_download_bytes_total", "Bytes of files and cached archives sent to clients.", bytesServed.sum());
+        out.append("# HELP remote_zip_duration_seconds Time to build a directory archive.\n");
+        out.append("# TYPE remote_zip_duration_seconds histogram\n");
+        zipDuration.writePrometheus(out, "remote_zip_duration_seconds", "");
+        out.append("# HELP remote_zip_size_bytes Size of built directory archives.\n");
+        out.append("# TYPE remote_zip_size_bytes histogram\n");
+        zipSize.writePrometheus(out, "remote_zip_size_bytes", "");
+        counter(out, "remote_zip_failures_total", "Directory archives that failed to build.", zipFailures.sum());
+        counter(out, "remote_download_rejections_total", "Downloads rejected because maxConcurrentDownloads was reached.", downloadRejections.sum());
+        writeSeries(out, counters, "counter");
+        writeSeries(out, gauges, "gauge");
+        return out.toString();
+    }
+
+    /**
+     * 输出抓取时读取的指标，key可以带标签，同名指标只输出一次TYPE
+     */
+    private static void writeSeries(StringBuilder out, Map<String, Number> series, String type) {
+        String lastName = null;
+        for (Map.Entry<String, Number> each : series.entrySet()) {
+            String key = each.getKey();
+            final int labelStart = key.indexOf('{');
+            String name = labelStart == -1 ? key : key.substring(0, labelStart);
+            if (!name.equals(lastName)) {
+                out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+                lastName = name;
+            }
+            out.append(key).append(' ').append(each.getValue()).append('\n');
+        }
+    }
+
+    private static void counter(StringBuilder out, String name, String help, long value) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(" counter\n");
+        out.append(name).append(' ').append(value).append('\n');
+    }
+}
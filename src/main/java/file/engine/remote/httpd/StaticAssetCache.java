@@ -0,0 +1,184 @@
+package file.engine.remote.httpd;
+
+import fi.iki.elonen.NanoHTTPD;
+import fi.iki.elonen.NanoHTTPD.IHTTPSession;
+import fi.iki.elonen.NanoHTTPD.Response;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 前端静态资源缓存，插件加载时将index.html和assets下的文件全部读入内存，并预先生成gzip压缩后的内容
+ * <p>
+ * 文件名带有hash的资源内容不会改变，允许浏览器永久缓存；index.html每次都需要通过ETag验证
+ */
+public class StaticAssetCache {
+    private static final String ASSETS_DIR = "assets";
+    private static final List<String> ROOT_RESOURCES = List.of("index.html", "favicon.ico");
+    /**
+     * vite打包生成的文件名，如index.0cd4d308.js
+     */
+    private static final Pattern HASHED_NAME = Pattern.compile("^assets/.+\\.[0-9a-f]{8,}\\.[a-z0-9]+$");
+    private static final String CACHE_IMMUTABLE = "public, max-age=31536000, immutable";
+    private static final String CACHE_REVALIDATE = "no-cache";
+    private final Map<String, StaticAsset> assets;
+
+    private StaticAssetCache(Map<String, StaticAsset> assets) {
+        this.assets = assets;
+    }
+
+    /**
+     * 读取插件中的所有前端资源
+     *
+     * @param mimeSelector 根据后缀选择content type
+     * @return 资源缓存
+     * @throws IOException 读取资源失败
+     */
+    public static StaticAssetCache load(Function<String, String> mimeSelector) throws IOException {
+        HashMap<String, StaticAsset> assets = new HashMap<>();
+        for (String name : listResources()) {
+            try (InputStream stream = StaticAssetCache.class.getResourceAsStream("/" + name)) {
+                if (stream == null) {
+                    continue;
+                }
+                String mime = mimeSelector.apply(name.substring(name.lastIndexOf('.') + 1));
+                assets.put("/" + name, new StaticAsset(stream.readAllBytes(),
+                        mime == null ? "application/octet-stream" : mime,
+                        HASHED_NAME.matcher(name).matches()));
+            }
+        }
+        return new StaticAssetCache(Map.copyOf(assets));
+    }
+
+    public boolean contains(String uri) {
+        return assets.containsKey(uri);
+    }
+
+    /**
+     * 返回资源内容，浏览器缓存的ETag一致时返回304，支持gzip时返回压缩后的内容
+     *
+     * @param session 请求
+     * @param uri     资源路径
+     * @return Response
+     */
+    public Response newResponse(IHTTPSession session, String uri) {
+        StaticAsset asset = assets.get(uri);
+        final boolean useGzip = asset.gzipContent != null &&
+                ContentEncodingUtil.GZIP.equals(ContentEncodingUtil.negotiate(session.getHeaders().get("accept-encoding")));
+        final String etag = useGzip ? asset.gzipEtag : asset.etag;
+        Response response;
+        String ifNoneMatch = session.getHeaders().get("if-none-match");
+        if (ifNoneMatch != null && (RangeFileResponse.matchesEtag(ifNoneMatch, asset.etag) || RangeFileResponse.matchesEtag(ifNoneMatch, asset.gzipEtag))) {
+            response = NanoHTTPD.newFixedLengthResponse(Response.Status.NOT_MODIFIED, asset.mimeType, "");
+        } else if (useGzip) {
+            response = NanoHTTPD.newFixedLengthResponse(Response.Status.OK, asset.mimeType,
+                    new ByteArrayInputStream(asset.gzipContent), asset.gzipContent.length);
+            response.addHeader("Content-Encoding", ContentEncodingUtil.GZIP);
+        } else {
+            response = NanoHTTPD.newFixedLengthResponse(Response.Status.OK, asset.mimeType,
+                    new ByteArrayInputStream(asset.content), asset.content.length);
+        }
+        response.addHeader("ETag", etag);
+        response.addHeader("Cache-Control", asset.immutable ? CACHE_IMMUTABLE : CACHE_REVALIDATE);
+        if (asset.gzipContent != null) {
+            response.addHeader("Vary", "Accept-Encoding");
+        }
+        return response;
+    }
+
+    /**
+     * 列出插件中需要缓存的资源，插件以jar加载时遍历jar，开发时遍历classes文件夹
+     */
+    private static List<String> listResources() throws IOException {
+        ArrayList<String> names = new ArrayList<>(ROOT_RESOURCES);
+        Path location;
+        try {
+            URL url = StaticAssetCache.class.getProtectionDomain().getCodeSource().getLocation();
+            location = Path.of(url.toURI());
+        } catch (URISyntaxException | RuntimeException e) {
+            e.printStackTrace();
+            return names;
+        }
+        if (Files.isDirectory(location)) {
+            Path assetsDir = location.resolve(ASSETS_DIR);
+            if (Files.isDirectory(assetsDir)) {
+                try (Stream<Path> files = Files.list(assetsDir)) {
+                    files.filter(Files::isRegularFile).forEach(each -> names.add(ASSETS_DIR + "/" + each.getFileName()));
+                }
+            }
+        } else {
+            try (JarFile jarFile = new JarFile(location.toFile())) {
+                jarFile.stream()
+                        .filter(entry -> !entry.isDirectory())
+                        .map(JarEntry::getName)
+                        .filter(name -> name.startsWith(ASSETS_DIR + "/"))
+                        .forEach(names::add);
+            }
+        }
+        return names;
+    }
+
+    private static class StaticAsset {
+        private final byte[] content;
+        private final String mimeType;
+        private final boolean immutable;
+        private final String etag;
+        /**
+         * 压缩后没有变小时为null
+         */
+        private final byte[] gzipContent;
+        private final String gzipEtag;
+
+        private StaticAsset(byte[] content, String mimeType, boolean immutable) throws IOException {
+            this.content = content;
+            this.mimeType = mimeType;
+            this.immutable = immutable;
+            String hash = sha256(content);
+            this.etag = "\"" + hash + "\"";
+            byte[] gzip = gzip(content);
+            this.gzipContent = gzip.length < content.length ? gzip : null;
+            this.gzipEtag = "\"" + hash + "-gzip\"";
+        }
+
+        private static byte[] gzip(byte[] content) throws IOException {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(content.length / 2 + 64);
+            try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream) {
+                {
+                    def.setLevel(Deflater.BEST_COMPRESSION);
+                }
+            }) {
+                gzipOutputStream.write(content);
+            }
+            return outputStream.toByteArray();
+        }
+
+        private static String sha256(byte[] content) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+                return HexFormat.of().formatHex(digest, 0, 8);
+            } catch (NoSuchAlgorithmException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+}
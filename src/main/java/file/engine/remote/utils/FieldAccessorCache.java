@@ -0,0 +1,94 @@
+package file.engine.remote.utils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 缓存读取File-Engine事件字段使用的反射信息，每个类的每个字段只查找一次并转换为MethodHandle
+ * <p>
+ * 通过ClassValue与类关联，File-Engine重新加载类时缓存随旧的类一起回收
+ */
+public final class FieldAccessorCache {
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final ClassValue<ClassFields> CLASS_FIELDS = new ClassValue<>() {
+        @Override
+        protected ClassFields computeValue(Class<?> type) {
+            return new ClassFields(type);
+        }
+    };
+
+    private FieldAccessorCache() {
+    }
+
+    /**
+     * 读取public字段的值，先查找类及父类的public字段，再查找类中声明的字段
+     *
+     * @param clazz    字段所在的类
+     * @param name     字段名
+     * @param instance 实例，静态字段为null
+     * @return 字段值
+     * @throws NoSuchFieldException   字段不存在
+     * @throws IllegalAccessException 字段不可访问
+     */
+    public static Object get(Class<?> clazz, String name, Object instance) throws NoSuchFieldException, IllegalAccessException {
+        MethodHandle getter = CLASS_FIELDS.get(clazz).getter(name);
+        try {
+            return (Object) getter.invokeExact(instance);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * 获取类中声明的所有字段及类型
+     *
+     * @param clazz 类
+     * @return key为字段名，value为字段类型，不可修改
+     */
+    public static Map<String, Class<?>> getDeclaredFieldTypes(Class<?> clazz) {
+        return CLASS_FIELDS.get(clazz).declaredFieldTypes;
+    }
+
+    private static class ClassFields {
+        private final Class<?> type;
+        private final Map<String, Class<?>> declaredFieldTypes;
+        private final ConcurrentHashMap<String, MethodHandle> getters = new ConcurrentHashMap<>();
+
+        private ClassFields(Class<?> type) {
+            this.type = type;
+            HashMap<String, Class<?>> fields = new HashMap<>();
+            for (Field declaredField : type.getDeclaredFields()) {
+                fields.put(declaredField.getName(), declaredField.getType());
+            }
+            this.declaredFieldTypes = Map.copyOf(fields);
+        }
+
+        private MethodHandle getter(String name) throws NoSuchFieldException, IllegalAccessException {
+            MethodHandle getter = getters.get(name);
+            if (getter != null) {
+                return getter;
+            }
+            Field field;
+            try {
+                field = type.getField(name);
+            } catch (NoSuchFieldException e) {
+                field = type.getDeclaredField(name);
+            }
+            getter = MethodHandles.lookup().unreflectGetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                getter = MethodHandles.dropArguments(getter, 0, Object.class);
+            }
+            getter = getter.asType(GETTER_TYPE);
+            MethodHandle existing = getters.putIfAbsent(name, getter);
+            return existing == null ? getter : existing;
+        }
+    }
+}
@@ -5,7 +5,6 @@ import file.engine.remote.Plugin;
 import file.engine.remote.utils.gson.GsonUtil;
 
 import java.io.*;
-import java.lang.reflect.Field;
 import java.net.URL;
 import java.net.URLConnection;
 import java.nio.charset.StandardCharsets;
@@ -29,14 +28,10 @@ public class VersionUtil {
                 "downloadDoneListener",
                 (c, o) -> {
                     try {
-                        Field downloadManagerField = c.getField("downloadManager");
-                        Object downloadManager = downloadManagerField.get(o);
-                        Field savePathField = downloadManagerClass.getField("savePath");
-                        Field fileNameField = downloadManagerClass.getField("fileName");
-                        Field urlField = downloadManagerClass.getField("url");
-                        String savePath = (String) savePathField.get(downloadManager);
-                        String fileName = (String) fileNameField.get(downloadManager);
-                        String url = (String) urlField.get(downloadManager);
+                        Object downloadManager = FieldAccessorCache.get(c, "downloadManager", o);
+                        String savePath = (String) FieldAccessorCache.get(downloadManagerClass, "savePath", downloadManager);
+                        String fileName = (String) FieldAccessorCache.get(downloadManagerClass, "fileName", downloadManager);
+                        String url = (String) FieldAccessorCache.get(downloadManagerClass, "url", downloadManager);
                         downloadTasks.add(url + new File(savePath, fileName).getAbsolutePath());
                     } catch (NoSuchFieldException | IllegalAccessException e) {
                         throw new RuntimeException(e);
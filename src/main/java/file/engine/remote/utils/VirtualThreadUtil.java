@@ -0,0 +1,35 @@
+package file.engine.remote.utils;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 创建虚拟线程，插件以Java 17编译，运行在Java 21及以上时通过反射调用Thread.ofVirtual()
+ */
+public final class VirtualThreadUtil {
+
+    private VirtualThreadUtil() {
+    }
+
+    /**
+     * 创建虚拟线程工厂
+     *
+     * @param prefix 线程名前缀，后面追加从0开始的序号
+     * @return 当前运行环境不支持虚拟线程时返回null
+     */
+    public static ThreadFactory newFactory(String prefix) {
+        try {
+            Method ofVirtual = Thread.class.getMethod("ofVirtual");
+            Object builder = ofVirtual.invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (NoSuchMethodException | ClassNotFoundException e) {
+            return null;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Java 19和20需要--enable-preview
+            e.printStackTrace();
+            return null;
+        }
+    }
+}
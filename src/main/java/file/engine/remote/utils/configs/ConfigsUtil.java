@@ -15,6 +15,25 @@ public class ConfigsUtil {
     public static final String CONFIGURATION_FILE = Path.of(CONFIGURATION_PATH, "settings.json").toString();
     public static final String TMP_PATH = Path.of(CONFIGURATION_PATH, "tmp").toString();
     private static final int DEFAULT_PORT = 23333;
+    private static final int DEFAULT_SESSION_IDLE_TIMEOUT = 600; //10min
+    private static final int DEFAULT_SESSION_MAX_MEMORY = 64; //64MB
+    private static final int DEFAULT_SEARCH_TIMEOUT = 10_000; //10s
+    private static final int DEFAULT_INITIAL_RESULT_NUM = 50;
+    private static final int DEFAULT_MAX_RESULT_NUM = 1000;
+    private static final int DEFAULT_METADATA_CACHE_SIZE = 10_000;
+    private static final int DEFAULT_METADATA_CACHE_TTL = 30; //30s
+    private static final int DEFAULT_ZIP_COMPRESSION_LEVEL = -1;
+    private static final int DEFAULT_PARALLEL_ZIP_THRESHOLD = 8; //8MB
+    private static final int DEFAULT_ARCHIVE_CACHE_SIZE = 1024; //1GB
+    private static final int DEFAULT_MAX_DIRECTORY_SIZE = 100; //100MB
+    private static final int DEFAULT_COMPRESSION_THRESHOLD = 1024; //1KB
+    private static final int DEFAULT_MAX_WORKER_THREADS = 64;
+    private static final int DEFAULT_WORKER_QUEUE_SIZE = 32;
+    private static final int DEFAULT_MAX_CONCURRENT_DOWNLOADS = 8;
+    private static final int DEFAULT_MAX_VIRTUAL_THREADS = 10_000;
+    private static final int DEFAULT_QUERY_CACHE_SIZE = 256;
+    private static final int DEFAULT_QUERY_CACHE_MAX_MEMORY = 32; //32MB
+    private static final int DEFAULT_QUERY_CACHE_TTL = 60; //60s
     private Map<String, Object> configMap;
     private static volatile ConfigsUtil instance;
 
@@ -33,6 +52,213 @@ public class ConfigsUtil {
         return (int) configMap.getOrDefault("port", DEFAULT_PORT);
     }
 
+    /**
+     * 搜索会话空闲多久后过期
+     *
+     * @return 秒
+     */
+    public int getSessionIdleTimeout() {
+        return (int) configMap.getOrDefault("sessionIdleTimeout", DEFAULT_SESSION_IDLE_TIMEOUT);
+    }
+
+    /**
+     * 所有搜索会话保存结果的最大内存
+     *
+     * @return MB
+     */
+    public int getSessionMaxMemory() {
+        return (int) configMap.getOrDefault("sessionMaxMemory", DEFAULT_SESSION_MAX_MEMORY);
+    }
+
+    /**
+     * 等待搜索结果的最长时间
+     *
+     * @return 毫秒
+     */
+    public int getSearchTimeout() {
+        return (int) configMap.getOrDefault("searchTimeout", DEFAULT_SEARCH_TIMEOUT);
+    }
+
+    /**
+     * 第一次向核心请求的结果数量，翻页超出后再继续获取
+     *
+     * @return 结果数量
+     */
+    public int getInitialResultNum() {
+        return (int) configMap.getOrDefault("initialResultNum", DEFAULT_INITIAL_RESULT_NUM);
+    }
+
+    /**
+     * 一次搜索最多从核心获取的结果数量
+     *
+     * @return 结果数量
+     */
+    public int getMaxResultNum() {
+        return (int) configMap.getOrDefault("maxResultNum", DEFAULT_MAX_RESULT_NUM);
+    }
+
+    /**
+     * 文件元数据缓存的最大数量
+     *
+     * @return 缓存数量
+     */
+    public int getMetadataCacheSize() {
+        return (int) configMap.getOrDefault("metadataCacheSize", DEFAULT_METADATA_CACHE_SIZE);
+    }
+
+    /**
+     * 文件元数据缓存的有效时间
+     *
+     * @return 秒
+     */
+    public int getMetadataCacheTtl() {
+        return (int) configMap.getOrDefault("metadataCacheTtl", DEFAULT_METADATA_CACHE_TTL);
+    }
+
+    /**
+     * 下载文件夹时是否边压缩边发送，关闭后先生成临时压缩包再发送
+     *
+     * @return true如果边压缩边发送
+     */
+    public boolean isZipStreaming() {
+        return (boolean) configMap.getOrDefault("zipStreaming", true);
+    }
+
+    /**
+     * 下载文件夹时的压缩等级，0为不压缩，-1为默认等级
+     *
+     * @return 压缩等级
+     */
+    public int getZipCompressionLevel() {
+        return (int) configMap.getOrDefault("zipCompressionLevel", DEFAULT_ZIP_COMPRESSION_LEVEL);
+    }
+
+    /**
+     * 压缩文件夹使用的线程数
+     *
+     * @return 线程数
+     */
+    public int getZipThreads() {
+        return (int) configMap.getOrDefault("zipThreads", Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * 文件夹总大小达到该值时才使用多线程压缩
+     *
+     * @return MB
+     */
+    public int getParallelZipThreshold() {
+        return (int) configMap.getOrDefault("parallelZipThreshold", DEFAULT_PARALLEL_ZIP_THRESHOLD);
+    }
+
+    /**
+     * 文件夹压缩包缓存占用的最大磁盘空间
+     *
+     * @return MB
+     */
+    public int getArchiveCacheSize() {
+        return (int) configMap.getOrDefault("archiveCacheSize", DEFAULT_ARCHIVE_CACHE_SIZE);
+    }
+
+    /**
+     * 允许打包下载的文件夹最大大小
+     *
+     * @return MB
+     */
+    public int getMaxDirectorySize() {
+        return (int) configMap.getOrDefault("maxDirectorySize", DEFAULT_MAX_DIRECTORY_SIZE);
+    }
+
+    /**
+     * 接口响应超过该大小时才进行压缩
+     *
+     * @return 字节
+     */
+    public int getCompressionThreshold() {
+        return (int) configMap.getOrDefault("compressionThreshold", DEFAULT_COMPRESSION_THRESHOLD);
+    }
+
+    /**
+     * 接口响应的json是否缩进，默认不缩进以减小响应大小
+     *
+     * @return true如果缩进
+     */
+    public boolean isPrettyJson() {
+        return (boolean) configMap.getOrDefault("prettyJson", false);
+    }
+
+    /**
+     * 缓存的搜索结果数量，为0时不缓存
+     *
+     * @return 缓存数量
+     */
+    public int getQueryCacheSize() {
+        return (int) configMap.getOrDefault("queryCacheSize", DEFAULT_QUERY_CACHE_SIZE);
+    }
+
+    /**
+     * 缓存的搜索结果占用的最大内存
+     *
+     * @return MB
+     */
+    public int getQueryCacheMaxMemory() {
+        return (int) configMap.getOrDefault("queryCacheMaxMemory", DEFAULT_QUERY_CACHE_MAX_MEMORY);
+    }
+
+    /**
+     * 搜索结果缓存的有效时间，文件变化不会使缓存失效，只有File-Engine更新索引时才会清空
+     *
+     * @return 秒
+     */
+    public int getQueryCacheTtl() {
+        return (int) configMap.getOrDefault("queryCacheTtl", DEFAULT_QUERY_CACHE_TTL);
+    }
+
+    /**
+     * 处理连接的最大线程数，keep-alive连接空闲时也会占用线程
+     *
+     * @return 线程数
+     */
+    public int getMaxWorkerThreads() {
+        return (int) configMap.getOrDefault("maxWorkerThreads", DEFAULT_MAX_WORKER_THREADS);
+    }
+
+    /**
+     * 线程全部繁忙时最多等待的连接数，超过后直接返回503
+     *
+     * @return 连接数
+     */
+    public int getWorkerQueueSize() {
+        return (int) configMap.getOrDefault("workerQueueSize", DEFAULT_WORKER_QUEUE_SIZE);
+    }
+
+    /**
+     * 是否使用虚拟线程处理连接，需要运行在Java 21及以上，不支持时使用线程池
+     *
+     * @return true如果使用虚拟线程
+     */
+    public boolean isVirtualThreads() {
+        return (boolean) configMap.getOrDefault("virtualThreads", false);
+    }
+
+    /**
+     * 使用虚拟线程时同时处理的最大连接数，超过后直接返回503
+     *
+     * @return 连接数
+     */
+    public int getMaxVirtualThreads() {
+        return (int) configMap.getOrDefault("maxVirtualThreads", DEFAULT_MAX_VIRTUAL_THREADS);
+    }
+
+    /**
+     * 同时进行的文件下载和文件夹打包数量，超过后直接返回503，最多为最大线程数-1
+     *
+     * @return 下载数
+     */
+    public int getMaxConcurrentDownloads() {
+        return (int) configMap.getOrDefault("maxConcurrentDownloads", DEFAULT_MAX_CONCURRENT_DOWNLOADS);
+    }
+
     @SuppressWarnings("unchecked")
     private void readConfiguration(String configPath) throws IOException {
         GsonUtil gsonUtil = GsonUtil.getInstance();
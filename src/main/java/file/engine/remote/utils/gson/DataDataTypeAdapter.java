@@ -8,11 +8,25 @@ import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 public class DataDataTypeAdapter extends TypeAdapter<Object> {
+    /**
+     * 不超过该位数的整数一定在int范围内
+     */
+    private static final int MAX_INT_DIGITS = 9;
+    /**
+     * 不超过该位数的整数一定在long范围内
+     */
+    private static final int MAX_LONG_DIGITS = 18;
+    /**
+     * 不超过该有效数字位数的小数可以被double精确还原
+     */
+    private static final int MAX_DOUBLE_DIGITS = 15;
+    private static final double MAX_EXACT_DOUBLE_INTEGER = 1L << 53;
     private final TypeAdapter<Object> delegate = new Gson().getAdapter(Object.class);
 
     @Override
@@ -39,29 +53,7 @@ public class DataDataTypeAdapter extends TypeAdapter<Object> {
             case STRING:
                 return in.nextString();
             case NUMBER:
-                /*
-                 * 改写数字的处理逻辑，将数字值分为整型与浮点型。
-                 */
-                double dbNum = in.nextDouble();
-                // 数字超过long的最大值，返回浮点类型
-                if (dbNum > Long.MAX_VALUE) {
-                    return dbNum;
-                }
-                // 判断数字是否为整数值
-                long lngNum = (long) dbNum;
-                if (dbNum == lngNum) {
-                    try {
-                        return (int) lngNum;
-                    } catch (Exception e) {
-                        return lngNum;
-                    }
-                } else {
-                    try {
-                        return (float) dbNum;
-                    } catch (Exception e) {
-                        return dbNum;
-                    }
-                }
+                return readNumber(in);
             case BOOLEAN:
                 return in.nextBoolean();
             case NULL:
@@ -72,6 +64,105 @@ public class DataDataTypeAdapter extends TypeAdapter<Object> {
         }
     }
 
+    /**
+     * 读取数字的字面值，只读取一次，由parseNumber选择类型，不依赖JsonReader解析失败时的异常
+     */
+    private static Object readNumber(JsonReader in) throws IOException {
+        return parseNumber(in.nextString());
+    }
+
+    /**
+     * 根据数字的字面值选择类型，不经过double转换，整数不会丢失精度
+     * <p>
+     * 整数依次尝试int、long，超出long范围返回BigDecimal；小数在double能精确表示时返回double，否则返回BigDecimal。
+     * 值为整数的小数（如1.0）与整数相同处理
+     *
+     * @param lexical json中数字的字面值
+     * @return Integer、Long、Double或BigDecimal
+     */
+    static Object parseNumber(String lexical) {
+        final int length = lexical.length();
+        final int start = lexical.charAt(0) == '-' ? 1 : 0;
+        boolean isIntegral = true;
+        for (int i = start; i < length; i++) {
+            char c = lexical.charAt(i);
+            if (c == '.' || c == 'e' || c == 'E') {
+                isIntegral = false;
+                break;
+            }
+        }
+        if (isIntegral) {
+            final int digits = length - start;
+            if (digits <= MAX_INT_DIGITS) {
+                return Integer.parseInt(lexical);
+            }
+            if (digits <= MAX_LONG_DIGITS) {
+                return narrow(Long.parseLong(lexical));
+            }
+            return narrow(new BigDecimal(lexical));
+        }
+        if (significantDigits(lexical, start) <= MAX_DOUBLE_DIGITS) {
+            double value = Double.parseDouble(lexical);
+            final boolean isUnderflow = value == 0 && !isZero(lexical, start);
+            if (!Double.isInfinite(value) && !isUnderflow) {
+                if (value == Math.rint(value) && Math.abs(value) <= MAX_EXACT_DOUBLE_INTEGER) {
+                    return narrow((long) value);
+                }
+                return value;
+            }
+        }
+        // 有效数字过多或超出double范围
+        return narrow(new BigDecimal(lexical));
+    }
+
+    private static Object narrow(long value) {
+        final int intValue = (int) value;
+        return intValue == value ? (Object) intValue : (Object) value;
+    }
+
+    private static Object narrow(BigDecimal value) {
+        if (value.signum() == 0 || value.stripTrailingZeros().scale() <= 0) {
+            try {
+                return narrow(value.longValueExact());
+            } catch (ArithmeticException e) {
+                return value;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 统计尾数部分的有效数字个数，不包含前导0
+     */
+    private static int significantDigits(String lexical, int start) {
+        int count = 0;
+        final int length = lexical.length();
+        for (int i = start; i < length; i++) {
+            char c = lexical.charAt(i);
+            if (c == 'e' || c == 'E') {
+                break;
+            }
+            if (c >= '1' && c <= '9' || c == '0' && count > 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static boolean isZero(String lexical, int start) {
+        final int length = lexical.length();
+        for (int i = start; i < length; i++) {
+            char c = lexical.charAt(i);
+            if (c == 'e' || c == 'E') {
+                break;
+            }
+            if (c >= '1' && c <= '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public void write(JsonWriter out, Object value) throws IOException {
         delegate.write(out, value);
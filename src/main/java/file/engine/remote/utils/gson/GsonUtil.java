@@ -7,18 +7,34 @@ import com.google.gson.reflect.TypeToken;
 import java.lang.reflect.Type;
 import java.util.Map;
 
+/**
+ * Gson实例在初始化时创建，Gson本身是线程安全且不可变的，所有线程共用同一个实例
+ */
 public enum GsonUtil {
     INSTANCE;
-    private final GsonBuilder gsonBuilder = new GsonBuilder();
-    private final DataDataTypeAdapter dataDataTypeAdapter = new DataDataTypeAdapter();
     @SuppressWarnings("rawtypes")
     private final Type mapType = new TypeToken<Map>(){}.getType();
+    private final Gson gson;
+    private final Gson compactGson;
+
+    GsonUtil() {
+        DataDataTypeAdapter dataDataTypeAdapter = new DataDataTypeAdapter();
+        compactGson = new GsonBuilder().registerTypeAdapter(mapType, dataDataTypeAdapter).create();
+        gson = compactGson.newBuilder().setPrettyPrinting().create();
+    }
 
     public static GsonUtil getInstance() {
         return INSTANCE;
     }
 
     public Gson getGson() {
-        return gsonBuilder.setPrettyPrinting().registerTypeAdapter(mapType, dataDataTypeAdapter).create();
+        return gson;
+    }
+
+    /**
+     * 不带缩进和换行的Gson，用于接口响应
+     */
+    public Gson getCompactGson() {
+        return compactGson;
     }
 }
@@ -0,0 +1,89 @@
+package file.engine.remote.utils.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 对数分桶的直方图，每个2的幂区间分为两个桶（1, 2, 3, 4, 6, 8, 12, 16...），相对误差不超过50%
+ * <p>
+ * 每个桶使用LongAdder计数，多线程记录时没有锁竞争，记录时不分配内存
+ */
+public class Histogram {
+    private final long[] bounds;
+    private final LongAdder[] buckets;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final double divisor;
+
+    /**
+     * @param maxValue 最大的桶上界，超过的值计入+Inf
+     * @param divisor  输出时桶上界和总和除以的系数，如记录微秒输出秒时为1000000
+     */
+    public Histogram(long maxValue, double divisor) {
+        this.divisor = divisor;
+        int size = 1;
+        while (bound(size - 1) < maxValue) {
+            size++;
+        }
+        bounds = new long[size];
+        for (int i = 0; i < size; i++) {
+            bounds[i] = bound(i);
+        }
+        buckets = new LongAdder[size + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 第i个桶的上界：1, 2, 3, 4, 6, 8, 12...
+     */
+    private static long bound(int i) {
+        if (i == 0) {
+            return 1;
+        }
+        final int octave = (i + 1) / 2;
+        return (i & 1) == 1 ? 1L << octave : 3L << (octave - 1);
+    }
+
+    public void record(long value) {
+        count.increment();
+        sum.add(value);
+        if (value <= 1) {
+            buckets[0].increment();
+            return;
+        }
+        // 2^k <= value，2^k所在的桶下标为2k-1，之后最多再向后移动两个桶
+        final int octave = 63 - Long.numberOfLeadingZeros(value);
+        int index = Math.min(2 * octave - 1, bounds.length);
+        while (index < bounds.length && value > bounds[index]) {
+            index++;
+        }
+        buckets[index].increment();
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * 以Prometheus文本格式输出
+     *
+     * @param out    输出
+     * @param name   指标名
+     * @param labels 标签，如 route="search"，没有标签时为空字符串
+     */
+    public void writePrometheus(StringBuilder out, String name, String labels) {
+        final String prefix = labels.isEmpty() ? "" : labels + ",";
+        long cumulative = 0;
+        for (int i = 0; i < bounds.length; i++) {
+            cumulative += buckets[i].sum();
+            out.append(name).append("_bucket{").append(prefix).append("le=\"").append(bounds[i] / divisor).append("\"} ")
+                    .append(cumulative).append('\n');
+        }
+        cumulative += buckets[bounds.length].sum();
+        out.append(name).append("_bucket{").append(prefix).append("le=\"+Inf\"} ").append(cumulative).append('\n');
+        final String suffix = labels.isEmpty() ? " " : "{" + labels + "} ";
+        out.append(name).append("_sum").append(suffix).append(sum.sum() / divisor).append('\n');
+        out.append(name).append("_count").append(suffix).append(cumulative).append('\n');
+    }
+}
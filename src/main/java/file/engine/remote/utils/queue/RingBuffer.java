@@ -0,0 +1,153 @@
+package file.engine.remote.utils.queue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 有界的多生产者多消费者环形队列，入队出队不加锁也不分配内存
+ * <p>
+ * 每个槽位保存一个序号，生产者和消费者通过CAS各自的位置抢占槽位，再通过序号通知对方槽位已写入或已取走
+ *
+ * @param <T> 元素类型
+ */
+public class RingBuffer<T> {
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private final int mask;
+    private final AtomicReferenceArray<T> buffer;
+    private final AtomicLongArray sequences;
+    private final AtomicLong enqueuePos = new AtomicLong();
+    private final AtomicLong dequeuePos = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * @param capacity 容量，向上取整为2的幂
+     */
+    public RingBuffer(int capacity) {
+        final int size = capacity <= 1 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        mask = size - 1;
+        buffer = new AtomicReferenceArray<>(size);
+        sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 入队，队列已满时立即返回
+     *
+     * @param element 元素，不能为null
+     * @return 队列已满返回false
+     */
+    public boolean offer(T element) {
+        long pos = enqueuePos.get();
+        while (true) {
+            final int index = (int) pos & mask;
+            final long diff = sequences.getAcquire(index) - pos;
+            if (diff == 0) {
+                if (enqueuePos.compareAndSet(pos, pos + 1)) {
+                    buffer.setPlain(index, element);
+                    sequences.setRelease(index, pos + 1);
+                    return true;
+                }
+                pos = enqueuePos.get();
+            } else if (diff < 0) {
+                return false;
+            } else {
+                pos = enqueuePos.get();
+            }
+        }
+    }
+
+    /**
+     * 入队，队列已满时等待消费者取走元素，超时后丢弃该元素
+     *
+     * @param element 元素，不能为null
+     * @param timeout 最长等待时间，小于等于0时不等待，直接丢弃
+     * @param unit    时间单位
+     * @return 超时丢弃返回false
+     */
+    public boolean offer(T element, long timeout, TimeUnit unit) {
+        if (offer(element)) {
+            return true;
+        }
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (System.nanoTime() - deadline < 0) {
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+            if (offer(element)) {
+                return true;
+            }
+        }
+        dropped.increment();
+        return false;
+    }
+
+    /**
+     * 出队
+     *
+     * @return 队列为空返回null
+     */
+    public T poll() {
+        long pos = dequeuePos.get();
+        while (true) {
+            final int index = (int) pos & mask;
+            final long diff = sequences.getAcquire(index) - (pos + 1);
+            if (diff == 0) {
+                if (dequeuePos.compareAndSet(pos, pos + 1)) {
+                    T element = buffer.getPlain(index);
+                    buffer.setPlain(index, null);
+                    sequences.setRelease(index, pos + mask + 1);
+                    return element;
+                }
+                pos = dequeuePos.get();
+            } else if (diff < 0) {
+                return null;
+            } else {
+                pos = dequeuePos.get();
+            }
+        }
+    }
+
+    /**
+     * 批量出队
+     *
+     * @param array 保存取出的元素
+     * @return 取出的数量
+     */
+    public int drainTo(T[] array) {
+        int count = 0;
+        T element;
+        while (count < array.length && (element = poll()) != null) {
+            array[count++] = element;
+        }
+        return count;
+    }
+
+    public void clear() {
+        //noinspection StatementWithEmptyBody
+        while (poll() != null) {
+        }
+    }
+
+    /**
+     * @return 队列中的元素数量，并发修改时为近似值
+     */
+    public int size() {
+        final long size = enqueuePos.get() - dequeuePos.get();
+        return (int) Math.max(0, Math.min(size, mask + 1L));
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * @return 因队列已满被丢弃的元素数量
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+}
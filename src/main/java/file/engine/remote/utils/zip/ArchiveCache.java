@@ -0,0 +1,254 @@
+package file.engine.remote.utils.zip;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 文件夹压缩包缓存，以文件夹内容的指纹为key
+ * <p>
+ * 同一个key同时只有一个线程生成压缩包，其他请求等待生成结果。缓存总大小超过限制时删除最久未使用的压缩包，
+ * 正在被下载的压缩包先移出缓存，最后一个下载关闭后再删除文件（Windows下无法删除已打开的文件）
+ */
+public class ArchiveCache {
+    private final Path cacheDir;
+    private final long maxBytes;
+    private final LinkedHashMap<String, Long> archives = new LinkedHashMap<>(16, 0.75f, true);
+    private final ConcurrentHashMap<String, CompletableFuture<Path>> inFlight = new ConcurrentHashMap<>();
+    // 每个压缩包正在下载的数量，由this保护
+    private final HashMap<String, Integer> readers = new HashMap<>();
+    // 已经移出缓存但仍在下载的压缩包，最后一个下载关闭后删除，由this保护
+    private final HashSet<String> evicted = new HashSet<>();
+    private long usedBytes;
+
+    public ArchiveCache(Path cacheDir, long maxBytes) throws IOException {
+        this.cacheDir = cacheDir;
+        this.maxBytes = maxBytes;
+        Files.createDirectories(cacheDir);
+    }
+
+    /**
+     * 获取已经生成的压缩包，下载结束后需要关闭返回的Lease，之前压缩包不会被删除
+     *
+     * @param key 文件夹指纹
+     * @return 压缩包，不存在返回null
+     */
+    public synchronized Lease acquire(String key) {
+        Long size = archives.get(key);
+        if (size == null) {
+            return null;
+        }
+        Path archivePath = archivePath(key);
+        if (!Files.exists(archivePath)) {
+            archives.remove(key);
+            usedBytes -= size;
+            return null;
+        }
+        readers.merge(key, 1, Integer::sum);
+        return new Lease(key, archivePath);
+    }
+
+    /**
+     * 获取压缩包，不存在时生成，同一个key同时只会生成一次，下载结束后需要关闭返回的Lease
+     *
+     * @param key    文件夹指纹
+     * @param writer 写入压缩包内容
+     * @return 压缩包
+     * @throws Exception 生成失败
+     */
+    public Lease getOrCreate(String key, ArchiveWriter writer) throws Exception {
+        while (true) {
+            Lease cached = acquire(key);
+            if (cached != null) {
+                return cached;
+            }
+            Claim claim = tryClaim(key);
+            if (claim != null) {
+                try (claim) {
+                    writer.write(claim.getOutputStream());
+                    claim.commit();
+                }
+                // 生成后重新获取，极少数情况下刚生成就被淘汰时重新生成
+                continue;
+            }
+            CompletableFuture<Path> generating = inFlight.get(key);
+            if (generating == null) {
+                continue;
+            }
+            try {
+                generating.get();
+            } catch (ExecutionException e) {
+                // 其他线程生成失败，由当前线程重新生成
+            }
+        }
+    }
+
+    /**
+     * 尝试获取生成压缩包的权利
+     *
+     * @param key 文件夹指纹
+     * @return 已有线程在生成时返回null
+     * @throws IOException 创建临时文件失败
+     */
+    public Claim tryClaim(String key) throws IOException {
+        CompletableFuture<Path> future = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(key, future) != null) {
+            return null;
+        }
+        try {
+            return new Claim(key, future);
+        } catch (IOException e) {
+            inFlight.remove(key, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private Path archivePath(String key) {
+        return cacheDir.resolve(key + ".zip");
+    }
+
+    /**
+     * 把生成的临时文件移动为压缩包并加入缓存
+     */
+    private synchronized void publish(String key, Path tmpPath) throws IOException {
+        Path archivePath = archivePath(key);
+        if (evicted.remove(key)) {
+            // 内容相同的压缩包仍在下载，不能覆盖，直接放回缓存
+            Files.deleteIfExists(tmpPath);
+        } else {
+            Files.move(tmpPath, archivePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        register(key, Files.size(archivePath));
+    }
+
+    private void register(String key, long size) {
+        Long old = archives.put(key, size);
+        usedBytes += size - (old == null ? 0 : old);
+        Iterator<Map.Entry<String, Long>> iterator = archives.entrySet().iterator();
+        while (usedBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            if (eldest.getKey().equals(key)) {
+                continue;
+            }
+            iterator.remove();
+            usedBytes -= eldest.getValue();
+            if (readers.containsKey(eldest.getKey())) {
+                evicted.add(eldest.getKey());
+            } else {
+                delete(eldest.getKey());
+            }
+        }
+    }
+
+    private synchronized void release(String key) {
+        if (readers.merge(key, -1, Integer::sum) == 0) {
+            readers.remove(key);
+            if (evicted.remove(key)) {
+                delete(key);
+            }
+        }
+    }
+
+    private void delete(String key) {
+        try {
+            Files.deleteIfExists(archivePath(key));
+        } catch (IOException e) {
+            // 重启时tmp文件夹会被清空
+            e.printStackTrace();
+        }
+    }
+
+    @FunctionalInterface
+    public interface ArchiveWriter {
+        void write(OutputStream outputStream) throws Exception;
+    }
+
+    /**
+     * 正在使用的压缩包，关闭前压缩包不会被删除，可以重复关闭
+     */
+    public class Lease implements Closeable {
+        private final String key;
+        private final Path path;
+        private boolean closed;
+
+        private Lease(String key, Path path) {
+            this.key = key;
+            this.path = path;
+        }
+
+        public Path getPath() {
+            return path;
+        }
+
+        @Override
+        public void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+            }
+            release(key);
+        }
+    }
+
+    /**
+     * 生成压缩包的权利，内容写入临时文件，commit后才会加入缓存，未commit就close则丢弃
+     */
+    public class Claim implements Closeable {
+        private final String key;
+        private final CompletableFuture<Path> future;
+        private final Path tmpPath;
+        private final OutputStream outputStream;
+        private boolean committed;
+
+        private Claim(String key, CompletableFuture<Path> future) throws IOException {
+            this.key = key;
+            this.future = future;
+            this.tmpPath = cacheDir.resolve(key + "." + UUID.randomUUID() + ".tmp");
+            this.outputStream = Files.newOutputStream(tmpPath);
+        }
+
+        public OutputStream getOutputStream() {
+            return outputStream;
+        }
+
+        public Path commit() throws IOException {
+            outputStream.close();
+            Path archivePath = archivePath(key);
+            publish(key, tmpPath);
+            committed = true;
+            inFlight.remove(key, future);
+            future.complete(archivePath);
+            return archivePath;
+        }
+
+        @Override
+        public void close() {
+            if (committed) {
+                return;
+            }
+            try {
+                outputStream.close();
+                Files.deleteIfExists(tmpPath);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+            inFlight.remove(key, future);
+            future.completeExceptionally(new IOException("archive generation aborted"));
+        }
+    }
+}
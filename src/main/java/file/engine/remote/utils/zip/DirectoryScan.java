@@ -0,0 +1,54 @@
+package file.engine.remote.utils.zip;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 文件夹扫描结果
+ */
+@Getter
+public class DirectoryScan {
+    /**
+     * 所有文件的总大小，超过限制时为停止扫描前统计到的大小
+     */
+    private final long totalSize;
+    /**
+     * 文件数量
+     */
+    private final int fileCount;
+    /**
+     * 由所有文件的相对路径、大小和修改时间计算出的指纹，文件夹内容不变时指纹不变，超过限制时为null
+     */
+    private final String fingerprint;
+    /**
+     * 总大小是否超过限制
+     */
+    private final boolean exceeded;
+    /**
+     * 扫描到的最大的几个文件，从大到小排列
+     */
+    private final List<FileEntry> largestEntries;
+
+    DirectoryScan(long totalSize, int fileCount, String fingerprint, boolean exceeded, List<FileEntry> largestEntries) {
+        this.totalSize = totalSize;
+        this.fileCount = fileCount;
+        this.fingerprint = fingerprint;
+        this.exceeded = exceeded;
+        this.largestEntries = List.copyOf(largestEntries);
+    }
+
+    @Getter
+    public static class FileEntry {
+        /**
+         * 相对于扫描文件夹的路径
+         */
+        private final String path;
+        private final long size;
+
+        FileEntry(String path, long size) {
+            this.path = path;
+            this.size = size;
+        }
+    }
+}
@@ -1,12 +1,33 @@
 package file.engine.remote.utils.zip;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
-import java.util.LinkedList;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.Deflater;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
 public final class FileZipUtil {
+    private static final int LARGEST_ENTRIES_NUM = 10;
+    private static final ForkJoinPool SCAN_POOL = new ForkJoinPool(Math.max(4, Runtime.getRuntime().availableProcessors() * 2));
 
     private FileZipUtil() {
     }
@@ -19,34 +40,206 @@ public final class FileZipUtil {
      * @throws IOException exception
      */
     public static boolean checkFilesSize(String dir, long maxSizeInBytes) throws IOException {
-        LinkedList<File> paths = new LinkedList<>();
-        paths.add(new File(dir));
-        long totalBytes = 0;
-        do {
-            File poll = paths.poll();
-            if (poll.isDirectory()) {
-                File[] files = poll.listFiles();
-                if (files == null || files.length == 0) {
-                    continue;
+        Path path = Path.of(dir);
+        if (!Files.isDirectory(path)) {
+            return Files.size(path) <= maxSizeInBytes;
+        }
+        return !scanDirectory(path, maxSizeInBytes).isExceeded();
+    }
+
+    /**
+     * 扫描文件夹，统计文件大小并计算文件夹指纹，各个子文件夹并行扫描，总大小超过限制时所有分支立即停止
+     * <p>
+     * 与压缩时相同，符号链接会被跟随，统计的是链接目标的大小，指向上层文件夹的链接被跳过
+     *
+     * @param dir            文件夹
+     * @param maxSizeInBytes 最大允许大小
+     * @return 扫描结果，超过最大允许大小时isExceeded为true，只包含停止前统计到的文件
+     * @throws IOException exception
+     */
+    public static DirectoryScan scanDirectory(Path dir, long maxSizeInBytes) throws IOException {
+        return scanDirectory(dir, maxSizeInBytes, "");
+    }
+
+    /**
+     * 扫描文件夹，指纹中同时包含压缩设置，设置不同的压缩包不会共用缓存
+     *
+     * @param dir            文件夹
+     * @param maxSizeInBytes 最大允许大小
+     * @param formatKey      影响压缩包内容的设置，见{@link ParallelZipWriter#getFormatKey()}
+     * @return 扫描结果，超过最大允许大小时isExceeded为true，只包含停止前统计到的文件
+     * @throws IOException exception
+     */
+    public static DirectoryScan scanDirectory(Path dir, long maxSizeInBytes, String formatKey) throws IOException {
+        ScanState state = new ScanState(dir, maxSizeInBytes);
+        try {
+            SCAN_POOL.invoke(new ScanTask(state, dir, Ancestors.of(dir.toFile())));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        List<DirectoryScan.FileEntry> largestEntries = new ArrayList<>(state.largestEntries);
+        largestEntries.sort(Comparator.comparingLong(DirectoryScan.FileEntry::getSize).reversed());
+        final long totalBytes = state.totalBytes.get();
+        if (state.exceeded) {
+            return new DirectoryScan(totalBytes, state.fileCount.intValue(), null, true, largestEntries);
+        }
+        return new DirectoryScan(totalBytes, state.fileCount.intValue(), fingerprint(dir, formatKey, new ArrayList<>(state.entries)), false, largestEntries);
+    }
+
+    /**
+     * 一次扫描中所有分支共享的统计数据
+     */
+    private static class ScanState {
+        private final Path root;
+        private final long maxSizeInBytes;
+        private final AtomicLong totalBytes = new AtomicLong();
+        private final LongAdder fileCount = new LongAdder();
+        private final ConcurrentLinkedQueue<String> entries = new ConcurrentLinkedQueue<>();
+        private final PriorityQueue<DirectoryScan.FileEntry> largestEntries =
+                new PriorityQueue<>(Comparator.comparingLong(DirectoryScan.FileEntry::getSize));
+        private volatile boolean exceeded;
+
+        private ScanState(Path root, long maxSizeInBytes) {
+            this.root = root;
+            this.maxSizeInBytes = maxSizeInBytes;
+        }
+
+        private void addFile(Path file, BasicFileAttributes attrs) {
+            final long size = attrs.size();
+            if (totalBytes.addAndGet(size) > maxSizeInBytes) {
+                exceeded = true;
+            }
+            fileCount.increment();
+            String relativePath = root.relativize(file).toString();
+            entries.add(relativePath + "|" + size + "|" + attrs.lastModifiedTime().toMillis());
+            synchronized (largestEntries) {
+                if (largestEntries.size() < LARGEST_ENTRIES_NUM) {
+                    largestEntries.add(new DirectoryScan.FileEntry(relativePath, size));
+                } else if (largestEntries.peek().getSize() < size) {
+                    largestEntries.poll();
+                    largestEntries.add(new DirectoryScan.FileEntry(relativePath, size));
                 }
-                for (File file : files) {
-                    if (file.isFile()) {
-                        totalBytes += Files.size(file.toPath());
-                        if (totalBytes > maxSizeInBytes) {
-                            return false;
+            }
+        }
+    }
+
+    /**
+     * 扫描一层文件夹，子文件夹fork为新的任务
+     */
+    private static class ScanTask extends RecursiveAction {
+        private final ScanState state;
+        private final Path dir;
+        private final Ancestors ancestors;
+
+        private ScanTask(ScanState state, Path dir, Ancestors ancestors) {
+            this.state = state;
+            this.dir = dir;
+            this.ancestors = ancestors;
+        }
+
+        @Override
+        protected void compute() {
+            if (state.exceeded) {
+                return;
+            }
+            ArrayList<ScanTask> subTasks = new ArrayList<>();
+            try {
+                // 只遍历一层，子文件夹会作为visitFile的参数，跟随符号链接时属性为链接目标的属性
+                Files.walkFileTree(dir, EnumSet.of(FileVisitOption.FOLLOW_LINKS), 1, new SimpleFileVisitor<>() {
+                    @Override
+                    public FileVisitResult preVisitDirectory(Path subDir, BasicFileAttributes attrs) {
+                        state.entries.add(state.root.relativize(subDir) + "|dir");
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                        if (state.exceeded) {
+                            return FileVisitResult.TERMINATE;
                         }
-                    } else {
-                        paths.add(file);
+                        if (attrs.isDirectory()) {
+                            Ancestors subAncestors = ancestors.enter(file.toFile());
+                            if (subAncestors != null) {
+                                ScanTask subTask = new ScanTask(state, file, subAncestors);
+                                subTask.fork();
+                                subTasks.add(subTask);
+                            }
+                        } else if (!attrs.isSymbolicLink()) {
+                            // 跟随后仍是符号链接说明链接目标不存在，压缩时同样跳过
+                            state.addFile(file, attrs);
+                        }
+                        return FileVisitResult.CONTINUE;
                     }
-                }
-            } else {
-                totalBytes += Files.size(poll.toPath());
-                if (totalBytes > maxSizeInBytes) {
-                    return false;
+
+                    @Override
+                    public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            for (ScanTask subTask : subTasks) {
+                subTask.join();
+            }
+        }
+    }
+
+    /**
+     * 从扫描或压缩的根文件夹到当前文件夹的真实路径，用于跳过指向上层文件夹的符号链接，避免无限递归
+     * <p>
+     * 扫描和压缩使用相同的规则，保证统计的大小和指纹与压缩包中的内容一致
+     */
+    static final class Ancestors {
+        private final Path realPath;
+        private final Ancestors parent;
+
+        Ancestors(Path realPath, Ancestors parent) {
+            this.realPath = realPath;
+            this.parent = parent;
+        }
+
+        static Ancestors of(File root) throws IOException {
+            return new Ancestors(root.toPath().toRealPath(), null);
+        }
+
+        /**
+         * 进入子文件夹
+         *
+         * @param dir 子文件夹
+         * @return 子文件夹是当前文件夹或其上层文件夹时返回null
+         */
+        Ancestors enter(File dir) {
+            Path real;
+            try {
+                real = dir.toPath().toRealPath();
+            } catch (IOException e) {
+                return null;
+            }
+            for (Ancestors each = this; each != null; each = each.parent) {
+                if (each.realPath.equals(real)) {
+                    return null;
                 }
             }
-        } while (!paths.isEmpty());
-        return true;
+            return new Ancestors(real, this);
+        }
+    }
+
+    private static String fingerprint(Path dir, String formatKey, List<String> entries) {
+        entries.sort(null);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(formatKey.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            digest.update(dir.toAbsolutePath().toString().getBytes(StandardCharsets.UTF_8));
+            for (String entry : entries) {
+                digest.update((byte) '\n');
+                digest.update(entry.getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
     }
 
     /**
@@ -71,14 +264,34 @@ public final class FileZipUtil {
         //zip文件生成位置
         File zipFile = new File(fileName);
         FileOutputStream fos = new FileOutputStream(zipFile);
-        ZipOutputStream zos = new ZipOutputStream(new BufferedOutputStream(fos));
-        try (fos; zos) {
-            fileToZip(zos, sourceFile, "");
+        try (fos) {
+            fileToZip(sourceFile, fos);
         }
     }
 
+    /**
+     * 将文件夹压缩后写入输出流，不关闭outputStream
+     */
+    public static void fileToZip(File sourceFile, OutputStream outputStream) throws Exception {
+        fileToZip(sourceFile, outputStream, Deflater.DEFAULT_COMPRESSION);
+    }
 
-    private static void fileToZip(ZipOutputStream zos, File sourceFile, String path) throws Exception {
+    /**
+     * 将文件夹以指定压缩等级压缩后写入输出流，不关闭outputStream
+     */
+    public static void fileToZip(File sourceFile, OutputStream outputStream, int level) throws Exception {
+        if (!sourceFile.isDirectory()) {
+            throw new RuntimeException("不是文件夹");
+        }
+        ZipOutputStream zos = new ZipOutputStream(new BufferedOutputStream(outputStream));
+        zos.setLevel(level);
+        fileToZip(zos, sourceFile, "", Ancestors.of(sourceFile));
+        zos.finish();
+        zos.flush();
+    }
+
+
+    private static void fileToZip(ZipOutputStream zos, File sourceFile, String path, Ancestors ancestors) throws Exception {
         //如果是文件夹只创建zip实体即可，如果是文件，创建zip实体后还要读取文件内容并写入
         if (sourceFile.isDirectory()) {
             path = path + sourceFile.getName() + File.separator;
@@ -87,7 +300,14 @@ public final class FileZipUtil {
             File[] files = sourceFile.listFiles();
             if (null != files) {
                 for (File file : files) {
-                    fileToZip(zos, file, path);
+                    if (file.isDirectory()) {
+                        Ancestors subAncestors = ancestors.enter(file);
+                        if (subAncestors != null) {
+                            fileToZip(zos, file, path, subAncestors);
+                        }
+                    } else if (file.exists()) {
+                        fileToZip(zos, file, path, ancestors);
+                    }
                 }
             }
         } else {
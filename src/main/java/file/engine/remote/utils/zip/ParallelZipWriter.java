@@ -0,0 +1,498 @@
+package file.engine.remote.utils.zip;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * 多线程压缩文件夹
+ * <p>
+ * 文件按1MB分块后在线程池中并行deflate，每块使用前一块末尾32KB作为预置字典，块之间使用SYNC_FLUSH对齐，
+ * 按原顺序拼接后仍是一个完整的deflate流。已经是压缩格式的文件直接存储（STORED）。
+ * 同时在途的分块数量有上限，内存占用不随文件夹大小增长。
+ * 文件夹总大小低于阈值，或者需要zip64时，使用单线程的ZipOutputStream
+ */
+public class ParallelZipWriter {
+    private static final int CHUNK_SIZE = 1024 * 1024;
+    private static final int DICTIONARY_SIZE = 32 * 1024;
+    private static final long MAX_PARALLEL_TOTAL_SIZE = Integer.MAX_VALUE;
+    private static final int MAX_PARALLEL_ENTRIES = 0xFFFF;
+    private static final int FLAG_DATA_DESCRIPTOR = 0x08;
+    private static final int FLAG_UTF8 = 0x800;
+    private static final int METHOD_STORED = 0;
+    private static final int METHOD_DEFLATED = 8;
+    private static final Set<String> COMPRESSED_SUFFIXES = Set.of(
+            "zip", "7z", "rar", "gz", "tgz", "bz2", "xz", "zst", "cab", "jar", "apk",
+            "jpg", "jpeg", "png", "gif", "webp", "heic",
+            "mp3", "aac", "ogg", "flac", "m4a", "wma",
+            "mp4", "mkv", "avi", "mov", "wmv", "flv", "webm",
+            "docx", "xlsx", "pptx");
+    private final ForkJoinPool pool;
+    private final int parallelism;
+    private final int level;
+    private final long parallelThreshold;
+
+    /**
+     * @param parallelism       压缩线程数
+     * @param level             压缩等级，0为全部直接存储，-1为默认等级
+     * @param parallelThreshold 文件夹总大小达到该值时才使用多线程压缩
+     */
+    public ParallelZipWriter(int parallelism, int level, long parallelThreshold) {
+        this.parallelism = Math.max(1, parallelism);
+        this.pool = new ForkJoinPool(this.parallelism);
+        this.level = level;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * 将文件夹压缩后写入输出流，不关闭outputStream
+     *
+     * @param sourceFile   文件夹
+     * @param outputStream 输出
+     * @return 压缩包大小
+     * @throws Exception 压缩失败
+     */
+    public long write(File sourceFile, OutputStream outputStream) throws Exception {
+        if (!sourceFile.isDirectory()) {
+            throw new RuntimeException("不是文件夹");
+        }
+        List<ZipItem> items = new ArrayList<>();
+        long totalSize = collect(sourceFile, "", items, FileZipUtil.Ancestors.of(sourceFile));
+        if (totalSize < parallelThreshold || totalSize > MAX_PARALLEL_TOTAL_SIZE || items.size() > MAX_PARALLEL_ENTRIES) {
+            CountingOutputStream out = new CountingOutputStream(outputStream);
+            FileZipUtil.fileToZip(sourceFile, out, level);
+            return out.count;
+        }
+        CountingOutputStream out = new CountingOutputStream(new BufferedOutputStream(outputStream, 64 * 1024));
+        writeEntries(items, out);
+        writeCentralDirectory(items, out);
+        out.flush();
+        return out.count;
+    }
+
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * 影响压缩包内容的设置，计算压缩包缓存的key时加入，修改压缩等级或直接存储的后缀后不会使用旧的缓存
+     *
+     * @return 压缩等级和直接存储的后缀
+     */
+    public String getFormatKey() {
+        return "level=" + level + ";stored=" + String.join(",", new TreeSet<>(COMPRESSED_SUFFIXES));
+    }
+
+    /**
+     * 按FileZipUtil相同的顺序和命名收集压缩包中的条目
+     */
+    private long collect(File file, String path, List<ZipItem> items, FileZipUtil.Ancestors ancestors) {
+        if (file.isDirectory()) {
+            path = path + file.getName() + File.separator;
+            items.add(new ZipItem(path, file, true, 0, file.lastModified(), false));
+            long total = 0;
+            File[] files = file.listFiles();
+            if (files != null) {
+                for (File each : files) {
+                    if (each.isDirectory()) {
+                        FileZipUtil.Ancestors subAncestors = ancestors.enter(each);
+                        if (subAncestors != null) {
+                            total += collect(each, path, items, subAncestors);
+                        }
+                    } else if (each.exists()) {
+                        total += collect(each, path, items, ancestors);
+                    }
+                }
+            }
+            return total;
+        }
+        final long size = file.length();
+        items.add(new ZipItem(path + file.getName(), file, false, size, file.lastModified(), level == 0 || isCompressed(file.getName())));
+        return size;
+    }
+
+    private static boolean isCompressed(String fileName) {
+        final int i = fileName.lastIndexOf('.');
+        return i != -1 && COMPRESSED_SUFFIXES.contains(fileName.substring(i + 1).toLowerCase(Locale.ROOT));
+    }
+
+    private void writeEntries(List<ZipItem> items, CountingOutputStream out) throws Exception {
+        Iterator<Work> works = works(items);
+        ArrayDeque<Pending> window = new ArrayDeque<>();
+        final int maxInFlight = parallelism * 4;
+        try {
+            while (works.hasNext() || !window.isEmpty()) {
+                while (window.size() < maxInFlight && works.hasNext()) {
+                    Work work = works.next();
+                    window.add(new Pending(work, work.task == null ? null : pool.submit(work.task)));
+                }
+                Pending pending = window.poll();
+                writeWork(pending, out);
+            }
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        } finally {
+            for (Pending pending : window) {
+                if (pending.future != null) {
+                    pending.future.cancel(true);
+                }
+            }
+        }
+    }
+
+    private void writeWork(Pending pending, CountingOutputStream out) throws Exception {
+        Work work = pending.work;
+        ZipItem item = work.item;
+        if (item.isDirectory) {
+            item.localHeaderOffset = out.count;
+            writeLocalHeader(out, item, 0, METHOD_STORED, 0, 0, 0);
+            return;
+        }
+        if (item.stored) {
+            final int crc = ((Long) pending.future.get()).intValue();
+            item.localHeaderOffset = out.count;
+            item.crc = crc;
+            item.compressedSize = item.size;
+            writeLocalHeader(out, item, 0, METHOD_STORED, crc, item.size, item.size);
+            copyFile(item, out);
+            return;
+        }
+        Chunk chunk = (Chunk) pending.future.get();
+        final boolean single = work.chunkCount == 1;
+        if (work.chunkIndex == 0) {
+            item.localHeaderOffset = out.count;
+            item.flags = single ? 0 : FLAG_DATA_DESCRIPTOR;
+            if (single) {
+                writeLocalHeader(out, item, item.flags, METHOD_DEFLATED, chunk.crc, chunk.length, chunk.uncompressedLength);
+            } else {
+                writeLocalHeader(out, item, item.flags, METHOD_DEFLATED, 0, 0, 0);
+            }
+        }
+        out.write(chunk.data, 0, chunk.length);
+        item.crc = (int) crc32Combine(item.crc & 0xFFFFFFFFL, chunk.crc & 0xFFFFFFFFL, chunk.uncompressedLength);
+        item.compressedSize += chunk.length;
+        item.uncompressedSize += chunk.uncompressedLength;
+        if (work.chunkIndex == work.chunkCount - 1) {
+            item.size = item.uncompressedSize;
+            if (!single) {
+                writeInt(out, 0x08074b50);
+                writeInt(out, item.crc);
+                writeInt(out, (int) item.compressedSize);
+                writeInt(out, (int) item.size);
+            }
+        }
+    }
+
+    private Iterator<Work> works(List<ZipItem> items) {
+        List<Work> works = new ArrayList<>();
+        for (ZipItem item : items) {
+            if (item.isDirectory) {
+                works.add(new Work(item, 0, 1, null));
+            } else if (item.stored) {
+                works.add(new Work(item, 0, 1, () -> crcOf(item)));
+            } else {
+                final int chunkCount = (int) Math.max(1, (item.size + CHUNK_SIZE - 1) / CHUNK_SIZE);
+                for (int i = 0; i < chunkCount; i++) {
+                    final int chunkIndex = i;
+                    works.add(new Work(item, chunkIndex, chunkCount, () -> deflateChunk(item, chunkIndex, chunkCount)));
+                }
+            }
+        }
+        return works.iterator();
+    }
+
+    private static Long crcOf(ZipItem item) throws IOException {
+        CRC32 crc32 = new CRC32();
+        try (FileChannel channel = FileChannel.open(item.file.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+            long remaining = item.size;
+            while (remaining > 0) {
+                buffer.clear().limit((int) Math.min(buffer.capacity(), remaining));
+                if (channel.read(buffer) == -1) {
+                    throw new IOException("file changed while compressing: " + item.file);
+                }
+                buffer.flip();
+                remaining -= buffer.remaining();
+                crc32.update(buffer);
+            }
+        }
+        return crc32.getValue();
+    }
+
+    private Chunk deflateChunk(ZipItem item, int chunkIndex, int chunkCount) throws IOException {
+        final long start = (long) chunkIndex * CHUNK_SIZE;
+        final int length = (int) Math.max(0, Math.min(CHUNK_SIZE, item.size - start));
+        final boolean last = chunkIndex == chunkCount - 1;
+        byte[] input = new byte[length];
+        byte[] dictionary = null;
+        int read;
+        try (FileChannel channel = FileChannel.open(item.file.toPath(), StandardOpenOption.READ)) {
+            if (chunkIndex > 0) {
+                dictionary = new byte[(int) Math.min(DICTIONARY_SIZE, start)];
+                readFully(channel, dictionary, start - dictionary.length);
+            }
+            read = readFully(channel, input, start);
+        }
+        CRC32 crc32 = new CRC32();
+        crc32.update(input, 0, read);
+        Deflater deflater = new Deflater(level, true);
+        try {
+            if (dictionary != null) {
+                deflater.setDictionary(dictionary);
+            }
+            deflater.setInput(input, 0, read);
+            byte[] output = new byte[Math.max(64, read + read / 1000 + 64)];
+            int outputLength = 0;
+            if (last) {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    if (outputLength == output.length) {
+                        output = Arrays.copyOf(output, output.length * 2);
+                    }
+                    outputLength += deflater.deflate(output, outputLength, output.length - outputLength);
+                }
+            } else {
+                int produced;
+                do {
+                    if (outputLength == output.length) {
+                        output = Arrays.copyOf(output, output.length * 2);
+                    }
+                    final int space = output.length - outputLength;
+                    produced = deflater.deflate(output, outputLength, space, Deflater.SYNC_FLUSH);
+                    outputLength += produced;
+                    if (produced < space) {
+                        break;
+                    }
+                } while (true);
+            }
+            return new Chunk(output, outputLength, (int) crc32.getValue(), read);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static int readFully(FileChannel channel, byte[] bytes, long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) == -1) {
+                break;
+            }
+        }
+        return buffer.position();
+    }
+
+    private static void copyFile(ZipItem item, OutputStream out) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(item.file.toPath())) {
+            byte[] buffer = new byte[64 * 1024];
+            long remaining = item.size;
+            while (remaining > 0) {
+                int read = inputStream.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (read == -1) {
+                    throw new IOException("file changed while compressing: " + item.file);
+                }
+                out.write(buffer, 0, read);
+                remaining -= read;
+            }
+        }
+    }
+
+    private static void writeLocalHeader(OutputStream out, ZipItem item, int flags, int method, int crc,
+                                         long compressedSize, long size) throws IOException {
+        item.method = method;
+        item.flags = flags;
+        writeInt(out, 0x04034b50);
+        writeShort(out, 20);
+        writeShort(out, flags | FLAG_UTF8);
+        writeShort(out, method);
+        writeInt(out, item.dosTime);
+        writeInt(out, crc);
+        writeInt(out, (int) compressedSize);
+        writeInt(out, (int) size);
+        writeShort(out, item.name.length);
+        writeShort(out, 0);
+        out.write(item.name);
+    }
+
+    private static void writeCentralDirectory(List<ZipItem> items, CountingOutputStream out) throws IOException {
+        final long start = out.count;
+        for (ZipItem item : items) {
+            writeInt(out, 0x02014b50);
+            writeShort(out, 20);
+            writeShort(out, 20);
+            writeShort(out, item.flags | FLAG_UTF8);
+            writeShort(out, item.method);
+            writeInt(out, item.dosTime);
+            writeInt(out, item.crc);
+            writeInt(out, (int) item.compressedSize);
+            writeInt(out, (int) item.size);
+            writeShort(out, item.name.length);
+            writeShort(out, 0);
+            writeShort(out, 0);
+            writeShort(out, 0);
+            writeShort(out, 0);
+            writeInt(out, item.isDirectory ? 0x10 : 0);
+            writeInt(out, (int) item.localHeaderOffset);
+            out.write(item.name);
+        }
+        final long size = out.count - start;
+        writeInt(out, 0x06054b50);
+        writeShort(out, 0);
+        writeShort(out, 0);
+        writeShort(out, items.size());
+        writeShort(out, items.size());
+        writeInt(out, (int) size);
+        writeInt(out, (int) start);
+        writeShort(out, 0);
+    }
+
+    private static void writeShort(OutputStream out, int v) throws IOException {
+        out.write(v & 0xff);
+        out.write((v >>> 8) & 0xff);
+    }
+
+    private static void writeInt(OutputStream out, int v) throws IOException {
+        writeShort(out, v & 0xffff);
+        writeShort(out, (v >>> 16) & 0xffff);
+    }
+
+    private static int toDosTime(long millis) {
+        LocalDateTime time = LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+        if (time.getYear() < 1980) {
+            return (1 << 21) | (1 << 16);
+        }
+        return (time.getYear() - 1980) << 25 | time.getMonthValue() << 21 | time.getDayOfMonth() << 16 |
+                time.getHour() << 11 | time.getMinute() << 5 | time.getSecond() >> 1;
+    }
+
+    /**
+     * 合并两段数据的CRC32，算法来自zlib的crc32_combine
+     */
+    static long crc32Combine(long crc1, long crc2, long len2) {
+        if (len2 <= 0) {
+            return crc1;
+        }
+        long[] even = new long[32];
+        long[] odd = new long[32];
+        odd[0] = 0xedb88320L;
+        long row = 1;
+        for (int n = 1; n < 32; n++) {
+            odd[n] = row;
+            row <<= 1;
+        }
+        gf2MatrixSquare(even, odd);
+        gf2MatrixSquare(odd, even);
+        do {
+            gf2MatrixSquare(even, odd);
+            if ((len2 & 1) != 0) {
+                crc1 = gf2MatrixTimes(even, crc1);
+            }
+            len2 >>= 1;
+            if (len2 == 0) {
+                break;
+            }
+            gf2MatrixSquare(odd, even);
+            if ((len2 & 1) != 0) {
+                crc1 = gf2MatrixTimes(odd, crc1);
+            }
+            len2 >>= 1;
+        } while (len2 != 0);
+        return crc1 ^ crc2;
+    }
+
+    private static long gf2MatrixTimes(long[] mat, long vec) {
+        long sum = 0;
+        int i = 0;
+        while (vec != 0) {
+            if ((vec & 1) != 0) {
+                sum ^= mat[i];
+            }
+            vec >>>= 1;
+            i++;
+        }
+        return sum;
+    }
+
+    private static void gf2MatrixSquare(long[] square, long[] mat) {
+        for (int n = 0; n < 32; n++) {
+            square[n] = gf2MatrixTimes(mat, mat[n]);
+        }
+    }
+
+    private static class ZipItem {
+        private final byte[] name;
+        private final File file;
+        private final boolean isDirectory;
+        private final int dosTime;
+        private final boolean stored;
+        private long size;
+        private long uncompressedSize;
+        private long compressedSize;
+        private int crc;
+        private int method;
+        private int flags;
+        private long localHeaderOffset;
+
+        private ZipItem(String name, File file, boolean isDirectory, long size, long lastModified, boolean stored) {
+            this.name = name.getBytes(StandardCharsets.UTF_8);
+            this.file = file;
+            this.isDirectory = isDirectory;
+            this.size = size;
+            this.dosTime = toDosTime(lastModified);
+            this.stored = stored;
+        }
+    }
+
+    private record Work(ZipItem item, int chunkIndex, int chunkCount, Callable<?> task) {
+    }
+
+    private record Pending(Work work, Future<?> future) {
+    }
+
+    private record Chunk(byte[] data, int length, int crc, int uncompressedLength) {
+    }
+
+    private static class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        private CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
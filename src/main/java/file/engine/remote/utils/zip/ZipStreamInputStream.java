@@ -0,0 +1,213 @@
+package file.engine.remote.utils.zip;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 边压缩边读取的zip流，压缩在后台线程中进行，读取端可以直接作为http响应的数据
+ * <p>
+ * 压缩失败时读取端会抛出异常而不是正常结束，避免客户端收到一个被截断但看似完整的压缩包
+ * <p>
+ * 读写两端通过环形缓冲区传递数据，使用ReentrantLock而不是PipedInputStream的synchronized和wait，
+ * 使用虚拟线程时等待不会占住载体线程
+ */
+public class ZipStreamInputStream extends InputStream {
+    private static final int PIPE_SIZE = 64 * 1024;
+    private final byte[] buffer = new byte[PIPE_SIZE];
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private int readPos;
+    private int count;
+    private boolean writerClosed;
+    private boolean readerClosed;
+    private volatile IOException failure;
+
+    private ZipStreamInputStream() {
+    }
+
+    /**
+     * 开始在后台压缩文件夹
+     *
+     * @param zipWriter  将压缩包写入输出流
+     * @param executor   执行压缩的线程池
+     * @param cacheClaim 不为null时同时将压缩包写入缓存，压缩完成后加入缓存
+     * @return 压缩包数据
+     * @throws IOException 创建管道失败
+     */
+    public static ZipStreamInputStream open(ArchiveCache.ArchiveWriter zipWriter, Executor executor,
+                                            ArchiveCache.Claim cacheClaim) throws IOException {
+        ZipStreamInputStream inputStream = new ZipStreamInputStream();
+        OutputStream outputStream = inputStream.new PipeOutputStream();
+        executor.execute(() -> {
+            try {
+                if (cacheClaim == null) {
+                    zipWriter.write(outputStream);
+                } else {
+                    try (cacheClaim) {
+                        zipWriter.write(new TeeOutputStream(outputStream, cacheClaim.getOutputStream()));
+                        cacheClaim.commit();
+                    }
+                }
+            } catch (Exception e) {
+                inputStream.failure = e instanceof IOException ioException ? ioException : new IOException(e);
+            } finally {
+                // 先记录异常再关闭，读取端读到结尾时才能看到异常
+                try {
+                    outputStream.close();
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+        });
+        return inputStream;
+    }
+
+    /**
+     * 同时写入两个输出流
+     */
+    private static class TeeOutputStream extends FilterOutputStream {
+        private final OutputStream branch;
+
+        private TeeOutputStream(OutputStream out, OutputStream branch) {
+            super(out);
+            this.branch = branch;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            branch.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            branch.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+            branch.flush();
+        }
+    }
+
+    /**
+     * 管道的写入端，缓冲区已满时等待读取端取走数据，读取端关闭后写入失败
+     */
+    private class PipeOutputStream extends OutputStream {
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            lock.lock();
+            try {
+                while (len > 0) {
+                    while (count == buffer.length && !readerClosed) {
+                        notFull.await();
+                    }
+                    if (readerClosed || writerClosed) {
+                        throw new IOException("Pipe closed");
+                    }
+                    final int writePos = (readPos + count) % buffer.length;
+                    final int n = Math.min(len, Math.min(buffer.length - count, buffer.length - writePos));
+                    System.arraycopy(b, off, buffer, writePos, n);
+                    count += n;
+                    off += n;
+                    len -= n;
+                    notEmpty.signal();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void close() {
+            lock.lock();
+            try {
+                writerClosed = true;
+                notEmpty.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        return read(b, 0, 1) == -1 ? -1 : b[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        lock.lock();
+        try {
+            while (count == 0 && !writerClosed && !readerClosed) {
+                notEmpty.await();
+            }
+            if (readerClosed) {
+                throw new IOException("Pipe closed");
+            }
+            if (count == 0) {
+                if (failure != null) {
+                    throw failure;
+                }
+                return -1;
+            }
+            final int n = Math.min(len, Math.min(count, buffer.length - readPos));
+            System.arraycopy(buffer, readPos, b, off, n);
+            readPos = (readPos + n) % buffer.length;
+            count -= n;
+            notFull.signal();
+            return n;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int available() {
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 关闭读取端，正在写入的压缩线程会收到异常并停止压缩
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            readerClosed = true;
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
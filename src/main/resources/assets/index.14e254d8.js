@@ -51,4 +51,4 @@ var r_=(e,t)=>()=>(t||e((t={exports:{}}).exports,t),t.exports);var W5e=r_((Pn,In
  * Copyright(c) 2015 Tiancheng "Timothy" Gu
  * MIT Licensed
  */var B3e=/["'&<>]/,D3e=F3e;function F3e(e){var t=""+e,n=B3e.exec(t);if(!n)return t;var o,r="",l=0,a=0;for(l=n.index;l<t.length;l++){switch(t.charCodeAt(l)){case 34:o="&quot;";break;case 38:o="&amp;";break;case 39:o="&#39;";break;case 60:o="&lt;";break;case 62:o="&gt;";break;default:continue}a!==l&&(r+=t.substring(a,l)),a=l+1,r+=o}return a!==l?r+t.substring(a,l):r}const Fc=function(e){var t;return(t=e.target)==null?void 0:t.closest("td")},Ah=function(e){return e!==null&&typeof e=="object"},K3e=function(e,t,n,o,r){if(!t&&!o&&(!r||Array.isArray(r)&&!r.length))return e;typeof n=="string"?n=n==="descending"?-1:1:n=n&&n<0?-1:1;const l=o?null:function(s,u){return r?(Array.isArray(r)||(r=[r]),r.map(c=>typeof c=="string"?Ot(s,c):c(s,u,e))):(t!=="$key"&&Ah(s)&&"$value"in s&&(s=s.$value),[Ah(s)?Ot(s,t):s])},a=function(s,u){if(o)return o(s.value,u.value);for(let c=0,d=s.key.length;c<d;c++){if(s.key[c]<u.key[c])return-1;if(s.key[c]>u.key[c])return 1}return 0};return e.map((s,u)=>({value:s,index:u,key:l?l(s,u):null})).sort((s,u)=>{let c=a(s,u);return c||(c=s.index-u.index),c*+n}).map(s=>s.value)},e8=function(e,t){let n=null;return e.columns.forEach(o=>{o.id===t&&(n=o)}),n},W3e=function(e,t){let n=null;for(let o=0;o<e.columns.length;o++){const r=e.columns[o];if(r.columnKey===t){n=r;break}}return n},Nh=function(e,t,n){const o=(t.className||"").match(new RegExp(`${n}-table_[^\\s]+`,"gm"));return o?e8(e,o[0]):null},nn=(e,t)=>{if(!e)throw new Error("Row is required when get row identity");if(typeof t=="string"){if(!t.includes("."))return`${e[t]}`;const n=t.split(".");let o=e;for(const r of n)o=o[r];return`${o}`}else if(typeof t=="function")return t.call(null,e)},Gr=function(e,t){const n={};return(e||[]).forEach((o,r)=>{n[nn(o,t)]={row:o,index:r}}),n};function j3e(e,t){const n={};let o;for(o in e)n[o]=e[o];for(o in t)if(ct(t,o)){const r=t[o];typeof r<"u"&&(n[o]=r)}return n}function f2(e){return e===""||e!==void 0&&(e=Number.parseInt(e,10),Number.isNaN(e)&&(e="")),e}function t8(e){return e===""||e!==void 0&&(e=f2(e),Number.isNaN(e)&&(e=80)),e}function q3e(e){return typeof e=="number"?e:typeof e=="string"?/^\d+(?:px)?$/.test(e)?Number.parseInt(e,10):e:null}function U3e(...e){return e.length===0?t=>t:e.length===1?e[0]:e.reduce((t,n)=>(...o)=>t(n(...o)))}function Pi(e,t,n){let o=!1;const r=e.indexOf(t),l=r!==-1,a=()=>{e.push(t),o=!0},s=()=>{e.splice(r,1),o=!0};return typeof n=="boolean"?n&&!l?a():!n&&l&&s():l?s():a(),o}function Y3e(e,t,n="children",o="hasChildren"){const r=a=>!(Array.isArray(a)&&a.length);function l(a,s,u){t(a,s,u),s.forEach(c=>{if(c[o]){t(c,null,u+1);return}const d=c[n];r(d)||l(c,d,u+1)})}e.forEach(a=>{if(a[o]){t(a,null,0);return}const s=a[n];r(s)||l(a,s,0)})}let Oo;function G3e(e,t,n,o,r){const{nextZIndex:l}=tr(),a=e==null?void 0:e.dataset.prefix,s=e==null?void 0:e.querySelector(`.${a}-scrollbar__wrap`);function u(){const m=r==="light",v=document.createElement("div");return v.className=`${a}-popper ${m?"is-light":"is-dark"}`,n=D3e(n),v.innerHTML=n,v.style.zIndex=String(l()),e==null||e.appendChild(v),v}function c(){const m=document.createElement("div");return m.className=`${a}-popper__arrow`,m}function d(){f&&f.update()}Oo==null||Oo(),Oo=()=>{try{f&&f.destroy(),p&&(e==null||e.removeChild(p)),t.removeEventListener("mouseenter",d),t.removeEventListener("mouseleave",Oo),s==null||s.removeEventListener("scroll",Oo),Oo=void 0}catch{}};let f=null;const p=u(),h=c();return p.appendChild(h),f=e6(t,p,{strategy:"absolute",modifiers:[{name:"offset",options:{offset:[0,8]}},{name:"arrow",options:{element:h,padding:10}}],...o}),t.addEventListener("mouseenter",d),t.addEventListener("mouseleave",Oo),s==null||s.addEventListener("scroll",Oo),f}const n8=(e,t,n,o)=>{let r=0,l=e;if(o){if(o[e].colSpan>1)return{};for(let u=0;u<e;u++)r+=o[u].colSpan;l=r+o[e].colSpan-1}else r=e;let a;const s=n.states.columns;switch(t){case"left":l<n.states.fixedLeafColumnsLength.value&&(a="left");break;case"right":r>=s.value.length-n.states.rightFixedLeafColumnsLength.value&&(a="right");break;default:l<n.states.fixedLeafColumnsLength.value?a="left":r>=s.value.length-n.states.rightFixedLeafColumnsLength.value&&(a="right")}return a?{direction:a,start:r,after:l}:{}},p2=(e,t,n,o,r)=>{const l=[],{direction:a,start:s}=n8(t,n,o,r);if(a){const u=a==="left";l.push(`${e}-fixed-column--${a}`),u&&s===o.states.fixedLeafColumnsLength.value-1?l.push("is-last-column"):!u&&s===o.states.columns.value.length-o.states.rightFixedLeafColumnsLength.value&&l.push("is-first-column")}return l};function Oh(e,t){return e+(t.realWidth===null||Number.isNaN(t.realWidth)?Number(t.width):t.realWidth)}const h2=(e,t,n,o)=>{const{direction:r,start:l=0}=n8(e,t,n,o);if(!r)return;const a={},s=r==="left",u=n.states.columns.value;return s?a.left=u.slice(0,e).reduce(Oh,0):a.right=u.slice(l+1).reverse().reduce(Oh,0),a},_a=(e,t)=>{!e||Number.isNaN(e[t])||(e[t]=`${e[t]}px`)};function X3e(e){const t=nt(),n=N(!1),o=N([]);return{updateExpandRows:()=>{const u=e.data.value||[],c=e.rowKey.value;if(n.value)o.value=u.slice();else if(c){const d=Gr(o.value,c);o.value=u.reduce((f,p)=>{const h=nn(p,c);return d[h]&&f.push(p),f},[])}else o.value=[]},toggleRowExpansion:(u,c)=>{Pi(o.value,u,c)&&t.emit("expand-change",u,o.value.slice())},setExpandRowKeys:u=>{t.store.assertRowKey();const c=e.data.value||[],d=e.rowKey.value,f=Gr(c,d);o.value=u.reduce((p,h)=>{const m=f[h];return m&&p.push(m.row),p},[])},isRowExpanded:u=>{const c=e.rowKey.value;return c?!!Gr(o.value,c)[nn(u,c)]:o.value.includes(u)},states:{expandRows:o,defaultExpandAll:n}}}function J3e(e){const t=nt(),n=N(null),o=N(null),r=c=>{t.store.assertRowKey(),n.value=c,a(c)},l=()=>{n.value=null},a=c=>{const{data:d,rowKey:f}=e;let p=null;f.value&&(p=(i(d)||[]).find(h=>nn(h,f.value)===c)),o.value=p,t.emit("current-change",o.value,null)};return{setCurrentRowKey:r,restoreCurrentRowKey:l,setCurrentRowByKey:a,updateCurrentRow:c=>{const d=o.value;if(c&&c!==d){o.value=c,t.emit("current-change",o.value,d);return}!c&&d&&(o.value=null,t.emit("current-change",null,d))},updateCurrentRowData:()=>{const c=e.rowKey.value,d=e.data.value||[],f=o.value;if(!d.includes(f)&&f){if(c){const p=nn(f,c);a(p)}else o.value=null;o.value===null&&t.emit("current-change",null,f)}else n.value&&(a(n.value),l())},states:{_currentRowKey:n,currentRow:o}}}function Z3e(e){const t=N([]),n=N({}),o=N(16),r=N(!1),l=N({}),a=N("hasChildren"),s=N("children"),u=nt(),c=T(()=>{if(!e.rowKey.value)return{};const g=e.data.value||[];return f(g)}),d=T(()=>{const g=e.rowKey.value,w=Object.keys(l.value),_={};return w.length&&w.forEach(C=>{if(l.value[C].length){const S={children:[]};l.value[C].forEach(k=>{const M=nn(k,g);S.children.push(M),k[a.value]&&!_[M]&&(_[M]={children:[]})}),_[C]=S}}),_}),f=g=>{const w=e.rowKey.value,_={};return Y3e(g,(C,S,k)=>{const M=nn(C,w);Array.isArray(S)?_[M]={children:S.map(x=>nn(x,w)),level:k}:r.value&&(_[M]={children:[],lazy:!0,level:k})},s.value,a.value),_},p=(g=!1,w=(_=>(_=u.store)==null?void 0:_.states.defaultExpandAll.value)())=>{var _;const C=c.value,S=d.value,k=Object.keys(C),M={};if(k.length){const x=i(n),A=[],V=(R,H)=>{if(g)return t.value?w||t.value.includes(H):!!(w||(R==null?void 0:R.expanded));{const L=w||t.value&&t.value.includes(H);return!!((R==null?void 0:R.expanded)||L)}};k.forEach(R=>{const H=x[R],L={...C[R]};if(L.expanded=V(H,R),L.lazy){const{loaded:K=!1,loading:O=!1}=H||{};L.loaded=!!K,L.loading=!!O,A.push(R)}M[R]=L});const F=Object.keys(S);r.value&&F.length&&A.length&&F.forEach(R=>{const H=x[R],L=S[R].children;if(A.includes(R)){if(M[R].children.length!==0)throw new Error("[ElTable]children must be an empty array.");M[R].children=L}else{const{loaded:K=!1,loading:O=!1}=H||{};M[R]={lazy:!0,loaded:!!K,loading:!!O,expanded:V(H,R),children:L,level:""}}})}n.value=M,(_=u.store)==null||_.updateTableScrollY()};ye(()=>t.value,()=>{p(!0)}),ye(()=>c.value,()=>{p()}),ye(()=>d.value,()=>{p()});const h=g=>{t.value=g,p()},m=(g,w)=>{u.store.assertRowKey();const _=e.rowKey.value,C=nn(g,_),S=C&&n.value[C];if(C&&S&&"expanded"in S){const k=S.expanded;w=typeof w>"u"?!S.expanded:w,n.value[C].expanded=w,k!==w&&u.emit("expand-change",g,w),u.store.updateTableScrollY()}},v=g=>{u.store.assertRowKey();const w=e.rowKey.value,_=nn(g,w),C=n.value[_];r.value&&C&&"loaded"in C&&!C.loaded?y(g,_,C):m(g,void 0)},y=(g,w,_)=>{const{load:C}=u.props;C&&!n.value[w].loaded&&(n.value[w].loading=!0,C(g,_,S=>{if(!Array.isArray(S))throw new TypeError("[ElTable] data must be an array");n.value[w].loading=!1,n.value[w].loaded=!0,n.value[w].expanded=!0,S.length&&(l.value[w]=S),u.emit("expand-change",g,!0)}))};return{loadData:y,loadOrToggle:v,toggleTreeExpansion:m,updateTreeExpandKeys:h,updateTreeData:p,normalize:f,states:{expandRowKeys:t,treeData:n,indent:o,lazy:r,lazyTreeNodeMap:l,lazyColumnIdentifier:a,childrenColumnName:s}}}const Q3e=(e,t)=>{const n=t.sortingColumn;return!n||typeof n.sortable=="string"?e:K3e(e,t.sortProp,t.sortOrder,n.sortMethod,n.sortBy)},Ii=e=>{const t=[];return e.forEach(n=>{n.children?t.push.apply(t,Ii(n.children)):t.push(n)}),t};function e6e(){var e;const t=nt(),{size:n}=Wt((e=t.proxy)==null?void 0:e.$props),o=N(null),r=N([]),l=N([]),a=N(!1),s=N([]),u=N([]),c=N([]),d=N([]),f=N([]),p=N([]),h=N([]),m=N([]),v=N(0),y=N(0),g=N(0),w=N(!1),_=N([]),C=N(!1),S=N(!1),k=N(null),M=N({}),x=N(null),A=N(null),V=N(null),F=N(null),R=N(null);ye(r,()=>t.state&&K(!1),{deep:!0});const H=()=>{if(!o.value)throw new Error("[ElTable] prop row-key is required")},L=()=>{d.value=s.value.filter(xe=>xe.fixed===!0||xe.fixed==="left"),f.value=s.value.filter(xe=>xe.fixed==="right"),d.value.length>0&&s.value[0]&&s.value[0].type==="selection"&&!s.value[0].fixed&&(s.value[0].fixed=!0,d.value.unshift(s.value[0]));const re=s.value.filter(xe=>!xe.fixed);u.value=[].concat(d.value).concat(re).concat(f.value);const we=Ii(re),B=Ii(d.value),le=Ii(f.value);v.value=we.length,y.value=B.length,g.value=le.length,c.value=[].concat(B).concat(we).concat(le),a.value=d.value.length>0||f.value.length>0},K=(re,we=!1)=>{re&&L(),we?t.state.doLayout():t.state.debouncedUpdateLayout()},O=re=>_.value.includes(re),P=()=>{w.value=!1,_.value.length&&(_.value=[],t.emit("selection-change",[]))},D=()=>{let re;if(o.value){re=[];const we=Gr(_.value,o.value),B=Gr(r.value,o.value);for(const le in we)ct(we,le)&&!B[le]&&re.push(we[le].row)}else re=_.value.filter(we=>!r.value.includes(we));if(re.length){const we=_.value.filter(B=>!re.includes(B));_.value=we,t.emit("selection-change",we.slice())}},I=()=>(_.value||[]).slice(),X=(re,we=void 0,B=!0)=>{if(Pi(_.value,re,we)){const xe=(_.value||[]).slice();B&&t.emit("select",xe,re),t.emit("selection-change",xe)}},q=()=>{var re,we;const B=S.value?!w.value:!(w.value||_.value.length);w.value=B;let le=!1,xe=0;const qe=(we=(re=t==null?void 0:t.store)==null?void 0:re.states)==null?void 0:we.rowKey.value;r.value.forEach((Ne,Ue)=>{const je=Ue+xe;k.value?k.value.call(null,Ne,je)&&Pi(_.value,Ne,B)&&(le=!0):Pi(_.value,Ne,B)&&(le=!0),xe+=pe(nn(Ne,qe))}),le&&t.emit("selection-change",_.value?_.value.slice():[]),t.emit("select-all",_.value)},j=()=>{const re=Gr(_.value,o.value);r.value.forEach(we=>{const B=nn(we,o.value),le=re[B];le&&(_.value[le.index]=we)})},Z=()=>{var re,we,B;if(((re=r.value)==null?void 0:re.length)===0){w.value=!1;return}let le;o.value&&(le=Gr(_.value,o.value));const xe=function(je){return le?!!le[nn(je,o.value)]:_.value.includes(je)};let qe=!0,Ne=0,Ue=0;for(let je=0,wt=(r.value||[]).length;je<wt;je++){const xt=(B=(we=t==null?void 0:t.store)==null?void 0:we.states)==null?void 0:B.rowKey.value,kt=je+Ue,it=r.value[je],Zt=k.value&&k.value.call(null,it,kt);if(xe(it))Ne++;else if(!k.value||Zt){qe=!1;break}Ue+=pe(nn(it,xt))}Ne===0&&(qe=!1),w.value=qe},pe=re=>{var we;if(!t||!t.store)return 0;const{treeData:B}=t.store.states;let le=0;const xe=(we=B.value[re])==null?void 0:we.children;return xe&&(le+=xe.length,xe.forEach(qe=>{le+=pe(qe)})),le},_e=(re,we)=>{Array.isArray(re)||(re=[re]);const B={};return re.forEach(le=>{M.value[le.id]=we,B[le.columnKey||le.id]=we}),B},$e=(re,we,B)=>{A.value&&A.value!==re&&(A.value.order=null),A.value=re,V.value=we,F.value=B},U=()=>{let re=i(l);Object.keys(M.value).forEach(we=>{const B=M.value[we];if(!B||B.length===0)return;const le=e8({columns:c.value},we);le&&le.filterMethod&&(re=re.filter(xe=>B.some(qe=>le.filterMethod.call(null,qe,xe,le))))}),x.value=re},ce=()=>{r.value=Q3e(x.value,{sortingColumn:A.value,sortProp:V.value,sortOrder:F.value})},de=(re=void 0)=>{re&&re.filter||U(),ce()},ge=re=>{const{tableHeaderRef:we}=t.refs;if(!we)return;const B=Object.assign({},we.filterPanels),le=Object.keys(B);if(!!le.length)if(typeof re=="string"&&(re=[re]),Array.isArray(re)){const xe=re.map(qe=>W3e({columns:c.value},qe));le.forEach(qe=>{const Ne=xe.find(Ue=>Ue.id===qe);Ne&&(Ne.filteredValue=[])}),t.store.commit("filterChange",{column:xe,values:[],silent:!0,multi:!0})}else le.forEach(xe=>{const qe=c.value.find(Ne=>Ne.id===xe);qe&&(qe.filteredValue=[])}),M.value={},t.store.commit("filterChange",{column:{},values:[],silent:!0})},Le=()=>{!A.value||($e(null,null,null),t.store.commit("changeSortCondition",{silent:!0}))},{setExpandRowKeys:We,toggleRowExpansion:Y,updateExpandRows:Q,states:ie,isRowExpanded:Se}=X3e({data:r,rowKey:o}),{updateTreeExpandKeys:ue,toggleTreeExpansion:te,updateTreeData:se,loadOrToggle:fe,states:be}=Z3e({data:r,rowKey:o}),{updateCurrentRowData:Ce,updateCurrentRow:Ae,setCurrentRowKey:oe,states:ze}=J3e({data:r,rowKey:o});return{assertRowKey:H,updateColumns:L,scheduleLayout:K,isSelected:O,clearSelection:P,cleanSelection:D,getSelectionRows:I,toggleRowSelection:X,_toggleAllSelection:q,toggleAllSelection:null,updateSelectionByRowKey:j,updateAllSelected:Z,updateFilters:_e,updateCurrentRow:Ae,updateSort:$e,execFilter:U,execSort:ce,execQuery:de,clearFilter:ge,clearSort:Le,toggleRowExpansion:Y,setExpandRowKeysAdapter:re=>{We(re),ue(re)},setCurrentRowKey:oe,toggleRowExpansionAdapter:(re,we)=>{c.value.some(({type:le})=>le==="expand")?Y(re,we):te(re,we)},isRowExpanded:Se,updateExpandRows:Q,updateCurrentRowData:Ce,loadOrToggle:fe,updateTreeData:se,states:{tableSize:n,rowKey:o,data:r,_data:l,isComplex:a,_columns:s,originColumns:u,columns:c,fixedColumns:d,rightFixedColumns:f,leafColumns:p,fixedLeafColumns:h,rightFixedLeafColumns:m,leafColumnsLength:v,fixedLeafColumnsLength:y,rightFixedLeafColumnsLength:g,isAllSelected:w,selection:_,reserveSelection:C,selectOnIndeterminate:S,selectable:k,filters:M,filteredData:x,sortingColumn:A,sortProp:V,sortOrder:F,hoverRow:R,...ie,...be,...ze}}}function yf(e,t){return e.map(n=>{var o;return n.id===t.id?t:((o=n.children)!=null&&o.length&&(n.children=yf(n.children,t)),n)})}function o8(e){e.forEach(t=>{var n,o;t.no=(n=t.getColumnIndex)==null?void 0:n.call(t),(o=t.children)!=null&&o.length&&o8(t.children)}),e.sort((t,n)=>t.no-n.no)}function t6e(){const e=nt(),t=e6e();return{ns:me("table"),...t,mutations:{setData(a,s){const u=i(a._data)!==s;a.data.value=s,a._data.value=s,e.store.execQuery(),e.store.updateCurrentRowData(),e.store.updateExpandRows(),e.store.updateTreeData(e.store.states.defaultExpandAll.value),i(a.reserveSelection)?(e.store.assertRowKey(),e.store.updateSelectionByRowKey()):u?e.store.clearSelection():e.store.cleanSelection(),e.store.updateAllSelected(),e.$ready&&e.store.scheduleLayout()},insertColumn(a,s,u){const c=i(a._columns);let d=[];u?(u&&!u.children&&(u.children=[]),u.children.push(s),d=yf(c,u)):(c.push(s),d=c),o8(d),a._columns.value=d,s.type==="selection"&&(a.selectable.value=s.selectable,a.reserveSelection.value=s.reserveSelection),e.$ready&&(e.store.updateColumns(),e.store.scheduleLayout())},removeColumn(a,s,u){const c=i(a._columns)||[];if(u)u.children.splice(u.children.findIndex(d=>d.id===s.id),1),u.children.length===0&&delete u.children,a._columns.value=yf(c,u);else{const d=c.indexOf(s);d>-1&&(c.splice(d,1),a._columns.value=c)}e.$ready&&(e.store.updateColumns(),e.store.scheduleLayout())},sort(a,s){const{prop:u,order:c,init:d}=s;if(u){const f=i(a.columns).find(p=>p.property===u);f&&(f.order=c,e.store.updateSort(f,u,c),e.store.commit("changeSortCondition",{init:d}))}},changeSortCondition(a,s){const{sortingColumn:u,sortProp:c,sortOrder:d}=a;i(d)===null&&(a.sortingColumn.value=null,a.sortProp.value=null);const f={filter:!0};e.store.execQuery(f),(!s||!(s.silent||s.init))&&e.emit("sort-change",{column:i(u),prop:i(c),order:i(d)}),e.store.updateTableScrollY()},filterChange(a,s){const{column:u,values:c,silent:d}=s,f=e.store.updateFilters(u,c);e.store.execQuery(),d||e.emit("filter-change",f),e.store.updateTableScrollY()},toggleAllSelection(){e.store.toggleAllSelection()},rowSelectedChanged(a,s){e.store.toggleRowSelection(s),e.store.updateAllSelected()},setHoverRow(a,s){a.hoverRow.value=s},setCurrentRow(a,s){e.store.updateCurrentRow(s)}},commit:function(a,...s){const u=e.store.mutations;if(u[a])u[a].apply(e,[e.store.states].concat(s));else throw new Error(`Action not found: ${a}`)},updateTableScrollY:function(){Pe(()=>e.layout.updateScrollY.apply(e.layout))}}}const ls={rowKey:"rowKey",defaultExpandAll:"defaultExpandAll",selectOnIndeterminate:"selectOnIndeterminate",indent:"indent",lazy:"lazy",data:"data",["treeProps.hasChildren"]:{key:"lazyColumnIdentifier",default:"hasChildren"},["treeProps.children"]:{key:"childrenColumnName",default:"children"}};function n6e(e,t){if(!e)throw new Error("Table is required.");const n=t6e();return n.toggleAllSelection=vn(n._toggleAllSelection,10),Object.keys(ls).forEach(o=>{r8(l8(t,o),o,n)}),o6e(n,t),n}function o6e(e,t){Object.keys(ls).forEach(n=>{ye(()=>l8(t,n),o=>{r8(o,n,e)})})}function r8(e,t,n){let o=e,r=ls[t];typeof ls[t]=="object"&&(r=r.key,o=o||ls[t].default),n.states[r].value=o}function l8(e,t){if(t.includes(".")){const n=t.split(".");let o=e;return n.forEach(r=>{o=o[r]}),o}else return e[t]}class r6e{constructor(t){this.observers=[],this.table=null,this.store=null,this.columns=[],this.fit=!0,this.showHeader=!0,this.height=N(null),this.scrollX=N(!1),this.scrollY=N(!1),this.bodyWidth=N(null),this.fixedWidth=N(null),this.rightFixedWidth=N(null),this.gutterWidth=0;for(const n in t)ct(t,n)&&(St(this[n])?this[n].value=t[n]:this[n]=t[n]);if(!this.table)throw new Error("Table is required for Table Layout");if(!this.store)throw new Error("Store is required for Table Layout")}updateScrollY(){if(this.height.value===null)return!1;const n=this.table.refs.scrollBarRef;if(this.table.vnode.el&&n){let o=!0;const r=this.scrollY.value;return o=n.wrap$.scrollHeight>n.wrap$.clientHeight,this.scrollY.value=o,r!==o}return!1}setHeight(t,n="height"){if(!vt)return;const o=this.table.vnode.el;if(t=q3e(t),this.height.value=Number(t),!o&&(t||t===0))return Pe(()=>this.setHeight(t,n));typeof t=="number"?(o.style[n]=`${t}px`,this.updateElsHeight()):typeof t=="string"&&(o.style[n]=t,this.updateElsHeight())}setMaxHeight(t){this.setHeight(t,"max-height")}getFlattenColumns(){const t=[];return this.table.store.states.columns.value.forEach(o=>{o.isColumnGroup?t.push.apply(t,o.columns):t.push(o)}),t}updateElsHeight(){this.updateScrollY(),this.notifyObservers("scrollable")}headerDisplayNone(t){if(!t)return!0;let n=t;for(;n.tagName!=="DIV";){if(getComputedStyle(n).display==="none")return!0;n=n.parentElement}return!1}updateColumnsWidth(){if(!vt)return;const t=this.fit,n=this.table.vnode.el.clientWidth;let o=0;const r=this.getFlattenColumns(),l=r.filter(u=>typeof u.width!="number");if(r.forEach(u=>{typeof u.width=="number"&&u.realWidth&&(u.realWidth=null)}),l.length>0&&t){if(r.forEach(u=>{o+=Number(u.width||u.minWidth||80)}),o<=n){this.scrollX.value=!1;const u=n-o;if(l.length===1)l[0].realWidth=Number(l[0].minWidth||80)+u;else{const c=l.reduce((p,h)=>p+Number(h.minWidth||80),0),d=u/c;let f=0;l.forEach((p,h)=>{if(h===0)return;const m=Math.floor(Number(p.minWidth||80)*d);f+=m,p.realWidth=Number(p.minWidth||80)+m}),l[0].realWidth=Number(l[0].minWidth||80)+u-f}}else this.scrollX.value=!0,l.forEach(u=>{u.realWidth=Number(u.minWidth)});this.bodyWidth.value=Math.max(o,n),this.table.state.resizeState.value.width=this.bodyWidth.value}else r.forEach(u=>{!u.width&&!u.minWidth?u.realWidth=80:u.realWidth=Number(u.width||u.minWidth),o+=u.realWidth}),this.scrollX.value=o>n,this.bodyWidth.value=o;const a=this.store.states.fixedColumns.value;if(a.length>0){let u=0;a.forEach(c=>{u+=Number(c.realWidth||c.width)}),this.fixedWidth.value=u}const s=this.store.states.rightFixedColumns.value;if(s.length>0){let u=0;s.forEach(c=>{u+=Number(c.realWidth||c.width)}),this.rightFixedWidth.value=u}this.notifyObservers("columns")}addObserver(t){this.observers.push(t)}removeObserver(t){const n=this.observers.indexOf(t);n!==-1&&this.observers.splice(n,1)}notifyObservers(t){this.observers.forEach(o=>{var r,l;switch(t){case"columns":(r=o.state)==null||r.onColumnsChange(this);break;case"scrollable":(l=o.state)==null||l.onScrollableChange(this);break;default:throw new Error(`Table Layout don't have event ${t}.`)}})}}const{CheckboxGroup:l6e}=Qn,a6e=ve({name:"ElTableFilterPanel",components:{ElCheckbox:Qn,ElCheckboxGroup:l6e,ElScrollbar:or,ElTooltip:Mn,ElIcon:He,ArrowDown:zr,ArrowUp:Ta},directives:{ClickOutside:xr},props:{placement:{type:String,default:"bottom-start"},store:{type:Object},column:{type:Object},upDataColumn:{type:Function}},setup(e){const t=nt(),{t:n}=_t(),o=me("table-filter"),r=t==null?void 0:t.parent;r.filterPanels.value[e.column.id]||(r.filterPanels.value[e.column.id]=t);const l=N(!1),a=N(null),s=T(()=>e.column&&e.column.filters),u=T({get:()=>{var C;return(((C=e.column)==null?void 0:C.filteredValue)||[])[0]},set:C=>{c.value&&(typeof C<"u"&&C!==null?c.value.splice(0,1,C):c.value.splice(0,1))}}),c=T({get(){return e.column?e.column.filteredValue||[]:[]},set(C){e.column&&e.upDataColumn("filteredValue",C)}}),d=T(()=>e.column?e.column.filterMultiple:!0),f=C=>C.value===u.value,p=()=>{l.value=!1},h=C=>{C.stopPropagation(),l.value=!l.value},m=()=>{l.value=!1},v=()=>{w(c.value),p()},y=()=>{c.value=[],w(c.value),p()},g=C=>{u.value=C,w(typeof C<"u"&&C!==null?c.value:[]),p()},w=C=>{e.store.commit("filterChange",{column:e.column,values:C}),e.store.updateAllSelected()};ye(l,C=>{e.column&&e.upDataColumn("filterOpened",C)},{immediate:!0});const _=T(()=>{var C,S;return(S=(C=a.value)==null?void 0:C.popperRef)==null?void 0:S.contentRef});return{tooltipVisible:l,multiple:d,filteredValue:c,filterValue:u,filters:s,handleConfirm:v,handleReset:y,handleSelect:g,isActive:f,t:n,ns:o,showFilterPanel:h,hideFilterPanel:m,popperPaneRef:_,tooltip:a}}}),s6e={key:0},i6e=["disabled"],u6e=["label","onClick"];function c6e(e,t,n,o,r,l){const a=Ie("el-checkbox"),s=Ie("el-checkbox-group"),u=Ie("el-scrollbar"),c=Ie("arrow-up"),d=Ie("arrow-down"),f=Ie("el-icon"),p=Ie("el-tooltip"),h=Sr("click-outside");return b(),ne(p,{ref:"tooltip",visible:e.tooltipVisible,offset:0,placement:e.placement,"show-arrow":!1,"stop-popper-mouse-event":!1,teleported:"",effect:"light",pure:"","popper-class":e.ns.b(),persistent:""},{content:J(()=>[e.multiple?(b(),E("div",s6e,[$("div",{class:z(e.ns.e("content"))},[W(u,{"wrap-class":e.ns.e("wrap")},{default:J(()=>[W(s,{modelValue:e.filteredValue,"onUpdate:modelValue":t[0]||(t[0]=m=>e.filteredValue=m),class:z(e.ns.e("checkbox-group"))},{default:J(()=>[(b(!0),E(Ve,null,ut(e.filters,m=>(b(),ne(a,{key:m.value,label:m.value},{default:J(()=>[ft(ke(m.text),1)]),_:2},1032,["label"]))),128))]),_:1},8,["modelValue","class"])]),_:1},8,["wrap-class"])],2),$("div",{class:z(e.ns.e("bottom"))},[$("button",{class:z({[e.ns.is("disabled")]:e.filteredValue.length===0}),disabled:e.filteredValue.length===0,type:"button",onClick:t[1]||(t[1]=(...m)=>e.handleConfirm&&e.handleConfirm(...m))},ke(e.t("el.table.confirmFilter")),11,i6e),$("button",{type:"button",onClick:t[2]||(t[2]=(...m)=>e.handleReset&&e.handleReset(...m))},ke(e.t("el.table.resetFilter")),1)],2)])):(b(),E("ul",{key:1,class:z(e.ns.e("list"))},[$("li",{class:z([e.ns.e("list-item"),{[e.ns.is("active")]:e.filterValue===void 0||e.filterValue===null}]),onClick:t[3]||(t[3]=m=>e.handleSelect(null))},ke(e.t("el.table.clearFilter")),3),(b(!0),E(Ve,null,ut(e.filters,m=>(b(),E("li",{key:m.value,class:z([e.ns.e("list-item"),e.ns.is("active",e.isActive(m))]),label:m.value,onClick:v=>e.handleSelect(m.value)},ke(m.text),11,u6e))),128))],2))]),default:J(()=>[Qe((b(),E("span",{class:z([`${e.ns.namespace.value}-table__column-filter-trigger`,`${e.ns.namespace.value}-none-outline`]),onClick:t[4]||(t[4]=(...m)=>e.showFilterPanel&&e.showFilterPanel(...m))},[W(f,null,{default:J(()=>[e.column.filterOpened?(b(),ne(c,{key:0})):(b(),ne(d,{key:1}))]),_:1})],2)),[[h,e.hideFilterPanel,e.popperPaneRef]])]),_:1},8,["visible","placement","popper-class"])}var d6e=Ee(a6e,[["render",c6e],["__file","/home/runner/work/element-plus/element-plus/packages/components/table/src/filter-panel.vue"]]);function a8(e){const t=nt();Os(()=>{n.value.addObserver(t)}),tt(()=>{o(n.value),r(n.value)}),eo(()=>{o(n.value),r(n.value)}),Xo(()=>{n.value.removeObserver(t)});const n=T(()=>{const l=e.layout;if(!l)throw new Error("Can not find table layout.");return l}),o=l=>{var a;const s=((a=e.vnode.el)==null?void 0:a.querySelectorAll("colgroup > col"))||[];if(!s.length)return;const u=l.getFlattenColumns(),c={};u.forEach(d=>{c[d.id]=d});for(let d=0,f=s.length;d<f;d++){const p=s[d],h=p.getAttribute("name"),m=c[h];m&&p.setAttribute("width",m.realWidth||m.width)}},r=l=>{var a,s;const u=((a=e.vnode.el)==null?void 0:a.querySelectorAll("colgroup > col[name=gutter]"))||[];for(let d=0,f=u.length;d<f;d++)u[d].setAttribute("width",l.scrollY.value?l.gutterWidth:"0");const c=((s=e.vnode.el)==null?void 0:s.querySelectorAll("th.gutter"))||[];for(let d=0,f=c.length;d<f;d++){const p=c[d];p.style.width=l.scrollY.value?`${l.gutterWidth}px`:"0",p.style.display=l.scrollY.value?"":"none"}};return{tableLayout:n.value,onColumnsChange:o,onScrollableChange:r}}const zo=Symbol("ElTable");function f6e(e,t){const n=nt(),o=De(zo),r=v=>{v.stopPropagation()},l=(v,y)=>{!y.filters&&y.sortable?m(v,y,!1):y.filterable&&!y.sortable&&r(v),o==null||o.emit("header-click",y,v)},a=(v,y)=>{o==null||o.emit("header-contextmenu",y,v)},s=N(null),u=N(!1),c=N({}),d=(v,y)=>{if(!!vt&&!(y.children&&y.children.length>0)&&s.value&&e.border){u.value=!0;const g=o;t("set-drag-visible",!0);const _=(g==null?void 0:g.vnode.el).getBoundingClientRect().left,C=n.vnode.el.querySelector(`th.${y.id}`),S=C.getBoundingClientRect(),k=S.left-_+30;wo(C,"noclick"),c.value={startMouseLeft:v.clientX,startLeft:S.right-_,startColumnLeft:S.left-_,tableLeft:_};const M=g==null?void 0:g.refs.resizeProxy;M.style.left=`${c.value.startLeft}px`,document.onselectstart=function(){return!1},document.ondragstart=function(){return!1};const x=V=>{const F=V.clientX-c.value.startMouseLeft,R=c.value.startLeft+F;M.style.left=`${Math.max(k,R)}px`},A=()=>{if(u.value){const{startColumnLeft:V,startLeft:F}=c.value,H=Number.parseInt(M.style.left,10)-V;y.width=y.realWidth=H,g==null||g.emit("header-dragend",y.width,F-V,y,v),requestAnimationFrame(()=>{e.store.scheduleLayout(!1,!0)}),document.body.style.cursor="",u.value=!1,s.value=null,c.value={},t("set-drag-visible",!1)}document.removeEventListener("mousemove",x),document.removeEventListener("mouseup",A),document.onselectstart=null,document.ondragstart=null,setTimeout(()=>{$n(C,"noclick")},0)};document.addEventListener("mousemove",x),document.addEventListener("mouseup",A)}},f=(v,y)=>{var g;if(y.children&&y.children.length>0)return;const w=(g=v.target)==null?void 0:g.closest("th");if(!(!y||!y.resizable)&&!u.value&&e.border){const _=w.getBoundingClientRect(),C=document.body.style;_.width>12&&_.right-v.pageX<8?(C.cursor="col-resize",so(w,"is-sortable")&&(w.style.cursor="col-resize"),s.value=y):u.value||(C.cursor="",so(w,"is-sortable")&&(w.style.cursor="pointer"),s.value=null)}},p=()=>{!vt||(document.body.style.cursor="")},h=({order:v,sortOrders:y})=>{if(v==="")return y[0];const g=y.indexOf(v||null);return y[g>y.length-2?0:g+1]},m=(v,y,g)=>{var w;v.stopPropagation();const _=y.order===g?null:g||h(y),C=(w=v.target)==null?void 0:w.closest("th");if(C&&so(C,"noclick")){$n(C,"noclick");return}if(!y.sortable)return;const S=e.store.states;let k=S.sortProp.value,M;const x=S.sortingColumn.value;(x!==y||x===y&&x.order===null)&&(x&&(x.order=null),S.sortingColumn.value=y,k=y.property),_?M=y.order=_:M=y.order=null,S.sortProp.value=k,S.sortOrder.value=M,o==null||o.store.commit("changeSortCondition")};return{handleHeaderClick:l,handleHeaderContextMenu:a,handleMouseDown:d,handleMouseMove:f,handleMouseOut:p,handleSortClick:m,handleFilterClick:r}}function p6e(e){const t=De(zo),n=me("table");return{getHeaderRowStyle:s=>{const u=t==null?void 0:t.props.headerRowStyle;return typeof u=="function"?u.call(null,{rowIndex:s}):u},getHeaderRowClass:s=>{const u=[],c=t==null?void 0:t.props.headerRowClassName;return typeof c=="string"?u.push(c):typeof c=="function"&&u.push(c.call(null,{rowIndex:s})),u.join(" ")},getHeaderCellStyle:(s,u,c,d)=>{var f;let p=(f=t==null?void 0:t.props.headerCellStyle)!=null?f:{};typeof p=="function"&&(p=p.call(null,{rowIndex:s,columnIndex:u,row:c,column:d}));const h=d.isSubColumn?null:h2(u,d.fixed,e.store,c);return _a(h,"left"),_a(h,"right"),Object.assign({},p,h)},getHeaderCellClass:(s,u,c,d)=>{const f=d.isSubColumn?[]:p2(n.b(),u,d.fixed,e.store,c),p=[d.id,d.order,d.headerAlign,d.className,d.labelClassName,...f];d.children||p.push("is-leaf"),d.sortable&&p.push("is-sortable");const h=t==null?void 0:t.props.headerCellClassName;return typeof h=="string"?p.push(h):typeof h=="function"&&p.push(h.call(null,{rowIndex:s,columnIndex:u,row:c,column:d})),p.push(n.e("cell")),p.filter(m=>Boolean(m)).join(" ")}}}const s8=e=>{const t=[];return e.forEach(n=>{n.children?(t.push(n),t.push.apply(t,s8(n.children))):t.push(n)}),t},h6e=e=>{let t=1;const n=(l,a)=>{if(a&&(l.level=a.level+1,t<l.level&&(t=l.level)),l.children){let s=0;l.children.forEach(u=>{n(u,l),s+=u.colSpan}),l.colSpan=s}else l.colSpan=1};e.forEach(l=>{l.level=1,n(l,void 0)});const o=[];for(let l=0;l<t;l++)o.push([]);return s8(e).forEach(l=>{l.children?(l.rowSpan=1,l.children.forEach(a=>a.isSubColumn=!0)):l.rowSpan=t-l.level+1,o[l.level-1].push(l)}),o};function v6e(e){const t=De(zo),n=T(()=>h6e(e.store.states.originColumns.value));return{isGroup:T(()=>{const l=n.value.length>1;return l&&t&&(t.state.isGroup.value=!0),l}),toggleAllSelection:l=>{l.stopPropagation(),t==null||t.store.commit("toggleAllSelection")},columnRows:n}}var m6e=ve({name:"ElTableHeader",components:{ElCheckbox:Qn},props:{fixed:{type:String,default:""},store:{required:!0,type:Object},border:Boolean,defaultSort:{type:Object,default:()=>({prop:"",order:""})}},setup(e,{emit:t}){const n=nt(),o=De(zo),r=me("table"),l=N({}),{onColumnsChange:a,onScrollableChange:s}=a8(o);tt(async()=>{await Pe(),await Pe();const{prop:k,order:M}=e.defaultSort;o==null||o.store.commit("sort",{prop:k,order:M,init:!0})});const{handleHeaderClick:u,handleHeaderContextMenu:c,handleMouseDown:d,handleMouseMove:f,handleMouseOut:p,handleSortClick:h,handleFilterClick:m}=f6e(e,t),{getHeaderRowStyle:v,getHeaderRowClass:y,getHeaderCellStyle:g,getHeaderCellClass:w}=p6e(e),{isGroup:_,toggleAllSelection:C,columnRows:S}=v6e(e);return n.state={onColumnsChange:a,onScrollableChange:s},n.filterPanels=l,{ns:r,filterPanels:l,onColumnsChange:a,onScrollableChange:s,columnRows:S,getHeaderRowClass:y,getHeaderRowStyle:v,getHeaderCellClass:w,getHeaderCellStyle:g,handleHeaderClick:u,handleHeaderContextMenu:c,handleMouseDown:d,handleMouseMove:f,handleMouseOut:p,handleSortClick:h,handleFilterClick:m,isGroup:_,toggleAllSelection:C}},render(){const{ns:e,isGroup:t,columnRows:n,getHeaderCellStyle:o,getHeaderCellClass:r,getHeaderRowClass:l,getHeaderRowStyle:a,handleHeaderClick:s,handleHeaderContextMenu:u,handleMouseDown:c,handleMouseMove:d,handleSortClick:f,handleMouseOut:p,store:h,$parent:m}=this;let v=1;return Ke("thead",{class:{[e.is("group")]:t}},n.map((y,g)=>Ke("tr",{class:l(g),key:g,style:a(g)},y.map((w,_)=>(w.rowSpan>v&&(v=w.rowSpan),Ke("th",{class:r(g,_,y,w),colspan:w.colSpan,key:`${w.id}-thead`,rowspan:w.rowSpan,style:o(g,_,y,w),onClick:C=>s(C,w),onContextmenu:C=>u(C,w),onMousedown:C=>c(C,w),onMousemove:C=>d(C,w),onMouseout:p},[Ke("div",{class:["cell",w.filteredValue&&w.filteredValue.length>0?"highlight":"",w.labelClassName]},[w.renderHeader?w.renderHeader({column:w,$index:_,store:h,_self:m}):w.label,w.sortable&&Ke("span",{onClick:C=>f(C,w),class:"caret-wrapper"},[Ke("i",{onClick:C=>f(C,w,"ascending"),class:"sort-caret ascending"}),Ke("i",{onClick:C=>f(C,w,"descending"),class:"sort-caret descending"})]),w.filterable&&Ke(d6e,{store:h,placement:w.filterPlacement||"bottom-start",column:w,upDataColumn:(C,S)=>{w[C]=S}})])]))))))}});function g6e(e){const t=De(zo),n=N(""),o=N(Ke("div")),r=(p,h,m)=>{var v;const y=t,g=Fc(p);let w;const _=(v=y==null?void 0:y.vnode.el)==null?void 0:v.dataset.prefix;g&&(w=Nh({columns:e.store.states.columns.value},g,_),w&&(y==null||y.emit(`cell-${m}`,h,w,g,p))),y==null||y.emit(`row-${m}`,h,w,p)},l=(p,h)=>{r(p,h,"dblclick")},a=(p,h)=>{e.store.commit("setCurrentRow",h),r(p,h,"click")},s=(p,h)=>{r(p,h,"contextmenu")},u=vn(p=>{e.store.commit("setHoverRow",p)},30),c=vn(()=>{e.store.commit("setHoverRow",null)},30);return{handleDoubleClick:l,handleClick:a,handleContextMenu:s,handleMouseEnter:u,handleMouseLeave:c,handleCellMouseEnter:(p,h,m)=>{var v;const y=t,g=Fc(p),w=(v=y==null?void 0:y.vnode.el)==null?void 0:v.dataset.prefix;if(g){const M=Nh({columns:e.store.states.columns.value},g,w),x=y.hoverState={cell:g,column:M,row:h};y==null||y.emit("cell-mouse-enter",x.row,x.column,x.cell,p)}const _=p.target.querySelector(".cell");if(!(so(_,`${w}-tooltip`)&&_.childNodes.length))return;const C=document.createRange();C.setStart(_,0),C.setEnd(_,_.childNodes.length);const S=C.getBoundingClientRect().width,k=(Number.parseInt(Vo(_,"paddingLeft"),10)||0)+(Number.parseInt(Vo(_,"paddingRight"),10)||0);(S+k>_.offsetWidth||_.scrollWidth>_.offsetWidth)&&G3e(t==null?void 0:t.refs.tableWrapper,g,g.innerText||g.textContent,{placement:"top",strategy:"fixed"},m)},handleCellMouseLeave:p=>{if(!Fc(p))return;const m=t==null?void 0:t.hoverState;t==null||t.emit("cell-mouse-leave",m==null?void 0:m.row,m==null?void 0:m.column,m==null?void 0:m.cell,p)},tooltipContent:n,tooltipTrigger:o}}function _6e(e){const t=De(zo),n=me("table");return{getRowStyle:(c,d)=>{const f=t==null?void 0:t.props.rowStyle;return typeof f=="function"?f.call(null,{row:c,rowIndex:d}):f||null},getRowClass:(c,d)=>{const f=[n.e("row")];(t==null?void 0:t.props.highlightCurrentRow)&&c===e.store.states.currentRow.value&&f.push("current-row"),e.stripe&&d%2===1&&f.push(n.em("row","striped"));const p=t==null?void 0:t.props.rowClassName;return typeof p=="string"?f.push(p):typeof p=="function"&&f.push(p.call(null,{row:c,rowIndex:d})),f},getCellStyle:(c,d,f,p)=>{const h=t==null?void 0:t.props.cellStyle;let m=h!=null?h:{};typeof h=="function"&&(m=h.call(null,{rowIndex:c,columnIndex:d,row:f,column:p}));const v=p.isSubColumn?null:h2(d,e==null?void 0:e.fixed,e.store);return _a(v,"left"),_a(v,"right"),Object.assign({},m,v)},getCellClass:(c,d,f,p)=>{const h=p.isSubColumn?[]:p2(n.b(),d,e==null?void 0:e.fixed,e.store),m=[p.id,p.align,p.className,...h],v=t==null?void 0:t.props.cellClassName;return typeof v=="string"?m.push(v):typeof v=="function"&&m.push(v.call(null,{rowIndex:c,columnIndex:d,row:f,column:p})),m.push(n.e("cell")),m.filter(y=>Boolean(y)).join(" ")},getSpan:(c,d,f,p)=>{let h=1,m=1;const v=t==null?void 0:t.props.spanMethod;if(typeof v=="function"){const y=v({row:c,column:d,rowIndex:f,columnIndex:p});Array.isArray(y)?(h=y[0],m=y[1]):typeof y=="object"&&(h=y.rowspan,m=y.colspan)}return{rowspan:h,colspan:m}},getColspanRealWidth:(c,d,f)=>{if(d<1)return c[f].realWidth;const p=c.map(({realWidth:h,width:m})=>h||m).slice(f,f+d);return Number(p.reduce((h,m)=>Number(h)+Number(m),-1))}}}function y6e(e){const t=De(zo),n=me("table"),{handleDoubleClick:o,handleClick:r,handleContextMenu:l,handleMouseEnter:a,handleMouseLeave:s,handleCellMouseEnter:u,handleCellMouseLeave:c,tooltipContent:d,tooltipTrigger:f}=g6e(e),{getRowStyle:p,getRowClass:h,getCellStyle:m,getCellClass:v,getSpan:y,getColspanRealWidth:g}=_6e(e),w=T(()=>e.store.states.columns.value.findIndex(({type:M})=>M==="default")),_=(M,x)=>{const A=t.props.rowKey;return A?nn(M,A):x},C=(M,x,A,V=!1)=>{const{tooltipEffect:F,store:R}=e,{indent:H,columns:L}=R.states,K=h(M,x);let O=!0;return A&&(K.push(n.em("row",`level-${A.level}`)),O=A.display),Ke("tr",{style:[O?null:{display:"none"},p(M,x)],class:K,key:_(M,x),onDblclick:D=>o(D,M),onClick:D=>r(D,M),onContextmenu:D=>l(D,M),onMouseenter:()=>a(x),onMouseleave:s},L.value.map((D,I)=>{const{rowspan:X,colspan:q}=y(M,D,x,I);if(!X||!q)return null;const j={...D};j.realWidth=g(L.value,q,I);const Z={store:e.store,_self:e.context||t,column:j,row:M,$index:x,cellIndex:I,expanded:V};I===w.value&&A&&(Z.treeNode={indent:A.level*H.value,level:A.level},typeof A.expanded=="boolean"&&(Z.treeNode.expanded=A.expanded,"loading"in A&&(Z.treeNode.loading=A.loading),"noLazyChildren"in A&&(Z.treeNode.noLazyChildren=A.noLazyChildren)));const pe=`${x},${I}`,_e=j.columnKey||j.rawColumnKey||"",$e=S(I,D,Z);return Ke("td",{style:m(x,I,M,D),class:v(x,I,M,D),key:`${_e}${pe}`,rowspan:X,colspan:q,onMouseenter:U=>u(U,M,F),onMouseleave:c},[$e])}))},S=(M,x,A)=>x.renderCell(A);return{wrappedRowRender:(M,x)=>{const A=e.store,{isRowExpanded:V,assertRowKey:F}=A,{treeData:R,lazyTreeNodeMap:H,childrenColumnName:L,rowKey:K}=A.states,O=A.states.columns.value;if(O.some(({type:D})=>D==="expand")){const D=V(M),I=C(M,x,void 0,D),X=t.renderExpanded;return D?X?[[I,Ke("tr",{key:`expanded-row__${I.key}`},[Ke("td",{colspan:O.length,class:"el-table__cell el-table__expanded-cell"},[X({row:M,$index:x,store:A,expanded:D})])])]]:(console.error("[Element Error]renderExpanded is required."),I):[[I]]}else if(Object.keys(R.value).length){F();const D=nn(M,K.value);let I=R.value[D],X=null;I&&(X={expanded:I.expanded,level:I.level,display:!0},typeof I.lazy=="boolean"&&(typeof I.loaded=="boolean"&&I.loaded&&(X.noLazyChildren=!(I.children&&I.children.length)),X.loading=I.loading));const q=[C(M,x,X)];if(I){let j=0;const Z=(_e,$e)=>{!(_e&&_e.length&&$e)||_e.forEach(U=>{const ce={display:$e.display&&$e.expanded,level:$e.level+1,expanded:!1,noLazyChildren:!1,loading:!1},de=nn(U,K.value);if(de==null)throw new Error("For nested data item, row-key is required.");if(I={...R.value[de]},I&&(ce.expanded=I.expanded,I.level=I.level||ce.level,I.display=!!(I.expanded&&ce.display),typeof I.lazy=="boolean"&&(typeof I.loaded=="boolean"&&I.loaded&&(ce.noLazyChildren=!(I.children&&I.children.length)),ce.loading=I.loading)),j++,q.push(C(U,x+j,ce)),I){const ge=H.value[de]||U[L.value];Z(ge,I)}})};I.display=!0;const pe=H.value[D]||M[L.value];Z(pe,I)}return q}else return C(M,x,void 0)},tooltipContent:d,tooltipTrigger:f}}const b6e={store:{required:!0,type:Object},stripe:Boolean,tooltipEffect:String,context:{default:()=>({}),type:Object},rowClassName:[String,Function],rowStyle:[Object,Function],fixed:{type:String,default:""},highlight:Boolean};var w6e=ve({name:"ElTableBody",props:b6e,setup(e){const t=nt(),n=De(zo),o=me("table"),{wrappedRowRender:r,tooltipContent:l,tooltipTrigger:a}=y6e(e),{onColumnsChange:s,onScrollableChange:u}=a8(n);return ye(e.store.states.hoverRow,(c,d)=>{if(!e.store.states.isComplex.value||!vt)return;let f=window.requestAnimationFrame;f||(f=p=>window.setTimeout(p,16)),f(()=>{var p;const h=(p=t==null?void 0:t.vnode.el)==null?void 0:p.querySelectorAll(`.${o.e("row")}`),m=h[d],v=h[c];m&&$n(m,"hover-row"),v&&wo(v,"hover-row")})}),Xo(()=>{var c;(c=Oo)==null||c()}),{ns:o,onColumnsChange:s,onScrollableChange:u,wrappedRowRender:r,tooltipContent:l,tooltipTrigger:a}},render(){const{wrappedRowRender:e,store:t}=this,n=t.states.data.value||[];return Ke("tbody",{},[n.reduce((o,r)=>o.concat(e(r,o.length)),[])])}});function v2(e){const t=e.tableLayout==="auto";let n=e.columns||[];t&&n.every(r=>r.width===void 0)&&(n=[]);const o=r=>{const l={key:`${e.tableLayout}_${r.id}`,style:{},name:void 0};return t?l.style={width:`${r.width}px`}:l.name=r.id,l};return Ke("colgroup",{},n.map(r=>Ke("col",o(r))))}v2.props=["columns","tableLayout"];function C6e(){const e=De(zo),t=e==null?void 0:e.store,n=T(()=>t.states.fixedLeafColumnsLength.value),o=T(()=>t.states.rightFixedColumns.value.length),r=T(()=>t.states.columns.value.length),l=T(()=>t.states.fixedColumns.value.length),a=T(()=>t.states.rightFixedColumns.value.length);return{leftFixedLeafCount:n,rightFixedLeafCount:o,columnsCount:r,leftFixedCount:l,rightFixedCount:a,columns:t.states.columns}}function $6e(e){const{columns:t}=C6e(),n=me("table");return{getCellClasses:(l,a)=>{const s=l[a],u=[n.e("cell"),s.id,s.align,s.labelClassName,...p2(n.b(),a,s.fixed,e.store)];return s.className&&u.push(s.className),s.children||u.push(n.is("leaf")),u},getCellStyles:(l,a)=>{const s=h2(a,l.fixed,e.store);return _a(s,"left"),_a(s,"right"),s},columns:t}}var S6e=ve({name:"ElTableFooter",props:{fixed:{type:String,default:""},store:{required:!0,type:Object},summaryMethod:Function,sumText:String,border:Boolean,defaultSort:{type:Object,default:()=>({prop:"",order:""})}},setup(e){const{getCellClasses:t,getCellStyles:n,columns:o}=$6e(e);return{ns:me("table"),getCellClasses:t,getCellStyles:n,columns:o}},render(){const{columns:e,getCellStyles:t,getCellClasses:n,summaryMethod:o,sumText:r,ns:l}=this,a=this.store.states.data.value;let s=[];return o?s=o({columns:e,data:a}):e.forEach((u,c)=>{if(c===0){s[c]=r;return}const d=a.map(m=>Number(m[u.property])),f=[];let p=!0;d.forEach(m=>{if(!Number.isNaN(+m)){p=!1;const v=`${m}`.split(".")[1];f.push(v?v.length:0)}});const h=Math.max.apply(null,f);p?s[c]="":s[c]=d.reduce((m,v)=>{const y=Number(v);return Number.isNaN(+y)?m:Number.parseFloat((m+v).toFixed(Math.min(h,20)))},0)}),Ke("table",{class:l.e("footer"),cellspacing:"0",cellpadding:"0",border:"0"},[v2({columns:e}),Ke("tbody",[Ke("tr",{},[...e.map((u,c)=>Ke("td",{key:c,colspan:u.colSpan,rowspan:u.rowSpan,class:n(e,c),style:t(u,c)},[Ke("div",{class:["cell",u.labelClassName]},[s[c]])]))])])])}});function k6e(e){return{setCurrentRow:d=>{e.commit("setCurrentRow",d)},getSelectionRows:()=>e.getSelectionRows(),toggleRowSelection:(d,f)=>{e.toggleRowSelection(d,f,!1),e.updateAllSelected()},clearSelection:()=>{e.clearSelection()},clearFilter:d=>{e.clearFilter(d)},toggleAllSelection:()=>{e.commit("toggleAllSelection")},toggleRowExpansion:(d,f)=>{e.toggleRowExpansionAdapter(d,f)},clearSort:()=>{e.clearSort()},sort:(d,f)=>{e.commit("sort",{prop:d,order:f})}}}function E6e(e,t,n,o){const r=N(!1),l=N(null),a=N(!1),s=D=>{a.value=D},u=N({width:null,height:null,headerHeight:null}),c=N(!1),d={display:"inline-block",verticalAlign:"middle"},f=N(),p=N(0),h=N(0),m=N(0),v=N(0);Cn(()=>{t.setHeight(e.height)}),Cn(()=>{t.setMaxHeight(e.maxHeight)}),ye(()=>[e.currentRowKey,n.states.rowKey],([D,I])=>{!i(I)||n.setCurrentRowKey(`${D}`)},{immediate:!0}),ye(()=>e.data,D=>{o.store.commit("setData",D)},{immediate:!0,deep:!0}),Cn(()=>{e.expandRowKeys&&n.setExpandRowKeysAdapter(e.expandRowKeys)});const y=()=>{o.store.commit("setHoverRow",null),o.hoverState&&(o.hoverState=null)},g=(D,I)=>{const{pixelX:X,pixelY:q}=I;Math.abs(X)>=Math.abs(q)&&(o.refs.bodyWrapper.scrollLeft+=I.pixelX/5)},w=T(()=>e.height||e.maxHeight||n.states.fixedColumns.value.length>0||n.states.rightFixedColumns.value.length>0),_=T(()=>({width:t.bodyWidth.value?`${t.bodyWidth.value}px`:""})),C=()=>{w.value&&t.updateElsHeight(),t.updateColumnsWidth(),requestAnimationFrame(x)};tt(async()=>{await Pe(),n.updateColumns(),A(),requestAnimationFrame(C);const D=o.vnode.el,I=o.refs.headerWrapper;e.flexible&&D&&D.parentElement&&(D.parentElement.style.minWidth="0"),u.value={width:f.value=D.offsetWidth,height:D.offsetHeight,headerHeight:e.showHeader&&I?I.offsetHeight:null},n.states.columns.value.forEach(X=>{X.filteredValue&&X.filteredValue.length&&o.store.commit("filterChange",{column:X,values:X.filteredValue,silent:!0})}),o.$ready=!0});const S=(D,I)=>{if(!D)return;const X=Array.from(D.classList).filter(q=>!q.startsWith("is-scrolling-"));X.push(t.scrollX.value?I:"is-scrolling-none"),D.className=X.join(" ")},k=D=>{const{tableWrapper:I}=o.refs;S(I,D)},M=D=>{const{tableWrapper:I}=o.refs;return!!(I&&I.classList.contains(D))},x=function(){if(!o.refs.scrollBarRef)return;if(!t.scrollX.value){const _e="is-scrolling-none";M(_e)||k(_e);return}const D=o.refs.scrollBarRef.wrap$;if(!D)return;const{scrollLeft:I,offsetWidth:X,scrollWidth:q}=D,{headerWrapper:j,footerWrapper:Z}=o.refs;j&&(j.scrollLeft=I),Z&&(Z.scrollLeft=I);const pe=q-X-1;I>=pe?k("is-scrolling-right"):k(I===0?"is-scrolling-left":"is-scrolling-middle")},A=()=>{!o.refs.scrollBarRef||(o.refs.scrollBarRef.wrap$&&At(o.refs.scrollBarRef.wrap$,"scroll",x,{passive:!0}),e.fit?mn(o.vnode.el,V):At(window,"resize",V))},V=()=>{var D,I,X;const q=o.vnode.el;if(!o.$ready||!q)return;let j=!1;const{width:Z,height:pe,headerHeight:_e}=u.value,$e=f.value=q.offsetWidth;Z!==$e&&(j=!0);const U=q.offsetHeight;(e.height||w.value)&&pe!==U&&(j=!0);const ce=e.tableLayout==="fixed"?o.refs.headerWrapper:(D=o.refs.tableHeaderRef)==null?void 0:D.$el;e.showHeader&&(ce==null?void 0:ce.offsetHeight)!==_e&&(j=!0),p.value=((I=o.refs.tableWrapper)==null?void 0:I.scrollHeight)||0,m.value=(ce==null?void 0:ce.scrollHeight)||0,v.value=((X=o.refs.footerWrapper)==null?void 0:X.scrollHeight)||0,h.value=p.value-m.value-v.value,j&&(u.value={width:$e,height:U,headerHeight:e.showHeader&&(ce==null?void 0:ce.offsetHeight)||0},C())},F=Kt(),R=T(()=>{const{bodyWidth:D,scrollY:I,gutterWidth:X}=t;return D.value?`${D.value-(I.value?X:0)}px`:""}),H=T(()=>e.maxHeight?"fixed":e.tableLayout),L=T(()=>{if(e.data&&e.data.length)return null;let D="100%";e.height&&h.value&&(D=`${h.value}px`);const I=f.value;return{width:I?`${I}px`:"",height:D}}),K=T(()=>e.height?{height:Number.isNaN(Number(e.height))?e.height:`${e.height}px`}:e.maxHeight?{maxHeight:Number.isNaN(Number(e.maxHeight))?e.maxHeight:`${e.maxHeight}px`}:{}),O=T(()=>{var D,I;if(e.height)return{height:"100%"};if(e.maxHeight){if(Number.isNaN(Number(e.maxHeight)))return{maxHeight:`calc(${e.maxHeight} - ${m.value+v.value}px)`};{const X=((D=o.refs.headerWrapper)==null?void 0:D.scrollHeight)||0,q=((I=o.refs.footerWrapper)==null?void 0:I.scrollHeight)||0,j=e.maxHeight;if(p.value>=Number(j))return{maxHeight:`${p.value-X-q}px`}}}return{}});return{isHidden:r,renderExpanded:l,setDragVisible:s,isGroup:c,handleMouseLeave:y,handleHeaderFooterMousewheel:g,tableSize:F,emptyBlockStyle:L,handleFixedMousewheel:(D,I)=>{const X=o.refs.bodyWrapper;if(Math.abs(I.spinY)>0){const q=X.scrollTop;I.pixelY<0&&q!==0&&D.preventDefault(),I.pixelY>0&&X.scrollHeight-X.clientHeight>q&&D.preventDefault(),X.scrollTop+=Math.ceil(I.pixelY/5)}else X.scrollLeft+=Math.ceil(I.pixelX/5)},resizeProxyVisible:a,bodyWidth:R,resizeState:u,doLayout:C,tableBodyStyles:_,tableLayout:H,scrollbarViewStyle:d,tableInnerStyle:K,scrollbarStyle:O}}var M6e={data:{type:Array,default:()=>[]},size:String,width:[String,Number],height:[String,Number],maxHeight:[String,Number],fit:{type:Boolean,default:!0},stripe:Boolean,border:Boolean,rowKey:[String,Function],showHeader:{type:Boolean,default:!0},showSummary:Boolean,sumText:String,summaryMethod:Function,rowClassName:[String,Function],rowStyle:[Object,Function],cellClassName:[String,Function],cellStyle:[Object,Function],headerRowClassName:[String,Function],headerRowStyle:[Object,Function],headerCellClassName:[String,Function],headerCellStyle:[Object,Function],highlightCurrentRow:Boolean,currentRowKey:[String,Number],emptyText:String,expandRowKeys:Array,defaultExpandAll:Boolean,defaultSort:Object,tooltipEffect:String,spanMethod:Function,selectOnIndeterminate:{type:Boolean,default:!0},indent:{type:Number,default:16},treeProps:{type:Object,default:()=>({hasChildren:"hasChildren",children:"children"})},lazy:Boolean,load:Function,style:{type:Object,default:()=>({})},className:{type:String,default:""},tableLayout:{type:String,default:"fixed"},scrollbarAlwaysOn:{type:Boolean,default:!1},flexible:Boolean};const T6e=()=>{const e=N(),t=(l,a)=>{const s=e.value;s&&s.scrollTo(l,a)},n=(l,a)=>{const s=e.value;s&&et(a)&&["Top","Left"].includes(l)&&s[`setScroll${l}`](a)};return{scrollBarRef:e,scrollTo:t,setScrollTop:l=>n("Top",l),setScrollLeft:l=>n("Left",l)}};let x6e=1;const z6e=ve({name:"ElTable",directives:{Mousewheel:cue},components:{TableHeader:m6e,TableBody:w6e,TableFooter:S6e,ElScrollbar:or,hColgroup:v2},props:M6e,emits:["select","select-all","selection-change","cell-mouse-enter","cell-mouse-leave","cell-contextmenu","cell-click","cell-dblclick","row-click","row-contextmenu","row-dblclick","header-click","header-contextmenu","sort-change","filter-change","current-change","header-dragend","expand-change"],setup(e){const{t}=_t(),n=me("table"),o=nt();at(zo,o);const r=n6e(o,e);o.store=r;const l=new r6e({store:o.store,table:o,fit:e.fit,showHeader:e.showHeader});o.layout=l;const a=T(()=>(r.states.data.value||[]).length===0),{setCurrentRow:s,getSelectionRows:u,toggleRowSelection:c,clearSelection:d,clearFilter:f,toggleAllSelection:p,toggleRowExpansion:h,clearSort:m,sort:v}=k6e(r),{isHidden:y,renderExpanded:g,setDragVisible:w,isGroup:_,handleMouseLeave:C,handleHeaderFooterMousewheel:S,tableSize:k,emptyBlockStyle:M,handleFixedMousewheel:x,resizeProxyVisible:A,bodyWidth:V,resizeState:F,doLayout:R,tableBodyStyles:H,tableLayout:L,scrollbarViewStyle:K,tableInnerStyle:O,scrollbarStyle:P}=E6e(e,l,r,o),{scrollBarRef:D,scrollTo:I,setScrollLeft:X,setScrollTop:q}=T6e(),j=vn(R,50),Z=`el-table_${x6e++}`;o.tableId=Z,o.state={isGroup:_,resizeState:F,doLayout:R,debouncedUpdateLayout:j};const pe=T(()=>e.sumText||t("el.table.sumText")),_e=T(()=>e.emptyText||t("el.table.emptyText"));return{ns:n,layout:l,store:r,handleHeaderFooterMousewheel:S,handleMouseLeave:C,tableId:Z,tableSize:k,isHidden:y,isEmpty:a,renderExpanded:g,resizeProxyVisible:A,resizeState:F,isGroup:_,bodyWidth:V,tableBodyStyles:H,emptyBlockStyle:M,debouncedUpdateLayout:j,handleFixedMousewheel:x,setCurrentRow:s,getSelectionRows:u,toggleRowSelection:c,clearSelection:d,clearFilter:f,toggleAllSelection:p,toggleRowExpansion:h,clearSort:m,doLayout:R,sort:v,t,setDragVisible:w,context:o,computedSumText:pe,computedEmptyText:_e,tableLayout:L,scrollbarViewStyle:K,tableInnerStyle:O,scrollbarStyle:P,scrollBarRef:D,scrollTo:I,setScrollLeft:X,setScrollTop:q}}}),A6e=["data-prefix"],N6e={ref:"hiddenColumns",class:"hidden-columns"};function O6e(e,t,n,o,r,l){const a=Ie("hColgroup"),s=Ie("table-header"),u=Ie("table-body"),c=Ie("el-scrollbar"),d=Ie("table-footer"),f=Sr("mousewheel");return b(),E("div",{ref:"tableWrapper",class:z([{[e.ns.m("fit")]:e.fit,[e.ns.m("striped")]:e.stripe,[e.ns.m("border")]:e.border||e.isGroup,[e.ns.m("hidden")]:e.isHidden,[e.ns.m("group")]:e.isGroup,[e.ns.m("fluid-height")]:e.maxHeight,[e.ns.m("scrollable-x")]:e.layout.scrollX.value,[e.ns.m("scrollable-y")]:e.layout.scrollY.value,[e.ns.m("enable-row-hover")]:!e.store.states.isComplex.value,[e.ns.m("enable-row-transition")]:(e.store.states.data.value||[]).length!==0&&(e.store.states.data.value||[]).length<100,"has-footer":e.showSummary},e.ns.m(e.tableSize),e.className,e.ns.b(),e.ns.m(`layout-${e.tableLayout}`)]),style:Re(e.style),"data-prefix":e.ns.namespace.value,onMouseleave:t[0]||(t[0]=p=>e.handleMouseLeave())},[$("div",{class:z(e.ns.e("inner-wrapper")),style:Re(e.tableInnerStyle)},[$("div",N6e,[he(e.$slots,"default")],512),e.showHeader&&e.tableLayout==="fixed"?Qe((b(),E("div",{key:0,ref:"headerWrapper",class:z(e.ns.e("header-wrapper"))},[$("table",{ref:"tableHeader",class:z(e.ns.e("header")),style:Re(e.tableBodyStyles),border:"0",cellpadding:"0",cellspacing:"0"},[W(a,{columns:e.store.states.columns.value,"table-layout":e.tableLayout},null,8,["columns","table-layout"]),W(s,{ref:"tableHeaderRef",border:e.border,"default-sort":e.defaultSort,store:e.store,onSetDragVisible:e.setDragVisible},null,8,["border","default-sort","store","onSetDragVisible"])],6)],2)),[[f,e.handleHeaderFooterMousewheel]]):ee("v-if",!0),$("div",{ref:"bodyWrapper",class:z(e.ns.e("body-wrapper"))},[W(c,{ref:"scrollBarRef","view-style":e.scrollbarViewStyle,"wrap-style":e.scrollbarStyle,always:e.scrollbarAlwaysOn},{default:J(()=>[$("table",{ref:"tableBody",class:z(e.ns.e("body")),cellspacing:"0",cellpadding:"0",border:"0",style:Re({width:e.bodyWidth,tableLayout:e.tableLayout})},[W(a,{columns:e.store.states.columns.value,"table-layout":e.tableLayout},null,8,["columns","table-layout"]),e.showHeader&&e.tableLayout==="auto"?(b(),ne(s,{key:0,ref:"tableHeaderRef",border:e.border,"default-sort":e.defaultSort,store:e.store,onSetDragVisible:e.setDragVisible},null,8,["border","default-sort","store","onSetDragVisible"])):ee("v-if",!0),W(u,{context:e.context,highlight:e.highlightCurrentRow,"row-class-name":e.rowClassName,"tooltip-effect":e.tooltipEffect,"row-style":e.rowStyle,store:e.store,stripe:e.stripe},null,8,["context","highlight","row-class-name","tooltip-effect","row-style","store","stripe"])],6),e.isEmpty?(b(),E("div",{key:0,ref:"emptyBlock",style:Re(e.emptyBlockStyle),class:z(e.ns.e("empty-block"))},[$("span",{class:z(e.ns.e("empty-text"))},[he(e.$slots,"empty",{},()=>[ft(ke(e.computedEmptyText),1)])],2)],6)):ee("v-if",!0),e.$slots.append?(b(),E("div",{key:1,ref:"appendWrapper",class:z(e.ns.e("append-wrapper"))},[he(e.$slots,"append")],2)):ee("v-if",!0)]),_:3},8,["view-style","wrap-style","always"])],2),e.showSummary?Qe((b(),E("div",{key:1,ref:"footerWrapper",class:z(e.ns.e("footer-wrapper"))},[W(d,{border:e.border,"default-sort":e.defaultSort,store:e.store,style:Re(e.tableBodyStyles),"sum-text":e.computedSumText,"summary-method":e.summaryMethod},null,8,["border","default-sort","store","style","sum-text","summary-method"])],2)),[[gt,!e.isEmpty],[f,e.handleHeaderFooterMousewheel]]):ee("v-if",!0),e.border||e.isGroup?(b(),E("div",{key:2,class:z(e.ns.e("border-left-patch"))},null,2)):ee("v-if",!0)],6),Qe($("div",{ref:"resizeProxy",class:z(e.ns.e("column-resize-proxy"))},null,2),[[gt,e.resizeProxyVisible]])],46,A6e)}var P6e=Ee(z6e,[["render",O6e],["__file","/home/runner/work/element-plus/element-plus/packages/components/table/src/table.vue"]]);const I6e={selection:"table-column--selection",expand:"table__expand-column"},L6e={default:{order:""},selection:{width:48,minWidth:48,realWidth:48,order:""},expand:{width:48,minWidth:48,realWidth:48,order:""},index:{width:48,minWidth:48,realWidth:48,order:""}},V6e=e=>I6e[e]||"",H6e={selection:{renderHeader({store:e}){function t(){return e.states.data.value&&e.states.data.value.length===0}return Ke(Qn,{disabled:t(),size:e.states.tableSize.value,indeterminate:e.states.selection.value.length>0&&!e.states.isAllSelected.value,"onUpdate:modelValue":e.toggleAllSelection,modelValue:e.states.isAllSelected.value})},renderCell({row:e,column:t,store:n,$index:o}){return Ke(Qn,{disabled:t.selectable?!t.selectable.call(null,e,o):!1,size:n.states.tableSize.value,onChange:()=>{n.commit("rowSelectedChanged",e)},onClick:r=>r.stopPropagation(),modelValue:n.isSelected(e)})},sortable:!1,resizable:!1},index:{renderHeader({column:e}){return e.label||"#"},renderCell({column:e,$index:t}){let n=t+1;const o=e.index;return typeof o=="number"?n=t+o:typeof o=="function"&&(n=o(t)),Ke("div",{},[n])},sortable:!1},expand:{renderHeader({column:e}){return e.label||""},renderCell({row:e,store:t,expanded:n}){const{ns:o}=t,r=[o.e("expand-icon")];return n&&r.push(o.em("expand-icon","expanded")),Ke("div",{class:r,onClick:function(a){a.stopPropagation(),t.toggleRowExpansion(e)}},{default:()=>[Ke(He,null,{default:()=>[Ke(un)]})]})},sortable:!1,resizable:!1}};function R6e({row:e,column:t,$index:n}){var o;const r=t.property,l=r&&yi(e,r).value;return t&&t.formatter?t.formatter(e,t,l,n):((o=l==null?void 0:l.toString)==null?void 0:o.call(l))||""}function B6e({row:e,treeNode:t,store:n},o=!1){const{ns:r}=n;if(!t)return o?[Ke("span",{class:r.e("placeholder")})]:null;const l=[],a=function(s){s.stopPropagation(),n.loadOrToggle(e)};if(t.indent&&l.push(Ke("span",{class:r.e("indent"),style:{"padding-left":`${t.indent}px`}})),typeof t.expanded=="boolean"&&!t.noLazyChildren){const s=[r.e("expand-icon"),t.expanded?r.em("expand-icon","expanded"):""];let u=un;t.loading&&(u=er),l.push(Ke("div",{class:s,onClick:a},{default:()=>[Ke(He,{class:{[r.is("loading")]:t.loading}},{default:()=>[Ke(u)]})]}))}else l.push(Ke("span",{class:r.e("placeholder")}));return l}function Ph(e,t){return e.reduce((n,o)=>(n[o]=o,n),t)}function D6e(e,t){const n=nt();return{registerComplexWatchers:()=>{const l=["fixed"],a={realWidth:"width",realMinWidth:"minWidth"},s=Ph(l,a);Object.keys(s).forEach(u=>{const c=a[u];ct(t,c)&&ye(()=>t[c],d=>{let f=d;c==="width"&&u==="realWidth"&&(f=f2(d)),c==="minWidth"&&u==="realMinWidth"&&(f=t8(d)),n.columnConfig.value[c]=f,n.columnConfig.value[u]=f;const p=c==="fixed";e.value.store.scheduleLayout(p)})})},registerNormalWatchers:()=>{const l=["label","filters","filterMultiple","sortable","index","formatter","className","labelClassName","showOverflowTooltip"],a={property:"prop",align:"realAlign",headerAlign:"realHeaderAlign"},s=Ph(l,a);Object.keys(s).forEach(u=>{const c=a[u];ct(t,c)&&ye(()=>t[c],d=>{n.columnConfig.value[u]=d})})}}}function F6e(e,t,n){const o=nt(),r=N(""),l=N(!1),a=N(),s=N(),u=me("table");Cn(()=>{a.value=e.align?`is-${e.align}`:null,a.value}),Cn(()=>{s.value=e.headerAlign?`is-${e.headerAlign}`:a.value,s.value});const c=T(()=>{let _=o.vnode.vParent||o.parent;for(;_&&!_.tableId&&!_.columnId;)_=_.vnode.vParent||_.parent;return _}),d=T(()=>{const{store:_}=o.parent;if(!_)return!1;const{treeData:C}=_.states,S=C.value;return S&&Object.keys(S).length>0}),f=N(f2(e.width)),p=N(t8(e.minWidth)),h=_=>(f.value&&(_.width=f.value),p.value&&(_.minWidth=p.value),_.minWidth||(_.minWidth=80),_.realWidth=Number(_.width===void 0?_.minWidth:_.width),_),m=_=>{const C=_.type,S=H6e[C]||{};Object.keys(S).forEach(M=>{const x=S[M];M!=="className"&&x!==void 0&&(_[M]=x)});const k=V6e(C);if(k){const M=`${i(u.namespace)}-${k}`;_.className=_.className?`${_.className} ${M}`:M}return _},v=_=>{Array.isArray(_)?_.forEach(S=>C(S)):C(_);function C(S){var k;((k=S==null?void 0:S.type)==null?void 0:k.name)==="ElTableColumn"&&(S.vParent=o)}};return{columnId:r,realAlign:a,isSubColumn:l,realHeaderAlign:s,columnOrTableParent:c,setColumnWidth:h,setColumnForcedProps:m,setColumnRenders:_=>{e.renderHeader||_.type!=="selection"&&(_.renderHeader=k=>{o.columnConfig.value.label;const M=t.header;return M?M(k):_.label});let C=_.renderCell;const S=d.value;return _.type==="expand"?(_.renderCell=k=>Ke("div",{class:"cell"},[C(k)]),n.value.renderExpanded=k=>t.default?t.default(k):t.default):(C=C||R6e,_.renderCell=k=>{let M=null;if(t.default){const F=t.default(k);M=F.some(R=>R.type!==Ut)?F:C(k)}else M=C(k);const x=S&&k.cellIndex===0,A=B6e(k,x),V={class:"cell",style:{}};return _.showOverflowTooltip&&(V.class=`${V.class} ${i(u.namespace)}-tooltip`,V.style={width:`${(k.column.realWidth||Number(k.column.width))-1}px`}),v(M),Ke("div",V,[A,M])}),_},getPropsData:(..._)=>_.reduce((C,S)=>(Array.isArray(S)&&S.forEach(k=>{C[k]=e[k]}),C),{}),getColumnElIndex:(_,C)=>Array.prototype.indexOf.call(_,C)}}var K6e={type:{type:String,default:"default"},label:String,className:String,labelClassName:String,property:String,prop:String,width:{type:[String,Number],default:""},minWidth:{type:[String,Number],default:""},renderHeader:Function,sortable:{type:[Boolean,String],default:!1},sortMethod:Function,sortBy:[String,Function,Array],resizable:{type:Boolean,default:!0},columnKey:String,align:String,headerAlign:String,showTooltipWhenOverflow:Boolean,showOverflowTooltip:Boolean,fixed:[Boolean,String],formatter:Function,selectable:Function,reserveSelection:Boolean,filterMethod:Function,filteredValue:Array,filters:Array,filterPlacement:String,filterMultiple:{type:Boolean,default:!0},index:[Number,Function],sortOrders:{type:Array,default:()=>["ascending","descending",null],validator:e=>e.every(t=>["ascending","descending",null].includes(t))}};let W6e=1;var i8=ve({name:"ElTableColumn",components:{ElCheckbox:Qn},props:K6e,setup(e,{slots:t}){const n=nt(),o=N({}),r=T(()=>{let w=n.parent;for(;w&&!w.tableId;)w=w.parent;return w}),{registerNormalWatchers:l,registerComplexWatchers:a}=D6e(r,e),{columnId:s,isSubColumn:u,realHeaderAlign:c,columnOrTableParent:d,setColumnWidth:f,setColumnForcedProps:p,setColumnRenders:h,getPropsData:m,getColumnElIndex:v,realAlign:y}=F6e(e,t,r),g=d.value;s.value=`${g.tableId||g.columnId}_column_${W6e++}`,Os(()=>{u.value=r.value!==g;const w=e.type||"default",_=e.sortable===""?!0:e.sortable,C={...L6e[w],id:s.value,type:w,property:e.prop||e.property,align:y,headerAlign:c,showOverflowTooltip:e.showOverflowTooltip||e.showTooltipWhenOverflow,filterable:e.filters||e.filterMethod,filteredValue:[],filterPlacement:"",isColumnGroup:!1,isSubColumn:!1,filterOpened:!1,sortable:_,index:e.index,rawColumnKey:n.vnode.key};let A=m(["columnKey","label","className","labelClassName","type","renderHeader","formatter","fixed","resizable"],["sortMethod","sortBy","sortOrders"],["selectable","reserveSelection"],["filterMethod","filters","filterMultiple","filterOpened","filteredValue","filterPlacement"]);A=j3e(C,A),A=U3e(h,f,p)(A),o.value=A,l(),a()}),tt(()=>{var w;const _=d.value,C=u.value?_.vnode.el.children:(w=_.refs.hiddenColumns)==null?void 0:w.children,S=()=>v(C||[],n.vnode.el);o.value.getColumnIndex=S,S()>-1&&r.value.store.commit("insertColumn",o.value,u.value?_.columnConfig.value:null)}),Lt(()=>{r.value.store.commit("removeColumn",o.value,u.value?g.columnConfig.value:null)}),n.columnId=s.value,n.columnConfig=o},render(){var e,t,n;try{const o=(t=(e=this.$slots).default)==null?void 0:t.call(e,{row:{},column:{},$index:-1}),r=[];if(Array.isArray(o))for(const a of o)((n=a.type)==null?void 0:n.name)==="ElTableColumn"||a.shapeFlag&2?r.push(a):a.type===Ve&&Array.isArray(a.children)&&a.children.forEach(s=>{(s==null?void 0:s.patchFlag)!==1024&&!Ze(s==null?void 0:s.children)&&r.push(s)});return Ke("div",r)}catch{return Ke("div",[])}}});const j6e=rt(P6e,{TableColumn:i8}),q6e=Rt(i8);var ks=(e=>(e.ASC="asc",e.DESC="desc",e))(ks||{}),Es=(e=>(e.CENTER="center",e.RIGHT="right",e))(Es||{}),u8=(e=>(e.LEFT="left",e.RIGHT="right",e))(u8||{});const bf={asc:"desc",desc:"asc"},Ms=Symbol("placeholder"),U6e=(e,t,n)=>{var o;const r={flexGrow:0,flexShrink:0,...n?{}:{flexGrow:e.flexGrow||0,flexShrink:e.flexShrink||1}};n||(r.flexShrink=1);const l={...(o=e.style)!=null?o:{},...r,flexBasis:"auto",width:e.width};return t||(e.maxWidth&&(l.maxWidth=e.maxWidth),e.minWidth&&(l.minWidth=e.minWidth)),l};function Y6e(e,t,n){const o=T(()=>i(t).filter(v=>!v.hidden)),r=T(()=>i(o).filter(v=>v.fixed==="left"||v.fixed===!0)),l=T(()=>i(o).filter(v=>v.fixed==="right")),a=T(()=>i(o).filter(v=>!v.fixed)),s=T(()=>{const v=[];return i(r).forEach(y=>{v.push({...y,placeholderSign:Ms})}),i(a).forEach(y=>{v.push(y)}),i(l).forEach(y=>{v.push({...y,placeholderSign:Ms})}),v}),u=T(()=>i(r).length||i(l).length),c=T(()=>i(t).reduce((y,g)=>(y[g.key]=U6e(g,i(n),e.fixed),y),{})),d=T(()=>i(o).reduce((v,y)=>v+y.width,0)),f=v=>i(t).find(y=>y.key===v),p=v=>i(c)[v],h=(v,y)=>{v.width=y};function m(v){var y;const{key:g}=v.currentTarget.dataset;if(!g)return;const{sortState:w,sortBy:_}=e;let C=ks.ASC;pt(w)?C=bf[w[g]]:C=bf[_.order],(y=e.onColumnSort)==null||y.call(e,{column:f(g),key:g,order:C})}return{columns:t,columnsStyles:c,columnsTotalWidth:d,fixedColumnsOnLeft:r,fixedColumnsOnRight:l,hasFixedColumns:u,mainColumns:s,normalColumns:a,visibleColumns:o,getColumn:f,getColumnStyle:p,updateColumnWidth:h,onColumnSorted:m}}const G6e=(e,{mainTableRef:t,leftTableRef:n,rightTableRef:o,onMaybeEndReached:r})=>{const l=N({scrollLeft:0,scrollTop:0});function a(h){var m,v,y;const{scrollTop:g}=h;(m=t.value)==null||m.scrollTo(h),(v=n.value)==null||v.scrollToTop(g),(y=o.value)==null||y.scrollToTop(g)}function s(h){l.value=h,a(h)}function u(h){l.value.scrollTop=h,a(i(l))}function c(h){var m,v;l.value.scrollLeft=h,(v=(m=t.value)==null?void 0:m.scrollTo)==null||v.call(m,i(l))}function d(h){var m;s(h),(m=e.onScroll)==null||m.call(e,h)}function f({scrollTop:h}){const{scrollTop:m}=i(l);h!==m&&u(h)}function p(h,m="auto"){var v;(v=t.value)==null||v.scrollToRow(h,m)}return ye(()=>i(l).scrollTop,(h,m)=>{h>m&&r()}),{scrollPos:l,scrollTo:s,scrollToLeft:c,scrollToTop:u,scrollToRow:p,onScroll:d,onVerticalScroll:f}},X6e=(e,{mainTableRef:t,leftTableRef:n,rightTableRef:o,onMaybeEndReached:r})=>{const l=nt(),{emit:a}=l,s=Tt(!1),u=Tt(null),c=N(e.defaultExpandedRowKeys||[]),d=N(-1),f=Tt(null),p=N({}),h=N({}),m=Tt({}),v=Tt({}),y=Tt({}),g=T(()=>et(e.estimatedRowHeight));function w(A){var V;(V=e.onRowsRendered)==null||V.call(e,A),A.rowCacheEnd>i(d)&&(d.value=A.rowCacheEnd)}function _({hovered:A,rowKey:V}){u.value=A?V:null}function C({expanded:A,rowData:V,rowIndex:F,rowKey:R}){var H,L;const K=[...i(c)],O=K.indexOf(R);A?O===-1&&K.push(R):O>-1&&K.splice(O,1),c.value=K,a("update:expandedRowKeys",K),(H=e.onRowExpand)==null||H.call(e,{expanded:A,rowData:V,rowIndex:F,rowKey:R}),(L=e.onExpandedRowsChange)==null||L.call(e,K)}const S=vn(()=>{var A,V,F,R;s.value=!0,p.value={...i(p),...i(h)},k(i(f),!1),h.value={},f.value=null,(A=t.value)==null||A.forceUpdate(),(V=n.value)==null||V.forceUpdate(),(F=o.value)==null||F.forceUpdate(),(R=l.proxy)==null||R.$forceUpdate(),s.value=!1},0);function k(A,V=!1){!i(g)||[t,n,o].forEach(F=>{const R=i(F);R&&R.resetAfterRowIndex(A,V)})}function M(A,V,F){const R=i(f);(R===null||R>F)&&(f.value=F),h.value[A]=V}function x({rowKey:A,height:V,rowIndex:F},R){R?R===u8.RIGHT?y.value[A]=V:m.value[A]=V:v.value[A]=V;const H=Math.max(...[m,y,v].map(L=>L.value[A]||0));i(p)[A]!==H&&(M(A,H,F),S())}return ye(d,()=>r()),{hoveringRowKey:u,expandedRowKeys:c,lastRenderedRowIndex:d,isDynamic:g,isResetting:s,rowHeights:p,resetAfterIndex:k,onRowExpanded:C,onRowHovered:_,onRowsRendered:w,onRowHeightChange:x}},J6e=(e,{expandedRowKeys:t,lastRenderedRowIndex:n,resetAfterIndex:o})=>{const r=N({}),l=T(()=>{const s={},{data:u,rowKey:c}=e,d=i(t);if(!d||!d.length)return u;const f=[],p=new Set;d.forEach(m=>p.add(m));let h=u.slice();for(h.forEach(m=>s[m[c]]=0);h.length>0;){const m=h.shift();f.push(m),p.has(m[c])&&Array.isArray(m.children)&&m.children.length>0&&(h=[...m.children,...h],m.children.forEach(v=>s[v[c]]=s[m[c]]+1))}return r.value=s,f}),a=T(()=>{const{data:s,expandColumnKey:u}=e;return u?i(l):s});return ye(a,(s,u)=>{s!==u&&(n.value=-1,o(0,!0))}),{data:a,depthMap:r}},Z6e=(e,t)=>e+t,Li=e=>Oe(e)?e.reduce(Z6e,0):e,gl=(e,t,n={})=>Je(e)?e(t):e!=null?e:n,gr=e=>(["width","maxWidth","minWidth","height"].forEach(t=>{e[t]=jt(e[t])}),e),c8=e=>Et(e)?t=>Ke(e,t):e,Q6e=(e,{columnsTotalWidth:t,data:n,fixedColumnsOnLeft:o,fixedColumnsOnRight:r})=>{const l=T(()=>{const{fixed:_,width:C,vScrollbarSize:S}=e,k=C-S;return _?Math.max(Math.round(i(t)),k):k}),a=T(()=>i(l)+(e.fixed?e.vScrollbarSize:0)),s=T(()=>{const{height:_=0,maxHeight:C=0,footerHeight:S,hScrollbarSize:k}=e;if(C>0){const M=i(m),x=i(u),V=i(h)+M+x+k;return Math.min(V,C-S)}return _-S}),u=T(()=>{const{rowHeight:_,estimatedRowHeight:C}=e,S=i(n);return et(C)?S.length*C:S.length*_}),c=T(()=>{const{maxHeight:_}=e,C=i(s);if(et(_)&&_>0)return C;const S=i(u)+i(h)+i(m);return Math.min(C,S)}),d=_=>_.width,f=T(()=>Li(i(o).map(d))),p=T(()=>Li(i(r).map(d))),h=T(()=>Li(e.headerHeight)),m=T(()=>{var _;return(((_=e.fixedData)==null?void 0:_.length)||0)*e.rowHeight}),v=T(()=>i(s)-i(h)-i(m)),y=T(()=>{const{style:_={},height:C,width:S}=e;return gr({..._,height:C,width:S})}),g=T(()=>gr({height:e.footerHeight})),w=T(()=>({top:jt(i(h)),bottom:jt(e.footerHeight),width:jt(e.width)}));return{bodyWidth:l,fixedTableHeight:c,mainTableHeight:s,leftTableWidth:f,rightTableWidth:p,headerWidth:a,rowsHeight:u,windowHeight:v,footerHeight:g,emptyStyle:w,rootStyle:y}},ege=e=>{const t=N(),n=N(0),o=N(0);let r;return tt(()=>{r=mn(t,([l])=>{const{width:a,height:s}=l.contentRect,{paddingLeft:u,paddingRight:c,paddingTop:d,paddingBottom:f}=getComputedStyle(l.target),p=Number.parseInt(u)||0,h=Number.parseInt(c)||0,m=Number.parseInt(d)||0,v=Number.parseInt(f)||0;n.value=a-p-h,o.value=s-m-v}).stop}),Lt(()=>{r==null||r()}),ye([n,o],([l,a])=>{var s;(s=e.onResize)==null||s.call(e,{width:l,height:a})}),{sizer:t,width:n,height:o}};function tge(e){const t=N(),n=N(),o=N(),{columns:r,columnsStyles:l,columnsTotalWidth:a,fixedColumnsOnLeft:s,fixedColumnsOnRight:u,hasFixedColumns:c,mainColumns:d,onColumnSorted:f}=Y6e(e,Pt(e,"columns"),Pt(e,"fixed")),{scrollTo:p,scrollToLeft:h,scrollToTop:m,scrollToRow:v,onScroll:y,onVerticalScroll:g,scrollPos:w}=G6e(e,{mainTableRef:t,leftTableRef:n,rightTableRef:o,onMaybeEndReached:Le}),{expandedRowKeys:_,hoveringRowKey:C,lastRenderedRowIndex:S,isDynamic:k,isResetting:M,rowHeights:x,resetAfterIndex:A,onRowExpanded:V,onRowHeightChange:F,onRowHovered:R,onRowsRendered:H}=X6e(e,{mainTableRef:t,leftTableRef:n,rightTableRef:o,onMaybeEndReached:Le}),{data:L,depthMap:K}=J6e(e,{expandedRowKeys:_,lastRenderedRowIndex:S,resetAfterIndex:A}),{bodyWidth:O,fixedTableHeight:P,mainTableHeight:D,leftTableWidth:I,rightTableWidth:X,headerWidth:q,rowsHeight:j,windowHeight:Z,footerHeight:pe,emptyStyle:_e,rootStyle:$e}=Q6e(e,{columnsTotalWidth:a,data:L,fixedColumnsOnLeft:s,fixedColumnsOnRight:u}),U=Tt(!1),ce=N(),de=T(()=>{const We=i(L).length===0;return Oe(e.fixedData)?e.fixedData.length===0&&We:We});function ge(We){const{estimatedRowHeight:Y,rowHeight:Q,rowKey:ie}=e;return Y?i(x)[i(L)[We][ie]]||Y:Q}function Le(){const{onEndReached:We}=e;if(!We)return;const{scrollTop:Y}=i(w),Q=i(j),ie=i(Z),Se=Q-(Y+ie)+e.hScrollbarSize;i(S)>=0&&Q!==i(j)&&We(Se)}return ye(()=>e.expandedRowKeys,We=>_.value=We,{deep:!0}),{columns:r,containerRef:ce,mainTableRef:t,leftTableRef:n,rightTableRef:o,isDynamic:k,isResetting:M,isScrolling:U,hoveringRowKey:C,hasFixedColumns:c,columnsStyles:l,columnsTotalWidth:a,data:L,expandedRowKeys:_,depthMap:K,fixedColumnsOnLeft:s,fixedColumnsOnRight:u,mainColumns:d,bodyWidth:O,emptyStyle:_e,rootStyle:$e,headerWidth:q,footerHeight:pe,mainTableHeight:D,fixedTableHeight:P,leftTableWidth:I,rightTableWidth:X,showEmpty:de,getRowHeight:ge,onColumnSorted:f,onRowHovered:R,onRowExpanded:V,onRowsRendered:H,onRowHeightChange:F,scrollTo:p,scrollToLeft:h,scrollToTop:m,scrollToRow:v,onScroll:y,onVerticalScroll:g}}const m2=Symbol("tableV2"),d8=String,Ws={type:ae(Array),required:!0},g2={type:ae(Array)},f8={...g2,required:!0},nge=String,Ih={type:ae(Array),default:()=>Nt([])},Kr={type:Number,required:!0},p8={type:ae([String,Number,Symbol]),default:"id"},Lh={type:ae(Object)},Xr=Te({class:String,columns:Ws,columnsStyles:{type:ae(Object),required:!0},depth:Number,expandColumnKey:nge,estimatedRowHeight:{...ol.estimatedRowHeight,default:void 0},isScrolling:Boolean,onRowExpand:{type:ae(Function)},onRowHover:{type:ae(Function)},onRowHeightChange:{type:ae(Function)},rowData:{type:ae(Object),required:!0},rowEventHandlers:{type:ae(Object)},rowIndex:{type:Number,required:!0},rowKey:p8,style:{type:ae(Object)}}),Kc={type:Number,required:!0},_2=Te({class:String,columns:Ws,fixedHeaderData:{type:ae(Array)},headerData:{type:ae(Array),required:!0},headerHeight:{type:ae([Number,Array]),default:50},rowWidth:Kc,rowHeight:{type:Number,default:50},height:Kc,width:Kc}),Vi=Te({columns:Ws,data:f8,fixedData:g2,estimatedRowHeight:Xr.estimatedRowHeight,width:Kr,height:Kr,headerWidth:Kr,headerHeight:_2.headerHeight,bodyWidth:Kr,rowHeight:Kr,cache:Rg.cache,useIsScrolling:Boolean,scrollbarAlwaysOn:ol.scrollbarAlwaysOn,scrollbarStartGap:ol.scrollbarStartGap,scrollbarEndGap:ol.scrollbarEndGap,class:d8,style:Lh,containerStyle:Lh,getRowHeight:{type:ae(Function),required:!0},rowKey:Xr.rowKey,onRowsRendered:{type:ae(Function)},onScroll:{type:ae(Function)}}),oge=Te({cache:Vi.cache,estimatedRowHeight:Xr.estimatedRowHeight,rowKey:p8,headerClass:{type:ae([String,Function])},headerProps:{type:ae([Object,Function])},headerCellProps:{type:ae([Object,Function])},headerHeight:_2.headerHeight,footerHeight:{type:Number,default:0},rowClass:{type:ae([String,Function])},rowProps:{type:ae([Object,Function])},rowHeight:{type:Number,default:50},cellProps:{type:ae([Object,Function])},columns:Ws,data:f8,dataGetter:{type:ae(Function)},fixedData:g2,expandColumnKey:Xr.expandColumnKey,expandedRowKeys:Ih,defaultExpandedRowKeys:Ih,class:d8,fixed:Boolean,style:{type:ae(Object)},width:Kr,height:Kr,maxHeight:Number,useIsScrolling:Boolean,indentSize:{type:Number,default:12},iconSize:{type:Number,default:12},hScrollbarSize:ol.hScrollbarSize,vScrollbarSize:ol.vScrollbarSize,scrollbarAlwaysOn:Fg.alwaysOn,sortBy:{type:ae(Object),default:()=>({})},sortState:{type:ae(Object),default:void 0},onColumnSort:{type:ae(Function)},onExpandedRowsChange:{type:ae(Function)},onEndReached:{type:ae(Function)},onRowExpand:Xr.onRowExpand,onScroll:Vi.onScroll,onRowsRendered:Vi.onRowsRendered,rowEventHandlers:Xr.rowEventHandlers}),y2=(e,{slots:t})=>{var n;const{cellData:o,style:r}=e,l=((n=o==null?void 0:o.toString)==null?void 0:n.call(o))||"";return W("div",{class:e.class,title:l,style:r},[t.default?t.default(e):l])};y2.displayName="ElTableV2Cell";y2.inheritAttrs=!1;const b2=(e,{slots:t})=>{var n,o;return t.default?t.default(e):W("div",{class:e.class,title:(n=e.column)==null?void 0:n.title},[(o=e.column)==null?void 0:o.title])};b2.displayName="ElTableV2HeaderCell";b2.inheritAttrs=!1;const rge=Te({class:String,columns:Ws,columnsStyles:{type:ae(Object),required:!0},headerIndex:Number,style:{type:ae(Object)}}),lge=ve({name:"ElTableV2HeaderRow",props:rge,setup(e,{slots:t}){return()=>{const{columns:n,columnsStyles:o,headerIndex:r,style:l}=e;let a=n.map((s,u)=>t.cell({columns:n,column:s,columnIndex:u,headerIndex:r,style:o[s.key]}));return t.header&&(a=t.header({cells:a.map(s=>Oe(s)&&s.length===1?s[0]:s),columns:n,headerIndex:r})),W("div",{class:e.class,style:l},[a])}}}),age="ElTableV2Header",sge=ve({name:age,props:_2,setup(e,{slots:t,expose:n}){const o=me("table-v2"),r=N(),l=T(()=>gr({width:e.width,height:e.height})),a=T(()=>gr({width:e.rowWidth,height:e.height})),s=T(()=>ua(i(e.headerHeight))),u=f=>{const p=i(r);Pe(()=>{p==null||p.scroll({left:f})})},c=()=>{const f=o.e("fixed-header-row"),{columns:p,fixedHeaderData:h,rowHeight:m}=e;return h==null?void 0:h.map((v,y)=>{var g;const w=gr({height:m,width:"100%"});return(g=t.fixed)==null?void 0:g.call(t,{class:f,columns:p,rowData:v,rowIndex:-(y+1),style:w})})},d=()=>{const f=o.e("dynamic-header-row"),{columns:p}=e;return i(s).map((h,m)=>{var v;const y=gr({width:"100%",height:h});return(v=t.dynamic)==null?void 0:v.call(t,{class:f,columns:p,headerIndex:m,style:y})})};return n({scrollToLeft:u}),()=>{if(!(e.height<=0))return W("div",{ref:r,class:e.class,style:i(l)},[W("div",{style:i(a),class:o.e("header")},[d(),c()])])}}}),ige=e=>{const{isScrolling:t}=De(m2),n=N(!1),o=N(),r=T(()=>et(e.estimatedRowHeight)&&e.rowIndex>=0),l=(u=!1)=>{const c=i(o);if(!c)return;const{columns:d,onRowHeightChange:f,rowKey:p,rowIndex:h,style:m}=e,{height:v}=c.getBoundingClientRect();n.value=!0,Pe(()=>{if(u||v!==Number.parseInt(m.height)){const y=d[0],g=(y==null?void 0:y.placeholderSign)===Ms;f==null||f({rowKey:p,height:v,rowIndex:h},y&&!g&&y.fixed)}})},a=T(()=>{const{rowData:u,rowIndex:c,rowKey:d,onRowHover:f}=e,p=e.rowEventHandlers||{},h={};return Object.entries(p).forEach(([m,v])=>{Je(v)&&(h[m]=y=>{v({event:y,rowData:u,rowIndex:c,rowKey:d})})}),f&&[{name:"onMouseleave",hovered:!1},{name:"onMouseenter",hovered:!0}].forEach(({name:m,hovered:v})=>{const y=h[m];h[m]=g=>{f({event:g,hovered:v,rowData:u,rowIndex:c,rowKey:d}),y==null||y(g)}}),h}),s=u=>{const{onRowExpand:c,rowData:d,rowIndex:f,rowKey:p}=e;c==null||c({expanded:u,rowData:d,rowIndex:f,rowKey:p})};return tt(()=>{i(r)&&l(!0)}),{isScrolling:t,measurable:r,measured:n,rowRef:o,eventHandlers:a,onExpand:s}},uge="ElTableV2TableRow",cge=ve({name:uge,props:Xr,setup(e,{expose:t,slots:n,attrs:o}){const{eventHandlers:r,isScrolling:l,measurable:a,measured:s,rowRef:u,onExpand:c}=ige(e);return t({onExpand:c}),()=>{const{columns:d,columnsStyles:f,expandColumnKey:p,depth:h,rowData:m,rowIndex:v,style:y}=e;let g=d.map((w,_)=>{const C=Oe(m.children)&&m.children.length>0&&w.key===p;return n.cell({column:w,columns:d,columnIndex:_,depth:h,style:f[w.key],rowData:m,rowIndex:v,isScrolling:i(l),expandIconProps:C?{rowData:m,rowIndex:v,onExpand:c}:void 0})});if(n.row&&(g=n.row({cells:g.map(w=>Oe(w)&&w.length===1?w[0]:w),style:y,columns:d,depth:h,rowData:m,rowIndex:v,isScrolling:i(l)})),i(a)){const{height:w,..._}=y||{},C=i(s);return W("div",dt({ref:u,class:e.class,style:C?y:_},o,i(r)),[g])}return W("div",dt(o,{ref:u,class:e.class,style:y},i(r)),[g])}}}),dge=e=>{const{sortOrder:t}=e;return W(He,{size:14,class:e.class},{default:()=>[t===ks.ASC?W(Z4,null,null):W(J4,null,null)]})},fge=e=>{const{expanded:t,expandable:n,onExpand:o,style:r,size:l}=e,a={onClick:n?()=>o(!t):void 0,class:e.class};return W(He,dt(a,{size:l,style:r}),{default:()=>[W(un,null,null)]})},pge="ElTableV2Grid",hge=e=>{const t=N(),n=N(),o=T(()=>{const{data:v,rowHeight:y,estimatedRowHeight:g}=e;if(!g)return v.length*y}),r=T(()=>{const{fixedData:v,rowHeight:y}=e;return((v==null?void 0:v.length)||0)*y}),l=T(()=>Li(e.headerHeight)),a=T(()=>{const{height:v}=e;return Math.max(0,v-i(l)-i(r))}),s=T(()=>i(l)+i(r)>0),u=({data:v,rowIndex:y})=>v[y][e.rowKey];function c({rowCacheStart:v,rowCacheEnd:y,rowVisibleStart:g,rowVisibleEnd:w}){var _;(_=e.onRowsRendered)==null||_.call(e,{rowCacheStart:v,rowCacheEnd:y,rowVisibleStart:g,rowVisibleEnd:w})}function d(v,y){var g;(g=n.value)==null||g.resetAfterRowIndex(v,y)}function f(v,y){const g=i(t),w=i(n);!g||!w||(pt(v)?(g.scrollToLeft(v.scrollLeft),w.scrollTo(v)):(g.scrollToLeft(v),w.scrollTo({scrollLeft:v,scrollTop:y})))}function p(v){var y;(y=i(n))==null||y.scrollTo({scrollTop:v})}function h(v,y){var g;(g=i(n))==null||g.scrollToItem(v,1,y)}function m(){var v,y;(v=i(n))==null||v.$forceUpdate(),(y=i(t))==null||y.$forceUpdate()}return{bodyRef:n,forceUpdate:m,fixedRowHeight:r,gridHeight:a,hasHeader:s,headerHeight:l,headerRef:t,totalHeight:o,itemKey:u,onItemRendered:c,resetAfterRowIndex:d,scrollTo:f,scrollToTop:p,scrollToRow:h}},w2=ve({name:pge,props:Vi,setup(e,{slots:t,expose:n}){const{ns:o}=De(m2),{bodyRef:r,fixedRowHeight:l,gridHeight:a,hasHeader:s,headerRef:u,headerHeight:c,totalHeight:d,forceUpdate:f,itemKey:p,onItemRendered:h,resetAfterRowIndex:m,scrollTo:v,scrollToTop:y,scrollToRow:g}=hge(e);n({forceUpdate:f,totalHeight:d,scrollTo:v,scrollToTop:y,scrollToRow:g,resetAfterRowIndex:m});const w=()=>e.bodyWidth;return()=>{const{cache:_,columns:C,data:S,fixedData:k,useIsScrolling:M,scrollbarAlwaysOn:x,scrollbarEndGap:A,scrollbarStartGap:V,style:F,rowHeight:R,bodyWidth:H,estimatedRowHeight:L,headerWidth:K,height:O,width:P,getRowHeight:D,onScroll:I}=e,X=et(L),q=X?n4e:Zme,j=i(c);return W("div",{role:"table",class:[o.e("table"),e.class],style:F},[W(q,{ref:r,data:S,useIsScrolling:M,itemKey:p,columnCache:0,columnWidth:X?w:H,totalColumn:1,totalRow:S.length,rowCache:_,rowHeight:X?D:R,width:P,height:i(a),class:o.e("body"),scrollbarStartGap:V,scrollbarEndGap:A,scrollbarAlwaysOn:x,onScroll:I,onItemRendered:h,perfMode:!1},{default:Z=>{var pe;const _e=S[Z.rowIndex];return(pe=t.row)==null?void 0:pe.call(t,{...Z,columns:C,rowData:_e})}}),i(s)&&W(sge,{ref:u,class:o.e("header-wrapper"),columns:C,headerData:S,headerHeight:e.headerHeight,fixedHeaderData:k,rowWidth:K,rowHeight:R,width:P,height:Math.min(j+i(l),O)},{dynamic:t.header,fixed:t.row})])}}});function vge(e){return typeof e=="function"||Object.prototype.toString.call(e)==="[object Object]"&&!Et(e)}const mge=(e,{slots:t})=>{const{mainTableRef:n,...o}=e;return W(w2,dt({ref:n},o),vge(t)?t:{default:()=>[t]})};function gge(e){return typeof e=="function"||Object.prototype.toString.call(e)==="[object Object]"&&!Et(e)}const _ge=(e,{slots:t})=>{if(!e.columns.length)return;const{leftTableRef:n,...o}=e;return W(w2,dt({ref:n},o),gge(t)?t:{default:()=>[t]})};function yge(e){return typeof e=="function"||Object.prototype.toString.call(e)==="[object Object]"&&!Et(e)}const bge=(e,{slots:t})=>{if(!e.columns.length)return;const{rightTableRef:n,...o}=e;return W(w2,dt({ref:n},o),yge(t)?t:{default:()=>[t]})};function wge(e){return typeof e=="function"||Object.prototype.toString.call(e)==="[object Object]"&&!Et(e)}const Cge=(e,{slots:t})=>{const{columns:n,columnsStyles:o,depthMap:r,expandColumnKey:l,expandedRowKeys:a,estimatedRowHeight:s,hasFixedColumns:u,hoveringRowKey:c,rowData:d,rowIndex:f,style:p,isScrolling:h,rowProps:m,rowClass:v,rowKey:y,rowEventHandlers:g,ns:w,onRowHovered:_,onRowExpanded:C}=e,S=gl(v,{columns:n,rowData:d,rowIndex:f},""),k=gl(m,{columns:n,rowData:d,rowIndex:f}),M=d[y],x=r[M]||0,A=Boolean(l),V=f<0,F=[w.e("row"),S,{[w.e(`row-depth-${x}`)]:A&&f>=0,[w.is("expanded")]:A&&a.includes(M),[w.is("hovered")]:!h&&M===c,[w.is("fixed")]:!x&&V,[w.is("customized")]:Boolean(t.row)}],R=u?_:void 0,H={...k,columns:n,columnsStyles:o,class:F,depth:x,expandColumnKey:l,estimatedRowHeight:V?void 0:s,isScrolling:h,rowIndex:f,rowData:d,rowKey:M,rowEventHandlers:g,style:p};return W(cge,dt(H,{onRowHover:R,onRowExpand:C}),wge(t)?t:{default:()=>[t]})},wf=({columns:e,column:t,columnIndex:n,depth:o,expandIconProps:r,isScrolling:l,rowData:a,rowIndex:s,style:u,expandedRowKeys:c,ns:d,cellProps:f,expandColumnKey:p,indentSize:h,iconSize:m,rowKey:v},{slots:y})=>{const g=gr(u);if(t.placeholderSign===Ms)return W("div",{class:d.em("row-cell","placeholder"),style:g},null);const{cellRenderer:w,dataKey:_,dataGetter:C}=t,k=c8(w)||y.default||(O=>W(y2,O,null)),M=Je(C)?C({columns:e,column:t,columnIndex:n,rowData:a,rowIndex:s}):Ot(a,_!=null?_:""),x=gl(f,{cellData:M,columns:e,column:t,columnIndex:n,rowIndex:s,rowData:a}),A={class:d.e("cell-text"),columns:e,column:t,columnIndex:n,cellData:M,isScrolling:l,rowData:a,rowIndex:s},V=k(A),F=[d.e("row-cell"),t.align===Es.CENTER&&d.is("align-center"),t.align===Es.RIGHT&&d.is("align-right")],R=s>=0&&t.key===p,H=s>=0&&c.includes(a[v]);let L;const K=`margin-inline-start: ${o*h}px;`;return R&&(pt(r)?L=W(fge,dt(r,{class:[d.e("expand-icon"),d.is("expanded",H)],size:m,expanded:H,style:K,expandable:!0}),null):L=W("div",{style:[K,`width: ${m}px; height: ${m}px;`].join(" ")},null)),W("div",dt({class:F,style:g},x),[L,V])};wf.inheritAttrs=!1;function $ge(e){return typeof e=="function"||Object.prototype.toString.call(e)==="[object Object]"&&!Et(e)}const Sge=({columns:e,columnsStyles:t,headerIndex:n,style:o,headerClass:r,headerProps:l,ns:a},{slots:s})=>{const u={columns:e,headerIndex:n},c=[a.e("header-row"),gl(r,u,""),{[a.is("customized")]:Boolean(s.header)}],d={...gl(l,u),columnsStyles:t,class:c,columns:e,headerIndex:n,style:o};return W(lge,d,$ge(s)?s:{default:()=>[s]})},Vh=(e,{slots:t})=>{const{column:n,ns:o,style:r,onColumnSorted:l}=e,a=gr(r);if(n.placeholderSign===Ms)return W("div",{class:o.em("header-row-cell","placeholder"),style:a},null);const{headerCellRenderer:s,headerClass:u,sortable:c}=n,d={...e,class:o.e("header-cell-text")},p=(c8(s)||t.default||(C=>W(b2,C,null)))(d),{sortBy:h,sortState:m,headerCellProps:v}=e;let y,g;if(m){const C=m[n.key];y=Boolean(bf[C]),g=y?C:ks.ASC}else y=n.key===h.key,g=y?h.order:ks.ASC;const w=[o.e("header-cell"),gl(u,e,""),n.align===Es.CENTER&&o.is("align-center"),n.align===Es.RIGHT&&o.is("align-right"),c&&o.is("sortable")],_={...gl(v,e),onClick:n.sortable?l:void 0,class:w,style:a,["data-key"]:n.key};return W("div",_,[p,c&&W(dge,{class:[o.e("sort-icon"),y&&o.is("sorting")],sortOrder:g},null)])},h8=(e,{slots:t})=>{var n;return W("div",{class:e.class,style:e.style},[(n=t.default)==null?void 0:n.call(t)])};h8.displayName="ElTableV2Footer";const v8=(e,{slots:t})=>W("div",{class:e.class,style:e.style},[t.default?t.default():W(Cg,null,null)]);v8.displayName="ElTableV2Empty";const m8=(e,{slots:t})=>{var n;return W("div",{class:e.class,style:e.style},[(n=t.default)==null?void 0:n.call(t)])};m8.displayName="ElTableV2Overlay";function Wc(e){return typeof e=="function"||Object.prototype.toString.call(e)==="[object Object]"&&!Et(e)}const kge="ElTableV2",Ege=ve({name:kge,props:oge,setup(e,{slots:t,expose:n}){const o=me("table-v2"),{columnsStyles:r,fixedColumnsOnLeft:l,fixedColumnsOnRight:a,mainColumns:s,mainTableHeight:u,fixedTableHeight:c,leftTableWidth:d,rightTableWidth:f,data:p,depthMap:h,expandedRowKeys:m,hasFixedColumns:v,hoveringRowKey:y,mainTableRef:g,leftTableRef:w,rightTableRef:_,isDynamic:C,isResetting:S,isScrolling:k,bodyWidth:M,emptyStyle:x,rootStyle:A,headerWidth:V,footerHeight:F,showEmpty:R,scrollTo:H,scrollToLeft:L,scrollToTop:K,scrollToRow:O,getRowHeight:P,onColumnSorted:D,onRowHeightChange:I,onRowHovered:X,onRowExpanded:q,onRowsRendered:j,onScroll:Z,onVerticalScroll:pe}=tge(e);return n({scrollTo:H,scrollToLeft:L,scrollToTop:K,scrollToRow:O}),at(m2,{ns:o,isResetting:S,hoveringRowKey:y,isScrolling:k}),()=>{const{cache:_e,cellProps:$e,estimatedRowHeight:U,expandColumnKey:ce,fixedData:de,headerHeight:ge,headerClass:Le,headerProps:We,headerCellProps:Y,sortBy:Q,sortState:ie,rowHeight:Se,rowClass:ue,rowEventHandlers:te,rowKey:se,rowProps:fe,scrollbarAlwaysOn:be,indentSize:Ce,iconSize:Ae,useIsScrolling:oe,vScrollbarSize:ze,width:Be}=e,Ye=i(p),re={cache:_e,class:o.e("main"),columns:i(s),data:Ye,fixedData:de,estimatedRowHeight:U,bodyWidth:i(M),headerHeight:ge,headerWidth:i(V),height:i(u),mainTableRef:g,rowKey:se,rowHeight:Se,scrollbarAlwaysOn:be,scrollbarStartGap:2,scrollbarEndGap:ze,useIsScrolling:oe,width:Be,getRowHeight:P,onRowsRendered:j,onScroll:Z},we=i(d),B=i(c),le={cache:_e,class:o.e("left"),columns:i(l),data:Ye,estimatedRowHeight:U,leftTableRef:w,rowHeight:Se,bodyWidth:we,headerWidth:we,headerHeight:ge,height:B,rowKey:se,scrollbarAlwaysOn:be,scrollbarStartGap:2,scrollbarEndGap:ze,useIsScrolling:oe,width:we,getRowHeight:P,onScroll:pe},qe=i(f)+ze,Ne={cache:_e,class:o.e("right"),columns:i(a),data:Ye,estimatedRowHeight:U,rightTableRef:_,rowHeight:Se,bodyWidth:qe,headerWidth:qe,headerHeight:ge,height:B,rowKey:se,scrollbarAlwaysOn:be,scrollbarStartGap:2,scrollbarEndGap:ze,width:qe,style:`--${i(o.namespace)}-table-scrollbar-size: ${ze}px`,useIsScrolling:oe,getRowHeight:P,onScroll:pe},Ue=i(r),je={ns:o,depthMap:i(h),columnsStyles:Ue,expandColumnKey:ce,expandedRowKeys:i(m),estimatedRowHeight:U,hasFixedColumns:i(v),hoveringRowKey:i(y),rowProps:fe,rowClass:ue,rowKey:se,rowEventHandlers:te,onRowHovered:X,onRowExpanded:q,onRowHeightChange:I},wt={cellProps:$e,expandColumnKey:ce,indentSize:Ce,iconSize:Ae,rowKey:se,expandedRowKeys:i(m),ns:o},xt={ns:o,headerClass:Le,headerProps:We,columnsStyles:Ue},kt={ns:o,sortBy:Q,sortState:ie,headerCellProps:Y,onColumnSorted:D},it={row:Xe=>W(Cge,dt(Xe,je),{row:t.row,cell:mt=>t.cell?W(wf,dt(mt,wt,{style:Ue[mt.column.key]}),{default:()=>[t.cell]}):W(wf,dt(mt,wt,{style:Ue[mt.column.key]}),null)}),header:Xe=>W(Sge,dt(Xe,xt),{header:t.header,cell:mt=>t["header-cell"]?W(Vh,dt(mt,kt,{style:Ue[mt.column.key]}),{default:()=>[t["header-cell"]]}):W(Vh,dt(mt,kt,{style:Ue[mt.column.key]}),null)})},Zt=[e.class,o.b(),o.e("root"),{[o.is("dynamic")]:i(C)}],Me={class:o.e("footer"),style:i(F)};return W("div",{class:Zt,style:i(A)},[W(mge,re,Wc(it)?it:{default:()=>[it]}),W(_ge,le,Wc(it)?it:{default:()=>[it]}),W(bge,Ne,Wc(it)?it:{default:()=>[it]}),t.footer&&W(h8,Me,{default:t.footer}),i(R)&&W(v8,{class:o.e("empty"),style:i(x)},{default:t.empty}),t.overlay&&W(m8,{class:o.e("overlay")},{default:t.overlay})])}}}),Mge=Te({disableWidth:Boolean,disableHeight:Boolean,onResize:{type:ae(Function)}}),Tge=ve({name:"ElAutoResizer",props:Mge,setup(e,{slots:t}){const n=me("auto-resizer"),{height:o,width:r,sizer:l}=ege(e),a={width:"100%",height:"100%"};return()=>{var s;return W("div",{ref:l,class:n.b(),style:a},[(s=t.default)==null?void 0:s.call(t,{height:o.value,width:r.value})])}}}),xge=rt(Ege),zge=rt(Tge),Age=Te({tabs:{type:ae(Array),default:()=>Nt([])}}),Nge={name:"ElTabBar"},Oge=ve({...Nge,props:Age,setup(e,{expose:t}){const n=e,o="ElTabBar",r=nt(),l=De(Xu);l||Gt(o,"<el-tabs><el-tab-bar /></el-tabs>");const a=me("tabs"),s=N(),u=N(),c=()=>{let f=0,p=0;const h=["top","bottom"].includes(l.props.tabPosition)?"width":"height",m=h==="width"?"x":"y";return n.tabs.every(v=>{var y,g,w,_;const C=(g=(y=r.parent)==null?void 0:y.refs)==null?void 0:g[`tab-${v.paneName}`];if(!C)return!1;if(!v.active)return!0;p=C[`client${bn(h)}`];const S=m==="x"?"left":"top";f=C.getBoundingClientRect()[S]-((_=(w=C.parentElement)==null?void 0:w.getBoundingClientRect()[S])!=null?_:0);const k=window.getComputedStyle(C);return h==="width"&&(n.tabs.length>1&&(p-=Number.parseFloat(k.paddingLeft)+Number.parseFloat(k.paddingRight)),f+=Number.parseFloat(k.paddingLeft)),!1}),{[h]:`${p}px`,transform:`translate${bn(m)}(${f}px)`}},d=()=>u.value=c();return ye(()=>n.tabs,async()=>{await Pe(),d()},{immediate:!0}),mn(s,()=>d()),t({ref:s,update:d}),(f,p)=>(b(),E("div",{ref_key:"barRef",ref:s,class:z([i(a).e("active-bar"),i(a).is(i(l).props.tabPosition)]),style:Re(u.value)},null,6))}});var Pge=Ee(Oge,[["__file","/home/runner/work/element-plus/element-plus/packages/components/tabs/src/tab-bar.vue"]]);const Ige=Te({panes:{type:ae(Array),default:()=>Nt([])},currentName:{type:[String,Number],default:""},editable:Boolean,onTabClick:{type:ae(Function),default:bt},onTabRemove:{type:ae(Function),default:bt},type:{type:String,values:["card","border-card",""],default:""},stretch:Boolean}),Hh="ElTabNav",Lge=ve({name:Hh,props:Ige,setup(e,{expose:t}){const n=nt(),o=De(Xu);o||Gt(Hh,"<el-tabs><tab-nav /></el-tabs>");const r=me("tabs"),l=Z$(),a=oS(),s=N(),u=N(),c=N(),d=N(!1),f=N(0),p=N(!1),h=N(!0),m=T(()=>["top","bottom"].includes(o.props.tabPosition)?"width":"height"),v=T(()=>({transform:`translate${m.value==="width"?"X":"Y"}(-${f.value}px)`})),y=()=>{if(!s.value)return;const M=s.value[`offset${bn(m.value)}`],x=f.value;if(!x)return;const A=x>M?x-M:0;f.value=A},g=()=>{if(!s.value||!u.value)return;const M=u.value[`offset${bn(m.value)}`],x=s.value[`offset${bn(m.value)}`],A=f.value;if(M-A<=x)return;const V=M-A>x*2?A+x:M-x;f.value=V},w=async()=>{const M=u.value;if(!d.value||!c.value||!s.value||!M)return;await Pe();const x=c.value.querySelector(".is-active");if(!x)return;const A=s.value,V=["top","bottom"].includes(o.props.tabPosition),F=x.getBoundingClientRect(),R=A.getBoundingClientRect(),H=V?M.offsetWidth-R.width:M.offsetHeight-R.height,L=f.value;let K=L;V?(F.left<R.left&&(K=L-(R.left-F.left)),F.right>R.right&&(K=L+F.right-R.right)):(F.top<R.top&&(K=L-(R.top-F.top)),F.bottom>R.bottom&&(K=L+(F.bottom-R.bottom))),K=Math.max(K,0),f.value=Math.min(K,H)},_=()=>{if(!u.value||!s.value)return;const M=u.value[`offset${bn(m.value)}`],x=s.value[`offset${bn(m.value)}`],A=f.value;if(x<M){const V=f.value;d.value=d.value||{},d.value.prev=V,d.value.next=V+x<M,M-V<x&&(f.value=M-x)}else d.value=!1,A>0&&(f.value=0)},C=M=>{const x=M.code,{up:A,down:V,left:F,right:R}=Fe;if(![A,V,F,R].includes(x))return;const H=Array.from(M.currentTarget.querySelectorAll("[role=tab]:not(.is-disabled)")),L=H.indexOf(M.target);let K;x===F||x===A?L===0?K=H.length-1:K=L-1:L<H.length-1?K=L+1:K=0,H[K].focus(),H[K].click(),S()},S=()=>{h.value&&(p.value=!0)},k=()=>p.value=!1;return ye(l,M=>{M==="hidden"?h.value=!1:M==="visible"&&setTimeout(()=>h.value=!0,50)}),ye(a,M=>{M?setTimeout(()=>h.value=!0,50):h.value=!1}),mn(c,_),tt(()=>setTimeout(()=>w(),0)),eo(()=>_()),t({scrollToActiveTab:w,removeFocus:k}),ye(()=>e.panes,()=>n.update(),{flush:"post"}),()=>{const M=d.value?[W("span",{class:[r.e("nav-prev"),r.is("disabled",!d.value.prev)],onClick:y},[W(He,null,{default:()=>[W(qo,null,null)]})]),W("span",{class:[r.e("nav-next"),r.is("disabled",!d.value.next)],onClick:g},[W(He,null,{default:()=>[W(un,null,null)]})])]:null,x=e.panes.map((A,V)=>{var F,R,H,L;const K=A.props.disabled,O=(R=(F=A.props.name)!=null?F:A.index)!=null?R:`${V}`,P=!K&&(A.isClosable||e.editable);A.index=`${V}`;const D=P?W(He,{class:"is-icon-close",onClick:q=>e.onTabRemove(A,q)},{default:()=>[W(Gn,null,null)]}):null,I=((L=(H=A.slots).label)==null?void 0:L.call(H))||A.props.label,X=!K&&A.active?0:-1;return W("div",{ref:`tab-${O}`,class:[r.e("item"),r.is(o.props.tabPosition),r.is("active",A.active),r.is("disabled",K),r.is("closable",P),r.is("focus",p.value)],id:`tab-${O}`,key:`tab-${O}`,"aria-controls":`pane-${O}`,role:"tab","aria-selected":A.active,tabindex:X,onFocus:()=>S(),onBlur:()=>k(),onClick:q=>{k(),e.onTabClick(A,O,q)},onKeydown:q=>{P&&(q.code===Fe.delete||q.code===Fe.backspace)&&e.onTabRemove(A,q)}},[I,D])});return W("div",{ref:c,class:[r.e("nav-wrap"),r.is("scrollable",!!d.value),r.is(o.props.tabPosition)]},[M,W("div",{class:r.e("nav-scroll"),ref:s},[W("div",{class:[r.e("nav"),r.is(o.props.tabPosition),r.is("stretch",e.stretch&&["top","bottom"].includes(o.props.tabPosition))],ref:u,style:v.value,role:"tablist",onKeydown:C},[e.type?null:W(Pge,{tabs:[...e.panes]},null),x])])])}}}),Vge=Te({type:{type:String,values:["card","border-card",""],default:""},activeName:{type:[String,Number]},closable:Boolean,addable:Boolean,modelValue:{type:[String,Number]},editable:Boolean,tabPosition:{type:String,values:["top","right","bottom","left"],default:"top"},beforeLeave:{type:ae(Function),default:()=>!0},stretch:Boolean}),jc=e=>Ze(e)||et(e),Hge={[lt]:e=>jc(e),"tab-click":(e,t)=>t instanceof Event,"tab-change":e=>jc(e),edit:(e,t)=>["remove","add"].includes(t),"tab-remove":e=>jc(e),"tab-add":()=>!0};var Rge=ve({name:"ElTabs",props:Vge,emits:Hge,setup(e,{emit:t,slots:n,expose:o}){var r,l;const a=me("tabs"),s=N(),u=yt({}),c=N((l=(r=e.modelValue)!=null?r:e.activeName)!=null?l:"0"),d=v=>{c.value=v,t(lt,v),t("tab-change",v)},f=async v=>{var y,g,w;if(!(c.value===v||on(v)))try{await((y=e.beforeLeave)==null?void 0:y.call(e,v,c.value))!==!1&&(d(v),(w=(g=s.value)==null?void 0:g.removeFocus)==null||w.call(g))}catch{}},p=(v,y,g)=>{v.props.disabled||(f(y),t("tab-click",v,g))},h=(v,y)=>{v.props.disabled||on(v.props.name)||(y.stopPropagation(),t("edit",v.props.name,"remove"),t("tab-remove",v.props.name))},m=()=>{t("edit",void 0,"add"),t("tab-add")};return Hs({from:'"activeName"',replacement:'"model-value" or "v-model"',scope:"ElTabs",version:"2.3.0",ref:"https://element-plus.org/en-US/component/tabs.html#attributes",type:"Attribute"},T(()=>!!e.activeName)),ye(()=>e.activeName,v=>f(v)),ye(()=>e.modelValue,v=>f(v)),ye(c,async()=>{var v;await Pe(),(v=s.value)==null||v.scrollToActiveTab()}),at(Xu,{props:e,currentName:c,registerPane:g=>u[g.uid]=g,unregisterPane:g=>delete u[g]}),o({currentName:c}),()=>{const v=e.editable||e.addable?W("span",{class:a.e("new-tab"),tabindex:"0",onClick:m,onKeydown:w=>{w.code===Fe.enter&&m()}},[W(He,{class:a.is("icon-plus")},{default:()=>[W(E0,null,null)]})]):null,y=W("div",{class:[a.e("header"),a.is(e.tabPosition)]},[v,W(Lge,{ref:s,currentName:c.value,editable:e.editable,type:e.type,panes:Object.values(u),stretch:e.stretch,onTabClick:p,onTabRemove:h},null)]),g=W("div",{class:a.e("content")},[he(n,"default")]);return W("div",{class:[a.b(),a.m(e.tabPosition),{[a.m("card")]:e.type==="card",[a.m("border-card")]:e.type==="border-card"}]},[...e.tabPosition!=="bottom"?[y,g]:[g,y]])}}});const Bge=Te({label:{type:String,default:""},name:{type:[String,Number]},closable:Boolean,disabled:Boolean,lazy:Boolean}),Dge=["id","aria-hidden","aria-labelledby"],Fge={name:"ElTabPane"},Kge=ve({...Fge,props:Bge,setup(e){const t=e,n="ElTabPane",o=nt(),r=dn(),l=De(Xu);l||Gt(n,"usage: <el-tabs><el-tab-pane /></el-tabs/>");const a=me("tab-pane"),s=N(),u=T(()=>t.closable||l.props.closable),c=np(()=>{var m;return l.currentName.value===((m=t.name)!=null?m:s.value)}),d=N(c.value),f=T(()=>{var m;return(m=t.name)!=null?m:s.value}),p=np(()=>!t.lazy||d.value||c.value);ye(c,m=>{m&&(d.value=!0)});const h=yt({uid:o.uid,slots:r,props:t,paneName:f,active:c,index:s,isClosable:u});return tt(()=>{l.registerPane(h)}),Xo(()=>{l.unregisterPane(h.uid)}),(m,v)=>i(p)?Qe((b(),E("div",{key:0,id:`pane-${i(f)}`,class:z(i(a).b()),role:"tabpanel","aria-hidden":!i(c),"aria-labelledby":`tab-${i(f)}`},[he(m.$slots,"default")],10,Dge)),[[gt,i(c)]]):ee("v-if",!0)}});var g8=Ee(Kge,[["__file","/home/runner/work/element-plus/element-plus/packages/components/tabs/src/tab-pane.vue"]]);const Wge=rt(Rge,{TabPane:g8}),jge=Rt(g8),qge=Te({format:{type:String,default:"HH:mm"},modelValue:String,disabled:Boolean,editable:{type:Boolean,default:!0},effect:{type:String,default:"light"},clearable:{type:Boolean,default:!0},size:Rn,placeholder:String,start:{type:String,default:"09:00"},end:{type:String,default:"18:00"},step:{type:String,default:"00:30"},minTime:String,maxTime:String,name:String,prefixIcon:{type:ae([String,Object]),default:()=>k0},clearIcon:{type:ae([String,Object]),default:()=>Qo}}),Ho=e=>{const t=(e||"").split(":");if(t.length>=2){let n=Number.parseInt(t[0],10);const o=Number.parseInt(t[1],10),r=e.toUpperCase();return r.includes("AM")&&n===12?n=0:r.includes("PM")&&n!==12&&(n+=12),{hours:n,minutes:o}}return null},qc=(e,t)=>{const n=Ho(e);if(!n)return-1;const o=Ho(t);if(!o)return-1;const r=n.minutes+n.hours*60,l=o.minutes+o.hours*60;return r===l?0:r>l?1:-1},Rh=e=>`${e}`.padStart(2,"0"),Fl=e=>`${Rh(e.hours)}:${Rh(e.minutes)}`,Uge=(e,t)=>{const n=Ho(e);if(!n)return"";const o=Ho(t);if(!o)return"";const r={hours:n.hours,minutes:n.minutes};return r.minutes+=o.minutes,r.hours+=o.hours,r.hours+=Math.floor(r.minutes/60),r.minutes=r.minutes%60,Fl(r)},Yge={name:"ElTimeSelect"},Gge=ve({...Yge,props:qge,emits:["change","blur","focus","update:modelValue"],setup(e,{expose:t}){const n=e;ot.extend(X0);const{Option:o}=ml,r=me("input"),l=N(),a=T(()=>n.modelValue),s=T(()=>{const v=Ho(n.start);return v?Fl(v):null}),u=T(()=>{const v=Ho(n.end);return v?Fl(v):null}),c=T(()=>{const v=Ho(n.step);return v?Fl(v):null}),d=T(()=>{const v=Ho(n.minTime||"");return v?Fl(v):null}),f=T(()=>{const v=Ho(n.maxTime||"");return v?Fl(v):null}),p=T(()=>{const v=[];if(n.start&&n.end&&n.step){let y=s.value,g;for(;y&&u.value&&qc(y,u.value)<=0;)g=ot(y,"HH:mm").format(n.format),v.push({value:g,disabled:qc(y,d.value||"-1:-1")<=0||qc(y,f.value||"100:100")>=0}),y=Uge(y,c.value)}return v});return t({blur:()=>{var v,y;(y=(v=l.value)==null?void 0:v.blur)==null||y.call(v)},focus:()=>{var v,y;(y=(v=l.value)==null?void 0:v.focus)==null||y.call(v)}}),(v,y)=>(b(),ne(i(ml),{ref_key:"select",ref:l,"model-value":i(a),disabled:v.disabled,clearable:v.clearable,"clear-icon":v.clearIcon,size:v.size,effect:v.effect,placeholder:v.placeholder,"default-first-option":"",filterable:v.editable,"onUpdate:modelValue":y[0]||(y[0]=g=>v.$emit("update:modelValue",g)),onChange:y[1]||(y[1]=g=>v.$emit("change",g)),onBlur:y[2]||(y[2]=g=>v.$emit("blur",g)),onFocus:y[3]||(y[3]=g=>v.$emit("focus",g))},{prefix:J(()=>[v.prefixIcon?(b(),ne(i(He),{key:0,class:z(i(r).e("prefix-icon"))},{default:J(()=>[(b(),ne(st(v.prefixIcon)))]),_:1},8,["class"])):ee("v-if",!0)]),default:J(()=>[(b(!0),E(Ve,null,ut(i(p),g=>(b(),ne(i(o),{key:g.value,label:g.value,value:g.value,disabled:g.disabled},null,8,["label","value","disabled"]))),128))]),_:1},8,["model-value","disabled","clearable","clear-icon","size","effect","placeholder","filterable"]))}});var Hi=Ee(Gge,[["__file","/home/runner/work/element-plus/element-plus/packages/components/time-select/src/time-select.vue"]]);Hi.install=e=>{e.component(Hi.name,Hi)};const Xge=Hi,Jge=Xge,Zge=ve({name:"ElTimeline",setup(e,{slots:t}){const n=me("timeline");return at("timeline",t),()=>Ke("ul",{class:[n.b()]},[he(t,"default")])}}),Qge=Te({timestamp:{type:String,default:""},hideTimestamp:{type:Boolean,default:!1},center:{type:Boolean,default:!1},placement:{type:String,values:["top","bottom"],default:"bottom"},type:{type:String,values:["primary","success","warning","danger","info"],default:""},color:{type:String,default:""},size:{type:String,values:["normal","large"],default:"normal"},icon:{type:Xt,default:""},hollow:{type:Boolean,default:!1}}),e8e={name:"ElTimelineItem"},t8e=ve({...e8e,props:Qge,setup(e){const t=me("timeline-item");return(n,o)=>(b(),E("li",{class:z([i(t).b(),{[i(t).e("center")]:n.center}])},[$("div",{class:z(i(t).e("tail"))},null,2),n.$slots.dot?ee("v-if",!0):(b(),E("div",{key:0,class:z([i(t).e("node"),i(t).em("node",n.size||""),i(t).em("node",n.type||""),i(t).is("hollow",n.hollow)]),style:Re({backgroundColor:n.color})},[n.icon?(b(),ne(i(He),{key:0,class:z(i(t).e("icon"))},{default:J(()=>[(b(),ne(st(n.icon)))]),_:1},8,["class"])):ee("v-if",!0)],6)),n.$slots.dot?(b(),E("div",{key:1,class:z(i(t).e("dot"))},[he(n.$slots,"dot")],2)):ee("v-if",!0),$("div",{class:z(i(t).e("wrapper"))},[!n.hideTimestamp&&n.placement==="top"?(b(),E("div",{key:0,class:z([i(t).e("timestamp"),i(t).is("top")])},ke(n.timestamp),3)):ee("v-if",!0),$("div",{class:z(i(t).e("content"))},[he(n.$slots,"default")],2),!n.hideTimestamp&&n.placement==="bottom"?(b(),E("div",{key:1,class:z([i(t).e("timestamp"),i(t).is("bottom")])},ke(n.timestamp),3)):ee("v-if",!0)],2)],2))}});var _8=Ee(t8e,[["__file","/home/runner/work/element-plus/element-plus/packages/components/timeline/src/timeline-item.vue"]]);const n8e=rt(Zge,{TimelineItem:_8}),o8e=Rt(_8),y8=Te({nowrap:Boolean});var b8=(e=>(e.top="top",e.bottom="bottom",e.left="left",e.right="right",e))(b8||{});const r8e=Object.values(b8),C2=Te({width:{type:Number,default:10},height:{type:Number,default:10},style:{type:ae(Object),default:null}}),l8e=Te({side:{type:ae(String),values:r8e,required:!0}}),a8e=["absolute","fixed"],s8e=["top-start","top-end","top","bottom-start","bottom-end","bottom","left-start","left-end","left","right-start","right-end","right"],$2=Te({ariaLabel:String,arrowPadding:{type:ae(Number),default:5},effect:{type:String,default:""},contentClass:String,placement:{type:ae(String),values:s8e,default:"bottom"},reference:{type:ae(Object),default:null},offset:{type:Number,default:8},strategy:{type:ae(String),values:a8e,default:"absolute"},showArrow:{type:Boolean,default:!1}}),S2=Te({delayDuration:{type:Number,default:300},defaultOpen:Boolean,open:{type:Boolean,default:void 0},onOpenChange:{type:ae(Function)},"onUpdate:open":{type:ae(Function)}}),Ol={type:ae(Function)},k2=Te({onBlur:Ol,onClick:Ol,onFocus:Ol,onMouseDown:Ol,onMouseEnter:Ol,onMouseLeave:Ol}),i8e=Te({...S2,...C2,...k2,...$2,alwaysOn:Boolean,fullTransition:Boolean,transitionProps:{type:ae(Object),default:null},teleported:Boolean,to:{type:ae(String),default:"body"}}),u8e={name:"ElTooltipV2Root"},c8e=ve({...u8e,props:S2,setup(e,{expose:t}){const n=e,o=N(n.defaultOpen),r=N(null),l=T({get:()=>sS(n.open)?o.value:n.open,set:y=>{var g;o.value=y,(g=n["onUpdate:open"])==null||g.call(n,y)}}),a=T(()=>et(n.delayDuration)&&n.delayDuration>0),{start:s,stop:u}=fl(()=>{l.value=!0},T(()=>n.delayDuration),{immediate:!1}),c=me("tooltip-v2"),d=fo(),f=()=>{u(),l.value=!0},p=()=>{i(a)?s():f()},h=f,m=()=>{u(),l.value=!1};return ye(l,y=>{var g;y&&(document.dispatchEvent(new CustomEvent(Ec)),h()),(g=n.onOpenChange)==null||g.call(n,y)}),tt(()=>{document.addEventListener(Ec,m)}),Lt(()=>{u(),document.removeEventListener(Ec,m)}),at(Ju,{contentId:d,triggerRef:r,ns:c,onClose:m,onDelayOpen:p,onOpen:h}),t({onOpen:h,onClose:m}),(y,g)=>he(y.$slots,"default",{open:i(l)})}});var d8e=Ee(c8e,[["__file","/home/runner/work/element-plus/element-plus/packages/components/tooltip-v2/src/root.vue"]]);const f8e={name:"ElTooltipV2Arrow"},p8e=ve({...f8e,props:{...C2,...l8e},setup(e){const t=e,{ns:n}=De(Ju),{arrowRef:o}=De(y3),r=T(()=>{const{style:l,width:a,height:s}=t,u=n.namespace.value;return{[`--${u}-tooltip-v2-arrow-width`]:`${a}px`,[`--${u}-tooltip-v2-arrow-height`]:`${s}px`,[`--${u}-tooltip-v2-arrow-border-width`]:`${a/2}px`,[`--${u}-tooltip-v2-arrow-cover-width`]:a/2-1,...l||{}}});return(l,a)=>(b(),E("span",{ref_key:"arrowRef",ref:o,style:Re(i(r)),class:z(i(n).e("arrow"))},null,6))}});var Bh=Ee(p8e,[["__file","/home/runner/work/element-plus/element-plus/packages/components/tooltip-v2/src/arrow.vue"]]);const h8e=Te({style:{type:ae([String,Object,Array]),default:()=>({})}}),v8e={name:"ElVisuallyHidden"},m8e=ve({...v8e,props:h8e,setup(e){const t=e,n=T(()=>[t.style,{position:"absolute",border:0,width:1,height:1,padding:0,margin:-1,overflow:"hidden",clip:"rect(0, 0, 0, 0)",whiteSpace:"nowrap",wordWrap:"normal"}]);return(o,r)=>(b(),E("span",dt(o.$attrs,{style:i(n)}),[he(o.$slots,"default")],16))}});var g8e=Ee(m8e,[["__file","/home/runner/work/element-plus/element-plus/packages/components/visual-hidden/src/visual-hidden.vue"]]);const _8e=["data-side"],y8e={name:"ElTooltipV2Content"},b8e=ve({...y8e,props:{...$2,...y8},setup(e){const t=e,{triggerRef:n,contentId:o}=De(Ju),r=N(t.placement),l=N(t.strategy),a=N(null),{referenceRef:s,contentRef:u,middlewareData:c,x:d,y:f,update:p}=ule({placement:r,strategy:l,middleware:T(()=>{const _=[Ure(t.offset)];return t.showArrow&&_.push(cle({arrowRef:a})),_})}),h=tr().nextZIndex(),m=me("tooltip-v2"),v=T(()=>r.value.split("-")[0]),y=T(()=>({position:i(l),top:`${i(f)||0}px`,left:`${i(d)||0}px`,zIndex:h})),g=T(()=>{if(!t.showArrow)return{};const{arrow:_}=i(c);return{[`--${m.namespace.value}-tooltip-v2-arrow-x`]:`${_==null?void 0:_.x}px`||"",[`--${m.namespace.value}-tooltip-v2-arrow-y`]:`${_==null?void 0:_.y}px`||""}}),w=T(()=>[m.e("content"),m.is("dark",t.effect==="dark"),m.is(i(l)),t.contentClass]);return ye(a,()=>p()),ye(()=>t.placement,_=>r.value=_),tt(()=>{ye(()=>t.reference||n.value,_=>{s.value=_||void 0},{immediate:!0})}),at(y3,{arrowRef:a}),(_,C)=>(b(),E("div",{ref_key:"contentRef",ref:u,style:Re(i(y)),"data-tooltip-v2-root":""},[_.nowrap?ee("v-if",!0):(b(),E("div",{key:0,"data-side":i(v),class:z(i(w))},[he(_.$slots,"default",{contentStyle:i(y),contentClass:i(w)}),W(i(g8e),{id:i(o),role:"tooltip"},{default:J(()=>[_.ariaLabel?(b(),E(Ve,{key:0},[ft(ke(_.ariaLabel),1)],64)):he(_.$slots,"default",{key:1})]),_:3},8,["id"]),he(_.$slots,"arrow",{style:Re(i(g)),side:i(v)})],10,_8e))],4))}});var Dh=Ee(b8e,[["__file","/home/runner/work/element-plus/element-plus/packages/components/tooltip-v2/src/content.vue"]]);const w8e=Te({setRef:{type:ae(Function),required:!0},onlyChild:Boolean});var C8e=ve({props:w8e,setup(e,{slots:t}){const n=N(),o=Yu(n,r=>{r?e.setRef(r.nextElementSibling):e.setRef(null)});return()=>{var r;const[l]=((r=t.default)==null?void 0:r.call(t))||[],a=e.onlyChild?pre(l.children):l.children;return W(Ve,{ref:o},[a])}}});const $8e={name:"ElTooltipV2Trigger"},S8e=ve({...$8e,props:{...y8,...k2},setup(e){const t=e,{onClose:n,onOpen:o,onDelayOpen:r,triggerRef:l,contentId:a}=De(Ju);let s=!1;const u=w=>{l.value=w},c=()=>{s=!1},d=Ht(t.onMouseEnter,r),f=Ht(t.onMouseLeave,n),p=Ht(t.onMouseDown,()=>{n(),s=!0,document.addEventListener("mouseup",c,{once:!0})}),h=Ht(t.onFocus,()=>{s||o()}),m=Ht(t.onBlur,n),v=Ht(t.onClick,w=>{w.detail===0&&n()}),y={blur:m,click:v,focus:h,mousedown:p,mouseenter:d,mouseleave:f},g=(w,_,C)=>{w&&Object.entries(_).forEach(([S,k])=>{w[C](S,k)})};return ye(l,(w,_)=>{g(w,y,"addEventListener"),g(_,y,"removeEventListener"),w&&w.setAttribute("aria-describedby",a.value)}),Lt(()=>{g(l.value,y,"removeEventListener"),document.removeEventListener("mouseup",c)}),(w,_)=>w.nowrap?(b(),ne(i(C8e),{key:0,"set-ref":u,"only-child":""},{default:J(()=>[he(w.$slots,"default")]),_:3})):(b(),E("button",dt({key:1,ref_key:"triggerRef",ref:l},w.$attrs),[he(w.$slots,"default")],16))}});var k8e=Ee(S8e,[["__file","/home/runner/work/element-plus/element-plus/packages/components/tooltip-v2/src/trigger.vue"]]);const E8e={name:"ElTooltipV2"},M8e=ve({...E8e,props:i8e,setup(e){const n=Wt(e),o=yt(vr(n,Object.keys(C2))),r=yt(vr(n,Object.keys($2))),l=yt(vr(n,Object.keys(S2))),a=yt(vr(n,Object.keys(k2)));return(s,u)=>(b(),ne(d8e,bo(il(l)),{default:J(({open:c})=>[W(k8e,dt(a,{nowrap:""}),{default:J(()=>[he(s.$slots,"trigger")]),_:3},16),(b(),ne(ka,{to:s.to,disabled:!s.teleported},[s.fullTransition?(b(),ne(Dt,bo(dt({key:0},s.transitionProps)),{default:J(()=>[s.alwaysOn||c?(b(),ne(Dh,bo(dt({key:0},r)),{arrow:J(({style:d,side:f})=>[s.showArrow?(b(),ne(Bh,dt({key:0},o,{style:d,side:f}),null,16,["style","side"])):ee("v-if",!0)]),default:J(()=>[he(s.$slots,"default")]),_:3},16)):ee("v-if",!0)]),_:2},1040)):(b(),E(Ve,{key:1},[s.alwaysOn||c?(b(),ne(Dh,bo(dt({key:0},r)),{arrow:J(({style:d,side:f})=>[s.showArrow?(b(),ne(Bh,dt({key:0},o,{style:d,side:f}),null,16,["style","side"])):ee("v-if",!0)]),default:J(()=>[he(s.$slots,"default")]),_:3},16)):ee("v-if",!0)],64))],8,["to","disabled"]))]),_:3},16))}});var T8e=Ee(M8e,[["__file","/home/runner/work/element-plus/element-plus/packages/components/tooltip-v2/src/tooltip.vue"]]);const x8e=rt(T8e),w8="left-check-change",C8="right-check-change",Kl=Te({data:{type:ae(Array),default:()=>[]},titles:{type:ae(Array),default:()=>[]},buttonTexts:{type:ae(Array),default:()=>[]},filterPlaceholder:String,filterMethod:{type:ae(Function)},leftDefaultChecked:{type:ae(Array),default:()=>[]},rightDefaultChecked:{type:ae(Array),default:()=>[]},renderContent:{type:ae(Function)},modelValue:{type:ae(Array),default:()=>[]},format:{type:ae(Object),default:()=>({})},filterable:Boolean,props:{type:ae(Object),default:()=>Nt({label:"label",key:"key",disabled:"disabled"})},targetOrder:{type:String,values:["original","push","unshift"],default:"original"},validateEvent:{type:Boolean,default:!0}}),Cf=(e,t)=>[e,t].every(Oe)||Oe(e)&&qn(t),z8e={[It]:(e,t,n)=>[e,n].every(Oe)&&["left","right"].includes(t),[lt]:e=>Oe(e),[w8]:Cf,[C8]:Cf},$f="checked-change",A8e=Te({data:Kl.data,optionRender:{type:ae(Function)},placeholder:String,title:String,filterable:Boolean,format:Kl.format,filterMethod:Kl.filterMethod,defaultChecked:Kl.leftDefaultChecked,props:Kl.props}),N8e={[$f]:Cf},js=e=>{const t={label:"label",key:"key",disabled:"disabled"};return T(()=>({...t,...e.props}))},O8e=(e,t,n)=>{const o=js(e),r=T(()=>e.data.filter(d=>Je(e.filterMethod)?e.filterMethod(t.query,d):String(d[o.value.label]||d[o.value.key]).toLowerCase().includes(t.query.toLowerCase()))),l=T(()=>r.value.filter(d=>!d[o.value.disabled])),a=T(()=>{const d=t.checked.length,f=e.data.length,{noChecked:p,hasChecked:h}=e.format;return p&&h?d>0?h.replace(/\${checked}/g,d.toString()).replace(/\${total}/g,f.toString()):p.replace(/\${total}/g,f.toString()):`${d}/${f}`}),s=T(()=>{const d=t.checked.length;return d>0&&d<l.value.length}),u=()=>{const d=l.value.map(f=>f[o.value.key]);t.allChecked=d.length>0&&d.every(f=>t.checked.includes(f))},c=d=>{t.checked=d?l.value.map(f=>f[o.value.key]):[]};return ye(()=>t.checked,(d,f)=>{if(u(),t.checkChangeByUser){const p=d.concat(f).filter(h=>!d.includes(h)||!f.includes(h));n($f,d,p)}else n($f,d),t.checkChangeByUser=!0}),ye(l,()=>{u()}),ye(()=>e.data,()=>{const d=[],f=r.value.map(p=>p[o.value.key]);t.checked.forEach(p=>{f.includes(p)&&d.push(p)}),t.checkChangeByUser=!1,t.checked=d}),ye(()=>e.defaultChecked,(d,f)=>{if(f&&d.length===f.length&&d.every(m=>f.includes(m)))return;const p=[],h=l.value.map(m=>m[o.value.key]);d.forEach(m=>{h.includes(m)&&p.push(m)}),t.checkChangeByUser=!1,t.checked=p},{immediate:!0}),{filteredData:r,checkableData:l,checkedSummary:a,isIndeterminate:s,updateAllChecked:u,handleAllCheckedChange:c}},P8e=(e,t)=>({onSourceCheckedChange:(r,l)=>{e.leftChecked=r,l&&t(w8,r,l)},onTargetCheckedChange:(r,l)=>{e.rightChecked=r,l&&t(C8,r,l)}}),I8e=e=>{const t=js(e),n=T(()=>e.data.reduce((l,a)=>(l[a[t.value.key]]=a)&&l,{})),o=T(()=>e.data.filter(l=>!e.modelValue.includes(l[t.value.key]))),r=T(()=>e.targetOrder==="original"?e.data.filter(l=>e.modelValue.includes(l[t.value.key])):e.modelValue.reduce((l,a)=>{const s=n.value[a];return s&&l.push(s),l},[]));return{sourceData:o,targetData:r}},L8e=(e,t,n)=>{const o=js(e),r=(s,u,c)=>{n(lt,s),n(It,s,u,c)};return{addToLeft:()=>{const s=e.modelValue.slice();t.rightChecked.forEach(u=>{const c=s.indexOf(u);c>-1&&s.splice(c,1)}),r(s,"left",t.rightChecked)},addToRight:()=>{let s=e.modelValue.slice();const u=e.data.filter(c=>{const d=c[o.value.key];return t.leftChecked.includes(d)&&!e.modelValue.includes(d)}).map(c=>c[o.value.key]);s=e.targetOrder==="unshift"?u.concat(s):s.concat(u),e.targetOrder==="original"&&(s=e.data.filter(c=>s.includes(c[o.value.key])).map(c=>c[o.value.key])),r(s,"right",t.leftChecked)}}},V8e={name:"ElTransferPanel"},H8e=ve({...V8e,props:A8e,emits:N8e,setup(e,{expose:t,emit:n}){const o=e,r=dn(),l=({option:C})=>C,{t:a}=_t(),s=me("transfer"),u=yt({checked:[],allChecked:!1,query:"",inputHover:!1,checkChangeByUser:!0}),c=js(o),{filteredData:d,checkedSummary:f,isIndeterminate:p,handleAllCheckedChange:h}=O8e(o,u,n),m=T(()=>!Kn(u.query)&&Kn(d.value)),v=T(()=>!Kn(r.default()[0].children)),{checked:y,allChecked:g,query:w,inputHover:_}=Wt(u);return t({query:w}),(C,S)=>(b(),E("div",{class:z(i(s).b("panel"))},[$("p",{class:z(i(s).be("panel","header"))},[W(i(Qn),{modelValue:i(g),"onUpdate:modelValue":S[0]||(S[0]=k=>St(g)?g.value=k:null),indeterminate:i(p),onChange:i(h)},{default:J(()=>[ft(ke(C.title)+" ",1),$("span",null,ke(i(f)),1)]),_:1},8,["modelValue","indeterminate","onChange"])],2),$("div",{class:z([i(s).be("panel","body"),i(s).is("with-footer",i(v))])},[C.filterable?(b(),ne(i(sn),{key:0,modelValue:i(w),"onUpdate:modelValue":S[1]||(S[1]=k=>St(w)?w.value=k:null),class:z(i(s).be("panel","filter")),size:"default",placeholder:C.placeholder,"prefix-icon":i(X4),clearable:"",onMouseenter:S[2]||(S[2]=k=>_.value=!0),onMouseleave:S[3]||(S[3]=k=>_.value=!1)},null,8,["modelValue","class","placeholder","prefix-icon"])):ee("v-if",!0),Qe(W(i(V6),{modelValue:i(y),"onUpdate:modelValue":S[4]||(S[4]=k=>St(y)?y.value=k:null),class:z([i(s).is("filterable",C.filterable),i(s).be("panel","list")])},{default:J(()=>[(b(!0),E(Ve,null,ut(i(d),k=>(b(),ne(i(Qn),{key:k[i(c).key],class:z(i(s).be("panel","item")),label:k[i(c).key],disabled:k[i(c).disabled]},{default:J(()=>{var M;return[W(l,{option:(M=C.optionRender)==null?void 0:M.call(C,k)},null,8,["option"])]}),_:2},1032,["class","label","disabled"]))),128))]),_:1},8,["modelValue","class"]),[[gt,!i(m)&&!i(Kn)(C.data)]]),Qe($("p",{class:z(i(s).be("panel","empty"))},ke(i(m)?i(a)("el.transfer.noMatch"):i(a)("el.transfer.noData")),3),[[gt,i(m)||i(Kn)(C.data)]])],2),i(v)?(b(),E("p",{key:0,class:z(i(s).be("panel","footer"))},[he(C.$slots,"default")],2)):ee("v-if",!0)],2))}});var Fh=Ee(H8e,[["__file","/home/runner/work/element-plus/element-plus/packages/components/transfer/src/transfer-panel.vue"]]);const R8e={key:0},B8e={key:0},D8e={name:"ElTransfer"},F8e=ve({...D8e,props:Kl,emits:z8e,setup(e,{expose:t,emit:n}){const o=e,r=dn(),{t:l}=_t(),a=me("transfer"),{formItem:s}=Bn(),u=yt({leftChecked:[],rightChecked:[]}),c=js(o),{sourceData:d,targetData:f}=I8e(o),{onSourceCheckedChange:p,onTargetCheckedChange:h}=P8e(u,n),{addToLeft:m,addToRight:v}=L8e(o,u,n),y=N(),g=N(),w=x=>{switch(x){case"left":y.value.query="";break;case"right":g.value.query="";break}},_=T(()=>o.buttonTexts.length===2),C=T(()=>o.titles[0]||l("el.transfer.titles.0")),S=T(()=>o.titles[1]||l("el.transfer.titles.1")),k=T(()=>o.filterPlaceholder||l("el.transfer.filterPlaceholder"));ye(()=>o.modelValue,()=>{var x;o.validateEvent&&((x=s==null?void 0:s.validate)==null||x.call(s,"change").catch(A=>void 0))});const M=T(()=>x=>o.renderContent?o.renderContent(Ke,x):r.default?r.default({option:x}):Ke("span",x[c.value.label]||x[c.value.key]));return t({clearQuery:w,leftPanel:y,rightPanel:g}),(x,A)=>(b(),E("div",{class:z(i(a).b())},[W(Fh,{ref_key:"leftPanel",ref:y,data:i(d),"option-render":i(M),placeholder:i(k),title:i(C),filterable:x.filterable,format:x.format,"filter-method":x.filterMethod,"default-checked":x.leftDefaultChecked,props:o.props,onCheckedChange:i(p)},{default:J(()=>[he(x.$slots,"left-footer")]),_:3},8,["data","option-render","placeholder","title","filterable","format","filter-method","default-checked","props","onCheckedChange"]),$("div",{class:z(i(a).e("buttons"))},[W(i(cn),{type:"primary",class:z([i(a).e("button"),i(a).is("with-texts",i(_))]),disabled:i(Kn)(u.rightChecked),onClick:i(m)},{default:J(()=>[W(i(He),null,{default:J(()=>[W(i(qo))]),_:1}),i(on)(x.buttonTexts[0])?ee("v-if",!0):(b(),E("span",R8e,ke(x.buttonTexts[0]),1))]),_:1},8,["class","disabled","onClick"]),W(i(cn),{type:"primary",class:z([i(a).e("button"),i(a).is("with-texts",i(_))]),disabled:i(Kn)(u.leftChecked),onClick:i(v)},{default:J(()=>[i(on)(x.buttonTexts[1])?ee("v-if",!0):(b(),E("span",B8e,ke(x.buttonTexts[1]),1)),W(i(He),null,{default:J(()=>[W(i(un))]),_:1})]),_:1},8,["class","disabled","onClick"])],2),W(Fh,{ref_key:"rightPanel",ref:g,data:i(f),"option-render":i(M),placeholder:i(k),filterable:x.filterable,format:x.format,"filter-method":x.filterMethod,title:i(S),"default-checked":x.rightDefaultChecked,props:o.props,onCheckedChange:i(h)},{default:J(()=>[he(x.$slots,"right-footer")]),_:3},8,["data","option-render","placeholder","filterable","format","filter-method","title","default-checked","props","onCheckedChange"])],2))}});var K8e=Ee(F8e,[["__file","/home/runner/work/element-plus/element-plus/packages/components/transfer/src/transfer.vue"]]);const W8e=rt(K8e),ta="$treeNodeId",Kh=function(e,t){!t||t[ta]||Object.defineProperty(t,ta,{value:e.id,enumerable:!1,configurable:!1,writable:!1})},E2=function(e,t){return e?t[e]:t[ta]},Sf=e=>{let t=!0,n=!0,o=!0;for(let r=0,l=e.length;r<l;r++){const a=e[r];(a.checked!==!0||a.indeterminate)&&(t=!1,a.disabled||(o=!1)),(a.checked!==!1||a.indeterminate)&&(n=!1)}return{all:t,none:n,allWithoutDisable:o,half:!t&&!n}},Ri=function(e){if(e.childNodes.length===0)return;const{all:t,none:n,half:o}=Sf(e.childNodes);t?(e.checked=!0,e.indeterminate=!1):o?(e.checked=!1,e.indeterminate=!0):n&&(e.checked=!1,e.indeterminate=!1);const r=e.parent;!r||r.level===0||e.store.checkStrictly||Ri(r)},di=function(e,t){const n=e.store.props,o=e.data||{},r=n[t];if(typeof r=="function")return r(o,e);if(typeof r=="string")return o[r];if(typeof r>"u"){const l=o[t];return l===void 0?"":l}};let j8e=0;class rl{constructor(t){this.id=j8e++,this.text=null,this.checked=!1,this.indeterminate=!1,this.data=null,this.expanded=!1,this.parent=null,this.visible=!0,this.isCurrent=!1,this.canFocus=!1;for(const n in t)ct(t,n)&&(this[n]=t[n]);this.level=0,this.loaded=!1,this.childNodes=[],this.loading=!1,this.parent&&(this.level=this.parent.level+1)}initialize(){const t=this.store;if(!t)throw new Error("[Node]store is required!");t.registerNode(this);const n=t.props;if(n&&typeof n.isLeaf<"u"){const l=di(this,"isLeaf");typeof l=="boolean"&&(this.isLeafByUser=l)}if(t.lazy!==!0&&this.data?(this.setData(this.data),t.defaultExpandAll&&(this.expanded=!0,this.canFocus=!0)):this.level>0&&t.lazy&&t.defaultExpandAll&&this.expand(),Array.isArray(this.data)||Kh(this,this.data),!this.data)return;const o=t.defaultExpandedKeys,r=t.key;r&&o&&o.includes(this.key)&&this.expand(null,t.autoExpandParent),r&&t.currentNodeKey!==void 0&&this.key===t.currentNodeKey&&(t.currentNode=this,t.currentNode.isCurrent=!0),t.lazy&&t._initDefaultCheckedNode(this),this.updateLeafState(),this.parent&&(this.level===1||this.parent.expanded===!0)&&(this.canFocus=!0)}setData(t){Array.isArray(t)||Kh(this,t),this.data=t,this.childNodes=[];let n;this.level===0&&Array.isArray(this.data)?n=this.data:n=di(this,"children")||[];for(let o=0,r=n.length;o<r;o++)this.insertChild({data:n[o]})}get label(){return di(this,"label")}get key(){const t=this.store.key;return this.data?this.data[t]:null}get disabled(){return di(this,"disabled")}get nextSibling(){const t=this.parent;if(t){const n=t.childNodes.indexOf(this);if(n>-1)return t.childNodes[n+1]}return null}get previousSibling(){const t=this.parent;if(t){const n=t.childNodes.indexOf(this);if(n>-1)return n>0?t.childNodes[n-1]:null}return null}contains(t,n=!0){return(this.childNodes||[]).some(o=>o===t||n&&o.contains(t))}remove(){const t=this.parent;t&&t.removeChild(this)}insertChild(t,n,o){if(!t)throw new Error("InsertChild error: child is required.");if(!(t instanceof rl)){if(!o){const r=this.getChildren(!0);r.includes(t.data)||(typeof n>"u"||n<0?r.push(t.data):r.splice(n,0,t.data))}Object.assign(t,{parent:this,store:this.store}),t=yt(new rl(t)),t instanceof rl&&t.initialize()}t.level=this.level+1,typeof n>"u"||n<0?this.childNodes.push(t):this.childNodes.splice(n,0,t),this.updateLeafState()}insertBefore(t,n){let o;n&&(o=this.childNodes.indexOf(n)),this.insertChild(t,o)}insertAfter(t,n){let o;n&&(o=this.childNodes.indexOf(n),o!==-1&&(o+=1)),this.insertChild(t,o)}removeChild(t){const n=this.getChildren()||[],o=n.indexOf(t.data);o>-1&&n.splice(o,1);const r=this.childNodes.indexOf(t);r>-1&&(this.store&&this.store.deregisterNode(t),t.parent=null,this.childNodes.splice(r,1)),this.updateLeafState()}removeChildByData(t){let n=null;for(let o=0;o<this.childNodes.length;o++)if(this.childNodes[o].data===t){n=this.childNodes[o];break}n&&this.removeChild(n)}expand(t,n){const o=()=>{if(n){let r=this.parent;for(;r.level>0;)r.expanded=!0,r=r.parent}this.expanded=!0,t&&t(),this.childNodes.forEach(r=>{r.canFocus=!0})};this.shouldLoadData()?this.loadData(r=>{Array.isArray(r)&&(this.checked?this.setChecked(!0,!0):this.store.checkStrictly||Ri(this),o())}):o()}doCreateChildren(t,n={}){t.forEach(o=>{this.insertChild(Object.assign({data:o},n),void 0,!0)})}collapse(){this.expanded=!1,this.childNodes.forEach(t=>{t.canFocus=!1})}shouldLoadData(){return this.store.lazy===!0&&this.store.load&&!this.loaded}updateLeafState(){if(this.store.lazy===!0&&this.loaded!==!0&&typeof this.isLeafByUser<"u"){this.isLeaf=this.isLeafByUser;return}const t=this.childNodes;if(!this.store.lazy||this.store.lazy===!0&&this.loaded===!0){this.isLeaf=!t||t.length===0;return}this.isLeaf=!1}setChecked(t,n,o,r){if(this.indeterminate=t==="half",this.checked=t===!0,this.store.checkStrictly)return;if(!(this.shouldLoadData()&&!this.store.checkDescendants)){const{all:a,allWithoutDisable:s}=Sf(this.childNodes);!this.isLeaf&&!a&&s&&(this.checked=!1,t=!1);const u=()=>{if(n){const c=this.childNodes;for(let p=0,h=c.length;p<h;p++){const m=c[p];r=r||t!==!1;const v=m.disabled?m.checked:r;m.setChecked(v,n,!0,r)}const{half:d,all:f}=Sf(c);f||(this.checked=f,this.indeterminate=d)}};if(this.shouldLoadData()){this.loadData(()=>{u(),Ri(this)},{checked:t!==!1});return}else u()}const l=this.parent;!l||l.level===0||o||Ri(l)}getChildren(t=!1){if(this.level===0)return this.data;const n=this.data;if(!n)return null;const o=this.store.props;let r="children";return o&&(r=o.children||"children"),n[r]===void 0&&(n[r]=null),t&&!n[r]&&(n[r]=[]),n[r]}updateChildren(){const t=this.getChildren()||[],n=this.childNodes.map(l=>l.data),o={},r=[];t.forEach((l,a)=>{const s=l[ta];!!s&&n.findIndex(c=>c[ta]===s)>=0?o[s]={index:a,data:l}:r.push({index:a,data:l})}),this.store.lazy||n.forEach(l=>{o[l[ta]]||this.removeChildByData(l)}),r.forEach(({index:l,data:a})=>{this.insertChild({data:a},l)}),this.updateLeafState()}loadData(t,n={}){if(this.store.lazy===!0&&this.store.load&&!this.loaded&&(!this.loading||Object.keys(n).length)){this.loading=!0;const o=r=>{this.loaded=!0,this.loading=!1,this.childNodes=[],this.doCreateChildren(r,n),this.updateLeafState(),t&&t.call(this,r)};this.store.load(this,o)}else t&&t.call(this)}}class q8e{constructor(t){this.currentNode=null,this.currentNodeKey=null;for(const n in t)ct(t,n)&&(this[n]=t[n]);this.nodesMap={}}initialize(){if(this.root=new rl({data:this.data,store:this}),this.root.initialize(),this.lazy&&this.load){const t=this.load;t(this.root,n=>{this.root.doCreateChildren(n),this._initDefaultCheckedNodes()})}else this._initDefaultCheckedNodes()}filter(t){const n=this.filterNodeMethod,o=this.lazy,r=function(l){const a=l.root?l.root.childNodes:l.childNodes;if(a.forEach(s=>{s.visible=n.call(s,t,s.data,s),r(s)}),!l.visible&&a.length){let s=!0;s=!a.some(u=>u.visible),l.root?l.root.visible=s===!1:l.visible=s===!1}!t||l.visible&&!l.isLeaf&&!o&&l.expand()};r(this)}setData(t){t!==this.root.data?(this.root.setData(t),this._initDefaultCheckedNodes()):this.root.updateChildren()}getNode(t){if(t instanceof rl)return t;const n=pt(t)?E2(this.key,t):t;return this.nodesMap[n]||null}insertBefore(t,n){const o=this.getNode(n);o.parent.insertBefore({data:t},o)}insertAfter(t,n){const o=this.getNode(n);o.parent.insertAfter({data:t},o)}remove(t){const n=this.getNode(t);n&&n.parent&&(n===this.currentNode&&(this.currentNode=null),n.parent.removeChild(n))}append(t,n){const o=n?this.getNode(n):this.root;o&&o.insertChild({data:t})}_initDefaultCheckedNodes(){const t=this.defaultCheckedKeys||[],n=this.nodesMap;t.forEach(o=>{const r=n[o];r&&r.setChecked(!0,!this.checkStrictly)})}_initDefaultCheckedNode(t){(this.defaultCheckedKeys||[]).includes(t.key)&&t.setChecked(!0,!this.checkStrictly)}setDefaultCheckedKey(t){t!==this.defaultCheckedKeys&&(this.defaultCheckedKeys=t,this._initDefaultCheckedNodes())}registerNode(t){const n=this.key;!t||!t.data||(n?t.key!==void 0&&(this.nodesMap[t.key]=t):this.nodesMap[t.id]=t)}deregisterNode(t){!this.key||!t||!t.data||(t.childNodes.forEach(o=>{this.deregisterNode(o)}),delete this.nodesMap[t.key])}getCheckedNodes(t=!1,n=!1){const o=[],r=function(l){(l.root?l.root.childNodes:l.childNodes).forEach(s=>{(s.checked||n&&s.indeterminate)&&(!t||t&&s.isLeaf)&&o.push(s.data),r(s)})};return r(this),o}getCheckedKeys(t=!1){return this.getCheckedNodes(t).map(n=>(n||{})[this.key])}getHalfCheckedNodes(){const t=[],n=function(o){(o.root?o.root.childNodes:o.childNodes).forEach(l=>{l.indeterminate&&t.push(l.data),n(l)})};return n(this),t}getHalfCheckedKeys(){return this.getHalfCheckedNodes().map(t=>(t||{})[this.key])}_getAllNodes(){const t=[],n=this.nodesMap;for(const o in n)ct(n,o)&&t.push(n[o]);return t}updateChildren(t,n){const o=this.nodesMap[t];if(!o)return;const r=o.childNodes;for(let l=r.length-1;l>=0;l--){const a=r[l];this.remove(a.data)}for(let l=0,a=n.length;l<a;l++){const s=n[l];this.append(s,o.data)}}_setCheckedKeys(t,n=!1,o){const r=this._getAllNodes().sort((s,u)=>u.level-s.level),l=Object.create(null),a=Object.keys(o);r.forEach(s=>s.setChecked(!1,!1));for(let s=0,u=r.length;s<u;s++){const c=r[s],d=c.data[t].toString();if(!a.includes(d)){c.checked&&!l[d]&&c.setChecked(!1,!1);continue}let p=c.parent;for(;p&&p.level>0;)l[p.data[t]]=!0,p=p.parent;if(c.isLeaf||this.checkStrictly){c.setChecked(!0,!1);continue}if(c.setChecked(!0,!0),n){c.setChecked(!1,!1);const h=function(m){m.childNodes.forEach(y=>{y.isLeaf||y.setChecked(!1,!1),h(y)})};h(c)}}}setCheckedNodes(t,n=!1){const o=this.key,r={};t.forEach(l=>{r[(l||{})[o]]=!0}),this._setCheckedKeys(o,n,r)}setCheckedKeys(t,n=!1){this.defaultCheckedKeys=t;const o=this.key,r={};t.forEach(l=>{r[l]=!0}),this._setCheckedKeys(o,n,r)}setDefaultExpandedKeys(t){t=t||[],this.defaultExpandedKeys=t,t.forEach(n=>{const o=this.getNode(n);o&&o.expand(null,this.autoExpandParent)})}setChecked(t,n,o){const r=this.getNode(t);r&&r.setChecked(!!n,o)}getCurrentNode(){return this.currentNode}setCurrentNode(t){const n=this.currentNode;n&&(n.isCurrent=!1),this.currentNode=t,this.currentNode.isCurrent=!0}setUserCurrentNode(t,n=!0){const o=t[this.key],r=this.nodesMap[o];this.setCurrentNode(r),n&&this.currentNode.level>1&&this.currentNode.parent.expand(null,!0)}setCurrentNodeKey(t,n=!0){if(t==null){this.currentNode&&(this.currentNode.isCurrent=!1),this.currentNode=null;return}const o=this.getNode(t);o&&(this.setCurrentNode(o),n&&this.currentNode.level>1&&this.currentNode.parent.expand(null,!0))}}const U8e=ve({name:"ElTreeNodeContent",props:{node:{type:Object,required:!0},renderContent:Function},setup(e){const t=me("tree"),n=De("NodeInstance"),o=De("RootTree");return()=>{const r=e.node,{data:l,store:a}=r;return e.renderContent?e.renderContent(Ke,{_self:n,node:r,data:l,store:a}):o.ctx.slots.default?o.ctx.slots.default({node:r,data:l}):Ke("span",{class:t.be("node","label")},[r.label])}}});var Y8e=Ee(U8e,[["__file","/home/runner/work/element-plus/element-plus/packages/components/tree/src/tree-node-content.vue"]]);function $8(e){const t=De("TreeNodeMap",null),n={treeNodeExpand:o=>{e.node!==o&&e.node.collapse()},children:[]};return t&&t.children.push(n),at("TreeNodeMap",n),{broadcastExpanded:o=>{if(!!e.accordion)for(const r of n.children)r.treeNodeExpand(o)}}}const S8=Symbol("dragEvents");function G8e({props:e,ctx:t,el$:n,dropIndicator$:o,store:r}){const l=me("tree"),a=N({showDropIndicator:!1,draggingNode:null,dropNode:null,allowDrop:!0,dropType:null});return at(S8,{treeNodeDragStart:({event:d,treeNode:f})=>{if(typeof e.allowDrag=="function"&&!e.allowDrag(f.node))return d.preventDefault(),!1;d.dataTransfer.effectAllowed="move";try{d.dataTransfer.setData("text/plain","")}catch{}a.value.draggingNode=f,t.emit("node-drag-start",f.node,d)},treeNodeDragOver:({event:d,treeNode:f})=>{const p=f,h=a.value.dropNode;h&&h!==p&&$n(h.$el,l.is("drop-inner"));const m=a.value.draggingNode;if(!m||!p)return;let v=!0,y=!0,g=!0,w=!0;typeof e.allowDrop=="function"&&(v=e.allowDrop(m.node,p.node,"prev"),w=y=e.allowDrop(m.node,p.node,"inner"),g=e.allowDrop(m.node,p.node,"next")),d.dataTransfer.dropEffect=y||v||g?"move":"none",(v||y||g)&&h!==p&&(h&&t.emit("node-drag-leave",m.node,h.node,d),t.emit("node-drag-enter",m.node,p.node,d)),(v||y||g)&&(a.value.dropNode=p),p.node.nextSibling===m.node&&(g=!1),p.node.previousSibling===m.node&&(v=!1),p.node.contains(m.node,!1)&&(y=!1),(m.node===p.node||m.node.contains(p.node))&&(v=!1,y=!1,g=!1);const _=p.$el.getBoundingClientRect(),C=n.value.getBoundingClientRect();let S;const k=v?y?.25:g?.45:1:-1,M=g?y?.75:v?.55:0:1;let x=-9999;const A=d.clientY-_.top;A<_.height*k?S="before":A>_.height*M?S="after":y?S="inner":S="none";const V=p.$el.querySelector(`.${l.be("node","expand-icon")}`).getBoundingClientRect(),F=o.value;S==="before"?x=V.top-C.top:S==="after"&&(x=V.bottom-C.top),F.style.top=`${x}px`,F.style.left=`${V.right-C.left}px`,S==="inner"?wo(p.$el,l.is("drop-inner")):$n(p.$el,l.is("drop-inner")),a.value.showDropIndicator=S==="before"||S==="after",a.value.allowDrop=a.value.showDropIndicator||w,a.value.dropType=S,t.emit("node-drag-over",m.node,p.node,d)},treeNodeDragEnd:d=>{const{draggingNode:f,dropType:p,dropNode:h}=a.value;if(d.preventDefault(),d.dataTransfer.dropEffect="move",f&&h){const m={data:f.node.data};p!=="none"&&f.node.remove(),p==="before"?h.node.parent.insertBefore(m,h.node):p==="after"?h.node.parent.insertAfter(m,h.node):p==="inner"&&h.node.insertChild(m),p!=="none"&&r.value.registerNode(m),$n(h.$el,l.is("drop-inner")),t.emit("node-drag-end",f.node,h.node,p,d),p!=="none"&&t.emit("node-drop",f.node,h.node,p,d)}f&&!h&&t.emit("node-drag-end",f.node,null,p,d),a.value.showDropIndicator=!1,a.value.draggingNode=null,a.value.dropNode=null,a.value.allowDrop=!0}}),{dragState:a}}const X8e=ve({name:"ElTreeNode",components:{ElCollapseTransition:rc,ElCheckbox:Qn,NodeContent:Y8e,ElIcon:He,Loading:er},props:{node:{type:rl,default:()=>({})},props:{type:Object,default:()=>({})},accordion:Boolean,renderContent:Function,renderAfterExpand:Boolean,showCheckbox:{type:Boolean,default:!1}},emits:["node-expand"],setup(e,t){const n=me("tree"),{broadcastExpanded:o}=$8(e),r=De("RootTree"),l=N(!1),a=N(!1),s=N(null),u=N(null),c=N(null),d=De(S8),f=nt();at("NodeInstance",f),e.node.expanded&&(l.value=!0,a.value=!0);const p=r.props.children||"children";ye(()=>{const A=e.node.data[p];return A&&[...A]},()=>{e.node.updateChildren()}),ye(()=>e.node.indeterminate,A=>{v(e.node.checked,A)}),ye(()=>e.node.checked,A=>{v(A,e.node.indeterminate)}),ye(()=>e.node.expanded,A=>{Pe(()=>l.value=A),A&&(a.value=!0)});const h=A=>E2(r.props.nodeKey,A.data),m=A=>{const V=e.props.class;if(!V)return{};let F;if(Je(V)){const{data:R}=A;F=V(R,A)}else F=V;return Ze(F)?{[F]:!0}:F},v=(A,V)=>{(s.value!==A||u.value!==V)&&r.ctx.emit("check-change",e.node.data,A,V),s.value=A,u.value=V},y=A=>{const V=r.store.value;V.setCurrentNode(e.node),r.ctx.emit("current-change",V.currentNode?V.currentNode.data:null,V.currentNode),r.currentNode.value=e.node,r.props.expandOnClickNode&&w(),r.props.checkOnClickNode&&!e.node.disabled&&_(null,{target:{checked:!e.node.checked}}),r.ctx.emit("node-click",e.node.data,e.node,f,A)},g=A=>{r.instance.vnode.props.onNodeContextmenu&&(A.stopPropagation(),A.preventDefault()),r.ctx.emit("node-contextmenu",A,e.node.data,e.node,f)},w=()=>{e.node.isLeaf||(l.value?(r.ctx.emit("node-collapse",e.node.data,e.node,f),e.node.collapse()):(e.node.expand(),t.emit("node-expand",e.node.data,e.node,f)))},_=(A,V)=>{e.node.setChecked(V.target.checked,!r.props.checkStrictly),Pe(()=>{const F=r.store.value;r.ctx.emit("check",e.node.data,{checkedNodes:F.getCheckedNodes(),checkedKeys:F.getCheckedKeys(),halfCheckedNodes:F.getHalfCheckedNodes(),halfCheckedKeys:F.getHalfCheckedKeys()})})};return{ns:n,node$:c,tree:r,expanded:l,childNodeRendered:a,oldChecked:s,oldIndeterminate:u,getNodeKey:h,getNodeClass:m,handleSelectChange:v,handleClick:y,handleContextMenu:g,handleExpandIconClick:w,handleCheckChange:_,handleChildNodeExpand:(A,V,F)=>{o(V),r.ctx.emit("node-expand",A,V,F)},handleDragStart:A=>{!r.props.draggable||d.treeNodeDragStart({event:A,treeNode:e})},handleDragOver:A=>{A.preventDefault(),r.props.draggable&&d.treeNodeDragOver({event:A,treeNode:{$el:c.value,node:e.node}})},handleDrop:A=>{A.preventDefault()},handleDragEnd:A=>{!r.props.draggable||d.treeNodeDragEnd(A)},CaretRight:S0}}}),J8e=["aria-expanded","aria-disabled","aria-checked","draggable","data-key"],Z8e=["aria-expanded"];function Q8e(e,t,n,o,r,l){const a=Ie("el-icon"),s=Ie("el-checkbox"),u=Ie("loading"),c=Ie("node-content"),d=Ie("el-tree-node"),f=Ie("el-collapse-transition");return Qe((b(),E("div",{ref:"node$",class:z([e.ns.b("node"),e.ns.is("expanded",e.expanded),e.ns.is("current",e.node.isCurrent),e.ns.is("hidden",!e.node.visible),e.ns.is("focusable",!e.node.disabled),e.ns.is("checked",!e.node.disabled&&e.node.checked),e.getNodeClass(e.node)]),role:"treeitem",tabindex:"-1","aria-expanded":e.expanded,"aria-disabled":e.node.disabled,"aria-checked":e.node.checked,draggable:e.tree.props.draggable,"data-key":e.getNodeKey(e.node),onClick:t[1]||(t[1]=Ge((...p)=>e.handleClick&&e.handleClick(...p),["stop"])),onContextmenu:t[2]||(t[2]=(...p)=>e.handleContextMenu&&e.handleContextMenu(...p)),onDragstart:t[3]||(t[3]=Ge((...p)=>e.handleDragStart&&e.handleDragStart(...p),["stop"])),onDragover:t[4]||(t[4]=Ge((...p)=>e.handleDragOver&&e.handleDragOver(...p),["stop"])),onDragend:t[5]||(t[5]=Ge((...p)=>e.handleDragEnd&&e.handleDragEnd(...p),["stop"])),onDrop:t[6]||(t[6]=Ge((...p)=>e.handleDrop&&e.handleDrop(...p),["stop"]))},[$("div",{class:z(e.ns.be("node","content")),style:Re({paddingLeft:(e.node.level-1)*e.tree.props.indent+"px"})},[e.tree.props.icon||e.CaretRight?(b(),ne(a,{key:0,class:z([e.ns.be("node","expand-icon"),e.ns.is("leaf",e.node.isLeaf),{expanded:!e.node.isLeaf&&e.expanded}]),onClick:Ge(e.handleExpandIconClick,["stop"])},{default:J(()=>[(b(),ne(st(e.tree.props.icon||e.CaretRight)))]),_:1},8,["class","onClick"])):ee("v-if",!0),e.showCheckbox?(b(),ne(s,{key:1,"model-value":e.node.checked,indeterminate:e.node.indeterminate,disabled:!!e.node.disabled,onClick:t[0]||(t[0]=Ge(()=>{},["stop"])),onChange:e.handleCheckChange},null,8,["model-value","indeterminate","disabled","onChange"])):ee("v-if",!0),e.node.loading?(b(),ne(a,{key:2,class:z([e.ns.be("node","loading-icon"),e.ns.is("loading")])},{default:J(()=>[W(u)]),_:1},8,["class"])):ee("v-if",!0),W(c,{node:e.node,"render-content":e.renderContent},null,8,["node","render-content"])],6),W(f,null,{default:J(()=>[!e.renderAfterExpand||e.childNodeRendered?Qe((b(),E("div",{key:0,class:z(e.ns.be("node","children")),role:"group","aria-expanded":e.expanded},[(b(!0),E(Ve,null,ut(e.node.childNodes,p=>(b(),ne(d,{key:e.getNodeKey(p),"render-content":e.renderContent,"render-after-expand":e.renderAfterExpand,"show-checkbox":e.showCheckbox,node:p,accordion:e.accordion,props:e.props,onNodeExpand:e.handleChildNodeExpand},null,8,["render-content","render-after-expand","show-checkbox","node","accordion","props","onNodeExpand"]))),128))],10,Z8e)),[[gt,e.expanded]]):ee("v-if",!0)]),_:1})],42,J8e)),[[gt,e.node.visible]])}var e_e=Ee(X8e,[["render",Q8e],["__file","/home/runner/work/element-plus/element-plus/packages/components/tree/src/tree-node.vue"]]);function t_e({el$:e},t){const n=me("tree"),o=Tt([]),r=Tt([]);tt(()=>{a()}),eo(()=>{o.value=Array.from(e.value.querySelectorAll("[role=treeitem]")),r.value=Array.from(e.value.querySelectorAll("input[type=checkbox]"))}),ye(r,s=>{s.forEach(u=>{u.setAttribute("tabindex","-1")})}),At(e,"keydown",s=>{const u=s.target;if(!u.className.includes(n.b("node")))return;const c=s.code;o.value=Array.from(e.value.querySelectorAll(`.${n.is("focusable")}[role=treeitem]`));const d=o.value.indexOf(u);let f;if([Fe.up,Fe.down].includes(c)){if(s.preventDefault(),c===Fe.up){f=d===-1?0:d!==0?d-1:o.value.length-1;const h=f;for(;!t.value.getNode(o.value[f].dataset.key).canFocus;){if(f--,f===h){f=-1;break}f<0&&(f=o.value.length-1)}}else{f=d===-1?0:d<o.value.length-1?d+1:0;const h=f;for(;!t.value.getNode(o.value[f].dataset.key).canFocus;){if(f++,f===h){f=-1;break}f>=o.value.length&&(f=0)}}f!==-1&&o.value[f].focus()}[Fe.left,Fe.right].includes(c)&&(s.preventDefault(),u.click());const p=u.querySelector('[type="checkbox"]');[Fe.enter,Fe.space].includes(c)&&p&&(s.preventDefault(),p.click())});const a=()=>{var s;o.value=Array.from(e.value.querySelectorAll(`.${n.is("focusable")}[role=treeitem]`)),r.value=Array.from(e.value.querySelectorAll("input[type=checkbox]"));const u=e.value.querySelectorAll(`.${n.is("checked")}[role=treeitem]`);if(u.length){u[0].setAttribute("tabindex","0");return}(s=o.value[0])==null||s.setAttribute("tabindex","0")}}const n_e=ve({name:"ElTree",components:{ElTreeNode:e_e},props:{data:{type:Array,default:()=>[]},emptyText:{type:String},renderAfterExpand:{type:Boolean,default:!0},nodeKey:String,checkStrictly:Boolean,defaultExpandAll:Boolean,expandOnClickNode:{type:Boolean,default:!0},checkOnClickNode:Boolean,checkDescendants:{type:Boolean,default:!1},autoExpandParent:{type:Boolean,default:!0},defaultCheckedKeys:Array,defaultExpandedKeys:Array,currentNodeKey:[String,Number],renderContent:Function,showCheckbox:{type:Boolean,default:!1},draggable:{type:Boolean,default:!1},allowDrag:Function,allowDrop:Function,props:{type:Object,default:()=>({children:"children",label:"label",disabled:"disabled"})},lazy:{type:Boolean,default:!1},highlightCurrent:Boolean,load:Function,filterNodeMethod:Function,accordion:Boolean,indent:{type:Number,default:18},icon:[String,Object]},emits:["check-change","current-change","node-click","node-contextmenu","node-collapse","node-expand","check","node-drag-start","node-drag-end","node-drop","node-drag-leave","node-drag-enter","node-drag-over"],setup(e,t){const{t:n}=_t(),o=me("tree"),r=N(new q8e({key:e.nodeKey,data:e.data,lazy:e.lazy,props:e.props,load:e.load,currentNodeKey:e.currentNodeKey,checkStrictly:e.checkStrictly,checkDescendants:e.checkDescendants,defaultCheckedKeys:e.defaultCheckedKeys,defaultExpandedKeys:e.defaultExpandedKeys,autoExpandParent:e.autoExpandParent,defaultExpandAll:e.defaultExpandAll,filterNodeMethod:e.filterNodeMethod}));r.value.initialize();const l=N(r.value.root),a=N(null),s=N(null),u=N(null),{broadcastExpanded:c}=$8(e),{dragState:d}=G8e({props:e,ctx:t,el$:s,dropIndicator$:u,store:r});t_e({el$:s},r);const f=T(()=>{const{childNodes:P}=l.value;return!P||P.length===0||P.every(({visible:D})=>!D)});ye(()=>e.defaultCheckedKeys,P=>{r.value.setDefaultCheckedKey(P)}),ye(()=>e.defaultExpandedKeys,P=>{r.value.setDefaultExpandedKeys(P)}),ye(()=>e.data,P=>{r.value.setData(P)},{deep:!0}),ye(()=>e.checkStrictly,P=>{r.value.checkStrictly=P});const p=P=>{if(!e.filterNodeMethod)throw new Error("[Tree] filterNodeMethod is required when filter");r.value.filter(P)},h=P=>E2(e.nodeKey,P.data),m=P=>{if(!e.nodeKey)throw new Error("[Tree] nodeKey is required in getNodePath");const D=r.value.getNode(P);if(!D)return[];const I=[D.data];let X=D.parent;for(;X&&X!==l.value;)I.push(X.data),X=X.parent;return I.reverse()},v=(P,D)=>r.value.getCheckedNodes(P,D),y=P=>r.value.getCheckedKeys(P),g=()=>{const P=r.value.getCurrentNode();return P?P.data:null},w=()=>{if(!e.nodeKey)throw new Error("[Tree] nodeKey is required in getCurrentKey");const P=g();return P?P[e.nodeKey]:null},_=(P,D)=>{if(!e.nodeKey)throw new Error("[Tree] nodeKey is required in setCheckedNodes");r.value.setCheckedNodes(P,D)},C=(P,D)=>{if(!e.nodeKey)throw new Error("[Tree] nodeKey is required in setCheckedKeys");r.value.setCheckedKeys(P,D)},S=(P,D,I)=>{r.value.setChecked(P,D,I)},k=()=>r.value.getHalfCheckedNodes(),M=()=>r.value.getHalfCheckedKeys(),x=(P,D=!0)=>{if(!e.nodeKey)throw new Error("[Tree] nodeKey is required in setCurrentNode");r.value.setUserCurrentNode(P,D)},A=(P,D=!0)=>{if(!e.nodeKey)throw new Error("[Tree] nodeKey is required in setCurrentKey");r.value.setCurrentNodeKey(P,D)},V=P=>r.value.getNode(P),F=P=>{r.value.remove(P)},R=(P,D)=>{r.value.append(P,D)},H=(P,D)=>{r.value.insertBefore(P,D)},L=(P,D)=>{r.value.insertAfter(P,D)},K=(P,D,I)=>{c(D),t.emit("node-expand",P,D,I)},O=(P,D)=>{if(!e.nodeKey)throw new Error("[Tree] nodeKey is required in updateKeyChild");r.value.updateChildren(P,D)};return at("RootTree",{ctx:t,props:e,store:r,root:l,currentNode:a,instance:nt()}),at(Eo,void 0),{ns:o,store:r,root:l,currentNode:a,dragState:d,el$:s,dropIndicator$:u,isEmpty:f,filter:p,getNodeKey:h,getNodePath:m,getCheckedNodes:v,getCheckedKeys:y,getCurrentNode:g,getCurrentKey:w,setCheckedNodes:_,setCheckedKeys:C,setChecked:S,getHalfCheckedNodes:k,getHalfCheckedKeys:M,setCurrentNode:x,setCurrentKey:A,t:n,getNode:V,remove:F,append:R,insertBefore:H,insertAfter:L,handleNodeExpand:K,updateKeyChildren:O}}});function o_e(e,t,n,o,r,l){var a;const s=Ie("el-tree-node");return b(),E("div",{ref:"el$",class:z([e.ns.b(),e.ns.is("dragging",!!e.dragState.draggingNode),e.ns.is("drop-not-allow",!e.dragState.allowDrop),e.ns.is("drop-inner",e.dragState.dropType==="inner"),{[e.ns.m("highlight-current")]:e.highlightCurrent}]),role:"tree"},[(b(!0),E(Ve,null,ut(e.root.childNodes,u=>(b(),ne(s,{key:e.getNodeKey(u),node:u,props:e.props,accordion:e.accordion,"render-after-expand":e.renderAfterExpand,"show-checkbox":e.showCheckbox,"render-content":e.renderContent,onNodeExpand:e.handleNodeExpand},null,8,["node","props","accordion","render-after-expand","show-checkbox","render-content","onNodeExpand"]))),128)),e.isEmpty?(b(),E("div",{key:0,class:z(e.ns.e("empty-block"))},[$("span",{class:z(e.ns.e("empty-text"))},ke((a=e.emptyText)!=null?a:e.t("el.tree.emptyText")),3)],2)):ee("v-if",!0),Qe($("div",{ref:"dropIndicator$",class:z(e.ns.e("drop-indicator"))},null,2),[[gt,e.dragState.showDropIndicator]])],2)}var Bi=Ee(n_e,[["render",o_e],["__file","/home/runner/work/element-plus/element-plus/packages/components/tree/src/tree.vue"]]);Bi.install=e=>{e.component(Bi.name,Bi)};const gu=Bi,r_e=gu,l_e=(e,{attrs:t},{tree:n,key:o})=>{const r=me("tree-select"),l={...vr(Wt(e),Object.keys(ml.props)),...t,valueKey:o,popperClass:T(()=>{const a=[r.e("popper")];return e.popperClass&&a.push(e.popperClass),a.join(" ")}),filterMethod:(a="")=>{e.filterMethod&&e.filterMethod(a),Pe(()=>{var s;(s=n.value)==null||s.filter(a)})},onVisibleChange:a=>{var s;(s=t.onVisibleChange)==null||s.call(t,a),e.filterable&&a&&l.filterMethod()}};return l},a_e=ve({extends:iu,setup(e,t){const n=iu.setup(e,t);delete n.selectOptionClick;const o=nt().proxy;return Pe(()=>{n.select.cachedOptions.get(o.value)||n.select.onOptionCreate(o)}),n},methods:{selectOptionClick(){this.$el.parentElement.click()}}});function kf(e){return e||e===0}function k8(e){return Array.isArray(e)&&e.length}function Uc(e){return Array.isArray(e)?e:kf(e)?[e]:[]}function Di(e,t,n,o,r){for(let l=0;l<e.length;l++){const a=e[l];if(t(a,l,e,r))return o?o(a,l,e,r):a;{const s=n(a);if(k8(s)){const u=Di(s,t,n,o,a);if(u)return u}}}}const s_e=(e,{attrs:t,slots:n,emit:o},{select:r,tree:l,key:a})=>{ye(()=>e.modelValue,()=>{e.showCheckbox&&Pe(()=>{const d=l.value;d&&!Vn(d.getCheckedKeys(),Uc(e.modelValue))&&d.setCheckedKeys(Uc(e.modelValue))})},{immediate:!0,deep:!0});const s=T(()=>({value:a.value,...e.props})),u=(d,f)=>{var p;const h=s.value[d];return Je(h)?h(f,(p=l.value)==null?void 0:p.getNode(u("value",f))):f[h]},c=Uc(e.modelValue).map(d=>Di(e.data||[],f=>u("value",f)===d,f=>u("children",f),(f,p,h,m)=>m&&u("value",m))).filter(d=>kf(d));return{...vr(Wt(e),Object.keys(gu.props)),...t,nodeKey:a,expandOnClickNode:T(()=>!e.checkStrictly),defaultExpandedKeys:T(()=>e.defaultExpandedKeys?e.defaultExpandedKeys.concat(c):c),renderContent:(d,{node:f,data:p,store:h})=>d(a_e,{value:u("value",p),label:u("label",p),disabled:u("disabled",p)},e.renderContent?()=>e.renderContent(d,{node:f,data:p,store:h}):n.default?()=>n.default({node:f,data:p,store:h}):void 0),filterNodeMethod:(d,f,p)=>{var h;return e.filterNodeMethod?e.filterNodeMethod(d,f,p):d?(h=u("label",f))==null?void 0:h.includes(d):!0},onNodeClick:(d,f,p)=>{var h,m,v;if((h=t.onNodeClick)==null||h.call(t,d,f,p),!(e.showCheckbox&&e.checkOnClickNode))if(!e.showCheckbox&&(e.checkStrictly||f.isLeaf)){if(!u("disabled",d)){const y=(m=r.value)==null?void 0:m.options.get(u("value",d));(v=r.value)==null||v.handleOptionSelect(y,!0)}}else p.proxy.handleExpandIconClick()},onCheck:(d,f)=>{var p;(p=t.onCheck)==null||p.call(t,d,f);const h=u("value",d);if(e.checkStrictly)o(lt,e.multiple?f.checkedKeys:f.checkedKeys.includes(h)?h:void 0);else if(e.multiple)o(lt,l.value.getCheckedKeys(!0));else{const m=Di([d],g=>!k8(u("children",g))&&!u("disabled",g),g=>u("children",g)),v=m?u("value",m):void 0,y=kf(e.modelValue)&&!!Di([d],g=>u("value",g)===e.modelValue,g=>u("children",g));o(lt,v===e.modelValue||y?void 0:v)}}}},i_e=ve({name:"ElTreeSelect",inheritAttrs:!1,props:{...ml.props,...gu.props},setup(e,t){const{slots:n,expose:o}=t,r=N(),l=N(),a=T(()=>e.nodeKey||e.valueKey||"value"),s=l_e(e,t,{select:r,tree:l,key:a}),u=s_e(e,t,{select:r,tree:l,key:a}),c=yt({});return o(c),tt(()=>{Object.assign(c,{...vr(l.value,["filter","updateKeyChildren","getCheckedNodes","setCheckedNodes","getCheckedKeys","setCheckedKeys","setChecked","getHalfCheckedNodes","getHalfCheckedKeys","getCurrentKey","getCurrentNode","setCurrentKey","setCurrentNode","getNode","remove","append","insertBefore","insertAfter"]),...vr(r.value,["focus","blur"])})}),()=>Ke(ml,yt({...s,ref:d=>r.value=d}),{...n,default:()=>Ke(gu,yt({...u,ref:d=>l.value=d}))})}});var Fi=Ee(i_e,[["__file","/home/runner/work/element-plus/element-plus/packages/components/tree-select/src/tree-select.vue"]]);Fi.install=e=>{e.component(Fi.name,Fi)};const u_e=Fi,c_e=u_e,M2=Symbol(),d_e={key:-1,level:-1,data:{}};var Wa=(e=>(e.KEY="id",e.LABEL="label",e.CHILDREN="children",e.DISABLED="disabled",e))(Wa||{}),Ef=(e=>(e.ADD="add",e.DELETE="delete",e))(Ef||{});const f_e=Te({data:{type:ae(Array),default:()=>Nt([])},emptyText:{type:String},height:{type:Number,default:200},props:{type:ae(Object),default:()=>Nt({children:"children",label:"label",disabled:"disabled",value:"id"})},highlightCurrent:{type:Boolean,default:!1},showCheckbox:{type:Boolean,default:!1},defaultCheckedKeys:{type:ae(Array),default:()=>Nt([])},checkStrictly:{type:Boolean,default:!1},defaultExpandedKeys:{type:ae(Array),default:()=>Nt([])},indent:{type:Number,default:16},icon:{type:Xt},expandOnClickNode:{type:Boolean,default:!0},checkOnClickNode:{type:Boolean,default:!1},currentNodeKey:{type:ae([String,Number])},accordion:{type:Boolean,default:!1},filterMethod:{type:ae(Function)},perfMode:{type:Boolean,default:!0}}),p_e=Te({node:{type:ae(Object),default:()=>Nt(d_e)},expanded:{type:Boolean,default:!1},checked:{type:Boolean,default:!1},indeterminate:{type:Boolean,default:!1},showCheckbox:{type:Boolean,default:!1},disabled:{type:Boolean,default:!1},current:{type:Boolean,default:!1},hiddenExpandIcon:{type:Boolean,default:!1}}),h_e=Te({node:{type:ae(Object),required:!0}}),E8="node-click",M8="node-expand",T8="node-collapse",x8="current-change",z8="check",A8="check-change",N8="node-contextmenu",v_e={[E8]:(e,t,n)=>e&&t&&n,[M8]:(e,t)=>e&&t,[T8]:(e,t)=>e&&t,[x8]:(e,t)=>e&&t,[z8]:(e,t)=>e&&t,[A8]:(e,t)=>e&&typeof t=="boolean",[N8]:(e,t,n)=>e&&t&&n},m_e={click:(e,t)=>!!(e&&t),toggle:e=>!!e,check:(e,t)=>e&&typeof t=="boolean"};function g_e(e,t){const n=N(new Set),o=N(new Set),{emit:r}=nt();ye(()=>t.value,()=>Pe(()=>{w(e.defaultCheckedKeys)}),{immediate:!0});const l=()=>{if(!t.value||!e.showCheckbox||e.checkStrictly)return;const{levelTreeNodeMap:_,maxLevel:C}=t.value,S=n.value,k=new Set;for(let M=C-1;M>=1;--M){const x=_.get(M);!x||x.forEach(A=>{const V=A.children;if(V){let F=!0,R=!1;for(const H of V){const L=H.key;if(S.has(L))R=!0;else if(k.has(L)){F=!1,R=!0;break}else F=!1}F?S.add(A.key):R?(k.add(A.key),S.delete(A.key)):(S.delete(A.key),k.delete(A.key))}})}o.value=k},a=_=>n.value.has(_.key),s=_=>o.value.has(_.key),u=(_,C,S=!0)=>{const k=n.value,M=(x,A)=>{k[A?Ef.ADD:Ef.DELETE](x.key);const V=x.children;!e.checkStrictly&&V&&V.forEach(F=>{F.disabled||M(F,A)})};M(_,C),l(),S&&c(_,C)},c=(_,C)=>{const{checkedNodes:S,checkedKeys:k}=m(),{halfCheckedNodes:M,halfCheckedKeys:x}=v();r(z8,_.data,{checkedKeys:k,checkedNodes:S,halfCheckedKeys:x,halfCheckedNodes:M}),r(A8,_.data,C)};function d(_=!1){return m(_).checkedKeys}function f(_=!1){return m(_).checkedNodes}function p(){return v().halfCheckedKeys}function h(){return v().halfCheckedNodes}function m(_=!1){const C=[],S=[];if((t==null?void 0:t.value)&&e.showCheckbox){const{treeNodeMap:k}=t.value;n.value.forEach(M=>{const x=k.get(M);x&&(!_||_&&x.isLeaf)&&(S.push(M),C.push(x.data))})}return{checkedKeys:S,checkedNodes:C}}function v(){const _=[],C=[];if((t==null?void 0:t.value)&&e.showCheckbox){const{treeNodeMap:S}=t.value;o.value.forEach(k=>{const M=S.get(k);M&&(C.push(k),_.push(M.data))})}return{halfCheckedNodes:_,halfCheckedKeys:C}}function y(_){n.value.clear(),o.value.clear(),w(_)}function g(_,C){if((t==null?void 0:t.value)&&e.showCheckbox){const S=t.value.treeNodeMap.get(_);S&&u(S,C,!1)}}function w(_){if(t!=null&&t.value){const{treeNodeMap:C}=t.value;if(e.showCheckbox&&C&&_)for(const S of _){const k=C.get(S);k&&!a(k)&&u(k,!0,!1)}}}return{updateCheckedKeys:l,toggleCheckbox:u,isChecked:a,isIndeterminate:s,getCheckedKeys:d,getCheckedNodes:f,getHalfCheckedKeys:p,getHalfCheckedNodes:h,setChecked:g,setCheckedKeys:y}}function __e(e,t){const n=N(new Set([])),o=N(new Set([])),r=T(()=>Je(e.filterMethod));function l(s){var u;if(!r.value)return;const c=new Set,d=o.value,f=n.value,p=[],h=((u=t.value)==null?void 0:u.treeNodes)||[],m=e.filterMethod;f.clear();function v(y){y.forEach(g=>{p.push(g),m!=null&&m(s,g.data)?p.forEach(_=>{c.add(_.key)}):g.isLeaf&&f.add(g.key);const w=g.children;if(w&&v(w),!g.isLeaf){if(!c.has(g.key))f.add(g.key);else if(w){let _=!0;for(const C of w)if(!f.has(C.key)){_=!1;break}_?d.add(g.key):d.delete(g.key)}}p.pop()})}return v(h),c}function a(s){return o.value.has(s.key)}return{hiddenExpandIconKeySet:o,hiddenNodeKeySet:n,doFilter:l,isForceHiddenExpandIcon:a}}function y_e(e,t){const n=N(new Set(e.defaultExpandedKeys)),o=N(),r=Tt();ye(()=>e.currentNodeKey,U=>{o.value=U},{immediate:!0}),ye(()=>e.data,U=>{_e(U)},{immediate:!0});const{isIndeterminate:l,isChecked:a,toggleCheckbox:s,getCheckedKeys:u,getCheckedNodes:c,getHalfCheckedKeys:d,getHalfCheckedNodes:f,setChecked:p,setCheckedKeys:h}=g_e(e,r),{doFilter:m,hiddenNodeKeySet:v,isForceHiddenExpandIcon:y}=__e(e,r),g=T(()=>{var U;return((U=e.props)==null?void 0:U.value)||Wa.KEY}),w=T(()=>{var U;return((U=e.props)==null?void 0:U.children)||Wa.CHILDREN}),_=T(()=>{var U;return((U=e.props)==null?void 0:U.disabled)||Wa.DISABLED}),C=T(()=>{var U;return((U=e.props)==null?void 0:U.label)||Wa.LABEL}),S=T(()=>{const U=n.value,ce=v.value,de=[],ge=r.value&&r.value.treeNodes||[];function Le(){const We=[];for(let Y=ge.length-1;Y>=0;--Y)We.push(ge[Y]);for(;We.length;){const Y=We.pop();if(!!Y&&(ce.has(Y.key)||de.push(Y),U.has(Y.key))){const Q=Y.children;if(Q){const ie=Q.length;for(let Se=ie-1;Se>=0;--Se)We.push(Q[Se])}}}}return Le(),de}),k=T(()=>S.value.length>0);function M(U){const ce=new Map,de=new Map;let ge=1;function Le(Y,Q=1,ie=void 0){var Se;const ue=[];for(const te of Y){const se=V(te),fe={level:Q,key:se,data:te};fe.label=R(te),fe.parent=ie;const be=A(te);fe.disabled=F(te),fe.isLeaf=!be||be.length===0,be&&be.length&&(fe.children=Le(be,Q+1,fe)),ue.push(fe),ce.set(se,fe),de.has(Q)||de.set(Q,[]),(Se=de.get(Q))==null||Se.push(fe)}return Q>ge&&(ge=Q),ue}const We=Le(U);return{treeNodeMap:ce,levelTreeNodeMap:de,maxLevel:ge,treeNodes:We}}function x(U){const ce=m(U);ce&&(n.value=ce)}function A(U){return U[w.value]}function V(U){return U?U[g.value]:""}function F(U){return U[_.value]}function R(U){return U[C.value]}function H(U){n.value.has(U.key)?D(U):P(U)}function L(U,ce){t(E8,U.data,U,ce),K(U),e.expandOnClickNode&&H(U),e.showCheckbox&&e.checkOnClickNode&&!U.disabled&&s(U,!a(U),!0)}function K(U){q(U)||(o.value=U.key,t(x8,U.data,U))}function O(U,ce){s(U,ce)}function P(U){const ce=n.value;if(r.value&&e.accordion){const{treeNodeMap:de}=r.value;ce.forEach(ge=>{const Le=de.get(ge);Le&&Le.level===Le.level&&ce.delete(ge)})}ce.add(U.key),t(M8,U.data,U)}function D(U){n.value.delete(U.key),t(T8,U.data,U)}function I(U){return n.value.has(U.key)}function X(U){return!!U.disabled}function q(U){const ce=o.value;return!!ce&&ce===U.key}function j(){var U,ce;if(!!o.value)return(ce=(U=r.value)==null?void 0:U.treeNodeMap.get(o.value))==null?void 0:ce.data}function Z(){return o.value}function pe(U){o.value=U}function _e(U){Pe(()=>r.value=M(U))}function $e(U){var ce;const de=pt(U)?V(U):U;return(ce=r.value)==null?void 0:ce.treeNodeMap.get(de)}return{tree:r,flattenTree:S,isNotEmpty:k,getKey:V,getChildren:A,toggleExpand:H,toggleCheckbox:s,isExpanded:I,isChecked:a,isIndeterminate:l,isDisabled:X,isCurrent:q,isForceHiddenExpandIcon:y,handleNodeClick:L,handleNodeCheck:O,getCurrentNode:j,getCurrentKey:Z,setCurrentKey:pe,getCheckedKeys:u,getCheckedNodes:c,getHalfCheckedKeys:d,getHalfCheckedNodes:f,setChecked:p,setCheckedKeys:h,filter:x,setData:_e,getNode:$e,expandNode:P,collapseNode:D}}var b_e=ve({name:"ElTreeNodeContent",props:h_e,setup(e){const t=De(M2),n=me("tree");return()=>{const o=e.node,{data:r}=o;return t!=null&&t.ctx.slots.default?t.ctx.slots.default({node:o,data:r}):Ke("span",{class:n.be("node","label")},[o==null?void 0:o.label])}}});const w_e="caret-right",C_e=ve({name:"ElTreeNode",components:{ElIcon:He,CaretRight:S0,ElCheckbox:Qn,ElNodeContent:b_e},props:p_e,emits:m_e,setup(e,{emit:t}){const n=De(M2),o=me("tree"),r=T(()=>{var d;return(d=n==null?void 0:n.props.indent)!=null?d:16}),l=T(()=>{var d;return(d=n==null?void 0:n.props.icon)!=null?d:w_e});return{ns:o,indent:r,icon:l,handleClick:d=>{t("click",e.node,d)},handleExpandIconClick:()=>{t("toggle",e.node)},handleCheckChange:d=>{t("check",e.node,d)},handleContextMenu:d=>{var f,p,h,m;(h=(p=(f=n==null?void 0:n.instance)==null?void 0:f.vnode)==null?void 0:p.props)!=null&&h.onNodeContextmenu&&(d.stopPropagation(),d.preventDefault()),n==null||n.ctx.emit(N8,d,(m=e.node)==null?void 0:m.data,e.node)}}}}),$_e=["aria-expanded","aria-disabled","aria-checked","data-key"];function S_e(e,t,n,o,r,l){var a,s,u;const c=Ie("el-icon"),d=Ie("el-checkbox"),f=Ie("el-node-content");return b(),E("div",{ref:"node$",class:z([e.ns.b("node"),e.ns.is("expanded",e.expanded),e.ns.is("current",e.current),e.ns.is("focusable",!e.disabled),e.ns.is("checked",!e.disabled&&e.checked)]),role:"treeitem",tabindex:"-1","aria-expanded":e.expanded,"aria-disabled":e.disabled,"aria-checked":e.checked,"data-key":(a=e.node)==null?void 0:a.key,onClick:t[1]||(t[1]=Ge((...p)=>e.handleClick&&e.handleClick(...p),["stop"])),onContextmenu:t[2]||(t[2]=(...p)=>e.handleContextMenu&&e.handleContextMenu(...p))},[$("div",{class:z(e.ns.be("node","content")),style:Re({paddingLeft:`${(e.node.level-1)*e.indent}px`})},[e.icon?(b(),ne(c,{key:0,class:z([e.ns.is("leaf",!!((s=e.node)!=null&&s.isLeaf)),e.ns.is("hidden",e.hiddenExpandIcon),{expanded:!((u=e.node)!=null&&u.isLeaf)&&e.expanded},e.ns.be("node","expand-icon")]),onClick:Ge(e.handleExpandIconClick,["stop"])},{default:J(()=>[(b(),ne(st(e.icon)))]),_:1},8,["class","onClick"])):ee("v-if",!0),e.showCheckbox?(b(),ne(d,{key:1,"model-value":e.checked,indeterminate:e.indeterminate,disabled:e.disabled,onChange:e.handleCheckChange,onClick:t[0]||(t[0]=Ge(()=>{},["stop"]))},null,8,["model-value","indeterminate","disabled","onChange"])):ee("v-if",!0),W(f,{node:e.node},null,8,["node"])],6)],42,$_e)}var k_e=Ee(C_e,[["render",S_e],["__file","/home/runner/work/element-plus/element-plus/packages/components/tree-v2/src/tree-node.vue"]]);const E_e=ve({name:"ElTreeV2",components:{ElTreeNode:k_e,FixedSizeList:Wg},props:f_e,emits:v_e,setup(e,t){at(M2,{ctx:t,props:e,instance:nt()}),at(Eo,void 0);const{t:n}=_t(),o=me("tree"),{flattenTree:r,isNotEmpty:l,toggleExpand:a,isExpanded:s,isIndeterminate:u,isChecked:c,isDisabled:d,isCurrent:f,isForceHiddenExpandIcon:p,toggleCheckbox:h,handleNodeClick:m,handleNodeCheck:v,getCurrentNode:y,getCurrentKey:g,setCurrentKey:w,getCheckedKeys:_,getCheckedNodes:C,getHalfCheckedKeys:S,getHalfCheckedNodes:k,setChecked:M,setCheckedKeys:x,filter:A,setData:V,getNode:F,expandNode:R,collapseNode:H}=y_e(e,t.emit);return t.expose({getCurrentNode:y,getCurrentKey:g,setCurrentKey:w,getCheckedKeys:_,getCheckedNodes:C,getHalfCheckedKeys:S,getHalfCheckedNodes:k,setChecked:M,setCheckedKeys:x,filter:A,setData:V,getNode:F,expandNode:R,collapseNode:H}),{t:n,ns:o,flattenTree:r,itemSize:26,isNotEmpty:l,toggleExpand:a,toggleCheckbox:h,isExpanded:s,isIndeterminate:u,isChecked:c,isDisabled:d,isCurrent:f,isForceHiddenExpandIcon:p,handleNodeClick:m,handleNodeCheck:v}}});function M_e(e,t,n,o,r,l){var a;const s=Ie("el-tree-node"),u=Ie("fixed-size-list");return b(),E("div",{class:z([e.ns.b(),{[e.ns.m("highlight-current")]:e.highlightCurrent}]),role:"tree"},[e.isNotEmpty?(b(),ne(u,{key:0,"class-name":e.ns.b("virtual-list"),data:e.flattenTree,total:e.flattenTree.length,height:e.height,"item-size":e.itemSize,"perf-mode":e.perfMode},{default:J(({data:c,index:d,style:f})=>[(b(),ne(s,{key:c[d].key,style:Re(f),node:c[d],expanded:e.isExpanded(c[d]),"show-checkbox":e.showCheckbox,checked:e.isChecked(c[d]),indeterminate:e.isIndeterminate(c[d]),disabled:e.isDisabled(c[d]),current:e.isCurrent(c[d]),"hidden-expand-icon":e.isForceHiddenExpandIcon(c[d]),onClick:e.handleNodeClick,onToggle:e.toggleExpand,onCheck:e.handleNodeCheck},null,8,["style","node","expanded","show-checkbox","checked","indeterminate","disabled","current","hidden-expand-icon","onClick","onToggle","onCheck"]))]),_:1},8,["class-name","data","total","height","item-size","perf-mode"])):(b(),E("div",{key:1,class:z(e.ns.e("empty-block"))},[$("span",{class:z(e.ns.e("empty-text"))},ke((a=e.emptyText)!=null?a:e.t("el.tree.emptyText")),3)],2))],2)}var T_e=Ee(E_e,[["render",M_e],["__file","/home/runner/work/element-plus/element-plus/packages/components/tree-v2/src/tree.vue"]]);const x_e=rt(T_e),z_e="ElUpload";class A_e extends Error{constructor(t,n,o,r){super(t),this.name="UploadAjaxError",this.status=n,this.method=o,this.url=r}}function Wh(e,t,n){let o;return n.response?o=`${n.response.error||n.response}`:n.responseText?o=`${n.responseText}`:o=`fail to ${t.method} ${e} ${n.status}`,new A_e(o,n.status,t.method,e)}function N_e(e){const t=e.responseText||e.response;if(!t)return t;try{return JSON.parse(t)}catch{return t}}const O_e=e=>{typeof XMLHttpRequest>"u"&&Gt(z_e,"XMLHttpRequest is undefined");const t=new XMLHttpRequest,n=e.action;t.upload&&t.upload.addEventListener("progress",l=>{const a=l;a.percent=l.total>0?l.loaded/l.total*100:0,e.onProgress(a)});const o=new FormData;if(e.data)for(const[l,a]of Object.entries(e.data))Array.isArray(a)?o.append(l,...a):o.append(l,a);o.append(e.filename,e.file,e.file.name),t.addEventListener("error",()=>{e.onError(Wh(n,e,t))}),t.addEventListener("load",()=>{if(t.status<200||t.status>=300)return e.onError(Wh(n,e,t));e.onSuccess(N_e(t))}),t.open(e.method,n,!0),e.withCredentials&&"withCredentials"in t&&(t.withCredentials=!0);const r=e.headers||{};if(r instanceof Headers)r.forEach((l,a)=>t.setRequestHeader(a,l));else for(const[l,a]of Object.entries(r))qn(a)||t.setRequestHeader(l,String(a));return t.send(o),t},O8=["text","picture","picture-card"];let P_e=1;const P8=()=>Date.now()+P_e++,I8=Te({action:{type:String,default:"#"},headers:{type:ae(Object)},method:{type:String,default:"post"},data:{type:Object,default:()=>Nt({})},multiple:{type:Boolean,default:!1},name:{type:String,default:"file"},drag:{type:Boolean,default:!1},withCredentials:Boolean,showFileList:{type:Boolean,default:!0},accept:{type:String,default:""},type:{type:String,default:"select"},fileList:{type:ae(Array),default:()=>Nt([])},autoUpload:{type:Boolean,default:!0},listType:{type:String,values:O8,default:"text"},httpRequest:{type:ae(Function),default:O_e},disabled:Boolean,limit:Number}),I_e=Te({...I8,beforeUpload:{type:ae(Function),default:bt},beforeRemove:{type:ae(Function)},onRemove:{type:ae(Function),default:bt},onChange:{type:ae(Function),default:bt},onPreview:{type:ae(Function),default:bt},onSuccess:{type:ae(Function),default:bt},onProgress:{type:ae(Function),default:bt},onError:{type:ae(Function),default:bt},onExceed:{type:ae(Function),default:bt}}),L_e=Te({files:{type:ae(Array),default:()=>Nt([])},disabled:{type:Boolean,default:!1},handlePreview:{type:ae(Function),default:bt},listType:{type:String,values:O8,default:"text"}}),V_e={remove:e=>!!e},H_e=["onKeydown"],R_e=["src"],B_e=["onClick"],D_e=["onClick"],F_e=["onClick"],K_e={name:"ElUploadList"},W_e=ve({...K_e,props:L_e,emits:V_e,setup(e,{emit:t}){const n=e,{t:o}=_t(),r=me("upload"),l=me("icon"),a=me("list"),s=N(!1),u=d=>{n.handlePreview(d)},c=d=>{t("remove",d)};return(d,f)=>(b(),ne(Km,{tag:"ul",class:z([i(r).b("list"),i(r).bm("list",d.listType),i(r).is("disabled",d.disabled)]),name:i(a).b()},{default:J(()=>[(b(!0),E(Ve,null,ut(d.files,p=>(b(),E("li",{key:p.uid||p.name,class:z([i(r).be("list","item"),i(r).is(p.status),{focusing:s.value}]),tabindex:"0",onKeydown:ht(h=>!d.disabled&&c(p),["delete"]),onFocus:f[0]||(f[0]=h=>s.value=!0),onBlur:f[1]||(f[1]=h=>s.value=!1),onClick:f[2]||(f[2]=h=>s.value=!1)},[he(d.$slots,"default",{file:p},()=>[d.listType==="picture"||p.status!=="uploading"&&d.listType==="picture-card"?(b(),E("img",{key:0,class:z(i(r).be("list","item-thumbnail")),src:p.url,alt:""},null,10,R_e)):ee("v-if",!0),d.listType!=="picture"&&(p.status==="uploading"||d.listType!=="picture-card")?(b(),E("div",{key:1,class:z(i(r).be("list","item-info"))},[$("a",{class:z(i(r).be("list","item-name")),onClick:Ge(h=>u(p),["prevent"])},[W(i(He),{class:z(i(l).m("document"))},{default:J(()=>[W(i(B4))]),_:1},8,["class"]),$("span",{class:z(i(r).be("list","item-file-name"))},ke(p.name),3)],10,B_e),p.status==="uploading"?(b(),ne(i(Pg),{key:0,type:d.listType==="picture-card"?"circle":"line","stroke-width":d.listType==="picture-card"?6:2,percentage:Number(p.percentage),style:Re(d.listType==="picture-card"?"":"margin-top: 0.5rem")},null,8,["type","stroke-width","percentage","style"])):ee("v-if",!0)],2)):ee("v-if",!0),$("label",{class:z(i(r).be("list","item-status-label"))},[d.listType==="text"?(b(),ne(i(He),{key:0,class:z([i(l).m("upload-success"),i(l).m("circle-check")])},{default:J(()=>[W(i(ju))]),_:1},8,["class"])):["picture-card","picture"].includes(d.listType)?(b(),ne(i(He),{key:1,class:z([i(l).m("upload-success"),i(l).m("check")])},{default:J(()=>[W(i(xa))]),_:1},8,["class"])):ee("v-if",!0)],2),d.disabled?ee("v-if",!0):(b(),ne(i(He),{key:2,class:z(i(l).m("close")),onClick:h=>c(p)},{default:J(()=>[W(i(Gn))]),_:2},1032,["class","onClick"])),ee(" Due to close btn only appears when li gets focused disappears after li gets blurred, thus keyboard navigation can never reach close btn"),ee(" This is a bug which needs to be fixed "),ee(" TODO: Fix the incorrect navigation interaction "),d.disabled?ee("v-if",!0):(b(),E("i",{key:3,class:z(i(l).m("close-tip"))},ke(i(o)("el.upload.deleteTip")),3)),d.listType==="picture-card"?(b(),E("span",{key:4,class:z(i(r).be("list","item-actions"))},[$("span",{class:z(i(r).be("list","item-preview")),onClick:h=>d.handlePreview(p)},[W(i(He),{class:z(i(l).m("zoom-in"))},{default:J(()=>[W(i(T0))]),_:1},8,["class"])],10,D_e),d.disabled?ee("v-if",!0):(b(),E("span",{key:0,class:z(i(r).be("list","item-delete")),onClick:h=>c(p)},[W(i(He),{class:z(i(l).m("delete"))},{default:J(()=>[W(i(R4))]),_:1},8,["class"])],10,F_e))],2)):ee("v-if",!0)])],42,H_e))),128)),he(d.$slots,"append")]),_:3},8,["class","name"]))}});var jh=Ee(W_e,[["__file","/home/runner/work/element-plus/element-plus/packages/components/upload/src/upload-list.vue"]]);const j_e=Te({disabled:{type:Boolean,default:!1}}),q_e={file:e=>Oe(e)},U_e=["onDrop","onDragover"],Y_e={name:"ElUploadDrag"},G_e=ve({...Y_e,props:j_e,emits:q_e,setup(e,{emit:t}){const n=e,o="ElUploadDrag",r=De(g3);r||Gt(o,"usage: <el-upload><el-upload-dragger /></el-upload>");const l=me("upload"),a=N(!1),s=c=>{if(n.disabled)return;a.value=!1;const d=Array.from(c.dataTransfer.files),f=r.accept.value;if(!f){t("file",d);return}const p=d.filter(h=>{const{type:m,name:v}=h,y=v.includes(".")?`.${v.split(".").pop()}`:"",g=m.replace(/\/.*$/,"");return f.split(",").map(w=>w.trim()).filter(w=>w).some(w=>w.startsWith(".")?y===w:/\/\*$/.test(w)?g===w.replace(/\/\*$/,""):/^[^/]+\/[^/]+$/.test(w)?m===w:!1)});t("file",p)},u=()=>{n.disabled||(a.value=!0)};return(c,d)=>(b(),E("div",{class:z([i(l).b("dragger"),i(l).is("dragover",a.value)]),onDrop:Ge(s,["prevent"]),onDragover:Ge(u,["prevent"]),onDragleave:d[0]||(d[0]=Ge(f=>a.value=!1,["prevent"]))},[he(c.$slots,"default")],42,U_e))}});var X_e=Ee(G_e,[["__file","/home/runner/work/element-plus/element-plus/packages/components/upload/src/upload-dragger.vue"]]);const J_e=Te({...I8,beforeUpload:{type:ae(Function),default:bt},onRemove:{type:ae(Function),default:bt},onStart:{type:ae(Function),default:bt},onSuccess:{type:ae(Function),default:bt},onProgress:{type:ae(Function),default:bt},onError:{type:ae(Function),default:bt},onExceed:{type:ae(Function),default:bt}}),Z_e=["onKeydown"],Q_e=["name","multiple","accept"],eye={name:"ElUploadContent",inheritAttrs:!1},tye=ve({...eye,props:J_e,setup(e,{expose:t}){const n=e,o=me("upload"),r=Tt({}),l=Tt(),a=h=>{if(h.length===0)return;const{autoUpload:m,limit:v,fileList:y,multiple:g,onStart:w,onExceed:_}=n;if(v&&y.length+h.length>v){_(h,y);return}g||(h=h.slice(0,1));for(const C of h){const S=C;S.uid=P8(),w(S),m&&s(S)}},s=async h=>{if(l.value.value="",!n.beforeUpload)return u(h);let m;try{m=await n.beforeUpload(h)}catch{m=!1}if(m===!1){n.onRemove(h);return}let v=h;m instanceof Blob&&(m instanceof File?v=m:v=new File([m],h.name,{type:h.type})),u(Object.assign(v,{uid:h.uid}))},u=h=>{const{headers:m,data:v,method:y,withCredentials:g,name:w,action:_,onProgress:C,onSuccess:S,onError:k,httpRequest:M}=n,{uid:x}=h,A={headers:m||{},withCredentials:g,file:h,data:v,method:y,filename:w,action:_,onProgress:F=>{C(F,h)},onSuccess:F=>{S(F,h),delete r.value[x]},onError:F=>{k(F,h),delete r.value[x]}},V=M(A);r.value[x]=V,V instanceof Promise&&V.then(A.onSuccess,A.onError)},c=h=>{const m=h.target.files;!m||a(Array.from(m))},d=()=>{n.disabled||(l.value.value="",l.value.click())},f=()=>{d()};return t({abort:h=>{uS(r.value).filter(h?([v])=>String(h.uid)===v:()=>!0).forEach(([v,y])=>{y instanceof XMLHttpRequest&&y.abort(),delete r.value[v]})},upload:s}),(h,m)=>(b(),E("div",{class:z([i(o).b(),i(o).m(h.listType),i(o).is("drag",h.drag)]),tabindex:"0",onClick:d,onKeydown:ht(Ge(f,["self"]),["enter","space"])},[h.drag?(b(),ne(X_e,{key:0,disabled:h.disabled,onFile:a},{default:J(()=>[he(h.$slots,"default")]),_:3},8,["disabled"])):he(h.$slots,"default",{key:1}),$("input",{ref_key:"inputRef",ref:l,class:z(i(o).e("input")),name:h.name,multiple:h.multiple,accept:h.accept,type:"file",onChange:c,onClick:m[0]||(m[0]=Ge(()=>{},["stop"]))},null,42,Q_e)],42,Z_e))}});var qh=Ee(tye,[["__file","/home/runner/work/element-plus/element-plus/packages/components/upload/src/upload-content.vue"]]);const Uh="ElUpload",nye=e=>{var t;(t=e.url)!=null&&t.startsWith("blob:")&&URL.revokeObjectURL(e.url)},oye=(e,t)=>{const n=nS(e,"fileList",void 0,{passive:!0}),o=p=>n.value.find(h=>h.uid===p.uid);function r(p){var h;(h=t.value)==null||h.abort(p)}function l(p=["ready","uploading","success","fail"]){n.value=n.value.filter(h=>!p.includes(h.status))}const a=(p,h)=>{const m=o(h);!m||(console.error(p),m.status="fail",n.value.splice(n.value.indexOf(m),1),e.onError(p,m,n.value),e.onChange(m,n.value))},s=(p,h)=>{const m=o(h);!m||(e.onProgress(p,m,n.value),m.status="uploading",m.percentage=Math.round(p.percent))},u=(p,h)=>{const m=o(h);!m||(m.status="success",m.response=p,e.onSuccess(p,m,n.value),e.onChange(m,n.value))},c=p=>{const h={name:p.name,percentage:0,status:"ready",size:p.size,raw:p,uid:p.uid};if(e.listType==="picture-card"||e.listType==="picture")try{h.url=URL.createObjectURL(p)}catch(m){m.message,e.onError(m,h,n.value)}n.value=[...n.value,h],e.onChange(h,n.value)},d=async p=>{const h=p instanceof File?o(p):p;h||Gt(Uh,"file to be removed not found");const m=v=>{r(v);const y=n.value;y.splice(y.indexOf(v),1),e.onRemove(v,y),nye(v)};e.beforeRemove?await e.beforeRemove(h,n.value)!==!1&&m(h):m(h)};function f(){n.value.filter(({status:p})=>p==="ready").forEach(({raw:p})=>{var h;return p&&((h=t.value)==null?void 0:h.upload(p))})}return ye(()=>e.listType,p=>{p!=="picture-card"&&p!=="picture"||(n.value=n.value.map(h=>{const{raw:m,url:v}=h;if(!v&&m)try{h.url=URL.createObjectURL(m)}catch(y){e.onError(y,h,n.value)}return h}))}),ye(n,p=>{for(const h of p)h.uid||(h.uid=P8()),h.status||(h.status="success")},{immediate:!0,deep:!0}),{uploadFiles:n,abort:r,clearFiles:l,handleError:a,handleProgress:s,handleStart:c,handleSuccess:u,handleRemove:d,submit:f}},rye={name:"ElUpload"},lye=ve({...rye,props:I_e,setup(e,{expose:t}){const n=e,o=dn(),r=Ar(),l=Tt(),{abort:a,submit:s,clearFiles:u,uploadFiles:c,handleStart:d,handleError:f,handleRemove:p,handleSuccess:h,handleProgress:m}=oye(n,l),v=T(()=>n.listType==="picture-card"),y=T(()=>({...n,onStart:d,onProgress:m,onSuccess:h,onError:f,onRemove:p}));return Lt(()=>{c.value.forEach(({url:g})=>{g!=null&&g.startsWith("blob:")&&URL.revokeObjectURL(g)})}),at(g3,{accept:Pt(n,"accept")}),t({abort:a,submit:s,clearFiles:u,handleStart:d,handleRemove:p}),(g,w)=>(b(),E("div",null,[i(v)&&g.showFileList?(b(),ne(jh,{key:0,disabled:i(r),"list-type":g.listType,files:i(c),"handle-preview":g.onPreview,onRemove:i(p)},Fo({append:J(()=>[g.listType==="picture-card"?(b(),ne(qh,dt({key:0,ref_key:"uploadRef",ref:l},i(y)),{default:J(()=>[i(o).trigger?he(g.$slots,"trigger",{key:0}):ee("v-if",!0),!i(o).trigger&&i(o).default?he(g.$slots,"default",{key:1}):ee("v-if",!0)]),_:3},16)):ee("v-if",!0)]),_:2},[g.$slots.file?{name:"default",fn:J(({file:_})=>[he(g.$slots,"file",{file:_})])}:void 0]),1032,["disabled","list-type","files","handle-preview","onRemove"])):ee("v-if",!0),g.listType!=="picture-card"?(b(),ne(qh,dt({key:1,ref_key:"uploadRef",ref:l},i(y)),{default:J(()=>[i(o).trigger?he(g.$slots,"trigger",{key:0}):ee("v-if",!0),!i(o).trigger&&i(o).default?he(g.$slots,"default",{key:1}):ee("v-if",!0)]),_:3},16)):ee("v-if",!0),g.$slots.trigger?he(g.$slots,"default",{key:2}):ee("v-if",!0),he(g.$slots,"tip"),!i(v)&&g.showFileList?(b(),ne(jh,{key:3,disabled:i(r),"list-type":g.listType,files:i(c),"handle-preview":g.onPreview,onRemove:i(p)},Fo({_:2},[g.$slots.file?{name:"default",fn:J(({file:_})=>[he(g.$slots,"file",{file:_})])}:void 0]),1032,["disabled","list-type","files","handle-preview","onRemove"])):ee("v-if",!0)]))}});var aye=Ee(lye,[["__file","/home/runner/work/element-plus/element-plus/packages/components/upload/src/upload.vue"]]);const sye=rt(aye);var iye=[yle,zle,Qse,zge,aie,pie,r6,Eie,Mie,cn,u6,Vue,Fue,ece,tce,gde,nde,$de,Qn,Cce,V6,Tde,Kde,Wde,Lde,hfe,gfe,xfe,zfe,Afe,Nfe,Ofe,B0e,X0e,J0e,d2e,m2e,E2e,g1e,_1e,y1e,Cg,Kpe,Wpe,He,rhe,kg,sn,Eg,_he,Hhe,Rhe,Bhe,qhe,Gve,eme,ime,o6,Pg,K6,Hce,Vce,kme,zme,Vme,or,ml,iu,Cve,M4e,I4e,L4e,f3e,g3e,E3e,M3e,R3e,j6e,q6e,xge,Wge,jge,oc,wue,Jge,n8e,o8e,Mn,x8e,W8e,r_e,c_e,x_e,sye];const ro="ElInfiniteScroll",uye=50,cye=200,dye=0,fye={delay:{type:Number,default:cye},distance:{type:Number,default:dye},disabled:{type:Boolean,default:!1},immediate:{type:Boolean,default:!0}},T2=(e,t)=>Object.entries(fye).reduce((n,[o,r])=>{var l,a;const{type:s,default:u}=r,c=e.getAttribute(`infinite-scroll-${o}`);let d=(a=(l=t[c])!=null?l:c)!=null?a:u;return d=d==="false"?!1:d,d=s(d),n[o]=Number.isNaN(d)?u:d,n},{}),L8=e=>{const{observer:t}=e[ro];t&&(t.disconnect(),delete e[ro].observer)},pye=(e,t)=>{const{container:n,containerEl:o,instance:r,observer:l,lastScrollTop:a}=e[ro],{disabled:s,distance:u}=T2(e,r),{clientHeight:c,scrollHeight:d,scrollTop:f}=o,p=f-a;if(e[ro].lastScrollTop=f,l||s||p<0)return;let h=!1;if(n===e)h=d-(c+f)<=u;else{const{clientTop:m,scrollHeight:v}=e,y=aS(e,o);h=f+c>=y+m+v-u}h&&t.call(r)};function Yc(e,t){const{containerEl:n,instance:o}=e[ro],{disabled:r}=T2(e,o);r||n.clientHeight===0||(n.scrollHeight<=n.clientHeight?t.call(o):L8(e))}const hye={async mounted(e,t){const{instance:n,value:o}=t;Je(o)||Gt(ro,"'v-infinite-scroll' binding value must be a function"),await Pe();const{delay:r,immediate:l}=T2(e,n),a=$0(e,!0),s=a===window?document.documentElement:a,u=tl(pye.bind(null,e,o),r);if(!!a){if(e[ro]={instance:n,container:a,containerEl:s,delay:r,cb:o,onScroll:u,lastScrollTop:s.scrollTop},l){const c=new MutationObserver(tl(Yc.bind(null,e,o),uye));e[ro].observer=c,c.observe(e,{childList:!0,subtree:!0}),Yc(e,o)}a.addEventListener("scroll",u)}},unmounted(e){const{container:t,onScroll:n}=e[ro];t==null||t.removeEventListener("scroll",n),L8(e)},async updated(e){e[ro]||await Pe();const{containerEl:t,cb:n,observer:o}=e[ro];t.clientHeight&&o&&Yc(e,n)}},Mf=hye;Mf.install=e=>{e.directive("InfiniteScroll",Mf)};const vye=Mf;function mye(e){let t;const n=me("loading"),o=N(!1),r=yt({...e,originalPosition:"",originalOverflow:"",visible:!1});function l(h){r.text=h}function a(){const h=r.parent;if(!h.vLoadingAddClassList){let m=h.getAttribute("loading-number");m=Number.parseInt(m)-1,m?h.setAttribute("loading-number",m.toString()):($n(h,n.bm("parent","relative")),h.removeAttribute("loading-number")),$n(h,n.bm("parent","hidden"))}s(),f.unmount()}function s(){var h,m;(m=(h=p.$el)==null?void 0:h.parentNode)==null||m.removeChild(p.$el)}function u(){var h;if(e.beforeClose&&!e.beforeClose())return;const m=r.parent;m.vLoadingAddClassList=void 0,o.value=!0,clearTimeout(t),t=window.setTimeout(()=>{o.value&&(o.value=!1,a())},400),r.visible=!1,(h=e.closed)==null||h.call(e)}function c(){!o.value||(o.value=!1,a())}const f=l0({name:"ElLoading",setup(){return()=>{const h=r.spinner||r.svg,m=Ke("svg",{class:"circular",viewBox:r.svgViewBox?r.svgViewBox:"25 25 50 50",...h?{innerHTML:h}:{}},[Ke("circle",{class:"path",cx:"50",cy:"50",r:"20",fill:"none"})]),v=r.text?Ke("p",{class:n.b("text")},[r.text]):void 0;return Ke(Dt,{name:n.b("fade"),onAfterLeave:c},{default:J(()=>[Qe(W("div",{style:{backgroundColor:r.background||""},class:[n.b("mask"),r.customClass,r.fullscreen?"is-fullscreen":""]},[Ke("div",{class:n.b("spinner")},[m,v])]),[[gt,r.visible]])])})}}}),p=f.mount(document.createElement("div"));return{...Wt(r),setText:l,removeElLoadingChild:s,close:u,handleAfterLeave:c,vm:p,get $el(){return p.$el}}}let fi;const Tf=function(e={}){if(!vt)return;const t=gye(e);if(t.fullscreen&&fi)return fi;const n=mye({...t,closed:()=>{var r;(r=t.closed)==null||r.call(t),t.fullscreen&&(fi=void 0)}});_ye(t,t.parent,n),Yh(t,t.parent,n),t.parent.vLoadingAddClassList=()=>Yh(t,t.parent,n);let o=t.parent.getAttribute("loading-number");return o?o=`${Number.parseInt(o)+1}`:o="1",t.parent.setAttribute("loading-number",o),t.parent.appendChild(n.$el),Pe(()=>n.visible.value=t.visible),t.fullscreen&&(fi=n),n},gye=e=>{var t,n,o,r;let l;return Ze(e.target)?l=(t=document.querySelector(e.target))!=null?t:document.body:l=e.target||document.body,{parent:l===document.body||e.body?document.body:l,background:e.background||"",svg:e.svg||"",svgViewBox:e.svgViewBox||"",spinner:e.spinner||!1,text:e.text||"",fullscreen:l===document.body&&((n=e.fullscreen)!=null?n:!0),lock:(o=e.lock)!=null?o:!1,customClass:e.customClass||"",visible:(r=e.visible)!=null?r:!0,target:l}},_ye=async(e,t,n)=>{const{nextZIndex:o}=tr(),r={};if(e.fullscreen)n.originalPosition.value=Vo(document.body,"position"),n.originalOverflow.value=Vo(document.body,"overflow"),r.zIndex=o();else if(e.parent===document.body){n.originalPosition.value=Vo(document.body,"position"),await Pe();for(const l of["top","left"]){const a=l==="top"?"scrollTop":"scrollLeft";r[l]=`${e.target.getBoundingClientRect()[l]+document.body[a]+document.documentElement[a]-Number.parseInt(Vo(document.body,`margin-${l}`),10)}px`}for(const l of["height","width"])r[l]=`${e.target.getBoundingClientRect()[l]}px`}else n.originalPosition.value=Vo(t,"position");for(const[l,a]of Object.entries(r))n.$el.style[l]=a},Yh=(e,t,n)=>{const o=me("loading");n.originalPosition.value!=="absolute"&&n.originalPosition.value!=="fixed"?wo(t,o.bm("parent","relative")):$n(t,o.bm("parent","relative")),e.fullscreen&&e.lock?wo(t,o.bm("parent","hidden")):$n(t,o.bm("parent","hidden"))},xf=Symbol("ElLoading"),Gh=(e,t)=>{var n,o,r,l;const a=t.instance,s=p=>pt(t.value)?t.value[p]:void 0,u=p=>{const h=Ze(p)&&(a==null?void 0:a[p])||p;return h&&N(h)},c=p=>u(s(p)||e.getAttribute(`element-loading-${ao(p)}`)),d=(n=s("fullscreen"))!=null?n:t.modifiers.fullscreen,f={text:c("text"),svg:c("svg"),svgViewBox:c("svgViewBox"),spinner:c("spinner"),background:c("background"),customClass:c("customClass"),fullscreen:d,target:(o=s("target"))!=null?o:d?void 0:e,body:(r=s("body"))!=null?r:t.modifiers.body,lock:(l=s("lock"))!=null?l:t.modifiers.lock};e[xf]={options:f,instance:Tf(f)}},yye=(e,t)=>{for(const n of Object.keys(t))St(t[n])&&(t[n].value=e[n])},Xh={mounted(e,t){t.value&&Gh(e,t)},updated(e,t){const n=e[xf];t.oldValue!==t.value&&(t.value&&!t.oldValue?Gh(e,t):t.value&&t.oldValue?pt(t.value)&&yye(t.value,n.options):n==null||n.instance.close())},unmounted(e){var t;(t=e[xf])==null||t.instance.close()}},bye={install(e){e.directive("loading",Xh),e.config.globalProperties.$loading=Tf},directive:Xh,service:Tf},V8=["success","info","warning","error"],_n=Nt({customClass:"",center:!1,dangerouslyUseHTMLString:!1,duration:3e3,icon:"",id:"",message:"",onClose:void 0,showClose:!1,type:"info",offset:16,zIndex:0,grouping:!1,repeatNum:1,appendTo:vt?document.body:void 0}),wye=Te({customClass:{type:String,default:_n.customClass},center:{type:Boolean,default:_n.center},dangerouslyUseHTMLString:{type:Boolean,default:_n.dangerouslyUseHTMLString},duration:{type:Number,default:_n.duration},icon:{type:Xt,default:_n.icon},id:{type:String,default:_n.id},message:{type:ae([String,Object,Function]),default:_n.message},onClose:{type:ae(Function),required:!1},showClose:{type:Boolean,default:_n.showClose},type:{type:String,values:V8,default:_n.type},offset:{type:Number,default:_n.offset},zIndex:{type:Number,default:_n.zIndex},grouping:{type:Boolean,default:_n.grouping},repeatNum:{type:Number,default:_n.repeatNum}}),Cye={destroy:()=>!0},$o=Rf([]),$ye=e=>{const t=$o.findIndex(r=>r.id===e),n=$o[t];let o;return t>0&&(o=$o[t-1]),{current:n,prev:o}},Sye=e=>{const{prev:t}=$ye(e);return t?t.vm.exposeProxy.bottom:0},kye=["id"],Eye=["innerHTML"],Mye={name:"ElMessage"},Tye=ve({...Mye,props:wye,emits:Cye,setup(e,{expose:t}){const n=e,{Close:o}=x0,r=me("message"),l=N(),a=N(!1),s=N(0);let u;const c=T(()=>n.type?n.type==="error"?"danger":n.type:"info"),d=T(()=>{const C=n.type;return{[r.bm("icon",C)]:C&&Tr[C]}}),f=T(()=>n.icon||Tr[n.type]||""),p=T(()=>Sye(n.id)),h=T(()=>n.offset+p.value),m=T(()=>s.value+h.value),v=T(()=>({top:`${h.value}px`,zIndex:n.zIndex}));function y(){n.duration!==0&&({stop:u}=fl(()=>{w()},n.duration))}function g(){u==null||u()}function w(){a.value=!1}function _({code:C}){C===Fe.esc&&w()}return tt(()=>{y(),a.value=!0}),ye(()=>n.repeatNum,()=>{g(),y()}),At(document,"keydown",_),mn(l,()=>{s.value=l.value.getBoundingClientRect().height}),t({visible:a,bottom:m,close:w}),(C,S)=>(b(),ne(Dt,{name:i(r).b("fade"),onBeforeLeave:C.onClose,onAfterLeave:S[0]||(S[0]=k=>C.$emit("destroy")),persisted:""},{default:J(()=>[Qe($("div",{id:C.id,ref_key:"messageRef",ref:l,class:z([i(r).b(),{[i(r).m(C.type)]:C.type&&!C.icon},i(r).is("center",C.center),i(r).is("closable",C.showClose),C.customClass]),style:Re(i(v)),role:"alert",onMouseenter:g,onMouseleave:y},[C.repeatNum>1?(b(),ne(i(r6),{key:0,value:C.repeatNum,type:i(c),class:z(i(r).e("badge"))},null,8,["value","type","class"])):ee("v-if",!0),i(f)?(b(),ne(i(He),{key:1,class:z([i(r).e("icon"),i(d)])},{default:J(()=>[(b(),ne(st(i(f))))]),_:1},8,["class"])):ee("v-if",!0),he(C.$slots,"default",{},()=>[C.dangerouslyUseHTMLString?(b(),E(Ve,{key:1},[ee(" Caution here, message could've been compromised, never use user's input as message "),$("p",{class:z(i(r).e("content")),innerHTML:C.message},null,10,Eye)],2112)):(b(),E("p",{key:0,class:z(i(r).e("content"))},ke(C.message),3))]),C.showClose?(b(),ne(i(He),{key:2,class:z(i(r).e("closeBtn")),onClick:Ge(w,["stop"])},{default:J(()=>[W(i(o))]),_:1},8,["class","onClick"])):ee("v-if",!0)],46,kye),[[gt,a.value]])]),_:3},8,["name","onBeforeLeave"]))}});var xye=Ee(Tye,[["__file","/home/runner/work/element-plus/element-plus/packages/components/message/src/message.vue"]]);let zye=1;const H8=e=>{const t=!e||Ze(e)||Et(e)||Je(e)?{message:e}:e,n={..._n,...t};if(!n.appendTo)n.appendTo=document.body;else if(Ze(n.appendTo)){let o=document.querySelector(n.appendTo);jo(o)||(o=document.body),n.appendTo=o}return n},Aye=e=>{const t=$o.indexOf(e);if(t===-1)return;$o.splice(t,1);const{handler:n}=e;n.close()},Nye=({appendTo:e,...t},n)=>{const{nextZIndex:o}=tr(),r=`message_${zye++}`,l=t.onClose,a=document.createElement("div"),s={...t,zIndex:o()+t.zIndex,id:r,onClose:()=>{l==null||l(),Aye(f)},onDestroy:()=>{Ko(null,a)}},u=W(xye,s,Je(s.message)||Et(s.message)?{default:s.message}:null);u.appContext=n||ya._context,Ko(u,a),e.appendChild(a.firstElementChild);const c=u.component,f={id:r,vnode:u,vm:c,handler:{close:()=>{c.exposeProxy.visible=!1}},props:u.component.props};return f},ya=(e={},t)=>{if(!vt)return{close:()=>{}};if(et(tf.max)&&$o.length>=tf.max)return{close:()=>{}};const n=H8(e);if(n.grouping&&$o.length){const r=$o.find(({vnode:l})=>{var a;return((a=l.props)==null?void 0:a.message)===n.message});if(r)return r.props.repeatNum+=1,r.props.type=n.type,r.handler}const o=Nye(n,t);return $o.push(o),o.handler};V8.forEach(e=>{ya[e]=(t={},n)=>{const o=H8(t);return ya({...o,type:e},n)}});function Oye(e){for(const t of $o)(!e||e===t.props.type)&&t.handler.close()}ya.closeAll=Oye;ya._context=null;const Pye=l3(ya,"$message"),Iye=ve({name:"ElMessageBox",directives:{TrapFocus:oue},components:{ElButton:cn,ElFocusTrap:tc,ElInput:sn,ElOverlay:o2,ElIcon:He,...x0},inheritAttrs:!1,props:{buttonSize:{type:String,validator:kl},modal:{type:Boolean,default:!0},lockScroll:{type:Boolean,default:!0},showClose:{type:Boolean,default:!0},closeOnClickModal:{type:Boolean,default:!0},closeOnPressEscape:{type:Boolean,default:!0},closeOnHashChange:{type:Boolean,default:!0},center:Boolean,draggable:Boolean,roundButton:{default:!1,type:Boolean},container:{type:String,default:"body"},boxType:{type:String,default:""}},emits:["vanish","action"],setup(e,{emit:t}){const{t:n}=_t(),o=me("message-box"),r=N(!1),{nextZIndex:l}=tr(),a=yt({autofocus:!0,beforeClose:null,callback:null,cancelButtonText:"",cancelButtonClass:"",confirmButtonText:"",confirmButtonClass:"",customClass:"",customStyle:{},dangerouslyUseHTMLString:!1,distinguishCancelAndClose:!1,icon:"",inputPattern:null,inputPlaceholder:"",inputType:"text",inputValue:null,inputValidator:null,inputErrorMessage:"",message:null,modalFade:!0,modalClass:"",showCancelButton:!1,showConfirmButton:!0,type:"",title:void 0,showInput:!1,action:"",confirmButtonLoading:!1,cancelButtonLoading:!1,confirmButtonDisabled:!1,editorErrorMessage:"",validateError:!1,zIndex:l()}),s=T(()=>{const H=a.type;return{[o.bm("icon",H)]:H&&Tr[H]}}),u=fo(),c=fo(),d=Kt(T(()=>e.buttonSize),{prop:!0,form:!0,formItem:!0}),f=T(()=>a.icon||Tr[a.type]||""),p=T(()=>!!a.message),h=N(),m=N(),v=N(),y=N(),g=N(),w=T(()=>a.confirmButtonClass);ye(()=>a.inputValue,async H=>{await Pe(),e.boxType==="prompt"&&H!==null&&A()},{immediate:!0}),ye(()=>r.value,H=>{var L,K;H&&(e.boxType!=="prompt"&&(a.autofocus?v.value=(K=(L=g.value)==null?void 0:L.$el)!=null?K:h.value:v.value=h.value),a.zIndex=l()),e.boxType==="prompt"&&(H?Pe().then(()=>{var O;y.value&&y.value.$el&&(a.autofocus?v.value=(O=V())!=null?O:h.value:v.value=h.value)}):(a.editorErrorMessage="",a.validateError=!1))});const _=T(()=>e.draggable);C3(h,m,_),tt(async()=>{await Pe(),e.closeOnHashChange&&window.addEventListener("hashchange",C)}),Lt(()=>{e.closeOnHashChange&&window.removeEventListener("hashchange",C)});function C(){!r.value||(r.value=!1,Pe(()=>{a.action&&t("action",a.action)}))}const S=()=>{e.closeOnClickModal&&x(a.distinguishCancelAndClose?"close":"cancel")},k=L0(S),M=H=>{if(a.inputType!=="textarea")return H.preventDefault(),x("confirm")},x=H=>{var L;e.boxType==="prompt"&&H==="confirm"&&!A()||(a.action=H,a.beforeClose?(L=a.beforeClose)==null||L.call(a,H,a,C):C())},A=()=>{if(e.boxType==="prompt"){const H=a.inputPattern;if(H&&!H.test(a.inputValue||""))return a.editorErrorMessage=a.inputErrorMessage||n("el.messagebox.error"),a.validateError=!0,!1;const L=a.inputValidator;if(typeof L=="function"){const K=L(a.inputValue);if(K===!1)return a.editorErrorMessage=a.inputErrorMessage||n("el.messagebox.error"),a.validateError=!0,!1;if(typeof K=="string")return a.editorErrorMessage=K,a.validateError=!0,!1}}return a.editorErrorMessage="",a.validateError=!1,!0},V=()=>{const H=y.value.$refs;return H.input||H.textarea},F=()=>{x("close")},R=()=>{e.closeOnPressEscape&&F()};return e.lockScroll&&S3(r),xre(r),{...Wt(a),ns:o,overlayEvent:k,visible:r,hasMessage:p,typeClass:s,contentId:u,inputId:c,btnSize:d,iconComponent:f,confirmButtonClasses:w,rootRef:h,focusStartRef:v,headerRef:m,inputRef:y,confirmRef:g,doClose:C,handleClose:F,onCloseRequested:R,handleWrapperClick:S,handleInputEnter:M,handleAction:x,t:n}}}),Lye=["aria-label","aria-describedby"],Vye=["aria-label"],Hye=["id"];function Rye(e,t,n,o,r,l){const a=Ie("el-icon"),s=Ie("close"),u=Ie("el-input"),c=Ie("el-button"),d=Ie("el-focus-trap"),f=Ie("el-overlay");return b(),ne(Dt,{name:"fade-in-linear",onAfterLeave:t[11]||(t[11]=p=>e.$emit("vanish")),persisted:""},{default:J(()=>[Qe(W(f,{"z-index":e.zIndex,"overlay-class":[e.ns.is("message-box"),e.modalClass],mask:e.modal},{default:J(()=>[$("div",{role:"dialog","aria-label":e.title,"aria-modal":"true","aria-describedby":e.showInput?void 0:e.contentId,class:z(`${e.ns.namespace.value}-overlay-message-box`),onClick:t[8]||(t[8]=(...p)=>e.overlayEvent.onClick&&e.overlayEvent.onClick(...p)),onMousedown:t[9]||(t[9]=(...p)=>e.overlayEvent.onMousedown&&e.overlayEvent.onMousedown(...p)),onMouseup:t[10]||(t[10]=(...p)=>e.overlayEvent.onMouseup&&e.overlayEvent.onMouseup(...p))},[W(d,{loop:"",trapped:e.visible,"focus-trap-el":e.rootRef,"focus-start-el":e.focusStartRef,onReleaseRequested:e.onCloseRequested},{default:J(()=>[$("div",{ref:"rootRef",class:z([e.ns.b(),e.customClass,e.ns.is("draggable",e.draggable),{[e.ns.m("center")]:e.center}]),style:Re(e.customStyle),tabindex:"-1",onClick:t[7]||(t[7]=Ge(()=>{},["stop"]))},[e.title!==null&&e.title!==void 0?(b(),E("div",{key:0,ref:"headerRef",class:z(e.ns.e("header"))},[$("div",{class:z(e.ns.e("title"))},[e.iconComponent&&e.center?(b(),ne(a,{key:0,class:z([e.ns.e("status"),e.typeClass])},{default:J(()=>[(b(),ne(st(e.iconComponent)))]),_:1},8,["class"])):ee("v-if",!0),$("span",null,ke(e.title),1)],2),e.showClose?(b(),E("button",{key:0,type:"button",class:z(e.ns.e("headerbtn")),"aria-label":e.t("el.messagebox.close"),onClick:t[0]||(t[0]=p=>e.handleAction(e.distinguishCancelAndClose?"close":"cancel")),onKeydown:t[1]||(t[1]=ht(Ge(p=>e.handleAction(e.distinguishCancelAndClose?"close":"cancel"),["prevent"]),["enter"]))},[W(a,{class:z(e.ns.e("close"))},{default:J(()=>[W(s)]),_:1},8,["class"])],42,Vye)):ee("v-if",!0)],2)):ee("v-if",!0),$("div",{id:e.contentId,class:z(e.ns.e("content"))},[$("div",{class:z(e.ns.e("container"))},[e.iconComponent&&!e.center&&e.hasMessage?(b(),ne(a,{key:0,class:z([e.ns.e("status"),e.typeClass])},{default:J(()=>[(b(),ne(st(e.iconComponent)))]),_:1},8,["class"])):ee("v-if",!0),e.hasMessage?(b(),E("div",{key:1,class:z(e.ns.e("message"))},[he(e.$slots,"default",{},()=>[e.dangerouslyUseHTMLString?(b(),ne(st(e.showInput?"label":"p"),{key:1,for:e.showInput?e.inputId:void 0,innerHTML:e.message},null,8,["for","innerHTML"])):(b(),ne(st(e.showInput?"label":"p"),{key:0,for:e.showInput?e.inputId:void 0},{default:J(()=>[ft(ke(e.dangerouslyUseHTMLString?"":e.message),1)]),_:1},8,["for"]))])],2)):ee("v-if",!0)],2),Qe($("div",{class:z(e.ns.e("input"))},[W(u,{id:e.inputId,ref:"inputRef",modelValue:e.inputValue,"onUpdate:modelValue":t[2]||(t[2]=p=>e.inputValue=p),type:e.inputType,placeholder:e.inputPlaceholder,"aria-invalid":e.validateError,class:z({invalid:e.validateError}),onKeydown:ht(e.handleInputEnter,["enter"])},null,8,["id","modelValue","type","placeholder","aria-invalid","class","onKeydown"]),$("div",{class:z(e.ns.e("errormsg")),style:Re({visibility:e.editorErrorMessage?"visible":"hidden"})},ke(e.editorErrorMessage),7)],2),[[gt,e.showInput]])],10,Hye),$("div",{class:z(e.ns.e("btns"))},[e.showCancelButton?(b(),ne(c,{key:0,loading:e.cancelButtonLoading,class:z([e.cancelButtonClass]),round:e.roundButton,size:e.btnSize,onClick:t[3]||(t[3]=p=>e.handleAction("cancel")),onKeydown:t[4]||(t[4]=ht(Ge(p=>e.handleAction("cancel"),["prevent"]),["enter"]))},{default:J(()=>[ft(ke(e.cancelButtonText||e.t("el.messagebox.cancel")),1)]),_:1},8,["loading","class","round","size"])):ee("v-if",!0),Qe(W(c,{ref:"confirmRef",type:"primary",loading:e.confirmButtonLoading,class:z([e.confirmButtonClasses]),round:e.roundButton,disabled:e.confirmButtonDisabled,size:e.btnSize,onClick:t[5]||(t[5]=p=>e.handleAction("confirm")),onKeydown:t[6]||(t[6]=ht(Ge(p=>e.handleAction("confirm"),["prevent"]),["enter"]))},{default:J(()=>[ft(ke(e.confirmButtonText||e.t("el.messagebox.confirm")),1)]),_:1},8,["loading","class","round","disabled","size"]),[[gt,e.showConfirmButton]])],2)],6)]),_:3},8,["trapped","focus-trap-el","focus-start-el","onReleaseRequested"])],42,Lye)]),_:3},8,["z-index","overlay-class","mask"]),[[gt,e.visible]])]),_:3})}var Bye=Ee(Iye,[["render",Rye],["__file","/home/runner/work/element-plus/element-plus/packages/components/message-box/src/index.vue"]]);const Ts=new Map,Dye=(e,t,n=null)=>{const o=Ke(Bye,e);return o.appContext=n,Ko(o,t),document.body.appendChild(t.firstElementChild),o.component},Fye=()=>document.createElement("div"),Kye=(e,t)=>{const n=Fye();e.onVanish=()=>{Ko(null,n),Ts.delete(r)},e.onAction=l=>{const a=Ts.get(r);let s;e.showInput?s={value:r.inputValue,action:l}:s=l,e.callback?e.callback(s,o.proxy):l==="cancel"||l==="close"?e.distinguishCancelAndClose&&l!=="cancel"?a.reject("close"):a.reject("cancel"):a.resolve(s)};const o=Dye(e,n,t),r=o.proxy;for(const l in e)ct(e,l)&&!ct(r.$props,l)&&(r[l]=e[l]);return ye(()=>r.message,(l,a)=>{Et(l)?o.slots.default=()=>[l]:Et(a)&&!Et(l)&&delete o.slots.default},{immediate:!0}),r.visible=!0,r};function Aa(e,t=null){if(!vt)return Promise.reject();let n;return Ze(e)||Et(e)?e={message:e}:n=e.callback,new Promise((o,r)=>{const l=Kye(e,t!=null?t:Aa._context);Ts.set(l,{options:e,callback:n,resolve:o,reject:r})})}const Wye=["alert","confirm","prompt"],jye={alert:{closeOnPressEscape:!1,closeOnClickModal:!1},confirm:{showCancelButton:!0},prompt:{showCancelButton:!0,showInput:!0}};Wye.forEach(e=>{Aa[e]=qye(e)});function qye(e){return(t,n,o,r)=>{let l;return pt(n)?(o=n,l=""):on(n)?l="":l=n,Aa(Object.assign({title:l,message:t,type:"",...jye[e]},o,{boxType:e}),r)}}Aa.close=()=>{Ts.forEach((e,t)=>{t.doClose()}),Ts.clear()};Aa._context=null;const fr=Aa;fr.install=e=>{fr._context=e._context,e.config.globalProperties.$msgbox=fr,e.config.globalProperties.$messageBox=fr,e.config.globalProperties.$alert=fr.alert,e.config.globalProperties.$confirm=fr.confirm,e.config.globalProperties.$prompt=fr.prompt};const Uye=fr,R8=["success","info","warning","error"],Yye=Te({customClass:{type:String,default:""},dangerouslyUseHTMLString:{type:Boolean,default:!1},duration:{type:Number,default:4500},icon:{type:ae([String,Object]),default:""},id:{type:String,default:""},message:{type:ae([String,Object]),default:""},offset:{type:Number,default:0},onClick:{type:ae(Function),default:()=>{}},onClose:{type:ae(Function),required:!0},position:{type:String,values:["top-right","top-left","bottom-right","bottom-left"],default:"top-right"},showClose:{type:Boolean,default:!0},title:{type:String,default:""},type:{type:String,values:[...R8,""],default:""},zIndex:{type:Number,default:0}}),Gye={destroy:()=>!0},Xye=["id"],Jye=["textContent"],Zye={key:0},Qye=["innerHTML"],ebe={name:"ElNotification"},tbe=ve({...ebe,props:Yye,emits:Gye,setup(e,{expose:t}){const n=e,o=me("notification"),{Close:r}=o3,l=N(!1);let a;const s=T(()=>{const y=n.type;return y&&Tr[n.type]?o.m(y):""}),u=T(()=>n.type?Tr[n.type]||n.icon:""),c=T(()=>n.position.endsWith("right")?"right":"left"),d=T(()=>n.position.startsWith("top")?"top":"bottom"),f=T(()=>({[d.value]:`${n.offset}px`,zIndex:n.zIndex}));function p(){n.duration>0&&({stop:a}=fl(()=>{l.value&&m()},n.duration))}function h(){a==null||a()}function m(){l.value=!1}function v({code:y}){y===Fe.delete||y===Fe.backspace?h():y===Fe.esc?l.value&&m():p()}return tt(()=>{p(),l.value=!0}),At(document,"keydown",v),t({visible:l,close:m}),(y,g)=>(b(),ne(Dt,{name:i(o).b("fade"),onBeforeLeave:y.onClose,onAfterLeave:g[1]||(g[1]=w=>y.$emit("destroy")),persisted:""},{default:J(()=>[Qe($("div",{id:y.id,class:z([i(o).b(),y.customClass,i(c)]),style:Re(i(f)),role:"alert",onMouseenter:h,onMouseleave:p,onClick:g[0]||(g[0]=(...w)=>y.onClick&&y.onClick(...w))},[i(u)?(b(),ne(i(He),{key:0,class:z([i(o).e("icon"),i(s)])},{default:J(()=>[(b(),ne(st(i(u))))]),_:1},8,["class"])):ee("v-if",!0),$("div",{class:z(i(o).e("group"))},[$("h2",{class:z(i(o).e("title")),textContent:ke(y.title)},null,10,Jye),Qe($("div",{class:z(i(o).e("content")),style:Re(y.title?void 0:{margin:0})},[he(y.$slots,"default",{},()=>[y.dangerouslyUseHTMLString?(b(),E(Ve,{key:1},[ee(" Caution here, message could've been compromised, never use user's input as message "),$("p",{innerHTML:y.message},null,8,Qye)],2112)):(b(),E("p",Zye,ke(y.message),1))])],6),[[gt,y.message]]),y.showClose?(b(),ne(i(He),{key:0,class:z(i(o).e("closeBtn")),onClick:Ge(m,["stop"])},{default:J(()=>[W(i(r))]),_:1},8,["class","onClick"])):ee("v-if",!0)],2)],46,Xye),[[gt,l.value]])]),_:3},8,["name","onBeforeLeave"]))}});var nbe=Ee(tbe,[["__file","/home/runner/work/element-plus/element-plus/packages/components/notification/src/notification.vue"]]);const _u={"top-left":[],"top-right":[],"bottom-left":[],"bottom-right":[]},zf=16;let obe=1;const ba=function(e={},t=null){if(!vt)return{close:()=>{}};(typeof e=="string"||Et(e))&&(e={message:e});const n=e.position||"top-right";let o=e.offset||0;_u[n].forEach(({vm:f})=>{var p;o+=(((p=f.el)==null?void 0:p.offsetHeight)||0)+zf}),o+=zf;const{nextZIndex:r}=tr(),l=`notification_${obe++}`,a=e.onClose,s={...e,zIndex:r(),offset:o,id:l,onClose:()=>{rbe(l,n,a)}};let u=document.body;jo(e.appendTo)?u=e.appendTo:Ze(e.appendTo)&&(u=document.querySelector(e.appendTo)),jo(u)||(u=document.body);const c=document.createElement("div"),d=W(nbe,s,Et(s.message)?{default:()=>s.message}:null);return d.appContext=t!=null?t:ba._context,d.props.onDestroy=()=>{Ko(null,c)},Ko(d,c),_u[n].push({vm:d}),u.appendChild(c.firstElementChild),{close:()=>{d.component.proxy.visible=!1}}};R8.forEach(e=>{ba[e]=(t={})=>((typeof t=="string"||Et(t))&&(t={message:t}),ba({...t,type:e}))});function rbe(e,t,n){const o=_u[t],r=o.findIndex(({vm:c})=>{var d;return((d=c.component)==null?void 0:d.props.id)===e});if(r===-1)return;const{vm:l}=o[r];if(!l)return;n==null||n(l);const a=l.el.offsetHeight,s=t.split("-")[0];o.splice(r,1);const u=o.length;if(!(u<1))for(let c=r;c<u;c++){const{el:d,component:f}=o[c].vm,p=Number.parseInt(d.style[s],10)-a-zf;f.props.offset=p}}function lbe(){for(const e of Object.values(_u))e.forEach(({vm:t})=>{t.component.proxy.visible=!1})}ba.closeAll=lbe;ba._context=null;const abe=l3(ba,"$notify");var sbe=[vye,bye,Pye,Uye,abe,Og],ibe=ple([...iye,...sbe]),x2={exports:{}};const ube=Xie(n5);(function(e,t){(function(n,o){e.exports=o(ube)})(xo,function(n){return(()=>{var o={553:(s,u)=>{Object.defineProperty(u,"__esModule",{value:!0}),u.default=(c,d)=>{const f=c.__vccOpts||c;for(const[p,h]of d)f[p]=h;return f}},976:s=>{s.exports=n}},r={};function l(s){var u=r[s];if(u!==void 0)return u.exports;var c=r[s]={exports:{}};return o[s](c,c.exports,l),c.exports}l.d=(s,u)=>{for(var c in u)l.o(u,c)&&!l.o(s,c)&&Object.defineProperty(s,c,{enumerable:!0,get:u[c]})},l.o=(s,u)=>Object.prototype.hasOwnProperty.call(s,u),l.r=s=>{typeof Symbol<"u"&&Symbol.toStringTag&&Object.defineProperty(s,Symbol.toStringTag,{value:"Module"}),Object.defineProperty(s,"__esModule",{value:!0})};var a={};return(()=>{l.r(a),l.d(a,{Component:()=>R,Plugin:()=>L,default:()=>K,useLoading:()=>H});var s=l(976);function u(O,P,D){let I=arguments.length>3&&arguments[3]!==void 0?arguments[3]:{};const X=(0,s.h)(O,P,I),q=document.createElement("div");return q.classList.add("vld-container"),D.appendChild(q),(0,s.render)(X,q),X.component}const c=typeof window<"u"?window.HTMLElement:Object,d=["aria-busy"],f={class:"vld-icon"},p={mounted(){this.enforceFocus&&document.addEventListener("focusin",this.focusIn)},methods:{focusIn(O){if(!this.isActive||O.target===this.$refs.root||this.$refs.root.contains(O.target))return;let P=this.container?this.container:this.isFullPage?null:this.$refs.root.parentElement;(this.isFullPage||P&&P.contains(O.target))&&(O.preventDefault(),this.$refs.root.focus())}},beforeUnmount(){document.removeEventListener("focusin",this.focusIn)}},h=["width","height","stroke"],m=[(0,s.createStaticVNode)('<g fill="none" fill-rule="evenodd"><g transform="translate(1 1)" stroke-width="2"><circle stroke-opacity=".25" cx="18" cy="18" r="18"></circle><path d="M36 18c0-9.94-8.06-18-18-18"><animateTransform attributeName="transform" type="rotate" from="0 18 18" to="360 18 18" dur="0.8s" repeatCount="indefinite"></animateTransform></path></g></g>',1)],v=(0,s.defineComponent)({name:"spinner",props:{color:{type:String,default:"#000"},height:{type:Number,default:64},width:{type:Number,default:64}}});var y=l(553);const g=(0,y.default)(v,[["render",function(O,P,D,I,X,q){return(0,s.openBlock)(),(0,s.createElementBlock)("svg",{viewBox:"0 0 38 38",xmlns:"http://www.w3.org/2000/svg",width:O.width,height:O.height,stroke:O.color},m,8,h)}]]),w=["fill","width","height"],_=[(0,s.createStaticVNode)('<circle cx="15" cy="15" r="15"><animate attributeName="r" from="15" to="15" begin="0s" dur="0.8s" values="15;9;15" calcMode="linear" repeatCount="indefinite"></animate><animate attributeName="fill-opacity" from="1" to="1" begin="0s" dur="0.8s" values="1;.5;1" calcMode="linear" repeatCount="indefinite"></animate></circle><circle cx="60" cy="15" r="9" fill-opacity="0.3"><animate attributeName="r" from="9" to="9" begin="0s" dur="0.8s" values="9;15;9" calcMode="linear" repeatCount="indefinite"></animate><animate attributeName="fill-opacity" from="0.5" to="0.5" begin="0s" dur="0.8s" values=".5;1;.5" calcMode="linear" repeatCount="indefinite"></animate></circle><circle cx="105" cy="15" r="15"><animate attributeName="r" from="15" to="15" begin="0s" dur="0.8s" values="15;9;15" calcMode="linear" repeatCount="indefinite"></animate><animate attributeName="fill-opacity" from="1" to="1" begin="0s" dur="0.8s" values="1;.5;1" calcMode="linear" repeatCount="indefinite"></animate></circle>',3)],C=(0,s.defineComponent)({name:"dots",props:{color:{type:String,default:"#000"},height:{type:Number,default:240},width:{type:Number,default:60}}}),S=(0,y.default)(C,[["render",function(O,P,D,I,X,q){return(0,s.openBlock)(),(0,s.createElementBlock)("svg",{viewBox:"0 0 120 30",xmlns:"http://www.w3.org/2000/svg",fill:O.color,width:O.width,height:O.height},_,8,w)}]]),k=["height","width","fill"],M=[(0,s.createStaticVNode)('<rect x="0" y="13" width="4" height="5"><animate attributeName="height" attributeType="XML" values="5;21;5" begin="0s" dur="0.6s" repeatCount="indefinite"></animate><animate attributeName="y" attributeType="XML" values="13; 5; 13" begin="0s" dur="0.6s" repeatCount="indefinite"></animate></rect><rect x="10" y="13" width="4" height="5"><animate attributeName="height" attributeType="XML" values="5;21;5" begin="0.15s" dur="0.6s" repeatCount="indefinite"></animate><animate attributeName="y" attributeType="XML" values="13; 5; 13" begin="0.15s" dur="0.6s" repeatCount="indefinite"></animate></rect><rect x="20" y="13" width="4" height="5"><animate attributeName="height" attributeType="XML" values="5;21;5" begin="0.3s" dur="0.6s" repeatCount="indefinite"></animate><animate attributeName="y" attributeType="XML" values="13; 5; 13" begin="0.3s" dur="0.6s" repeatCount="indefinite"></animate></rect>',3)],x=(0,s.defineComponent)({name:"bars",props:{color:{type:String,default:"#000"},height:{type:Number,default:40},width:{type:Number,default:40}}}),A={Spinner:g,Dots:S,Bars:(0,y.default)(x,[["render",function(O,P,D,I,X,q){return(0,s.openBlock)(),(0,s.createElementBlock)("svg",{xmlns:"http://www.w3.org/2000/svg",viewBox:"0 0 30 30",height:O.height,width:O.width,fill:O.color},M,8,k)}]])},V=(0,s.defineComponent)({name:"vue-loading",mixins:[p],props:{active:Boolean,programmatic:Boolean,container:[Object,Function,c],isFullPage:{type:Boolean,default:!0},enforceFocus:{type:Boolean,default:!0},lockScroll:{type:Boolean,default:!1},transition:{type:String,default:"fade"},canCancel:Boolean,onCancel:{type:Function,default:()=>{}},color:String,backgroundColor:String,blur:{type:String,default:"2px"},opacity:Number,width:Number,height:Number,zIndex:Number,loader:{type:String,default:"spinner"}},emits:["hide","update:active"],data(){return{isActive:this.active}},components:A,mounted(){document.addEventListener("keyup",this.keyPress)},methods:{cancel(){this.canCancel&&this.isActive&&(this.hide(),this.onCancel.apply(null,arguments))},hide(){this.$emit("hide"),this.$emit("update:active",!1),this.programmatic&&(this.isActive=!1,setTimeout(()=>{const O=this.$refs.root.parentElement;var P,D;(0,s.render)(null,O),(P=O).remove!==void 0?P.remove():(D=P.parentNode)===null||D===void 0||D.removeChild(P)},150))},disableScroll(){this.isFullPage&&this.lockScroll&&document.body.classList.add("vld-shown")},enableScroll(){this.isFullPage&&this.lockScroll&&document.body.classList.remove("vld-shown")},keyPress(O){O.keyCode===27&&this.cancel()}},watch:{active(O){this.isActive=O},isActive(O){O?this.disableScroll():this.enableScroll()}},computed:{bgStyle(){return{background:this.backgroundColor,opacity:this.opacity,backdropFilter:"blur(".concat(this.blur,")")}}},beforeUnmount(){document.removeEventListener("keyup",this.keyPress)}}),F=(0,y.default)(V,[["render",function(O,P,D,I,X,q){return(0,s.openBlock)(),(0,s.createBlock)(s.Transition,{ref:"root",name:O.transition},{default:(0,s.withCtx)(()=>[(0,s.withDirectives)((0,s.createElementVNode)("div",{tabindex:"0",class:(0,s.normalizeClass)(["vld-overlay is-active",{"is-full-page":O.isFullPage}]),"aria-busy":O.isActive,"aria-label":"Loading",style:(0,s.normalizeStyle)({zIndex:O.zIndex})},[(0,s.createElementVNode)("div",{class:"vld-background",onClick:P[0]||(P[0]=(0,s.withModifiers)(function(){return O.cancel&&O.cancel(...arguments)},["prevent"])),style:(0,s.normalizeStyle)(O.bgStyle)},null,4),(0,s.createElementVNode)("div",f,[(0,s.renderSlot)(O.$slots,"before"),(0,s.renderSlot)(O.$slots,"default",{},()=>[((0,s.openBlock)(),(0,s.createBlock)((0,s.resolveDynamicComponent)(O.loader),{color:O.color,width:O.width,height:O.height},null,8,["color","width","height"]))]),(0,s.renderSlot)(O.$slots,"after")])],14,d),[[s.vShow,O.isActive]])]),_:3},8,["name"])}]]),R=F;function H(){let O=arguments.length>0&&arguments[0]!==void 0?arguments[0]:{},P=arguments.length>1&&arguments[1]!==void 0?arguments[1]:{};return{show(){let D=arguments.length>0&&arguments[0]!==void 0?arguments[0]:O,I=arguments.length>1&&arguments[1]!==void 0?arguments[1]:P;const X=Object.assign({},O,D,{programmatic:!0,lockScroll:!0,isFullPage:!1,active:!0});let q=X.container;X.container||(q=document.body,X.isFullPage=!0);const j=Object.assign({},P,I);return{hide:u(R,X,q,j).ctx.hide}}}}const L=function(O){let P=arguments.length>1&&arguments[1]!==void 0?arguments[1]:{},D=arguments.length>2&&arguments[2]!==void 0?arguments[2]:{};const I=H(P,D);O.config.globalProperties.$loading=I,O.provide("$loading",I)};R.install=L;const K=R})(),a})()})})(x2);const cbe=c6(x2.exports);var B8={exports:{}},z2={exports:{}},D8=function(t,n){return function(){for(var r=new Array(arguments.length),l=0;l<r.length;l++)r[l]=arguments[l];return t.apply(n,r)}},dbe=D8,A2=Object.prototype.toString,N2=function(e){return function(t){var n=A2.call(t);return e[n]||(e[n]=n.slice(8,-1).toLowerCase())}}(Object.create(null));function Tl(e){return e=e.toLowerCase(),function(n){return N2(n)===e}}function O2(e){return Array.isArray(e)}function yu(e){return typeof e>"u"}function fbe(e){return e!==null&&!yu(e)&&e.constructor!==null&&!yu(e.constructor)&&typeof e.constructor.isBuffer=="function"&&e.constructor.isBuffer(e)}var F8=Tl("ArrayBuffer");function pbe(e){var t;return typeof ArrayBuffer<"u"&&ArrayBuffer.isView?t=ArrayBuffer.isView(e):t=e&&e.buffer&&F8(e.buffer),t}function hbe(e){return typeof e=="string"}function vbe(e){return typeof e=="number"}function K8(e){return e!==null&&typeof e=="object"}function Ki(e){if(N2(e)!=="object")return!1;var t=Object.getPrototypeOf(e);return t===null||t===Object.prototype}var mbe=Tl("Date"),gbe=Tl("File"),_be=Tl("Blob"),ybe=Tl("FileList");function P2(e){return A2.call(e)==="[object Function]"}function bbe(e){return K8(e)&&P2(e.pipe)}function wbe(e){var t="[object FormData]";return e&&(typeof FormData=="function"&&e instanceof FormData||A2.call(e)===t||P2(e.toString)&&e.toString()===t)}var Cbe=Tl("URLSearchParams");function $be(e){return e.trim?e.trim():e.replace(/^\s+|\s+$/g,"")}function Sbe(){return typeof navigator<"u"&&(navigator.product==="ReactNative"||navigator.product==="NativeScript"||navigator.product==="NS")?!1:typeof window<"u"&&typeof document<"u"}function I2(e,t){if(!(e===null||typeof e>"u"))if(typeof e!="object"&&(e=[e]),O2(e))for(var n=0,o=e.length;n<o;n++)t.call(null,e[n],n,e);else for(var r in e)Object.prototype.hasOwnProperty.call(e,r)&&t.call(null,e[r],r,e)}function Af(){var e={};function t(r,l){Ki(e[l])&&Ki(r)?e[l]=Af(e[l],r):Ki(r)?e[l]=Af({},r):O2(r)?e[l]=r.slice():e[l]=r}for(var n=0,o=arguments.length;n<o;n++)I2(arguments[n],t);return e}function kbe(e,t,n){return I2(t,function(r,l){n&&typeof r=="function"?e[l]=dbe(r,n):e[l]=r}),e}function Ebe(e){return e.charCodeAt(0)===65279&&(e=e.slice(1)),e}function Mbe(e,t,n,o){e.prototype=Object.create(t.prototype,o),e.prototype.constructor=e,n&&Object.assign(e.prototype,n)}function Tbe(e,t,n){var o,r,l,a={};t=t||{};do{for(o=Object.getOwnPropertyNames(e),r=o.length;r-- >0;)l=o[r],a[l]||(t[l]=e[l],a[l]=!0);e=Object.getPrototypeOf(e)}while(e&&(!n||n(e,t))&&e!==Object.prototype);return t}function xbe(e,t,n){e=String(e),(n===void 0||n>e.length)&&(n=e.length),n-=t.length;var o=e.indexOf(t,n);return o!==-1&&o===n}function zbe(e){if(!e)return null;var t=e.length;if(yu(t))return null;for(var n=new Array(t);t-- >0;)n[t]=e[t];return n}var Abe=function(e){return function(t){return e&&t instanceof e}}(typeof Uint8Array<"u"&&Object.getPrototypeOf(Uint8Array)),ln={isArray:O2,isArrayBuffer:F8,isBuffer:fbe,isFormData:wbe,isArrayBufferView:pbe,isString:hbe,isNumber:vbe,isObject:K8,isPlainObject:Ki,isUndefined:yu,isDate:mbe,isFile:gbe,isBlob:_be,isFunction:P2,isStream:bbe,isURLSearchParams:Cbe,isStandardBrowserEnv:Sbe,forEach:I2,merge:Af,extend:kbe,trim:$be,stripBOM:Ebe,inherits:Mbe,toFlatObject:Tbe,kindOf:N2,kindOfTest:Tl,endsWith:xbe,toArray:zbe,isTypedArray:Abe,isFileList:ybe},Pl=ln;function Jh(e){return encodeURIComponent(e).replace(/%3A/gi,":").replace(/%24/g,"$").replace(/%2C/gi,",").replace(/%20/g,"+").replace(/%5B/gi,"[").replace(/%5D/gi,"]")}var W8=function(t,n,o){if(!n)return t;var r;if(o)r=o(n);else if(Pl.isURLSearchParams(n))r=n.toString();else{var l=[];Pl.forEach(n,function(u,c){u===null||typeof u>"u"||(Pl.isArray(u)?c=c+"[]":u=[u],Pl.forEach(u,function(f){Pl.isDate(f)?f=f.toISOString():Pl.isObject(f)&&(f=JSON.stringify(f)),l.push(Jh(c)+"="+Jh(f))}))}),r=l.join("&")}if(r){var a=t.indexOf("#");a!==-1&&(t=t.slice(0,a)),t+=(t.indexOf("?")===-1?"?":"&")+r}return t},Nbe=ln;function ic(){this.handlers=[]}ic.prototype.use=function(t,n,o){return this.handlers.push({fulfilled:t,rejected:n,synchronous:o?o.synchronous:!1,runWhen:o?o.runWhen:null}),this.handlers.length-1};ic.prototype.eject=function(t){this.handlers[t]&&(this.handlers[t]=null)};ic.prototype.forEach=function(t){Nbe.forEach(this.handlers,function(o){o!==null&&t(o)})};var Obe=ic,Pbe=ln,Ibe=function(t,n){Pbe.forEach(t,function(r,l){l!==n&&l.toUpperCase()===n.toUpperCase()&&(t[n]=r,delete t[l])})},j8=ln;function wa(e,t,n,o,r){Error.call(this),this.message=e,this.name="AxiosError",t&&(this.code=t),n&&(this.config=n),o&&(this.request=o),r&&(this.response=r)}j8.inherits(wa,Error,{toJSON:function(){return{message:this.message,name:this.name,description:this.description,number:this.number,fileName:this.fileName,lineNumber:this.lineNumber,columnNumber:this.columnNumber,stack:this.stack,config:this.config,code:this.code,status:this.response&&this.response.status?this.response.status:null}}});var q8=wa.prototype,U8={};["ERR_BAD_OPTION_VALUE","ERR_BAD_OPTION","ECONNABORTED","ETIMEDOUT","ERR_NETWORK","ERR_FR_TOO_MANY_REDIRECTS","ERR_DEPRECATED","ERR_BAD_RESPONSE","ERR_BAD_REQUEST","ERR_CANCELED"].forEach(function(e){U8[e]={value:e}});Object.defineProperties(wa,U8);Object.defineProperty(q8,"isAxiosError",{value:!0});wa.from=function(e,t,n,o,r,l){var a=Object.create(q8);return j8.toFlatObject(e,a,function(u){return u!==Error.prototype}),wa.call(a,e.message,t,n,o,r),a.name=e.name,l&&Object.assign(a,l),a};var Na=wa,Y8={silentJSONParsing:!0,forcedJSONParsing:!0,clarifyTimeoutError:!1},no=ln;function Lbe(e,t){t=t||new FormData;var n=[];function o(l){return l===null?"":no.isDate(l)?l.toISOString():no.isArrayBuffer(l)||no.isTypedArray(l)?typeof Blob=="function"?new Blob([l]):Buffer.from(l):l}function r(l,a){if(no.isPlainObject(l)||no.isArray(l)){if(n.indexOf(l)!==-1)throw Error("Circular reference detected in "+a);n.push(l),no.forEach(l,function(u,c){if(!no.isUndefined(u)){var d=a?a+"."+c:c,f;if(u&&!a&&typeof u=="object"){if(no.endsWith(c,"{}"))u=JSON.stringify(u);else if(no.endsWith(c,"[]")&&(f=no.toArray(u))){f.forEach(function(p){!no.isUndefined(p)&&t.append(d,o(p))});return}}r(u,d)}}),n.pop()}else t.append(a,o(l))}return r(e),t}var G8=Lbe,Gc,Zh;function Vbe(){if(Zh)return Gc;Zh=1;var e=Na;return Gc=function(n,o,r){var l=r.config.validateStatus;!r.status||!l||l(r.status)?n(r):o(new e("Request failed with status code "+r.status,[e.ERR_BAD_REQUEST,e.ERR_BAD_RESPONSE][Math.floor(r.status/100)-4],r.config,r.request,r))},Gc}var Xc,Qh;function Hbe(){if(Qh)return Xc;Qh=1;var e=ln;return Xc=e.isStandardBrowserEnv()?function(){return{write:function(o,r,l,a,s,u){var c=[];c.push(o+"="+encodeURIComponent(r)),e.isNumber(l)&&c.push("expires="+new Date(l).toGMTString()),e.isString(a)&&c.push("path="+a),e.isString(s)&&c.push("domain="+s),u===!0&&c.push("secure"),document.cookie=c.join("; ")},read:function(o){var r=document.cookie.match(new RegExp("(^|;\\s*)("+o+")=([^;]*)"));return r?decodeURIComponent(r[3]):null},remove:function(o){this.write(o,"",Date.now()-864e5)}}}():function(){return{write:function(){},read:function(){return null},remove:function(){}}}(),Xc}var Rbe=function(t){return/^([a-z][a-z\d+\-.]*:)?\/\//i.test(t)},Bbe=function(t,n){return n?t.replace(/\/+$/,"")+"/"+n.replace(/^\/+/,""):t},Dbe=Rbe,Fbe=Bbe,X8=function(t,n){return t&&!Dbe(n)?Fbe(t,n):n},Jc,ev;function Kbe(){if(ev)return Jc;ev=1;var e=ln,t=["age","authorization","content-length","content-type","etag","expires","from","host","if-modified-since","if-unmodified-since","last-modified","location","max-forwards","proxy-authorization","referer","retry-after","user-agent"];return Jc=function(o){var r={},l,a,s;return o&&e.forEach(o.split(`
-`),function(c){if(s=c.indexOf(":"),l=e.trim(c.substr(0,s)).toLowerCase(),a=e.trim(c.substr(s+1)),l){if(r[l]&&t.indexOf(l)>=0)return;l==="set-cookie"?r[l]=(r[l]?r[l]:[]).concat([a]):r[l]=r[l]?r[l]+", "+a:a}}),r},Jc}var Zc,tv;function Wbe(){if(tv)return Zc;tv=1;var e=ln;return Zc=e.isStandardBrowserEnv()?function(){var n=/(msie|trident)/i.test(navigator.userAgent),o=document.createElement("a"),r;function l(a){var s=a;return n&&(o.setAttribute("href",s),s=o.href),o.setAttribute("href",s),{href:o.href,protocol:o.protocol?o.protocol.replace(/:$/,""):"",host:o.host,search:o.search?o.search.replace(/^\?/,""):"",hash:o.hash?o.hash.replace(/^#/,""):"",hostname:o.hostname,port:o.port,pathname:o.pathname.charAt(0)==="/"?o.pathname:"/"+o.pathname}}return r=l(window.location.href),function(s){var u=e.isString(s)?l(s):s;return u.protocol===r.protocol&&u.host===r.host}}():function(){return function(){return!0}}(),Zc}var Qc,nv;function uc(){if(nv)return Qc;nv=1;var e=Na,t=ln;function n(o){e.call(this,o==null?"canceled":o,e.ERR_CANCELED),this.name="CanceledError"}return t.inherits(n,e,{__CANCEL__:!0}),Qc=n,Qc}var ed,ov;function jbe(){return ov||(ov=1,ed=function(t){var n=/^([-+\w]{1,25})(:?\/\/|:)/.exec(t);return n&&n[1]||""}),ed}var td,rv;function lv(){if(rv)return td;rv=1;var e=ln,t=Vbe(),n=Hbe(),o=W8,r=X8,l=Kbe(),a=Wbe(),s=Y8,u=Na,c=uc(),d=jbe();return td=function(p){return new Promise(function(m,v){var y=p.data,g=p.headers,w=p.responseType,_;function C(){p.cancelToken&&p.cancelToken.unsubscribe(_),p.signal&&p.signal.removeEventListener("abort",_)}e.isFormData(y)&&e.isStandardBrowserEnv()&&delete g["Content-Type"];var S=new XMLHttpRequest;if(p.auth){var k=p.auth.username||"",M=p.auth.password?unescape(encodeURIComponent(p.auth.password)):"";g.Authorization="Basic "+btoa(k+":"+M)}var x=r(p.baseURL,p.url);S.open(p.method.toUpperCase(),o(x,p.params,p.paramsSerializer),!0),S.timeout=p.timeout;function A(){if(!!S){var R="getAllResponseHeaders"in S?l(S.getAllResponseHeaders()):null,H=!w||w==="text"||w==="json"?S.responseText:S.response,L={data:H,status:S.status,statusText:S.statusText,headers:R,config:p,request:S};t(function(O){m(O),C()},function(O){v(O),C()},L),S=null}}if("onloadend"in S?S.onloadend=A:S.onreadystatechange=function(){!S||S.readyState!==4||S.status===0&&!(S.responseURL&&S.responseURL.indexOf("file:")===0)||setTimeout(A)},S.onabort=function(){!S||(v(new u("Request aborted",u.ECONNABORTED,p,S)),S=null)},S.onerror=function(){v(new u("Network Error",u.ERR_NETWORK,p,S,S)),S=null},S.ontimeout=function(){var H=p.timeout?"timeout of "+p.timeout+"ms exceeded":"timeout exceeded",L=p.transitional||s;p.timeoutErrorMessage&&(H=p.timeoutErrorMessage),v(new u(H,L.clarifyTimeoutError?u.ETIMEDOUT:u.ECONNABORTED,p,S)),S=null},e.isStandardBrowserEnv()){var V=(p.withCredentials||a(x))&&p.xsrfCookieName?n.read(p.xsrfCookieName):void 0;V&&(g[p.xsrfHeaderName]=V)}"setRequestHeader"in S&&e.forEach(g,function(H,L){typeof y>"u"&&L.toLowerCase()==="content-type"?delete g[L]:S.setRequestHeader(L,H)}),e.isUndefined(p.withCredentials)||(S.withCredentials=!!p.withCredentials),w&&w!=="json"&&(S.responseType=p.responseType),typeof p.onDownloadProgress=="function"&&S.addEventListener("progress",p.onDownloadProgress),typeof p.onUploadProgress=="function"&&S.upload&&S.upload.addEventListener("progress",p.onUploadProgress),(p.cancelToken||p.signal)&&(_=function(R){!S||(v(!R||R&&R.type?new c:R),S.abort(),S=null)},p.cancelToken&&p.cancelToken.subscribe(_),p.signal&&(p.signal.aborted?_():p.signal.addEventListener("abort",_))),y||(y=null);var F=d(x);if(F&&["http","https","file"].indexOf(F)===-1){v(new u("Unsupported protocol "+F+":",u.ERR_BAD_REQUEST,p));return}S.send(y)})},td}var nd,av;function qbe(){return av||(av=1,nd=null),nd}var Qt=ln,sv=Ibe,iv=Na,Ube=Y8,Ybe=G8,Gbe={"Content-Type":"application/x-www-form-urlencoded"};function uv(e,t){!Qt.isUndefined(e)&&Qt.isUndefined(e["Content-Type"])&&(e["Content-Type"]=t)}function Xbe(){var e;return(typeof XMLHttpRequest<"u"||typeof process<"u"&&Object.prototype.toString.call(process)==="[object process]")&&(e=lv()),e}function Jbe(e,t,n){if(Qt.isString(e))try{return(t||JSON.parse)(e),Qt.trim(e)}catch(o){if(o.name!=="SyntaxError")throw o}return(n||JSON.stringify)(e)}var cc={transitional:Ube,adapter:Xbe(),transformRequest:[function(t,n){if(sv(n,"Accept"),sv(n,"Content-Type"),Qt.isFormData(t)||Qt.isArrayBuffer(t)||Qt.isBuffer(t)||Qt.isStream(t)||Qt.isFile(t)||Qt.isBlob(t))return t;if(Qt.isArrayBufferView(t))return t.buffer;if(Qt.isURLSearchParams(t))return uv(n,"application/x-www-form-urlencoded;charset=utf-8"),t.toString();var o=Qt.isObject(t),r=n&&n["Content-Type"],l;if((l=Qt.isFileList(t))||o&&r==="multipart/form-data"){var a=this.env&&this.env.FormData;return Ybe(l?{"files[]":t}:t,a&&new a)}else if(o||r==="application/json")return uv(n,"application/json"),Jbe(t);return t}],transformResponse:[function(t){var n=this.transitional||cc.transitional,o=n&&n.silentJSONParsing,r=n&&n.forcedJSONParsing,l=!o&&this.responseType==="json";if(l||r&&Qt.isString(t)&&t.length)try{return JSON.parse(t)}catch(a){if(l)throw a.name==="SyntaxError"?iv.from(a,iv.ERR_BAD_RESPONSE,this,null,this.response):a}return t}],timeout:0,xsrfCookieName:"XSRF-TOKEN",xsrfHeaderName:"X-XSRF-TOKEN",maxContentLength:-1,maxBodyLength:-1,env:{FormData:qbe()},validateStatus:function(t){return t>=200&&t<300},headers:{common:{Accept:"application/json, text/plain, */*"}}};Qt.forEach(["delete","get","head"],function(t){cc.headers[t]={}});Qt.forEach(["post","put","patch"],function(t){cc.headers[t]=Qt.merge(Gbe)});var L2=cc,Zbe=ln,Qbe=L2,e5e=function(t,n,o){var r=this||Qbe;return Zbe.forEach(o,function(a){t=a.call(r,t,n)}),t},od,cv;function J8(){return cv||(cv=1,od=function(t){return!!(t&&t.__CANCEL__)}),od}var dv=ln,rd=e5e,t5e=J8(),n5e=L2,o5e=uc();function ld(e){if(e.cancelToken&&e.cancelToken.throwIfRequested(),e.signal&&e.signal.aborted)throw new o5e}var r5e=function(t){ld(t),t.headers=t.headers||{},t.data=rd.call(t,t.data,t.headers,t.transformRequest),t.headers=dv.merge(t.headers.common||{},t.headers[t.method]||{},t.headers),dv.forEach(["delete","get","head","post","put","patch","common"],function(r){delete t.headers[r]});var n=t.adapter||n5e.adapter;return n(t).then(function(r){return ld(t),r.data=rd.call(t,r.data,r.headers,t.transformResponse),r},function(r){return t5e(r)||(ld(t),r&&r.response&&(r.response.data=rd.call(t,r.response.data,r.response.headers,t.transformResponse))),Promise.reject(r)})},Tn=ln,Z8=function(t,n){n=n||{};var o={};function r(d,f){return Tn.isPlainObject(d)&&Tn.isPlainObject(f)?Tn.merge(d,f):Tn.isPlainObject(f)?Tn.merge({},f):Tn.isArray(f)?f.slice():f}function l(d){if(Tn.isUndefined(n[d])){if(!Tn.isUndefined(t[d]))return r(void 0,t[d])}else return r(t[d],n[d])}function a(d){if(!Tn.isUndefined(n[d]))return r(void 0,n[d])}function s(d){if(Tn.isUndefined(n[d])){if(!Tn.isUndefined(t[d]))return r(void 0,t[d])}else return r(void 0,n[d])}function u(d){if(d in n)return r(t[d],n[d]);if(d in t)return r(void 0,t[d])}var c={url:a,method:a,data:a,baseURL:s,transformRequest:s,transformResponse:s,paramsSerializer:s,timeout:s,timeoutMessage:s,withCredentials:s,adapter:s,responseType:s,xsrfCookieName:s,xsrfHeaderName:s,onUploadProgress:s,onDownloadProgress:s,decompress:s,maxContentLength:s,maxBodyLength:s,beforeRedirect:s,transport:s,httpAgent:s,httpsAgent:s,cancelToken:s,socketPath:s,responseEncoding:s,validateStatus:u};return Tn.forEach(Object.keys(t).concat(Object.keys(n)),function(f){var p=c[f]||l,h=p(f);Tn.isUndefined(h)&&p!==u||(o[f]=h)}),o},ad,fv;function Q8(){return fv||(fv=1,ad={version:"0.27.2"}),ad}var l5e=Q8().version,hr=Na,V2={};["object","boolean","number","function","string","symbol"].forEach(function(e,t){V2[e]=function(o){return typeof o===e||"a"+(t<1?"n ":" ")+e}});var pv={};V2.transitional=function(t,n,o){function r(l,a){return"[Axios v"+l5e+"] Transitional option '"+l+"'"+a+(o?". "+o:"")}return function(l,a,s){if(t===!1)throw new hr(r(a," has been removed"+(n?" in "+n:"")),hr.ERR_DEPRECATED);return n&&!pv[a]&&(pv[a]=!0,console.warn(r(a," has been deprecated since v"+n+" and will be removed in the near future"))),t?t(l,a,s):!0}};function a5e(e,t,n){if(typeof e!="object")throw new hr("options must be an object",hr.ERR_BAD_OPTION_VALUE);for(var o=Object.keys(e),r=o.length;r-- >0;){var l=o[r],a=t[l];if(a){var s=e[l],u=s===void 0||a(s,l,e);if(u!==!0)throw new hr("option "+l+" must be "+u,hr.ERR_BAD_OPTION_VALUE);continue}if(n!==!0)throw new hr("Unknown option "+l,hr.ERR_BAD_OPTION)}}var s5e={assertOptions:a5e,validators:V2},e_=ln,i5e=W8,hv=Obe,vv=r5e,dc=Z8,u5e=X8,t_=s5e,Il=t_.validators;function Ca(e){this.defaults=e,this.interceptors={request:new hv,response:new hv}}Ca.prototype.request=function(t,n){typeof t=="string"?(n=n||{},n.url=t):n=t||{},n=dc(this.defaults,n),n.method?n.method=n.method.toLowerCase():this.defaults.method?n.method=this.defaults.method.toLowerCase():n.method="get";var o=n.transitional;o!==void 0&&t_.assertOptions(o,{silentJSONParsing:Il.transitional(Il.boolean),forcedJSONParsing:Il.transitional(Il.boolean),clarifyTimeoutError:Il.transitional(Il.boolean)},!1);var r=[],l=!0;this.interceptors.request.forEach(function(h){typeof h.runWhen=="function"&&h.runWhen(n)===!1||(l=l&&h.synchronous,r.unshift(h.fulfilled,h.rejected))});var a=[];this.interceptors.response.forEach(function(h){a.push(h.fulfilled,h.rejected)});var s;if(!l){var u=[vv,void 0];for(Array.prototype.unshift.apply(u,r),u=u.concat(a),s=Promise.resolve(n);u.length;)s=s.then(u.shift(),u.shift());return s}for(var c=n;r.length;){var d=r.shift(),f=r.shift();try{c=d(c)}catch(p){f(p);break}}try{s=vv(c)}catch(p){return Promise.reject(p)}for(;a.length;)s=s.then(a.shift(),a.shift());return s};Ca.prototype.getUri=function(t){t=dc(this.defaults,t);var n=u5e(t.baseURL,t.url);return i5e(n,t.params,t.paramsSerializer)};e_.forEach(["delete","get","head","options"],function(t){Ca.prototype[t]=function(n,o){return this.request(dc(o||{},{method:t,url:n,data:(o||{}).data}))}});e_.forEach(["post","put","patch"],function(t){function n(o){return function(l,a,s){return this.request(dc(s||{},{method:t,headers:o?{"Content-Type":"multipart/form-data"}:{},url:l,data:a}))}}Ca.prototype[t]=n(),Ca.prototype[t+"Form"]=n(!0)});var c5e=Ca,sd,mv;function d5e(){if(mv)return sd;mv=1;var e=uc();function t(n){if(typeof n!="function")throw new TypeError("executor must be a function.");var o;this.promise=new Promise(function(a){o=a});var r=this;this.promise.then(function(l){if(!!r._listeners){var a,s=r._listeners.length;for(a=0;a<s;a++)r._listeners[a](l);r._listeners=null}}),this.promise.then=function(l){var a,s=new Promise(function(u){r.subscribe(u),a=u}).then(l);return s.cancel=function(){r.unsubscribe(a)},s},n(function(a){r.reason||(r.reason=new e(a),o(r.reason))})}return t.prototype.throwIfRequested=function(){if(this.reason)throw this.reason},t.prototype.subscribe=function(o){if(this.reason){o(this.reason);return}this._listeners?this._listeners.push(o):this._listeners=[o]},t.prototype.unsubscribe=function(o){if(!!this._listeners){var r=this._listeners.indexOf(o);r!==-1&&this._listeners.splice(r,1)}},t.source=function(){var o,r=new t(function(a){o=a});return{token:r,cancel:o}},sd=t,sd}var id,gv;function f5e(){return gv||(gv=1,id=function(t){return function(o){return t.apply(null,o)}}),id}var ud,_v;function p5e(){if(_v)return ud;_v=1;var e=ln;return ud=function(n){return e.isObject(n)&&n.isAxiosError===!0},ud}var yv=ln,h5e=D8,Wi=c5e,v5e=Z8,m5e=L2;function n_(e){var t=new Wi(e),n=h5e(Wi.prototype.request,t);return yv.extend(n,Wi.prototype,t),yv.extend(n,t),n.create=function(r){return n_(v5e(e,r))},n}var En=n_(m5e);En.Axios=Wi;En.CanceledError=uc();En.CancelToken=d5e();En.isCancel=J8();En.VERSION=Q8().version;En.toFormData=G8;En.AxiosError=Na;En.Cancel=En.CanceledError;En.all=function(t){return Promise.all(t)};En.spread=f5e();En.isAxiosError=p5e();z2.exports=En;z2.exports.default=En;(function(e){e.exports=z2.exports})(B8);const g5e=c6(B8.exports),bu=g5e.create({timeout:Number.MAX_SAFE_INTEGER});bu.interceptors.request.use(e=>e,e=>{Promise.reject(e)});bu.interceptors.response.use(e=>{if(e.status===200){const{data:t}=e,{code:n}=t;if(n===void 0||n===2e4)return Promise.resolve(t)}return Promise.reject(e.data)},e=>{const{response:t}=e;return t?Promise.reject(t):Promise.reject(e)});const cd="",dd={search(e){const t=`${cd}/search`;return bu.post(t,null,{params:{inputText:e}})},getResults(e,t){const n=`${cd}/results`;return bu.get(n,{params:{pageNum:e,pageSize:t}})},download(e,t,n){let o=e;n&&(o+=".zip");const r=`${cd}/${o}?filePath=${t}`;window.location.href=r}},o_=(e,t)=>{const n=e.__vccOpts||e;for(const[o,r]of t)n[o]=r;return n},_5e={data(){return{input:"",searchCaseList:[],searchResultsList:[],pageNum:1,pageSize:10,totalPages:1,tips:"\u8FD8\u6CA1\u6709\u4EFB\u4F55\u7ED3\u679C"}},watch:{pageNum(e){this.getResults()}},methods:{cancelDownload(e){e.abortController.abort(),e.abortController=new AbortController},downloadFile(e){let t=e.fileName;const o=e.filePath+"\\"+t;dd.download(t,o,e.isDir)},generateSearchStr(){if(this.searchCaseList.length!==0){const e=this.searchCaseList.join(";");return this.input+"|"+e}else return this.input},getFileName(e){if(e){const t=e.lastIndexOf("\\");return e.substring(t+1)}return""},getParentPath(e){if(e){const t=e.lastIndexOf("\\");return e.substring(0,t)}return""},getResults(){const e=this;this.searchResultsList=[],dd.getResults(this.pageNum,this.pageSize).then(t=>{t.data.forEach(n=>{this.searchResultsList.push({fileName:e.getFileName(n.filePath),filePath:e.getParentPath(n.filePath),downloading:!1,abortController:new AbortController,isDir:n.isDir})}),e.totalPages=t.pages}).catch(t=>{console.error(t),e.tips="\u83B7\u53D6\u6570\u636E\u5931\u8D25"})},search(){this.tips="",this.pageNum=1,this.totalPages=1;const e=this.generateSearchStr(),n=x2.exports.useLoading().show();dd.search(e).then(()=>{this.getResults(),n.hide()}).catch(o=>{console.error(o),self.tips="\u53D1\u9001\u641C\u7D22\u8BF7\u6C42\u5931\u8D25",n.hide()})}}},xl=e=>(Yv("data-v-f5c2305c"),e=e(),Gv(),e),y5e={class:"search-bar"},b5e={class:"searchbar-input-container"},w5e=xl(()=>$("div",{style:{margin:"0 1%"}},null,-1)),C5e=xl(()=>$("div",{style:{margin:"0 1%"}},null,-1)),$5e={style:{display:"flex","align-items":"center"}},S5e=ft("\u641C\u7D22"),k5e={class:"search-case"},E5e={class:"search-case-container"},M5e=xl(()=>$("div",null,"\u8FC7\u6EE4\u6761\u4EF6\uFF1A",-1)),T5e=xl(()=>$("span",null,"\u4EC5\u641C\u7D22\u6587\u4EF6",-1)),x5e=xl(()=>$("span",null,"\u4EC5\u641C\u7D22\u6587\u4EF6\u5939",-1)),z5e=xl(()=>$("span",null,"\u5168\u5B57\u5339\u914D",-1)),A5e=xl(()=>$("span",null,"\u5173\u952E\u5B57\u4E0D\u5FFD\u7565\u5927\u5C0F\u5199",-1)),N5e={key:0,class:"results"},O5e={class:"file-name"},P5e={class:"file-path"},I5e={key:1,class:"results"},L5e={class:"each-result",style:{"text-align":"center",display:"flex","justify-content":"center"}},V5e={class:"page"},H5e={class:"page-container"};function R5e(e,t,n,o,r,l){const a=Ie("Search"),s=Ie("el-icon"),u=Ie("el-input"),c=Ie("el-button"),d=Ie("el-checkbox-button"),f=Ie("el-checkbox-group"),p=Ie("el-pagination");return b(),E("div",null,[$("div",y5e,[$("div",b5e,[W(s,{size:50},{default:J(()=>[W(a)]),_:1}),w5e,W(u,{modelValue:r.input,"onUpdate:modelValue":t[0]||(t[0]=h=>r.input=h),placeholder:"\u641C\u7D22\uFF0C\u4E0D\u540C\u5173\u952E\u5B57\u7528;(\u82F1\u6587\u5206\u53F7)\u9694\u5F00",size:"large",maxlength:"300",onKeyup:ht(l.search,["enter"])},null,8,["modelValue","onKeyup"]),C5e,$("div",$5e,[W(c,{type:"primary",onClick:l.search},{default:J(()=>[S5e]),_:1},8,["onClick"])])])]),$("div",k5e,[$("div",E5e,[M5e,$("div",null,[W(f,{modelValue:r.searchCaseList,"onUpdate:modelValue":t[1]||(t[1]=h=>r.searchCaseList=h)},{default:J(()=>[W(d,{label:"f"},{default:J(()=>[T5e]),_:1}),W(d,{label:"d"},{default:J(()=>[x5e]),_:1}),W(d,{label:"full"},{default:J(()=>[z5e]),_:1}),W(d,{label:"case"},{default:J(()=>[A5e]),_:1})]),_:1},8,["modelValue"])])])]),r.searchResultsList.length!==0?(b(),E("div",N5e,[(b(!0),E(Ve,null,ut(r.searchResultsList,h=>(b(),E("div",{key:h.filePath,class:"each-result"},[$("div",null,[$("div",O5e,ke(h.fileName),1),$("div",P5e,ke(h.filePath),1)]),$("div",null,[W(c,{type:h.downloading?"danger":"success",onClick:m=>h.downloading?l.cancelDownload(h):l.downloadFile(h)},{default:J(()=>[ft(ke(h.downloading?"\u53D6\u6D88":"\u4E0B\u8F7D"),1)]),_:2},1032,["type","onClick"])])]))),128))])):(b(),E("div",I5e,[$("div",L5e,ke(r.tips),1)])),$("div",V5e,[$("div",H5e,[W(p,{background:"",layout:"prev, pager, next","page-count":r.totalPages,"current-page":r.pageNum,"onUpdate:current-page":t[2]||(t[2]=h=>r.pageNum=h),"hide-on-single-page":!0},null,8,["page-count","current-page"])])])])}const B5e=o_(_5e,[["render",R5e],["__scopeId","data-v-f5c2305c"]]),D5e={class:"main"},F5e={__name:"App",setup(e){return(t,n)=>(b(),E("main",D5e,[W(B5e)]))}},K5e=o_(F5e,[["__scopeId","data-v-56176ac0"]]),fc=l0(K5e);fc.use(cbe);fc.use(ibe);for(const[e,t]of Object.entries(rre))fc.component(e,t);fc.mount("#app")});export default W5e();
+`),function(c){if(s=c.indexOf(":"),l=e.trim(c.substr(0,s)).toLowerCase(),a=e.trim(c.substr(s+1)),l){if(r[l]&&t.indexOf(l)>=0)return;l==="set-cookie"?r[l]=(r[l]?r[l]:[]).concat([a]):r[l]=r[l]?r[l]+", "+a:a}}),r},Jc}var Zc,tv;function Wbe(){if(tv)return Zc;tv=1;var e=ln;return Zc=e.isStandardBrowserEnv()?function(){var n=/(msie|trident)/i.test(navigator.userAgent),o=document.createElement("a"),r;function l(a){var s=a;return n&&(o.setAttribute("href",s),s=o.href),o.setAttribute("href",s),{href:o.href,protocol:o.protocol?o.protocol.replace(/:$/,""):"",host:o.host,search:o.search?o.search.replace(/^\?/,""):"",hash:o.hash?o.hash.replace(/^#/,""):"",hostname:o.hostname,port:o.port,pathname:o.pathname.charAt(0)==="/"?o.pathname:"/"+o.pathname}}return r=l(window.location.href),function(s){var u=e.isString(s)?l(s):s;return u.protocol===r.protocol&&u.host===r.host}}():function(){return function(){return!0}}(),Zc}var Qc,nv;function uc(){if(nv)return Qc;nv=1;var e=Na,t=ln;function n(o){e.call(this,o==null?"canceled":o,e.ERR_CANCELED),this.name="CanceledError"}return t.inherits(n,e,{__CANCEL__:!0}),Qc=n,Qc}var ed,ov;function jbe(){return ov||(ov=1,ed=function(t){var n=/^([-+\w]{1,25})(:?\/\/|:)/.exec(t);return n&&n[1]||""}),ed}var td,rv;function lv(){if(rv)return td;rv=1;var e=ln,t=Vbe(),n=Hbe(),o=W8,r=X8,l=Kbe(),a=Wbe(),s=Y8,u=Na,c=uc(),d=jbe();return td=function(p){return new Promise(function(m,v){var y=p.data,g=p.headers,w=p.responseType,_;function C(){p.cancelToken&&p.cancelToken.unsubscribe(_),p.signal&&p.signal.removeEventListener("abort",_)}e.isFormData(y)&&e.isStandardBrowserEnv()&&delete g["Content-Type"];var S=new XMLHttpRequest;if(p.auth){var k=p.auth.username||"",M=p.auth.password?unescape(encodeURIComponent(p.auth.password)):"";g.Authorization="Basic "+btoa(k+":"+M)}var x=r(p.baseURL,p.url);S.open(p.method.toUpperCase(),o(x,p.params,p.paramsSerializer),!0),S.timeout=p.timeout;function A(){if(!!S){var R="getAllResponseHeaders"in S?l(S.getAllResponseHeaders()):null,H=!w||w==="text"||w==="json"?S.responseText:S.response,L={data:H,status:S.status,statusText:S.statusText,headers:R,config:p,request:S};t(function(O){m(O),C()},function(O){v(O),C()},L),S=null}}if("onloadend"in S?S.onloadend=A:S.onreadystatechange=function(){!S||S.readyState!==4||S.status===0&&!(S.responseURL&&S.responseURL.indexOf("file:")===0)||setTimeout(A)},S.onabort=function(){!S||(v(new u("Request aborted",u.ECONNABORTED,p,S)),S=null)},S.onerror=function(){v(new u("Network Error",u.ERR_NETWORK,p,S,S)),S=null},S.ontimeout=function(){var H=p.timeout?"timeout of "+p.timeout+"ms exceeded":"timeout exceeded",L=p.transitional||s;p.timeoutErrorMessage&&(H=p.timeoutErrorMessage),v(new u(H,L.clarifyTimeoutError?u.ETIMEDOUT:u.ECONNABORTED,p,S)),S=null},e.isStandardBrowserEnv()){var V=(p.withCredentials||a(x))&&p.xsrfCookieName?n.read(p.xsrfCookieName):void 0;V&&(g[p.xsrfHeaderName]=V)}"setRequestHeader"in S&&e.forEach(g,function(H,L){typeof y>"u"&&L.toLowerCase()==="content-type"?delete g[L]:S.setRequestHeader(L,H)}),e.isUndefined(p.withCredentials)||(S.withCredentials=!!p.withCredentials),w&&w!=="json"&&(S.responseType=p.responseType),typeof p.onDownloadProgress=="function"&&S.addEventListener("progress",p.onDownloadProgress),typeof p.onUploadProgress=="function"&&S.upload&&S.upload.addEventListener("progress",p.onUploadProgress),(p.cancelToken||p.signal)&&(_=function(R){!S||(v(!R||R&&R.type?new c:R),S.abort(),S=null)},p.cancelToken&&p.cancelToken.subscribe(_),p.signal&&(p.signal.aborted?_():p.signal.addEventListener("abort",_))),y||(y=null);var F=d(x);if(F&&["http","https","file"].indexOf(F)===-1){v(new u("Unsupported protocol "+F+":",u.ERR_BAD_REQUEST,p));return}S.send(y)})},td}var nd,av;function qbe(){return av||(av=1,nd=null),nd}var Qt=ln,sv=Ibe,iv=Na,Ube=Y8,Ybe=G8,Gbe={"Content-Type":"application/x-www-form-urlencoded"};function uv(e,t){!Qt.isUndefined(e)&&Qt.isUndefined(e["Content-Type"])&&(e["Content-Type"]=t)}function Xbe(){var e;return(typeof XMLHttpRequest<"u"||typeof process<"u"&&Object.prototype.toString.call(process)==="[object process]")&&(e=lv()),e}function Jbe(e,t,n){if(Qt.isString(e))try{return(t||JSON.parse)(e),Qt.trim(e)}catch(o){if(o.name!=="SyntaxError")throw o}return(n||JSON.stringify)(e)}var cc={transitional:Ube,adapter:Xbe(),transformRequest:[function(t,n){if(sv(n,"Accept"),sv(n,"Content-Type"),Qt.isFormData(t)||Qt.isArrayBuffer(t)||Qt.isBuffer(t)||Qt.isStream(t)||Qt.isFile(t)||Qt.isBlob(t))return t;if(Qt.isArrayBufferView(t))return t.buffer;if(Qt.isURLSearchParams(t))return uv(n,"application/x-www-form-urlencoded;charset=utf-8"),t.toString();var o=Qt.isObject(t),r=n&&n["Content-Type"],l;if((l=Qt.isFileList(t))||o&&r==="multipart/form-data"){var a=this.env&&this.env.FormData;return Ybe(l?{"files[]":t}:t,a&&new a)}else if(o||r==="application/json")return uv(n,"application/json"),Jbe(t);return t}],transformResponse:[function(t){var n=this.transitional||cc.transitional,o=n&&n.silentJSONParsing,r=n&&n.forcedJSONParsing,l=!o&&this.responseType==="json";if(l||r&&Qt.isString(t)&&t.length)try{return JSON.parse(t)}catch(a){if(l)throw a.name==="SyntaxError"?iv.from(a,iv.ERR_BAD_RESPONSE,this,null,this.response):a}return t}],timeout:0,xsrfCookieName:"XSRF-TOKEN",xsrfHeaderName:"X-XSRF-TOKEN",maxContentLength:-1,maxBodyLength:-1,env:{FormData:qbe()},validateStatus:function(t){return t>=200&&t<300},headers:{common:{Accept:"application/json, text/plain, */*"}}};Qt.forEach(["delete","get","head"],function(t){cc.headers[t]={}});Qt.forEach(["post","put","patch"],function(t){cc.headers[t]=Qt.merge(Gbe)});var L2=cc,Zbe=ln,Qbe=L2,e5e=function(t,n,o){var r=this||Qbe;return Zbe.forEach(o,function(a){t=a.call(r,t,n)}),t},od,cv;function J8(){return cv||(cv=1,od=function(t){return!!(t&&t.__CANCEL__)}),od}var dv=ln,rd=e5e,t5e=J8(),n5e=L2,o5e=uc();function ld(e){if(e.cancelToken&&e.cancelToken.throwIfRequested(),e.signal&&e.signal.aborted)throw new o5e}var r5e=function(t){ld(t),t.headers=t.headers||{},t.data=rd.call(t,t.data,t.headers,t.transformRequest),t.headers=dv.merge(t.headers.common||{},t.headers[t.method]||{},t.headers),dv.forEach(["delete","get","head","post","put","patch","common"],function(r){delete t.headers[r]});var n=t.adapter||n5e.adapter;return n(t).then(function(r){return ld(t),r.data=rd.call(t,r.data,r.headers,t.transformResponse),r},function(r){return t5e(r)||(ld(t),r&&r.response&&(r.response.data=rd.call(t,r.response.data,r.response.headers,t.transformResponse))),Promise.reject(r)})},Tn=ln,Z8=function(t,n){n=n||{};var o={};function r(d,f){return Tn.isPlainObject(d)&&Tn.isPlainObject(f)?Tn.merge(d,f):Tn.isPlainObject(f)?Tn.merge({},f):Tn.isArray(f)?f.slice():f}function l(d){if(Tn.isUndefined(n[d])){if(!Tn.isUndefined(t[d]))return r(void 0,t[d])}else return r(t[d],n[d])}function a(d){if(!Tn.isUndefined(n[d]))return r(void 0,n[d])}function s(d){if(Tn.isUndefined(n[d])){if(!Tn.isUndefined(t[d]))return r(void 0,t[d])}else return r(void 0,n[d])}function u(d){if(d in n)return r(t[d],n[d]);if(d in t)return r(void 0,t[d])}var c={url:a,method:a,data:a,baseURL:s,transformRequest:s,transformResponse:s,paramsSerializer:s,timeout:s,timeoutMessage:s,withCredentials:s,adapter:s,responseType:s,xsrfCookieName:s,xsrfHeaderName:s,onUploadProgress:s,onDownloadProgress:s,decompress:s,maxContentLength:s,maxBodyLength:s,beforeRedirect:s,transport:s,httpAgent:s,httpsAgent:s,cancelToken:s,socketPath:s,responseEncoding:s,validateStatus:u};return Tn.forEach(Object.keys(t).concat(Object.keys(n)),function(f){var p=c[f]||l,h=p(f);Tn.isUndefined(h)&&p!==u||(o[f]=h)}),o},ad,fv;function Q8(){return fv||(fv=1,ad={version:"0.27.2"}),ad}var l5e=Q8().version,hr=Na,V2={};["object","boolean","number","function","string","symbol"].forEach(function(e,t){V2[e]=function(o){return typeof o===e||"a"+(t<1?"n ":" ")+e}});var pv={};V2.transitional=function(t,n,o){function r(l,a){return"[Axios v"+l5e+"] Transitional option '"+l+"'"+a+(o?". "+o:"")}return function(l,a,s){if(t===!1)throw new hr(r(a," has been removed"+(n?" in "+n:"")),hr.ERR_DEPRECATED);return n&&!pv[a]&&(pv[a]=!0,console.warn(r(a," has been deprecated since v"+n+" and will be removed in the near future"))),t?t(l,a,s):!0}};function a5e(e,t,n){if(typeof e!="object")throw new hr("options must be an object",hr.ERR_BAD_OPTION_VALUE);for(var o=Object.keys(e),r=o.length;r-- >0;){var l=o[r],a=t[l];if(a){var s=e[l],u=s===void 0||a(s,l,e);if(u!==!0)throw new hr("option "+l+" must be "+u,hr.ERR_BAD_OPTION_VALUE);continue}if(n!==!0)throw new hr("Unknown option "+l,hr.ERR_BAD_OPTION)}}var s5e={assertOptions:a5e,validators:V2},e_=ln,i5e=W8,hv=Obe,vv=r5e,dc=Z8,u5e=X8,t_=s5e,Il=t_.validators;function Ca(e){this.defaults=e,this.interceptors={request:new hv,response:new hv}}Ca.prototype.request=function(t,n){typeof t=="string"?(n=n||{},n.url=t):n=t||{},n=dc(this.defaults,n),n.method?n.method=n.method.toLowerCase():this.defaults.method?n.method=this.defaults.method.toLowerCase():n.method="get";var o=n.transitional;o!==void 0&&t_.assertOptions(o,{silentJSONParsing:Il.transitional(Il.boolean),forcedJSONParsing:Il.transitional(Il.boolean),clarifyTimeoutError:Il.transitional(Il.boolean)},!1);var r=[],l=!0;this.interceptors.request.forEach(function(h){typeof h.runWhen=="function"&&h.runWhen(n)===!1||(l=l&&h.synchronous,r.unshift(h.fulfilled,h.rejected))});var a=[];this.interceptors.response.forEach(function(h){a.push(h.fulfilled,h.rejected)});var s;if(!l){var u=[vv,void 0];for(Array.prototype.unshift.apply(u,r),u=u.concat(a),s=Promise.resolve(n);u.length;)s=s.then(u.shift(),u.shift());return s}for(var c=n;r.length;){var d=r.shift(),f=r.shift();try{c=d(c)}catch(p){f(p);break}}try{s=vv(c)}catch(p){return Promise.reject(p)}for(;a.length;)s=s.then(a.shift(),a.shift());return s};Ca.prototype.getUri=function(t){t=dc(this.defaults,t);var n=u5e(t.baseURL,t.url);return i5e(n,t.params,t.paramsSerializer)};e_.forEach(["delete","get","head","options"],function(t){Ca.prototype[t]=function(n,o){return this.request(dc(o||{},{method:t,url:n,data:(o||{}).data}))}});e_.forEach(["post","put","patch"],function(t){function n(o){return function(l,a,s){return this.request(dc(s||{},{method:t,headers:o?{"Content-Type":"multipart/form-data"}:{},url:l,data:a}))}}Ca.prototype[t]=n(),Ca.prototype[t+"Form"]=n(!0)});var c5e=Ca,sd,mv;function d5e(){if(mv)return sd;mv=1;var e=uc();function t(n){if(typeof n!="function")throw new TypeError("executor must be a function.");var o;this.promise=new Promise(function(a){o=a});var r=this;this.promise.then(function(l){if(!!r._listeners){var a,s=r._listeners.length;for(a=0;a<s;a++)r._listeners[a](l);r._listeners=null}}),this.promise.then=function(l){var a,s=new Promise(function(u){r.subscribe(u),a=u}).then(l);return s.cancel=function(){r.unsubscribe(a)},s},n(function(a){r.reason||(r.reason=new e(a),o(r.reason))})}return t.prototype.throwIfRequested=function(){if(this.reason)throw this.reason},t.prototype.subscribe=function(o){if(this.reason){o(this.reason);return}this._listeners?this._listeners.push(o):this._listeners=[o]},t.prototype.unsubscribe=function(o){if(!!this._listeners){var r=this._listeners.indexOf(o);r!==-1&&this._listeners.splice(r,1)}},t.source=function(){var o,r=new t(function(a){o=a});return{token:r,cancel:o}},sd=t,sd}var id,gv;function f5e(){return gv||(gv=1,id=function(t){return function(o){return t.apply(null,o)}}),id}var ud,_v;function p5e(){if(_v)return ud;_v=1;var e=ln;return ud=function(n){return e.isObject(n)&&n.isAxiosError===!0},ud}var yv=ln,h5e=D8,Wi=c5e,v5e=Z8,m5e=L2;function n_(e){var t=new Wi(e),n=h5e(Wi.prototype.request,t);return yv.extend(n,Wi.prototype,t),yv.extend(n,t),n.create=function(r){return n_(v5e(e,r))},n}var En=n_(m5e);En.Axios=Wi;En.CanceledError=uc();En.CancelToken=d5e();En.isCancel=J8();En.VERSION=Q8().version;En.toFormData=G8;En.AxiosError=Na;En.Cancel=En.CanceledError;En.all=function(t){return Promise.all(t)};En.spread=f5e();En.isAxiosError=p5e();z2.exports=En;z2.exports.default=En;(function(e){e.exports=z2.exports})(B8);const g5e=c6(B8.exports),bu=g5e.create({timeout:Number.MAX_SAFE_INTEGER});bu.interceptors.request.use(e=>e,e=>{Promise.reject(e)});bu.interceptors.response.use(e=>{if(e.status===200){const{data:t}=e,{code:n}=t;if(n===void 0||n===2e4)return Promise.resolve(t)}return Promise.reject(e.data)},e=>{const{response:t}=e;return t?Promise.reject(t):Promise.reject(e)});const cd="",dd={search(e){const t=`${cd}/search`;return bu.post(t,null,{params:{inputText:e}})},getResults(e,t,n){const o=`${cd}/results`;return bu.get(o,{params:{token:e,pageNum:t,pageSize:n}})},download(e,t,n){let o=e;n&&(o+=".zip");const r=`${cd}/${o}?filePath=${t}`;window.location.href=r}},o_=(e,t)=>{const n=e.__vccOpts||e;for(const[o,r]of t)n[o]=r;return n},_5e={data(){return{input:"",searchCaseList:[],searchResultsList:[],token:"",pageNum:1,pageSize:10,totalPages:1,hasMore:!1,tips:"\u8FD8\u6CA1\u6709\u4EFB\u4F55\u7ED3\u679C"}},watch:{pageNum(e){this.getResults()}},methods:{cancelDownload(e){e.abortController.abort(),e.abortController=new AbortController},downloadFile(e){let t=e.fileName;const o=e.filePath+"\\"+t;dd.download(t,o,e.isDir)},generateSearchStr(){if(this.searchCaseList.length!==0){const e=this.searchCaseList.join(";");return this.input+"|"+e}else return this.input},getFileName(e){if(e){const t=e.lastIndexOf("\\");return e.substring(t+1)}return""},getParentPath(e){if(e){const t=e.lastIndexOf("\\");return e.substring(0,t)}return""},getResults(){const e=this;this.searchResultsList=[],dd.getResults(this.token,this.pageNum,this.pageSize).then(t=>{t.data.forEach(n=>{this.searchResultsList.push({fileName:e.getFileName(n.filePath),filePath:e.getParentPath(n.filePath),downloading:!1,abortController:new AbortController,isDir:n.isDir})}),e.totalPages=t.pages,e.hasMore=t.hasMore===!0}).catch(t=>{console.error(t),e.tips="\u83B7\u53D6\u6570\u636E\u5931\u8D25"})},search(){this.tips="",this.pageNum=1,this.totalPages=1,this.hasMore=!1;const e=this.generateSearchStr(),n=x2.exports.useLoading().show();dd.search(e).then(o=>{this.token=o.data.token,this.getResults(),n.hide()}).catch(o=>{console.error(o),self.tips="\u53D1\u9001\u641C\u7D22\u8BF7\u6C42\u5931\u8D25",n.hide()})}}},xl=e=>(Yv("data-v-f5c2305c"),e=e(),Gv(),e),y5e={class:"search-bar"},b5e={class:"searchbar-input-container"},w5e=xl(()=>$("div",{style:{margin:"0 1%"}},null,-1)),C5e=xl(()=>$("div",{style:{margin:"0 1%"}},null,-1)),$5e={style:{display:"flex","align-items":"center"}},S5e=ft("\u641C\u7D22"),k5e={class:"search-case"},E5e={class:"search-case-container"},M5e=xl(()=>$("div",null,"\u8FC7\u6EE4\u6761\u4EF6\uFF1A",-1)),T5e=xl(()=>$("span",null,"\u4EC5\u641C\u7D22\u6587\u4EF6",-1)),x5e=xl(()=>$("span",null,"\u4EC5\u641C\u7D22\u6587\u4EF6\u5939",-1)),z5e=xl(()=>$("span",null,"\u5168\u5B57\u5339\u914D",-1)),A5e=xl(()=>$("span",null,"\u5173\u952E\u5B57\u4E0D\u5FFD\u7565\u5927\u5C0F\u5199",-1)),N5e={key:0,class:"results"},O5e={class:"file-name"},P5e={class:"file-path"},I5e={key:1,class:"results"},L5e={class:"each-result",style:{"text-align":"center",display:"flex","justify-content":"center"}},V5e={class:"page"},H5e={class:"page-container"};function R5e(e,t,n,o,r,l){const a=Ie("Search"),s=Ie("el-icon"),u=Ie("el-input"),c=Ie("el-button"),d=Ie("el-checkbox-button"),f=Ie("el-checkbox-group"),p=Ie("el-pagination");return b(),E("div",null,[$("div",y5e,[$("div",b5e,[W(s,{size:50},{default:J(()=>[W(a)]),_:1}),w5e,W(u,{modelValue:r.input,"onUpdate:modelValue":t[0]||(t[0]=h=>r.input=h),placeholder:"\u641C\u7D22\uFF0C\u4E0D\u540C\u5173\u952E\u5B57\u7528;(\u82F1\u6587\u5206\u53F7)\u9694\u5F00",size:"large",maxlength:"300",onKeyup:ht(l.search,["enter"])},null,8,["modelValue","onKeyup"]),C5e,$("div",$5e,[W(c,{type:"primary",onClick:l.search},{default:J(()=>[S5e]),_:1},8,["onClick"])])])]),$("div",k5e,[$("div",E5e,[M5e,$("div",null,[W(f,{modelValue:r.searchCaseList,"onUpdate:modelValue":t[1]||(t[1]=h=>r.searchCaseList=h)},{default:J(()=>[W(d,{label:"f"},{default:J(()=>[T5e]),_:1}),W(d,{label:"d"},{default:J(()=>[x5e]),_:1}),W(d,{label:"full"},{default:J(()=>[z5e]),_:1}),W(d,{label:"case"},{default:J(()=>[A5e]),_:1})]),_:1},8,["modelValue"])])])]),r.searchResultsList.length!==0?(b(),E("div",N5e,[(b(!0),E(Ve,null,ut(r.searchResultsList,h=>(b(),E("div",{key:h.filePath,class:"each-result"},[$("div",null,[$("div",O5e,ke(h.fileName),1),$("div",P5e,ke(h.filePath),1)]),$("div",null,[W(c,{type:h.downloading?"danger":"success",onClick:m=>h.downloading?l.cancelDownload(h):l.downloadFile(h)},{default:J(()=>[ft(ke(h.downloading?"\u53D6\u6D88":"\u4E0B\u8F7D"),1)]),_:2},1032,["type","onClick"])])]))),128))])):(b(),E("div",I5e,[$("div",L5e,ke(r.tips),1)])),$("div",V5e,[$("div",H5e,[W(p,{background:"",layout:"prev, pager, next, slot","page-count":r.hasMore?r.totalPages+1:r.totalPages,"current-page":r.pageNum,"onUpdate:current-page":t[2]||(t[2]=h=>r.pageNum=h),"hide-on-single-page":!0},{default:J(()=>[r.hasMore?(b(),E("span",{key:0},"\u5DF2\u52A0\u8F7D"+ke(r.totalPages)+"\u9875\uFF0C\u8FD8\u6709\u66F4\u591A\u7ED3\u679C",1)):ee("v-if",!0)]),_:1},8,["page-count","current-page"])])])])}const B5e=o_(_5e,[["render",R5e],["__scopeId","data-v-f5c2305c"]]),D5e={class:"main"},F5e={__name:"App",setup(e){return(t,n)=>(b(),E("main",D5e,[W(B5e)]))}},K5e=o_(F5e,[["__scopeId","data-v-56176ac0"]]),fc=l0(K5e);fc.use(cbe);fc.use(ibe);for(const[e,t]of Object.entries(rre))fc.component(e,t);fc.mount("#app")});export default W5e();
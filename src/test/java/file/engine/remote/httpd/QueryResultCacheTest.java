@@ -0,0 +1,70 @@
+package file.engine.remote.httpd;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class QueryResultCacheTest {
+    private static final String[] RESULTS = {
+            "C:\\work\\report.txt",
+            "C:\\work\\report_2024.xlsx",
+            "C:\\work\\rep\\notes.txt",
+            "D:\\REPORT_2023.pdf",
+    };
+    private final QueryResultCache cache = new QueryResultCache(16, 1024 * 1024, TimeUnit.MINUTES.toMillis(1));
+
+    @Test
+    void refineFiltersCompleteBroaderResults() {
+        cache.put(SearchQuery.parse("rep"), ResultSnapshot.of(RESULTS), false, true, System.currentTimeMillis());
+
+        ResultSnapshot refined = cache.refine(SearchQuery.parse("report;2024"));
+        assertNotNull(refined);
+        assertArrayEquals(new String[]{"C:\\work\\report_2024.xlsx"}, refined.stream().toArray(String[]::new));
+        assertEquals(1, cache.getRefinedCount());
+
+        // 筛选的结果也被缓存，之后相同的请求直接命中
+        QueryResultCache.CachedResult cached = cache.get(SearchQuery.parse("report;2024"));
+        assertNotNull(cached);
+        assertFalse(cached.isHasMore());
+    }
+
+    @Test
+    void refineIgnoresTruncatedResults() {
+        cache.put(SearchQuery.parse("rep"), ResultSnapshot.of(RESULTS), true, false, System.currentTimeMillis());
+        assertNull(cache.refine(SearchQuery.parse("report")));
+    }
+
+    @Test
+    void refineGivesUpWhenMatchIsUncertain() {
+        cache.put(SearchQuery.parse("rep"), ResultSnapshot.of(new String[]{"C:\\work\\report.txt", "C:\\work\\报告.txt"}),
+                false, true, System.currentTimeMillis());
+        assertNull(cache.refine(SearchQuery.parse("report")));
+    }
+
+    @Test
+    void refineUsesSmallestBroaderResult() {
+        final long now = System.currentTimeMillis();
+        cache.put(SearchQuery.parse("re"), ResultSnapshot.of(RESULTS), false, true, now);
+        cache.put(SearchQuery.parse("repo"), ResultSnapshot.of(new String[]{"C:\\work\\report.txt"}), false, true, now);
+
+        ResultSnapshot refined = cache.refine(SearchQuery.parse("report"));
+        assertNotNull(refined);
+        assertArrayEquals(new String[]{"C:\\work\\report.txt"}, refined.stream().toArray(String[]::new));
+    }
+
+    @Test
+    void invalidateDropsResultsOfSearchesStartedBefore() throws InterruptedException {
+        final long searchStart = System.currentTimeMillis();
+        Thread.sleep(2);
+        cache.invalidate();
+        cache.put(SearchQuery.parse("rep"), ResultSnapshot.of(RESULTS), false, true, searchStart);
+        assertEquals(0, cache.size());
+        assertNull(cache.refine(SearchQuery.parse("report")));
+    }
+}
@@ -0,0 +1,123 @@
+package file.engine.remote.httpd;
+
+import fi.iki.elonen.NanoHTTPD.IHTTPSession;
+import fi.iki.elonen.NanoHTTPD.Response;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RangeFileResponseTest {
+    private static final long FILE_SIZE = 100;
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void parsesSingleAndMultipleRanges() {
+        assertRanges(RangeFileResponse.parseRanges("bytes=0-9", FILE_SIZE), new long[]{0, 9});
+        assertRanges(RangeFileResponse.parseRanges("bytes=0-9, 20-29,90-", FILE_SIZE),
+                new long[]{0, 9}, new long[]{20, 29}, new long[]{90, 99});
+    }
+
+    @Test
+    void clampsOpenAndSuffixRanges() {
+        assertRanges(RangeFileResponse.parseRanges("bytes=-10", FILE_SIZE), new long[]{90, 99});
+        assertRanges(RangeFileResponse.parseRanges("bytes=-500", FILE_SIZE), new long[]{0, 99});
+        assertRanges(RangeFileResponse.parseRanges("bytes=90-500", FILE_SIZE), new long[]{90, 99});
+    }
+
+    @Test
+    void unsatisfiableRangesAreSkipped() {
+        assertRanges(RangeFileResponse.parseRanges("bytes=0-9,100-200", FILE_SIZE), new long[]{0, 9});
+        assertTrue(RangeFileResponse.parseRanges("bytes=100-", FILE_SIZE).isEmpty());
+        assertTrue(RangeFileResponse.parseRanges("bytes=-0", FILE_SIZE).isEmpty());
+        assertTrue(RangeFileResponse.parseRanges("bytes=0-", 0).isEmpty());
+    }
+
+    @Test
+    void malformedRangesAreIgnored() {
+        assertNull(RangeFileResponse.parseRanges("items=0-9", FILE_SIZE));
+        assertNull(RangeFileResponse.parseRanges("bytes=10", FILE_SIZE));
+        assertNull(RangeFileResponse.parseRanges("bytes=a-b", FILE_SIZE));
+        assertNull(RangeFileResponse.parseRanges("bytes=9-3", FILE_SIZE));
+        assertNull(RangeFileResponse.parseRanges("bytes=" + "0-0,".repeat(17), FILE_SIZE));
+    }
+
+    @Test
+    void unsatisfiableRangeReturns416WithFileSize() throws IOException {
+        Path file = writeFile();
+        AtomicBoolean closed = new AtomicBoolean();
+        Response response = RangeFileResponse.newFileResponse(session(Map.of("range", "bytes=100-")), file,
+                "application/octet-stream", null, () -> closed.set(true));
+        assertEquals(Response.Status.RANGE_NOT_SATISFIABLE, response.getStatus());
+        assertEquals("bytes */100", response.getHeader("Content-Range"));
+        assertFalse(closed.get());
+        response.close();
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void singleRangeReturnsPartialContent() throws IOException {
+        Path file = writeFile();
+        Response response = RangeFileResponse.newFileResponse(session(Map.of("range", "bytes=10-19")), file, "application/octet-stream");
+        assertEquals(Response.Status.PARTIAL_CONTENT, response.getStatus());
+        assertEquals("bytes 10-19/100", response.getHeader("Content-Range"));
+        try (InputStream data = response.getData()) {
+            assertEquals(content().substring(10, 20), new String(data.readAllBytes(), StandardCharsets.US_ASCII));
+        }
+    }
+
+    @Test
+    void multipleRangesReturnMultipart() throws IOException {
+        Path file = writeFile();
+        Response response = RangeFileResponse.newFileResponse(session(Map.of("range", "bytes=0-4,-5")), file, "text/plain");
+        assertEquals(Response.Status.PARTIAL_CONTENT, response.getStatus());
+        assertTrue(response.getMimeType().startsWith("multipart/byteranges; boundary="));
+        String body;
+        try (InputStream data = response.getData()) {
+            body = new String(data.readAllBytes(), StandardCharsets.US_ASCII);
+        }
+        assertTrue(body.contains("Content-Range: bytes 0-4/100\r\n\r\n" + content().substring(0, 5)));
+        assertTrue(body.contains("Content-Range: bytes 95-99/100\r\n\r\n" + content().substring(95)));
+    }
+
+    private Path writeFile() throws IOException {
+        Path file = tempDir.resolve("file.txt");
+        Files.writeString(file, content(), StandardCharsets.US_ASCII);
+        return file;
+    }
+
+    private static String content() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < FILE_SIZE; i++) {
+            builder.append((char) ('a' + i % 26));
+        }
+        return builder.toString();
+    }
+
+    private static IHTTPSession session(Map<String, String> headers) {
+        return (IHTTPSession) Proxy.newProxyInstance(RangeFileResponseTest.class.getClassLoader(), new Class<?>[]{IHTTPSession.class},
+                (proxy, method, args) -> "getHeaders".equals(method.getName()) ? headers : null);
+    }
+
+    private static void assertRanges(List<long[]> actual, long[]... expected) {
+        assertEquals(expected.length, actual.size());
+        for (int i = 0; i < expected.length; i++) {
+            assertArrayEquals(expected[i], actual.get(i));
+        }
+    }
+}
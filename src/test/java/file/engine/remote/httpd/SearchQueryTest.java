@@ -0,0 +1,61 @@
+package file.engine.remote.httpd;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SearchQueryTest {
+
+    @Test
+    void searchCaseOrderAndDuplicatesDoNotMatter() {
+        SearchQuery query = SearchQuery.parse("abc|f;case");
+        assertEquals(query, SearchQuery.parse("abc|case;f;f"));
+        assertEquals(query.hashCode(), SearchQuery.parse("abc|case; f").hashCode());
+        assertNotEquals(query, SearchQuery.parse("abc|f"));
+        assertEquals(SearchQuery.parse("abc"), SearchQuery.parse("abc|"));
+    }
+
+    @Test
+    void longerKeywordNarrowsShorterOne() {
+        assertTrue(SearchQuery.parse("report").narrows(SearchQuery.parse("rep")));
+        assertTrue(SearchQuery.parse("report;2024").narrows(SearchQuery.parse("port")));
+        assertTrue(SearchQuery.parse("report;2024").narrows(SearchQuery.parse("rep;20")));
+        assertFalse(SearchQuery.parse("rep").narrows(SearchQuery.parse("report")));
+        assertFalse(SearchQuery.parse("report").narrows(SearchQuery.parse("rep;2024")));
+        // 相同的请求直接使用缓存，不需要筛选
+        assertFalse(SearchQuery.parse("report").narrows(SearchQuery.parse("report")));
+    }
+
+    @Test
+    void narrowsRequiresSameSearchCase() {
+        assertTrue(SearchQuery.parse("report|f").narrows(SearchQuery.parse("rep|f")));
+        assertFalse(SearchQuery.parse("report|f").narrows(SearchQuery.parse("rep")));
+        assertFalse(SearchQuery.parse("report").narrows(SearchQuery.parse("rep|d")));
+    }
+
+    @Test
+    void queriesThatCannotBeMatchedInMemoryNeverNarrow() {
+        // 全字匹配和内容搜索不能通过文件名判断
+        assertFalse(SearchQuery.parse("report|full").isMatchableInMemory());
+        assertFalse(SearchQuery.parse("report|full").narrows(SearchQuery.parse("rep|full")));
+        assertFalse(SearchQuery.parse("report|content").narrows(SearchQuery.parse("rep|content")));
+        // 包含路径分隔符的关键字匹配的是父路径
+        assertFalse(SearchQuery.parse("docs/report").isMatchableInMemory());
+        assertFalse(SearchQuery.parse("docs\\report").narrows(SearchQuery.parse("docs\\rep")));
+    }
+
+    @Test
+    void matchesFileNameOnly() {
+        SearchQuery query = SearchQuery.parse("rep;2024");
+        assertEquals(Boolean.TRUE, query.matchesFileName("C:\\work\\REPORT_2024.txt"));
+        assertEquals(Boolean.TRUE, query.matchesFileName("/home/user/report-2024.txt"));
+        assertEquals(Boolean.FALSE, query.matchesFileName("C:\\rep\\2024\\notes.txt"));
+        assertEquals(Boolean.FALSE, SearchQuery.parse("rep|case").matchesFileName("C:\\REPORT.txt"));
+        // 非ASCII文件名可能通过拼音匹配，无法确定
+        assertNull(query.matchesFileName("C:\\work\\报告.txt"));
+    }
+}
@@ -0,0 +1,56 @@
+package file.engine.remote.utils.gson;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DataDataTypeAdapterTest {
+
+    @Test
+    void integersNarrowToSmallestType() {
+        assertEquals(1, DataDataTypeAdapter.parseNumber("1"));
+        assertEquals(0, DataDataTypeAdapter.parseNumber("-0"));
+        assertEquals(Integer.MAX_VALUE, DataDataTypeAdapter.parseNumber("2147483647"));
+        assertEquals(Integer.MIN_VALUE, DataDataTypeAdapter.parseNumber("-2147483648"));
+        assertEquals(2147483648L, DataDataTypeAdapter.parseNumber("2147483648"));
+        assertEquals(Long.MAX_VALUE, DataDataTypeAdapter.parseNumber("9223372036854775807"));
+        assertEquals(Long.MIN_VALUE, DataDataTypeAdapter.parseNumber("-9223372036854775808"));
+        assertEquals(new BigDecimal("9223372036854775808"), DataDataTypeAdapter.parseNumber("9223372036854775808"));
+    }
+
+    @Test
+    void integralDecimalsBecomeIntegers() {
+        assertEquals(1, DataDataTypeAdapter.parseNumber("1.0"));
+        assertEquals(0, DataDataTypeAdapter.parseNumber("-0.0"));
+        assertEquals(1000, DataDataTypeAdapter.parseNumber("1e3"));
+        assertEquals(15, DataDataTypeAdapter.parseNumber("1.5E1"));
+        assertEquals(10_000_000_000L, DataDataTypeAdapter.parseNumber("1e10"));
+        // 有效数字超过double精度，不经过double，不丢失精度
+        assertEquals(9007199254740993L, DataDataTypeAdapter.parseNumber("9007199254740993.0"));
+    }
+
+    @Test
+    void fractionsUseDoubleOnlyWhenExact() {
+        assertEquals(0.1, DataDataTypeAdapter.parseNumber("0.1"));
+        assertEquals(-2.5, DataDataTypeAdapter.parseNumber("-2.5"));
+        assertEquals(1.5e-10, DataDataTypeAdapter.parseNumber("1.5e-10"));
+        assertEquals(new BigDecimal("3.14159265358979323846"), DataDataTypeAdapter.parseNumber("3.14159265358979323846"));
+        assertEquals(new BigDecimal("1e400"), DataDataTypeAdapter.parseNumber("1e400"));
+        assertEquals(new BigDecimal("1e-400"), DataDataTypeAdapter.parseNumber("1e-400"));
+    }
+
+    @Test
+    void readsNumbersInsideMaps() {
+        Map<?, ?> map = GsonUtil.getInstance().getGson().fromJson(
+                "{\"port\": 23333, \"size\": 4294967296, \"ratio\": 0.5, \"whole\": 2.0, \"list\": [1, 1.5]}", Map.class);
+        assertEquals(23333, map.get("port"));
+        assertEquals(4294967296L, map.get("size"));
+        assertEquals(0.5, map.get("ratio"));
+        assertEquals(2, map.get("whole"));
+        assertEquals(List.of(1, 1.5), map.get("list"));
+    }
+}
@@ -0,0 +1,126 @@
+package file.engine.remote.utils.queue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RingBufferTest {
+
+    @Test
+    void capacityRoundsUpToPowerOfTwo() {
+        assertEquals(2, new RingBuffer<>(0).capacity());
+        assertEquals(2, new RingBuffer<>(2).capacity());
+        assertEquals(8, new RingBuffer<>(5).capacity());
+        assertEquals(4096, new RingBuffer<>(4096).capacity());
+    }
+
+    @Test
+    void keepsFifoOrderAcrossWrapAround() {
+        RingBuffer<Integer> ringBuffer = new RingBuffer<>(4);
+        int next = 0;
+        int expected = 0;
+        // 每轮写入3个取出3个，位置多次绕过数组末尾
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 3; i++) {
+                assertTrue(ringBuffer.offer(next++));
+            }
+            assertEquals(3, ringBuffer.size());
+            for (int i = 0; i < 3; i++) {
+                assertEquals(expected++, ringBuffer.poll());
+            }
+        }
+        assertNull(ringBuffer.poll());
+        assertEquals(0, ringBuffer.size());
+    }
+
+    @Test
+    void fullQueueDropsWithoutWaiting() {
+        RingBuffer<String> ringBuffer = new RingBuffer<>(2);
+        assertTrue(ringBuffer.offer("a"));
+        assertTrue(ringBuffer.offer("b"));
+        assertFalse(ringBuffer.offer("c"));
+        assertEquals(0, ringBuffer.getDroppedCount());
+
+        final long start = System.nanoTime();
+        assertFalse(ringBuffer.offer("c", 0, TimeUnit.MILLISECONDS));
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(100));
+        assertEquals(1, ringBuffer.getDroppedCount());
+
+        assertEquals("a", ringBuffer.poll());
+        assertTrue(ringBuffer.offer("c", 0, TimeUnit.MILLISECONDS));
+        String[] drained = new String[4];
+        assertEquals(2, ringBuffer.drainTo(drained));
+        assertEquals("b", drained[0]);
+        assertEquals("c", drained[1]);
+    }
+
+    @Test
+    void multipleProducersAndConsumersDeliverEachElementOnce() throws Exception {
+        final int producers = 4;
+        final int consumers = 4;
+        final int perProducer = 20_000;
+        final int total = producers * perProducer;
+        RingBuffer<Integer> ringBuffer = new RingBuffer<>(64);
+        AtomicInteger[] seen = new AtomicInteger[total];
+        for (int i = 0; i < total; i++) {
+            seen[i] = new AtomicInteger();
+        }
+        AtomicInteger consumed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(producers + consumers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                final int base = p * perProducer;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perProducer; i++) {
+                        while (!ringBuffer.offer(base + i)) {
+                            Thread.yield();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (int c = 0; c < consumers; c++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    while (consumed.get() < total) {
+                        Integer element = ringBuffer.poll();
+                        if (element == null) {
+                            Thread.yield();
+                            continue;
+                        }
+                        seen[element].incrementAndGet();
+                        consumed.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(total, consumed.get());
+        for (int i = 0; i < total; i++) {
+            assertEquals(1, seen[i].get(), "element " + i);
+        }
+        assertNull(ringBuffer.poll());
+        assertEquals(0, ringBuffer.getDroppedCount());
+    }
+}
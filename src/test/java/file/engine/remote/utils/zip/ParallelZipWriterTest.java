@@ -0,0 +1,194 @@
+package file.engine.remote.utils.zip;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParallelZipWriterTest {
+    private static final int CHUNK_SIZE = 1024 * 1024;
+    @TempDir
+    Path tempDir;
+    private Path sourceDir;
+    private ParallelZipWriter writer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        sourceDir = Files.createDirectory(tempDir.resolve("source"));
+        // parallelThreshold为0，所有文件夹都使用多线程压缩
+        writer = new ParallelZipWriter(4, -1, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.shutdown();
+    }
+
+    @Test
+    void crc32CombineMatchesCrcOfConcatenation() {
+        Random random = new Random(1);
+        byte[] first = new byte[3000];
+        byte[] second = new byte[CHUNK_SIZE + 17];
+        random.nextBytes(first);
+        random.nextBytes(second);
+        byte[] joined = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, joined, first.length, second.length);
+
+        assertEquals(crc(joined), ParallelZipWriter.crc32Combine(crc(first), crc(second), second.length));
+        assertEquals(crc(first), ParallelZipWriter.crc32Combine(crc(first), crc(new byte[0]), 0));
+        assertEquals(crc(second), ParallelZipWriter.crc32Combine(0, crc(second), second.length));
+    }
+
+    @Test
+    void roundTripKeepsNamesAndContent() throws Exception {
+        Random random = new Random(2);
+        Map<String, byte[]> files = new HashMap<>();
+        files.put("small.txt", "hello zip".getBytes(StandardCharsets.UTF_8));
+        files.put("empty.txt", new byte[0]);
+        files.put("photo.jpg", randomBytes(random, 100_000));
+        files.put("sub/random.bin", randomBytes(random, CHUNK_SIZE * 2 + 123));
+        files.put("sub/deeper/text.log", repeatedText(CHUNK_SIZE * 3 + 1));
+        files.put("exact.bin", randomBytes(random, CHUNK_SIZE));
+        for (Map.Entry<String, byte[]> entry : files.entrySet()) {
+            Path path = sourceDir.resolve(entry.getKey());
+            Files.createDirectories(path.getParent());
+            Files.write(path, entry.getValue());
+        }
+
+        Path zip = writeZip();
+        Map<String, byte[]> streamed = readWithZipInputStream(zip);
+        try (ZipFile zipFile = new ZipFile(zip.toFile())) {
+            for (Map.Entry<String, byte[]> entry : files.entrySet()) {
+                String name = "source/" + entry.getKey();
+                ZipEntry zipEntry = zipFile.getEntry(name);
+                assertNotNull(zipEntry, name);
+                try (InputStream inputStream = zipFile.getInputStream(zipEntry)) {
+                    assertArrayEquals(entry.getValue(), inputStream.readAllBytes(), name);
+                }
+                assertEquals(crc(entry.getValue()), zipEntry.getCrc(), name);
+                assertArrayEquals(entry.getValue(), streamed.get(name), name);
+            }
+            assertEquals(ZipEntry.STORED, zipFile.getEntry("source/photo.jpg").getMethod());
+            assertEquals(ZipEntry.DEFLATED, zipFile.getEntry("source/sub/deeper/text.log").getMethod());
+            assertTrue(zipFile.getEntry("source/sub/").isDirectory());
+        }
+    }
+
+    @Test
+    void chunksAfterTheFirstUsePresetDictionary() throws Exception {
+        // 32KB以内重复的随机数据，每个分块的开头都能引用上一个分块末尾的内容
+        byte[] block = randomBytes(new Random(3), 20_000);
+        byte[] content = new byte[CHUNK_SIZE * 3];
+        for (int i = 0; i < content.length; i += block.length) {
+            System.arraycopy(block, 0, content, i, Math.min(block.length, content.length - i));
+        }
+        Files.write(sourceDir.resolve("repeated.bin"), content);
+        // 不使用字典时每个分块都要重新保存一份随机块，三个分块约为单独压缩一个分块的三倍
+        final int chunkWithoutDictionary = deflatedSize(Arrays.copyOf(content, CHUNK_SIZE));
+
+        Path zip = writeZip();
+        try (ZipFile zipFile = new ZipFile(zip.toFile())) {
+            ZipEntry entry = zipFile.getEntry("source/repeated.bin");
+            assertTrue(entry.getCompressedSize() < chunkWithoutDictionary * 2L,
+                    "compressed size " + entry.getCompressedSize() + ", one chunk without dictionary " + chunkWithoutDictionary);
+            try (InputStream inputStream = zipFile.getInputStream(entry)) {
+                assertArrayEquals(content, inputStream.readAllBytes());
+            }
+        }
+    }
+
+    @Test
+    void levelZeroStoresEverything() throws Exception {
+        writer.shutdown();
+        writer = new ParallelZipWriter(2, 0, 0);
+        byte[] content = repeatedText(CHUNK_SIZE + 5);
+        Files.write(sourceDir.resolve("text.txt"), content);
+
+        Path zip = writeZip();
+        try (ZipFile zipFile = new ZipFile(zip.toFile())) {
+            ZipEntry entry = zipFile.getEntry("source/text.txt");
+            assertEquals(ZipEntry.STORED, entry.getMethod());
+            try (InputStream inputStream = zipFile.getInputStream(entry)) {
+                assertArrayEquals(content, inputStream.readAllBytes());
+            }
+        }
+    }
+
+    private Path writeZip() throws Exception {
+        Path zip = tempDir.resolve("out.zip");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final long size = writer.write(sourceDir.toFile(), outputStream);
+        assertEquals(outputStream.size(), size);
+        Files.write(zip, outputStream.toByteArray());
+        return zip;
+    }
+
+    private static Map<String, byte[]> readWithZipInputStream(Path zip) throws IOException {
+        Map<String, byte[]> entries = new HashMap<>();
+        try (ZipInputStream zipInputStream = new ZipInputStream(Files.newInputStream(zip))) {
+            ZipEntry entry;
+            while ((entry = zipInputStream.getNextEntry()) != null) {
+                entries.put(entry.getName(), zipInputStream.readAllBytes());
+            }
+        }
+        return entries;
+    }
+
+    private static byte[] randomBytes(Random random, int length) {
+        byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+
+    private static byte[] repeatedText(int length) {
+        byte[] line = "the quick brown fox jumps over the lazy dog 0123456789\n".getBytes(StandardCharsets.US_ASCII);
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = line[i % line.length];
+        }
+        return bytes;
+    }
+
+    private static int deflatedSize(byte[] bytes) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+            byte[] buffer = new byte[64 * 1024];
+            int size = 0;
+            while (!deflater.finished()) {
+                size += deflater.deflate(buffer);
+            }
+            return size;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static long crc(byte[] bytes) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(bytes);
+        return crc32.getValue();
+    }
+}